@@ -227,8 +227,6 @@ expr
     | NEW type '[' expr ']' ('[' expr ']')* ('[' ']')*   # NewArrayExpr
     | NEW type arrayInitializer                        # NewArrayWithInit
     | NEW classType '(' argList? ')'                   # NewExpr
-    | classType '.' ID                     # StaticFieldAccess
-    | classType '.' ID '(' argList? ')'    # StaticMethodCall
     | '(' type ')' expr                                # CastExpr
     | expr INSTANCEOF classType                        # InstanceOfExpr
     | expr op=(INC | DEC)                              # PostIncDec
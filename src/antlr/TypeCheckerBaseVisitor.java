@@ -63,8 +63,6 @@ import antlr.TypeCheckerParser.PrimitiveTypeContext;
 import antlr.TypeCheckerParser.ProgramContext;
 import antlr.TypeCheckerParser.ReturnStmtContext;
 import antlr.TypeCheckerParser.StatementContext;
-import antlr.TypeCheckerParser.StaticFieldAccessContext;
-import antlr.TypeCheckerParser.StaticMethodCallContext;
 import antlr.TypeCheckerParser.StringLiteralContext;
 import antlr.TypeCheckerParser.SuperConstructorCallContext;
 import antlr.TypeCheckerParser.SuperExprContext;
@@ -515,20 +513,6 @@ public class TypeCheckerBaseVisitor<T> extends AbstractParseTreeVisitor<T> imple
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
 	@Override public T visitInstanceOfExpr(TypeCheckerParser.InstanceOfExprContext ctx) { return visitChildren(ctx); }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation returns the result of calling
-	 * {@link #visitChildren} on {@code ctx}.</p>
-	 */
-	@Override public T visitStaticFieldAccess(TypeCheckerParser.StaticFieldAccessContext ctx) { return visitChildren(ctx); }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation returns the result of calling
-	 * {@link #visitChildren} on {@code ctx}.</p>
-	 */
-	@Override public T visitStaticMethodCall(TypeCheckerParser.StaticMethodCallContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -5,7 +5,6 @@ import org.antlr.v4.runtime.dfa.DFA;
 import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.misc.*;
 import org.antlr.v4.runtime.tree.*;
-
 import java.util.List;
 import java.util.Iterator;
 import java.util.ArrayList;
@@ -3340,35 +3339,6 @@ public class TypeCheckerParser extends Parser {
 		}
 	}
 	@SuppressWarnings("CheckReturnValue")
-	public static class StaticFieldAccessContext extends ExprContext {
-		public ClassTypeContext classType() {
-			return getRuleContext(ClassTypeContext.class,0);
-		}
-		public TerminalNode ID() { return getToken(TypeCheckerParser.ID, 0); }
-		public StaticFieldAccessContext(ExprContext ctx) { copyFrom(ctx); }
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof TypeCheckerVisitor ) return ((TypeCheckerVisitor<? extends T>)visitor).visitStaticFieldAccess(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-	@SuppressWarnings("CheckReturnValue")
-	public static class StaticMethodCallContext extends ExprContext {
-		public ClassTypeContext classType() {
-			return getRuleContext(ClassTypeContext.class,0);
-		}
-		public TerminalNode ID() { return getToken(TypeCheckerParser.ID, 0); }
-		public ArgListContext argList() {
-			return getRuleContext(ArgListContext.class,0);
-		}
-		public StaticMethodCallContext(ExprContext ctx) { copyFrom(ctx); }
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof TypeCheckerVisitor ) return ((TypeCheckerVisitor<? extends T>)visitor).visitStaticMethodCall(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-	@SuppressWarnings("CheckReturnValue")
 	public static class ArrayAccessContext extends ExprContext {
 		public List<ExprContext> expr() {
 			return getRuleContexts(ExprContext.class);
@@ -3522,9 +3492,9 @@ public class TypeCheckerParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(561);
+			setState(548);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,60,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,59,_ctx) ) {
 			case 1:
 				{
 				_localctx = new PrimaryExprContext(_localctx);
@@ -3647,66 +3617,26 @@ public class TypeCheckerParser extends Parser {
 				}
 				break;
 			case 7:
-				{
-				_localctx = new StaticFieldAccessContext(_localctx);
-				_ctx = _localctx;
-				_prevctx = _localctx;
-				setState(537);
-				classType();
-				setState(538);
-				match(T__8);
-				setState(539);
-				match(ID);
-				}
-				break;
-			case 8:
-				{
-				_localctx = new StaticMethodCallContext(_localctx);
-				_ctx = _localctx;
-				_prevctx = _localctx;
-				setState(541);
-				classType();
-				setState(542);
-				match(T__8);
-				setState(543);
-				match(ID);
-				setState(544);
-				match(T__3);
-				setState(546);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 434562179669171216L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 31L) != 0)) {
-					{
-					setState(545);
-					argList();
-					}
-				}
-
-				setState(548);
-				match(T__4);
-				}
-				break;
-			case 9:
 				{
 				_localctx = new CastExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(550);
+				setState(537);
 				match(T__3);
-				setState(551);
+				setState(538);
 				type();
-				setState(552);
+				setState(539);
 				match(T__4);
-				setState(553);
+				setState(540);
 				expr(12);
 				}
 				break;
-			case 10:
+			case 8:
 				{
 				_localctx = new UnaryExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(555);
+				setState(542);
 				((UnaryExprContext)_localctx).op = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 432345564227574784L) != 0)) ) {
@@ -3717,43 +3647,43 @@ public class TypeCheckerParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(556);
+				setState(543);
 				expr(9);
 				}
 				break;
-			case 11:
+			case 9:
 				{
 				_localctx = new ParenExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(557);
+				setState(544);
 				match(T__3);
-				setState(558);
+				setState(545);
 				expr(0);
-				setState(559);
+				setState(546);
 				match(T__4);
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(610);
+			setState(597);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,62,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(608);
+					setState(595);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,62,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,61,_ctx) ) {
 					case 1:
 						{
 						_localctx = new BinaryExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(563);
+						setState(550);
 						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
-						setState(564);
+						setState(551);
 						((BinaryExprContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 57344L) != 0)) ) {
@@ -3764,7 +3694,7 @@ public class TypeCheckerParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(565);
+						setState(552);
 						expr(9);
 						}
 						break;
@@ -3772,9 +3702,9 @@ public class TypeCheckerParser extends Parser {
 						{
 						_localctx = new BinaryExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(566);
+						setState(553);
 						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
-						setState(567);
+						setState(554);
 						((BinaryExprContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(_la==T__9 || _la==T__10) ) {
@@ -3785,7 +3715,7 @@ public class TypeCheckerParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(568);
+						setState(555);
 						expr(8);
 						}
 						break;
@@ -3793,9 +3723,9 @@ public class TypeCheckerParser extends Parser {
 						{
 						_localctx = new BinaryExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(569);
+						setState(556);
 						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
-						setState(570);
+						setState(557);
 						((BinaryExprContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 983040L) != 0)) ) {
@@ -3806,7 +3736,7 @@ public class TypeCheckerParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(571);
+						setState(558);
 						expr(7);
 						}
 						break;
@@ -3814,9 +3744,9 @@ public class TypeCheckerParser extends Parser {
 						{
 						_localctx = new BinaryExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(572);
+						setState(559);
 						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
-						setState(573);
+						setState(560);
 						((BinaryExprContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(_la==T__19 || _la==T__20) ) {
@@ -3827,7 +3757,7 @@ public class TypeCheckerParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(574);
+						setState(561);
 						expr(6);
 						}
 						break;
@@ -3835,11 +3765,11 @@ public class TypeCheckerParser extends Parser {
 						{
 						_localctx = new AndContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(575);
+						setState(562);
 						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(576);
+						setState(563);
 						match(T__21);
-						setState(577);
+						setState(564);
 						expr(5);
 						}
 						break;
@@ -3847,11 +3777,11 @@ public class TypeCheckerParser extends Parser {
 						{
 						_localctx = new OrContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(578);
+						setState(565);
 						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(579);
+						setState(566);
 						match(T__22);
-						setState(580);
+						setState(567);
 						expr(4);
 						}
 						break;
@@ -3859,15 +3789,15 @@ public class TypeCheckerParser extends Parser {
 						{
 						_localctx = new TernaryContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(581);
+						setState(568);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(582);
+						setState(569);
 						match(T__23);
-						setState(583);
+						setState(570);
 						expr(0);
-						setState(584);
+						setState(571);
 						match(T__7);
-						setState(585);
+						setState(572);
 						expr(2);
 						}
 						break;
@@ -3875,11 +3805,11 @@ public class TypeCheckerParser extends Parser {
 						{
 						_localctx = new FieldAccessContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(587);
-						if (!(precpred(_ctx, 20))) throw new FailedPredicateException(this, "precpred(_ctx, 20)");
-						setState(588);
+						setState(574);
+						if (!(precpred(_ctx, 18))) throw new FailedPredicateException(this, "precpred(_ctx, 18)");
+						setState(575);
 						match(T__8);
-						setState(589);
+						setState(576);
 						match(ID);
 						}
 						break;
@@ -3887,25 +3817,25 @@ public class TypeCheckerParser extends Parser {
 						{
 						_localctx = new MethodCallContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(590);
-						if (!(precpred(_ctx, 19))) throw new FailedPredicateException(this, "precpred(_ctx, 19)");
-						setState(591);
+						setState(577);
+						if (!(precpred(_ctx, 17))) throw new FailedPredicateException(this, "precpred(_ctx, 17)");
+						setState(578);
 						match(T__8);
-						setState(592);
+						setState(579);
 						match(ID);
-						setState(593);
+						setState(580);
 						match(T__3);
-						setState(595);
+						setState(582);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 434562179669171216L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 31L) != 0)) {
 							{
-							setState(594);
+							setState(581);
 							argList();
 							}
 						}
 
-						setState(597);
+						setState(584);
 						match(T__4);
 						}
 						break;
@@ -3913,13 +3843,13 @@ public class TypeCheckerParser extends Parser {
 						{
 						_localctx = new ArrayAccessContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(598);
-						if (!(precpred(_ctx, 18))) throw new FailedPredicateException(this, "precpred(_ctx, 18)");
-						setState(599);
+						setState(585);
+						if (!(precpred(_ctx, 16))) throw new FailedPredicateException(this, "precpred(_ctx, 16)");
+						setState(586);
 						match(LBRACK);
-						setState(600);
+						setState(587);
 						expr(0);
-						setState(601);
+						setState(588);
 						match(RBRACK);
 						}
 						break;
@@ -3927,11 +3857,11 @@ public class TypeCheckerParser extends Parser {
 						{
 						_localctx = new InstanceOfExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(603);
+						setState(590);
 						if (!(precpred(_ctx, 11))) throw new FailedPredicateException(this, "precpred(_ctx, 11)");
-						setState(604);
+						setState(591);
 						match(INSTANCEOF);
-						setState(605);
+						setState(592);
 						classType();
 						}
 						break;
@@ -3939,9 +3869,9 @@ public class TypeCheckerParser extends Parser {
 						{
 						_localctx = new PostIncDecContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(606);
+						setState(593);
 						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
-						setState(607);
+						setState(594);
 						((PostIncDecContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(_la==INC || _la==DEC) ) {
@@ -3957,9 +3887,9 @@ public class TypeCheckerParser extends Parser {
 					}
 					} 
 				}
-				setState(612);
+				setState(599);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,62,_ctx);
 			}
 			}
 		}
@@ -4027,14 +3957,14 @@ public class TypeCheckerParser extends Parser {
 		enterRule(_localctx, 90, RULE_primary);
 		int _la;
 		try {
-			setState(621);
+			setState(608);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,65,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,64,_ctx) ) {
 			case 1:
 				_localctx = new LiteralPrimaryContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(613);
+				setState(600);
 				literal();
 				}
 				break;
@@ -4042,7 +3972,7 @@ public class TypeCheckerParser extends Parser {
 				_localctx = new VarRefContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(614);
+				setState(601);
 				match(ID);
 				}
 				break;
@@ -4050,21 +3980,21 @@ public class TypeCheckerParser extends Parser {
 				_localctx = new FuncCallContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(615);
+				setState(602);
 				match(ID);
-				setState(616);
+				setState(603);
 				match(T__3);
-				setState(618);
+				setState(605);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 434562179669171216L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 31L) != 0)) {
 					{
-					setState(617);
+					setState(604);
 					argList();
 					}
 				}
 
-				setState(620);
+				setState(607);
 				match(T__4);
 				}
 				break;
@@ -4160,14 +4090,14 @@ public class TypeCheckerParser extends Parser {
 		LiteralContext _localctx = new LiteralContext(_ctx, getState());
 		enterRule(_localctx, 92, RULE_literal);
 		try {
-			setState(629);
+			setState(616);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT_LITERAL:
 				_localctx = new IntLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(623);
+				setState(610);
 				match(INT_LITERAL);
 				}
 				break;
@@ -4175,7 +4105,7 @@ public class TypeCheckerParser extends Parser {
 				_localctx = new FloatLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(624);
+				setState(611);
 				match(FLOAT_LITERAL);
 				}
 				break;
@@ -4183,7 +4113,7 @@ public class TypeCheckerParser extends Parser {
 				_localctx = new CharLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(625);
+				setState(612);
 				match(CHAR_LITERAL);
 				}
 				break;
@@ -4191,7 +4121,7 @@ public class TypeCheckerParser extends Parser {
 				_localctx = new StringLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(626);
+				setState(613);
 				match(STRING_LITERAL);
 				}
 				break;
@@ -4200,7 +4130,7 @@ public class TypeCheckerParser extends Parser {
 				_localctx = new BooleanLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(627);
+				setState(614);
 				boolLiteral();
 				}
 				break;
@@ -4208,7 +4138,7 @@ public class TypeCheckerParser extends Parser {
 				_localctx = new NullLiteralContext(_localctx);
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(628);
+				setState(615);
 				match(NULL);
 				}
 				break;
@@ -4249,7 +4179,7 @@ public class TypeCheckerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(631);
+			setState(618);
 			_la = _input.LA(1);
 			if ( !(_la==TRUE || _la==FALSE) ) {
 			_errHandler.recoverInline(this);
@@ -4298,21 +4228,21 @@ public class TypeCheckerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(633);
+			setState(620);
 			expr(0);
-			setState(638);
+			setState(625);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__5) {
 				{
 				{
-				setState(634);
+				setState(621);
 				match(T__5);
-				setState(635);
+				setState(622);
 				expr(0);
 				}
 				}
-				setState(640);
+				setState(627);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4364,11 +4294,11 @@ public class TypeCheckerParser extends Parser {
 		case 8:
 			return precpred(_ctx, 2);
 		case 9:
-			return precpred(_ctx, 20);
+			return precpred(_ctx, 18);
 		case 10:
-			return precpred(_ctx, 19);
+			return precpred(_ctx, 17);
 		case 11:
-			return precpred(_ctx, 18);
+			return precpred(_ctx, 16);
 		case 12:
 			return precpred(_ctx, 11);
 		case 13:
@@ -4378,7 +4308,7 @@ public class TypeCheckerParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001I\u0282\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u0001I\u0275\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -4453,349 +4383,340 @@ public class TypeCheckerParser extends Parser {
 		",\u0001,\u0001,\u0001,\u0001,\u0001,\u0005,\u0202\b,\n,\f,\u0205\t,\u0001"+
 		",\u0001,\u0005,\u0209\b,\n,\f,\u020c\t,\u0001,\u0001,\u0001,\u0001,\u0001"+
 		",\u0001,\u0001,\u0001,\u0003,\u0216\b,\u0001,\u0001,\u0001,\u0001,\u0001"+
-		",\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0003,\u0223\b,\u0001,\u0001"+
-		",\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001"+
-		",\u0001,\u0003,\u0232\b,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001"+
+		",\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0003,\u0225"+
+		"\b,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001"+
 		",\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001"+
 		",\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001"+
-		",\u0001,\u0001,\u0001,\u0001,\u0001,\u0003,\u0254\b,\u0001,\u0001,\u0001"+
-		",\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001,\u0005,\u0261"+
-		"\b,\n,\f,\u0264\t,\u0001-\u0001-\u0001-\u0001-\u0001-\u0003-\u026b\b-"+
-		"\u0001-\u0003-\u026e\b-\u0001.\u0001.\u0001.\u0001.\u0001.\u0001.\u0003"+
-		".\u0276\b.\u0001/\u0001/\u00010\u00010\u00010\u00050\u027d\b0\n0\f0\u0280"+
-		"\t0\u00010\u0000\u0002LX1\u0000\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012"+
-		"\u0014\u0016\u0018\u001a\u001c\u001e \"$&(*,.02468:<>@BDFHJLNPRTVXZ\\"+
-		"^`\u0000\u000b\u0001\u0000\u001c\u001e\u0001\u000048\u0001\u0000;?\u0002"+
-		"\u0000@ACC\u0002\u0000\n\f9:\u0001\u0000\r\u000f\u0001\u0000\n\u000b\u0001"+
-		"\u0000\u0010\u0013\u0001\u0000\u0014\u0015\u0001\u00009:\u0001\u00001"+
-		"2\u02bc\u0000e\u0001\u0000\u0000\u0000\u0002p\u0001\u0000\u0000\u0000"+
-		"\u0004w\u0001\u0000\u0000\u0000\u0006y\u0001\u0000\u0000\u0000\b\u009a"+
-		"\u0001\u0000\u0000\u0000\n\u009c\u0001\u0000\u0000\u0000\f\u009f\u0001"+
-		"\u0000\u0000\u0000\u000e\u00a9\u0001\u0000\u0000\u0000\u0010\u00c3\u0001"+
-		"\u0000\u0000\u0000\u0012\u00c6\u0001\u0000\u0000\u0000\u0014\u00ce\u0001"+
-		"\u0000\u0000\u0000\u0016\u00db\u0001\u0000\u0000\u0000\u0018\u00e9\u0001"+
-		"\u0000\u0000\u0000\u001a\u00eb\u0001\u0000\u0000\u0000\u001c\u0110\u0001"+
-		"\u0000\u0000\u0000\u001e\u0112\u0001\u0000\u0000\u0000 \u011b\u0001\u0000"+
-		"\u0000\u0000\"\u0136\u0001\u0000\u0000\u0000$\u0138\u0001\u0000\u0000"+
-		"\u0000&\u013a\u0001\u0000\u0000\u0000(\u013c\u0001\u0000\u0000\u0000*"+
-		"\u0154\u0001\u0000\u0000\u0000,\u0156\u0001\u0000\u0000\u0000.\u0159\u0001"+
-		"\u0000\u0000\u00000\u015d\u0001\u0000\u0000\u00002\u0162\u0001\u0000\u0000"+
-		"\u00004\u0167\u0001\u0000\u0000\u00006\u016a\u0001\u0000\u0000\u00008"+
-		"\u0173\u0001\u0000\u0000\u0000:\u0179\u0001\u0000\u0000\u0000<\u0189\u0001"+
-		"\u0000\u0000\u0000>\u0195\u0001\u0000\u0000\u0000@\u019d\u0001\u0000\u0000"+
-		"\u0000B\u01aa\u0001\u0000\u0000\u0000D\u01b0\u0001\u0000\u0000\u0000F"+
-		"\u01b3\u0001\u0000\u0000\u0000H\u01b6\u0001\u0000\u0000\u0000J\u01b8\u0001"+
-		"\u0000\u0000\u0000L\u01be\u0001\u0000\u0000\u0000N\u01da\u0001\u0000\u0000"+
-		"\u0000P\u01dc\u0001\u0000\u0000\u0000R\u01de\u0001\u0000\u0000\u0000T"+
-		"\u01e9\u0001\u0000\u0000\u0000V\u01f2\u0001\u0000\u0000\u0000X\u0231\u0001"+
-		"\u0000\u0000\u0000Z\u026d\u0001\u0000\u0000\u0000\\\u0275\u0001\u0000"+
-		"\u0000\u0000^\u0277\u0001\u0000\u0000\u0000`\u0279\u0001\u0000\u0000\u0000"+
-		"bd\u0003\u0002\u0001\u0000cb\u0001\u0000\u0000\u0000dg\u0001\u0000\u0000"+
-		"\u0000ec\u0001\u0000\u0000\u0000ef\u0001\u0000\u0000\u0000fk\u0001\u0000"+
-		"\u0000\u0000ge\u0001\u0000\u0000\u0000hj\u0003\u0004\u0002\u0000ih\u0001"+
-		"\u0000\u0000\u0000jm\u0001\u0000\u0000\u0000ki\u0001\u0000\u0000\u0000"+
-		"kl\u0001\u0000\u0000\u0000ln\u0001\u0000\u0000\u0000mk\u0001\u0000\u0000"+
-		"\u0000no\u0005\u0000\u0000\u0001o\u0001\u0001\u0000\u0000\u0000pq\u0005"+
-		"\u001b\u0000\u0000qr\u0005D\u0000\u0000rs\u0005\u0001\u0000\u0000s\u0003"+
-		"\u0001\u0000\u0000\u0000tx\u0003\u0006\u0003\u0000ux\u0003\u001c\u000e"+
-		"\u0000vx\u0003\u0012\t\u0000wt\u0001\u0000\u0000\u0000wu\u0001\u0000\u0000"+
-		"\u0000wv\u0001\u0000\u0000\u0000x\u0005\u0001\u0000\u0000\u0000yz\u0005"+
-		"\u0019\u0000\u0000z}\u0005@\u0000\u0000{|\u0005\u001a\u0000\u0000|~\u0005"+
-		"@\u0000\u0000}{\u0001\u0000\u0000\u0000}~\u0001\u0000\u0000\u0000~\u007f"+
-		"\u0001\u0000\u0000\u0000\u007f\u0083\u0005\u0002\u0000\u0000\u0080\u0082"+
-		"\u0003\b\u0004\u0000\u0081\u0080\u0001\u0000\u0000\u0000\u0082\u0085\u0001"+
-		"\u0000\u0000\u0000\u0083\u0081\u0001\u0000\u0000\u0000\u0083\u0084\u0001"+
-		"\u0000\u0000\u0000\u0084\u0086\u0001\u0000\u0000\u0000\u0085\u0083\u0001"+
-		"\u0000\u0000\u0000\u0086\u0087\u0005\u0003\u0000\u0000\u0087\u0007\u0001"+
-		"\u0000\u0000\u0000\u0088\u008a\u0003\n\u0005\u0000\u0089\u0088\u0001\u0000"+
-		"\u0000\u0000\u0089\u008a\u0001\u0000\u0000\u0000\u008a\u008c\u0001\u0000"+
-		"\u0000\u0000\u008b\u008d\u0005\u001f\u0000\u0000\u008c\u008b\u0001\u0000"+
-		"\u0000\u0000\u008c\u008d\u0001\u0000\u0000\u0000\u008d\u008f\u0001\u0000"+
-		"\u0000\u0000\u008e\u0090\u0005 \u0000\u0000\u008f\u008e\u0001\u0000\u0000"+
-		"\u0000\u008f\u0090\u0001\u0000\u0000\u0000\u0090\u0091\u0001\u0000\u0000"+
-		"\u0000\u0091\u009b\u0003\u0014\n\u0000\u0092\u0094\u0003\n\u0005\u0000"+
-		"\u0093\u0092\u0001\u0000\u0000\u0000\u0093\u0094\u0001\u0000\u0000\u0000"+
-		"\u0094\u0096\u0001\u0000\u0000\u0000\u0095\u0097\u0005\u001f\u0000\u0000"+
-		"\u0096\u0095\u0001\u0000\u0000\u0000\u0096\u0097\u0001\u0000\u0000\u0000"+
-		"\u0097\u0098\u0001\u0000\u0000\u0000\u0098\u009b\u0003\u001c\u000e\u0000"+
-		"\u0099\u009b\u0003\f\u0006\u0000\u009a\u0089\u0001\u0000\u0000\u0000\u009a"+
-		"\u0093\u0001\u0000\u0000\u0000\u009a\u0099\u0001\u0000\u0000\u0000\u009b"+
-		"\t\u0001\u0000\u0000\u0000\u009c\u009d\u0007\u0000\u0000\u0000\u009d\u000b"+
-		"\u0001\u0000\u0000\u0000\u009e\u00a0\u0003\n\u0005\u0000\u009f\u009e\u0001"+
-		"\u0000\u0000\u0000\u009f\u00a0\u0001\u0000\u0000\u0000\u00a0\u00a1\u0001"+
-		"\u0000\u0000\u0000\u00a1\u00a2\u0005@\u0000\u0000\u00a2\u00a4\u0005\u0004"+
-		"\u0000\u0000\u00a3\u00a5\u0003\u001e\u000f\u0000\u00a4\u00a3\u0001\u0000"+
-		"\u0000\u0000\u00a4\u00a5\u0001\u0000\u0000\u0000\u00a5\u00a6\u0001\u0000"+
-		"\u0000\u0000\u00a6\u00a7\u0005\u0005\u0000\u0000\u00a7\u00a8\u0003\u000e"+
-		"\u0007\u0000\u00a8\r\u0001\u0000\u0000\u0000\u00a9\u00ab\u0005\u0002\u0000"+
-		"\u0000\u00aa\u00ac\u0003\u0010\b\u0000\u00ab\u00aa\u0001\u0000\u0000\u0000"+
-		"\u00ab\u00ac\u0001\u0000\u0000\u0000\u00ac\u00b0\u0001\u0000\u0000\u0000"+
-		"\u00ad\u00af\u0003*\u0015\u0000\u00ae\u00ad\u0001\u0000\u0000\u0000\u00af"+
-		"\u00b2\u0001\u0000\u0000\u0000\u00b0\u00ae\u0001\u0000\u0000\u0000\u00b0"+
-		"\u00b1\u0001\u0000\u0000\u0000\u00b1\u00b3\u0001\u0000\u0000\u0000\u00b2"+
-		"\u00b0\u0001\u0000\u0000\u0000\u00b3\u00b4\u0005\u0003\u0000\u0000\u00b4"+
-		"\u000f\u0001\u0000\u0000\u0000\u00b5\u00b6\u0005/\u0000\u0000\u00b6\u00b8"+
-		"\u0005\u0004\u0000\u0000\u00b7\u00b9\u0003`0\u0000\u00b8\u00b7\u0001\u0000"+
-		"\u0000\u0000\u00b8\u00b9\u0001\u0000\u0000\u0000\u00b9\u00ba\u0001\u0000"+
-		"\u0000\u0000\u00ba\u00bb\u0005\u0005\u0000\u0000\u00bb\u00c4\u0005\u0001"+
-		"\u0000\u0000\u00bc\u00bd\u0005.\u0000\u0000\u00bd\u00bf\u0005\u0004\u0000"+
-		"\u0000\u00be\u00c0\u0003`0\u0000\u00bf\u00be\u0001\u0000\u0000\u0000\u00bf"+
-		"\u00c0\u0001\u0000\u0000\u0000\u00c0\u00c1\u0001\u0000\u0000\u0000\u00c1"+
-		"\u00c2\u0005\u0005\u0000\u0000\u00c2\u00c4\u0005\u0001\u0000\u0000\u00c3"+
-		"\u00b5\u0001\u0000\u0000\u0000\u00c3\u00bc\u0001\u0000\u0000\u0000\u00c4"+
-		"\u0011\u0001\u0000\u0000\u0000\u00c5\u00c7\u0005\u001f\u0000\u0000\u00c6"+
-		"\u00c5\u0001\u0000\u0000\u0000\u00c6\u00c7\u0001\u0000\u0000\u0000\u00c7"+
-		"\u00c9\u0001\u0000\u0000\u0000\u00c8\u00ca\u0005 \u0000\u0000\u00c9\u00c8"+
-		"\u0001\u0000\u0000\u0000\u00c9\u00ca\u0001\u0000\u0000\u0000\u00ca\u00cb"+
-		"\u0001\u0000\u0000\u0000\u00cb\u00cc\u0003\u0014\n\u0000\u00cc\u0013\u0001"+
-		"\u0000\u0000\u0000\u00cd\u00cf\u0005 \u0000\u0000\u00ce\u00cd\u0001\u0000"+
-		"\u0000\u0000\u00ce\u00cf\u0001\u0000\u0000\u0000\u00cf\u00d0\u0001\u0000"+
-		"\u0000\u0000\u00d0\u00d1\u0003\"\u0011\u0000\u00d1\u00d6\u0003\u0016\u000b"+
-		"\u0000\u00d2\u00d3\u0005\u0006\u0000\u0000\u00d3\u00d5\u0003\u0016\u000b"+
-		"\u0000\u00d4\u00d2\u0001\u0000\u0000\u0000\u00d5\u00d8\u0001\u0000\u0000"+
-		"\u0000\u00d6\u00d4\u0001\u0000\u0000\u0000\u00d6\u00d7\u0001\u0000\u0000"+
-		"\u0000\u00d7\u00d9\u0001\u0000\u0000\u0000\u00d8\u00d6\u0001\u0000\u0000"+
-		"\u0000\u00d9\u00da\u0005\u0001\u0000\u0000\u00da\u0015\u0001\u0000\u0000"+
-		"\u0000\u00db\u00e0\u0005@\u0000\u0000\u00dc\u00dd\u0005E\u0000\u0000\u00dd"+
-		"\u00df\u0005F\u0000\u0000\u00de\u00dc\u0001\u0000\u0000\u0000\u00df\u00e2"+
-		"\u0001\u0000\u0000\u0000\u00e0\u00de\u0001\u0000\u0000\u0000\u00e0\u00e1"+
-		"\u0001\u0000\u0000\u0000\u00e1\u00e5\u0001\u0000\u0000\u0000\u00e2\u00e0"+
-		"\u0001\u0000\u0000\u0000\u00e3\u00e4\u0005\u0007\u0000\u0000\u00e4\u00e6"+
-		"\u0003\u0018\f\u0000\u00e5\u00e3\u0001\u0000\u0000\u0000\u00e5\u00e6\u0001"+
-		"\u0000\u0000\u0000\u00e6\u0017\u0001\u0000\u0000\u0000\u00e7\u00ea\u0003"+
-		"X,\u0000\u00e8\u00ea\u0003\u001a\r\u0000\u00e9\u00e7\u0001\u0000\u0000"+
-		"\u0000\u00e9\u00e8\u0001\u0000\u0000\u0000\u00ea\u0019\u0001\u0000\u0000"+
-		"\u0000\u00eb\u00f4\u0005\u0002\u0000\u0000\u00ec\u00f1\u0003\u0018\f\u0000"+
-		"\u00ed\u00ee\u0005\u0006\u0000\u0000\u00ee\u00f0\u0003\u0018\f\u0000\u00ef"+
-		"\u00ed\u0001\u0000\u0000\u0000\u00f0\u00f3\u0001\u0000\u0000\u0000\u00f1"+
-		"\u00ef\u0001\u0000\u0000\u0000\u00f1\u00f2\u0001\u0000\u0000\u0000\u00f2"+
-		"\u00f5\u0001\u0000\u0000\u0000\u00f3\u00f1\u0001\u0000\u0000\u0000\u00f4"+
-		"\u00ec\u0001\u0000\u0000\u0000\u00f4\u00f5\u0001\u0000\u0000\u0000\u00f5"+
-		"\u00f6\u0001\u0000\u0000\u0000\u00f6\u00f7\u0005\u0003\u0000\u0000\u00f7"+
-		"\u001b\u0001\u0000\u0000\u0000\u00f8\u00f9\u0003\"\u0011\u0000\u00f9\u00fa"+
-		"\u0005@\u0000\u0000\u00fa\u00fc\u0005\u0004\u0000\u0000\u00fb\u00fd\u0003"+
-		"\u001e\u000f\u0000\u00fc\u00fb\u0001\u0000\u0000\u0000\u00fc\u00fd\u0001"+
-		"\u0000\u0000\u0000\u00fd\u00fe\u0001\u0000\u0000\u0000\u00fe\u0103\u0005"+
-		"\u0005\u0000\u0000\u00ff\u0100\u0005E\u0000\u0000\u0100\u0102\u0005F\u0000"+
-		"\u0000\u0101\u00ff\u0001\u0000\u0000\u0000\u0102\u0105\u0001\u0000\u0000"+
-		"\u0000\u0103\u0101\u0001\u0000\u0000\u0000\u0103\u0104\u0001\u0000\u0000"+
-		"\u0000\u0104\u0106\u0001\u0000\u0000\u0000\u0105\u0103\u0001\u0000\u0000"+
-		"\u0000\u0106\u0107\u0003(\u0014\u0000\u0107\u0111\u0001\u0000\u0000\u0000"+
-		"\u0108\u0109\u0005!\u0000\u0000\u0109\u010a\u0005@\u0000\u0000\u010a\u010c"+
-		"\u0005\u0004\u0000\u0000\u010b\u010d\u0003\u001e\u000f\u0000\u010c\u010b"+
-		"\u0001\u0000\u0000\u0000\u010c\u010d\u0001\u0000\u0000\u0000\u010d\u010e"+
-		"\u0001\u0000\u0000\u0000\u010e\u010f\u0005\u0005\u0000\u0000\u010f\u0111"+
-		"\u0003(\u0014\u0000\u0110\u00f8\u0001\u0000\u0000\u0000\u0110\u0108\u0001"+
-		"\u0000\u0000\u0000\u0111\u001d\u0001\u0000\u0000\u0000\u0112\u0117\u0003"+
-		" \u0010\u0000\u0113\u0114\u0005\u0006\u0000\u0000\u0114\u0116\u0003 \u0010"+
-		"\u0000\u0115\u0113\u0001\u0000\u0000\u0000\u0116\u0119\u0001\u0000\u0000"+
-		"\u0000\u0117\u0115\u0001\u0000\u0000\u0000\u0117\u0118\u0001\u0000\u0000"+
-		"\u0000\u0118\u001f\u0001\u0000\u0000\u0000\u0119\u0117\u0001\u0000\u0000"+
-		"\u0000\u011a\u011c\u0005 \u0000\u0000\u011b\u011a\u0001\u0000\u0000\u0000"+
-		"\u011b\u011c\u0001\u0000\u0000\u0000\u011c\u011d\u0001\u0000\u0000\u0000"+
-		"\u011d\u011e\u0003\"\u0011\u0000\u011e\u0123\u0005@\u0000\u0000\u011f"+
-		"\u0120\u0005E\u0000\u0000\u0120\u0122\u0005F\u0000\u0000\u0121\u011f\u0001"+
-		"\u0000\u0000\u0000\u0122\u0125\u0001\u0000\u0000\u0000\u0123\u0121\u0001"+
-		"\u0000\u0000\u0000\u0123\u0124\u0001\u0000\u0000\u0000\u0124!\u0001\u0000"+
-		"\u0000\u0000\u0125\u0123\u0001\u0000\u0000\u0000\u0126\u012b\u0003$\u0012"+
-		"\u0000\u0127\u0128\u0005E\u0000\u0000\u0128\u012a\u0005F\u0000\u0000\u0129"+
-		"\u0127\u0001\u0000\u0000\u0000\u012a\u012d\u0001\u0000\u0000\u0000\u012b"+
-		"\u0129\u0001\u0000\u0000\u0000\u012b\u012c\u0001\u0000\u0000\u0000\u012c"+
-		"\u0137\u0001\u0000\u0000\u0000\u012d\u012b\u0001\u0000\u0000\u0000\u012e"+
-		"\u0133\u0003&\u0013\u0000\u012f\u0130\u0005E\u0000\u0000\u0130\u0132\u0005"+
-		"F\u0000\u0000\u0131\u012f\u0001\u0000\u0000\u0000\u0132\u0135\u0001\u0000"+
-		"\u0000\u0000\u0133\u0131\u0001\u0000\u0000\u0000\u0133\u0134\u0001\u0000"+
-		"\u0000\u0000\u0134\u0137\u0001\u0000\u0000\u0000\u0135\u0133\u0001\u0000"+
-		"\u0000\u0000\u0136\u0126\u0001\u0000\u0000\u0000\u0136\u012e\u0001\u0000"+
-		"\u0000\u0000\u0137#\u0001\u0000\u0000\u0000\u0138\u0139\u0007\u0001\u0000"+
-		"\u0000\u0139%\u0001\u0000\u0000\u0000\u013a\u013b\u0005@\u0000\u0000\u013b"+
-		"\'\u0001\u0000\u0000\u0000\u013c\u0140\u0005\u0002\u0000\u0000\u013d\u013f"+
-		"\u0003*\u0015\u0000\u013e\u013d\u0001\u0000\u0000\u0000\u013f\u0142\u0001"+
-		"\u0000\u0000\u0000\u0140\u013e\u0001\u0000\u0000\u0000\u0140\u0141\u0001"+
-		"\u0000\u0000\u0000\u0141\u0143\u0001\u0000\u0000\u0000\u0142\u0140\u0001"+
-		"\u0000\u0000\u0000\u0143\u0144\u0005\u0003\u0000\u0000\u0144)\u0001\u0000"+
-		"\u0000\u0000\u0145\u0155\u0003,\u0016\u0000\u0146\u0155\u00030\u0018\u0000"+
-		"\u0147\u0155\u00032\u0019\u0000\u0148\u0155\u00034\u001a\u0000\u0149\u0155"+
-		"\u00036\u001b\u0000\u014a\u0155\u00038\u001c\u0000\u014b\u0155\u0003:"+
-		"\u001d\u0000\u014c\u0155\u0003<\u001e\u0000\u014d\u0155\u0003>\u001f\u0000"+
-		"\u014e\u0155\u0003@ \u0000\u014f\u0155\u0003B!\u0000\u0150\u0155\u0003"+
-		"D\"\u0000\u0151\u0155\u0003F#\u0000\u0152\u0155\u0003H$\u0000\u0153\u0155"+
-		"\u0003J%\u0000\u0154\u0145\u0001\u0000\u0000\u0000\u0154\u0146\u0001\u0000"+
-		"\u0000\u0000\u0154\u0147\u0001\u0000\u0000\u0000\u0154\u0148\u0001\u0000"+
-		"\u0000\u0000\u0154\u0149\u0001\u0000\u0000\u0000\u0154\u014a\u0001\u0000"+
-		"\u0000\u0000\u0154\u014b\u0001\u0000\u0000\u0000\u0154\u014c\u0001\u0000"+
-		"\u0000\u0000\u0154\u014d\u0001\u0000\u0000\u0000\u0154\u014e\u0001\u0000"+
-		"\u0000\u0000\u0154\u014f\u0001\u0000\u0000\u0000\u0154\u0150\u0001\u0000"+
-		"\u0000\u0000\u0154\u0151\u0001\u0000\u0000\u0000\u0154\u0152\u0001\u0000"+
-		"\u0000\u0000\u0154\u0153\u0001\u0000\u0000\u0000\u0155+\u0001\u0000\u0000"+
-		"\u0000\u0156\u0157\u0003.\u0017\u0000\u0157-\u0001\u0000\u0000\u0000\u0158"+
-		"\u015a\u0005 \u0000\u0000\u0159\u0158\u0001\u0000\u0000\u0000\u0159\u015a"+
-		"\u0001\u0000\u0000\u0000\u015a\u015b\u0001\u0000\u0000\u0000\u015b\u015c"+
-		"\u0003\u0014\n\u0000\u015c/\u0001\u0000\u0000\u0000\u015d\u015e\u0003"+
-		"L&\u0000\u015e\u015f\u0005\u0007\u0000\u0000\u015f\u0160\u0003X,\u0000"+
-		"\u0160\u0161\u0005\u0001\u0000\u0000\u01611\u0001\u0000\u0000\u0000\u0162"+
-		"\u0163\u0003L&\u0000\u0163\u0164\u0007\u0002\u0000\u0000\u0164\u0165\u0003"+
-		"X,\u0000\u0165\u0166\u0005\u0001\u0000\u0000\u01663\u0001\u0000\u0000"+
-		"\u0000\u0167\u0168\u0003X,\u0000\u0168\u0169\u0005\u0001\u0000\u0000\u0169"+
-		"5\u0001\u0000\u0000\u0000\u016a\u016b\u0005\"\u0000\u0000\u016b\u016c"+
-		"\u0005\u0004\u0000\u0000\u016c\u016d\u0003X,\u0000\u016d\u016e\u0005\u0005"+
-		"\u0000\u0000\u016e\u0171\u0003*\u0015\u0000\u016f\u0170\u0005#\u0000\u0000"+
-		"\u0170\u0172\u0003*\u0015\u0000\u0171\u016f\u0001\u0000\u0000\u0000\u0171"+
-		"\u0172\u0001\u0000\u0000\u0000\u01727\u0001\u0000\u0000\u0000\u0173\u0174"+
-		"\u0005$\u0000\u0000\u0174\u0175\u0005\u0004\u0000\u0000\u0175\u0176\u0003"+
-		"X,\u0000\u0176\u0177\u0005\u0005\u0000\u0000\u0177\u0178\u0003*\u0015"+
-		"\u0000\u01789\u0001\u0000\u0000\u0000\u0179\u017a\u0005%\u0000\u0000\u017a"+
-		"\u017c\u0005\u0004\u0000\u0000\u017b\u017d\u0003N\'\u0000\u017c\u017b"+
-		"\u0001\u0000\u0000\u0000\u017c\u017d\u0001\u0000\u0000\u0000\u017d\u017e"+
-		"\u0001\u0000\u0000\u0000\u017e\u0180\u0005\u0001\u0000\u0000\u017f\u0181"+
-		"\u0003X,\u0000\u0180\u017f\u0001\u0000\u0000\u0000\u0180\u0181\u0001\u0000"+
-		"\u0000\u0000\u0181\u0182\u0001\u0000\u0000\u0000\u0182\u0184\u0005\u0001"+
-		"\u0000\u0000\u0183\u0185\u0003P(\u0000\u0184\u0183\u0001\u0000\u0000\u0000"+
-		"\u0184\u0185\u0001\u0000\u0000\u0000\u0185\u0186\u0001\u0000\u0000\u0000"+
-		"\u0186\u0187\u0005\u0005\u0000\u0000\u0187\u0188\u0003*\u0015\u0000\u0188"+
-		";\u0001\u0000\u0000\u0000\u0189\u018a\u0005%\u0000\u0000\u018a\u018c\u0005"+
-		"\u0004\u0000\u0000\u018b\u018d\u0005 \u0000\u0000\u018c\u018b\u0001\u0000"+
-		"\u0000\u0000\u018c\u018d\u0001\u0000\u0000\u0000\u018d\u018e\u0001\u0000"+
-		"\u0000\u0000\u018e\u018f\u0003\"\u0011\u0000\u018f\u0190\u0005@\u0000"+
-		"\u0000\u0190\u0191\u0005\b\u0000\u0000\u0191\u0192\u0003X,\u0000\u0192"+
-		"\u0193\u0005\u0005\u0000\u0000\u0193\u0194\u0003*\u0015\u0000\u0194=\u0001"+
-		"\u0000\u0000\u0000\u0195\u0196\u0005&\u0000\u0000\u0196\u0197\u0003*\u0015"+
-		"\u0000\u0197\u0198\u0005$\u0000\u0000\u0198\u0199\u0005\u0004\u0000\u0000"+
-		"\u0199\u019a\u0003X,\u0000\u019a\u019b\u0005\u0005\u0000\u0000\u019b\u019c"+
-		"\u0005\u0001\u0000\u0000\u019c?\u0001\u0000\u0000\u0000\u019d\u019e\u0005"+
-		"\'\u0000\u0000\u019e\u019f\u0005\u0004\u0000\u0000\u019f\u01a0\u0003X"+
-		",\u0000\u01a0\u01a1\u0005\u0005\u0000\u0000\u01a1\u01a5\u0005\u0002\u0000"+
-		"\u0000\u01a2\u01a4\u0003T*\u0000\u01a3\u01a2\u0001\u0000\u0000\u0000\u01a4"+
-		"\u01a7\u0001\u0000\u0000\u0000\u01a5\u01a3\u0001\u0000\u0000\u0000\u01a5"+
-		"\u01a6\u0001\u0000\u0000\u0000\u01a6\u01a8\u0001\u0000\u0000\u0000\u01a7"+
-		"\u01a5\u0001\u0000\u0000\u0000\u01a8\u01a9\u0005\u0003\u0000\u0000\u01a9"+
-		"A\u0001\u0000\u0000\u0000\u01aa\u01ac\u0005,\u0000\u0000\u01ab\u01ad\u0003"+
-		"X,\u0000\u01ac\u01ab\u0001\u0000\u0000\u0000\u01ac\u01ad\u0001\u0000\u0000"+
-		"\u0000\u01ad\u01ae\u0001\u0000\u0000\u0000\u01ae\u01af\u0005\u0001\u0000"+
-		"\u0000\u01afC\u0001\u0000\u0000\u0000\u01b0\u01b1\u0005*\u0000\u0000\u01b1"+
-		"\u01b2\u0005\u0001\u0000\u0000\u01b2E\u0001\u0000\u0000\u0000\u01b3\u01b4"+
-		"\u0005+\u0000\u0000\u01b4\u01b5\u0005\u0001\u0000\u0000\u01b5G\u0001\u0000"+
-		"\u0000\u0000\u01b6\u01b7\u0003(\u0014\u0000\u01b7I\u0001\u0000\u0000\u0000"+
-		"\u01b8\u01b9\u0005\u0001\u0000\u0000\u01b9K\u0001\u0000\u0000\u0000\u01ba"+
-		"\u01bb\u0006&\uffff\uffff\u0000\u01bb\u01bf\u0005@\u0000\u0000\u01bc\u01bf"+
-		"\u0005.\u0000\u0000\u01bd\u01bf\u0005/\u0000\u0000\u01be\u01ba\u0001\u0000"+
-		"\u0000\u0000\u01be\u01bc\u0001\u0000\u0000\u0000\u01be\u01bd\u0001\u0000"+
-		"\u0000\u0000\u01bf\u01ca\u0001\u0000\u0000\u0000\u01c0\u01c1\n\u0002\u0000"+
-		"\u0000\u01c1\u01c2\u0005\t\u0000\u0000\u01c2\u01c9\u0005@\u0000\u0000"+
-		"\u01c3\u01c4\n\u0001\u0000\u0000\u01c4\u01c5\u0005E\u0000\u0000\u01c5"+
-		"\u01c6\u0003X,\u0000\u01c6\u01c7\u0005F\u0000\u0000\u01c7\u01c9\u0001"+
-		"\u0000\u0000\u0000\u01c8\u01c0\u0001\u0000\u0000\u0000\u01c8\u01c3\u0001"+
-		"\u0000\u0000\u0000\u01c9\u01cc\u0001\u0000\u0000\u0000\u01ca\u01c8\u0001"+
-		"\u0000\u0000\u0000\u01ca\u01cb\u0001\u0000\u0000\u0000\u01cbM\u0001\u0000"+
-		"\u0000\u0000\u01cc\u01ca\u0001\u0000\u0000\u0000\u01cd\u01cf\u0005 \u0000"+
-		"\u0000\u01ce\u01cd\u0001\u0000\u0000\u0000\u01ce\u01cf\u0001\u0000\u0000"+
-		"\u0000\u01cf\u01d0\u0001\u0000\u0000\u0000\u01d0\u01d1\u0003\"\u0011\u0000"+
-		"\u01d1\u01d6\u0003\u0016\u000b\u0000\u01d2\u01d3\u0005\u0006\u0000\u0000"+
-		"\u01d3\u01d5\u0003\u0016\u000b\u0000\u01d4\u01d2\u0001\u0000\u0000\u0000"+
-		"\u01d5\u01d8\u0001\u0000\u0000\u0000\u01d6\u01d4\u0001\u0000\u0000\u0000"+
-		"\u01d6\u01d7\u0001\u0000\u0000\u0000\u01d7\u01db\u0001\u0000\u0000\u0000"+
-		"\u01d8\u01d6\u0001\u0000\u0000\u0000\u01d9\u01db\u0003R)\u0000\u01da\u01ce"+
-		"\u0001\u0000\u0000\u0000\u01da\u01d9\u0001\u0000\u0000\u0000\u01dbO\u0001"+
-		"\u0000\u0000\u0000\u01dc\u01dd\u0003R)\u0000\u01ddQ\u0001\u0000\u0000"+
-		"\u0000\u01de\u01e3\u0003X,\u0000\u01df\u01e0\u0005\u0006\u0000\u0000\u01e0"+
-		"\u01e2\u0003X,\u0000\u01e1\u01df\u0001\u0000\u0000\u0000\u01e2\u01e5\u0001"+
-		"\u0000\u0000\u0000\u01e3\u01e1\u0001\u0000\u0000\u0000\u01e3\u01e4\u0001"+
-		"\u0000\u0000\u0000\u01e4S\u0001\u0000\u0000\u0000\u01e5\u01e3\u0001\u0000"+
-		"\u0000\u0000\u01e6\u01e7\u0005(\u0000\u0000\u01e7\u01ea\u0003V+\u0000"+
-		"\u01e8\u01ea\u0005)\u0000\u0000\u01e9\u01e6\u0001\u0000\u0000\u0000\u01e9"+
-		"\u01e8\u0001\u0000\u0000\u0000\u01ea\u01eb\u0001\u0000\u0000\u0000\u01eb"+
-		"\u01ef\u0005\b\u0000\u0000\u01ec\u01ee\u0003*\u0015\u0000\u01ed\u01ec"+
-		"\u0001\u0000\u0000\u0000\u01ee\u01f1\u0001\u0000\u0000\u0000\u01ef\u01ed"+
-		"\u0001\u0000\u0000\u0000\u01ef\u01f0\u0001\u0000\u0000\u0000\u01f0U\u0001"+
-		"\u0000\u0000\u0000\u01f1\u01ef\u0001\u0000\u0000\u0000\u01f2\u01f3\u0007"+
-		"\u0003\u0000\u0000\u01f3W\u0001\u0000\u0000\u0000\u01f4\u01f5\u0006,\uffff"+
-		"\uffff\u0000\u01f5\u0232\u0003Z-\u0000\u01f6\u0232\u0005.\u0000\u0000"+
-		"\u01f7\u0232\u0005/\u0000\u0000\u01f8\u01f9\u0005-\u0000\u0000\u01f9\u01fa"+
-		"\u0003\"\u0011\u0000\u01fa\u01fb\u0005E\u0000\u0000\u01fb\u01fc\u0003"+
-		"X,\u0000\u01fc\u0203\u0005F\u0000\u0000\u01fd\u01fe\u0005E\u0000\u0000"+
-		"\u01fe\u01ff\u0003X,\u0000\u01ff\u0200\u0005F\u0000\u0000\u0200\u0202"+
-		"\u0001\u0000\u0000\u0000\u0201\u01fd\u0001\u0000\u0000\u0000\u0202\u0205"+
-		"\u0001\u0000\u0000\u0000\u0203\u0201\u0001\u0000\u0000\u0000\u0203\u0204"+
-		"\u0001\u0000\u0000\u0000\u0204\u020a\u0001\u0000\u0000\u0000\u0205\u0203"+
-		"\u0001\u0000\u0000\u0000\u0206\u0207\u0005E\u0000\u0000\u0207\u0209\u0005"+
-		"F\u0000\u0000\u0208\u0206\u0001\u0000\u0000\u0000\u0209\u020c\u0001\u0000"+
-		"\u0000\u0000\u020a\u0208\u0001\u0000\u0000\u0000\u020a\u020b\u0001\u0000"+
-		"\u0000\u0000\u020b\u0232\u0001\u0000\u0000\u0000\u020c\u020a\u0001\u0000"+
-		"\u0000\u0000\u020d\u020e\u0005-\u0000\u0000\u020e\u020f\u0003\"\u0011"+
-		"\u0000\u020f\u0210\u0003\u001a\r\u0000\u0210\u0232\u0001\u0000\u0000\u0000"+
-		"\u0211\u0212\u0005-\u0000\u0000\u0212\u0213\u0003&\u0013\u0000\u0213\u0215"+
-		"\u0005\u0004\u0000\u0000\u0214\u0216\u0003`0\u0000\u0215\u0214\u0001\u0000"+
-		"\u0000\u0000\u0215\u0216\u0001\u0000\u0000\u0000\u0216\u0217\u0001\u0000"+
-		"\u0000\u0000\u0217\u0218\u0005\u0005\u0000\u0000\u0218\u0232\u0001\u0000"+
-		"\u0000\u0000\u0219\u021a\u0003&\u0013\u0000\u021a\u021b\u0005\t\u0000"+
-		"\u0000\u021b\u021c\u0005@\u0000\u0000\u021c\u0232\u0001\u0000\u0000\u0000"+
-		"\u021d\u021e\u0003&\u0013\u0000\u021e\u021f\u0005\t\u0000\u0000\u021f"+
-		"\u0220\u0005@\u0000\u0000\u0220\u0222\u0005\u0004\u0000\u0000\u0221\u0223"+
-		"\u0003`0\u0000\u0222\u0221\u0001\u0000\u0000\u0000\u0222\u0223\u0001\u0000"+
-		"\u0000\u0000\u0223\u0224\u0001\u0000\u0000\u0000\u0224\u0225\u0005\u0005"+
-		"\u0000\u0000\u0225\u0232\u0001\u0000\u0000\u0000\u0226\u0227\u0005\u0004"+
-		"\u0000\u0000\u0227\u0228\u0003\"\u0011\u0000\u0228\u0229\u0005\u0005\u0000"+
-		"\u0000\u0229\u022a\u0003X,\f\u022a\u0232\u0001\u0000\u0000\u0000\u022b"+
-		"\u022c\u0007\u0004\u0000\u0000\u022c\u0232\u0003X,\t\u022d\u022e\u0005"+
-		"\u0004\u0000\u0000\u022e\u022f\u0003X,\u0000\u022f\u0230\u0005\u0005\u0000"+
-		"\u0000\u0230\u0232\u0001\u0000\u0000\u0000\u0231\u01f4\u0001\u0000\u0000"+
-		"\u0000\u0231\u01f6\u0001\u0000\u0000\u0000\u0231\u01f7\u0001\u0000\u0000"+
-		"\u0000\u0231\u01f8\u0001\u0000\u0000\u0000\u0231\u020d\u0001\u0000\u0000"+
-		"\u0000\u0231\u0211\u0001\u0000\u0000\u0000\u0231\u0219\u0001\u0000\u0000"+
-		"\u0000\u0231\u021d\u0001\u0000\u0000\u0000\u0231\u0226\u0001\u0000\u0000"+
-		"\u0000\u0231\u022b\u0001\u0000\u0000\u0000\u0231\u022d\u0001\u0000\u0000"+
-		"\u0000\u0232\u0262\u0001\u0000\u0000\u0000\u0233\u0234\n\b\u0000\u0000"+
-		"\u0234\u0235\u0007\u0005\u0000\u0000\u0235\u0261\u0003X,\t\u0236\u0237"+
-		"\n\u0007\u0000\u0000\u0237\u0238\u0007\u0006\u0000\u0000\u0238\u0261\u0003"+
-		"X,\b\u0239\u023a\n\u0006\u0000\u0000\u023a\u023b\u0007\u0007\u0000\u0000"+
-		"\u023b\u0261\u0003X,\u0007\u023c\u023d\n\u0005\u0000\u0000\u023d\u023e"+
-		"\u0007\b\u0000\u0000\u023e\u0261\u0003X,\u0006\u023f\u0240\n\u0004\u0000"+
-		"\u0000\u0240\u0241\u0005\u0016\u0000\u0000\u0241\u0261\u0003X,\u0005\u0242"+
-		"\u0243\n\u0003\u0000\u0000\u0243\u0244\u0005\u0017\u0000\u0000\u0244\u0261"+
-		"\u0003X,\u0004\u0245\u0246\n\u0002\u0000\u0000\u0246\u0247\u0005\u0018"+
-		"\u0000\u0000\u0247\u0248\u0003X,\u0000\u0248\u0249\u0005\b\u0000\u0000"+
-		"\u0249\u024a\u0003X,\u0002\u024a\u0261\u0001\u0000\u0000\u0000\u024b\u024c"+
-		"\n\u0014\u0000\u0000\u024c\u024d\u0005\t\u0000\u0000\u024d\u0261\u0005"+
-		"@\u0000\u0000\u024e\u024f\n\u0013\u0000\u0000\u024f\u0250\u0005\t\u0000"+
-		"\u0000\u0250\u0251\u0005@\u0000\u0000\u0251\u0253\u0005\u0004\u0000\u0000"+
-		"\u0252\u0254\u0003`0\u0000\u0253\u0252\u0001\u0000\u0000\u0000\u0253\u0254"+
-		"\u0001\u0000\u0000\u0000\u0254\u0255\u0001\u0000\u0000\u0000\u0255\u0261"+
-		"\u0005\u0005\u0000\u0000\u0256\u0257\n\u0012\u0000\u0000\u0257\u0258\u0005"+
-		"E\u0000\u0000\u0258\u0259\u0003X,\u0000\u0259\u025a\u0005F\u0000\u0000"+
-		"\u025a\u0261\u0001\u0000\u0000\u0000\u025b\u025c\n\u000b\u0000\u0000\u025c"+
-		"\u025d\u00053\u0000\u0000\u025d\u0261\u0003&\u0013\u0000\u025e\u025f\n"+
-		"\n\u0000\u0000\u025f\u0261\u0007\t\u0000\u0000\u0260\u0233\u0001\u0000"+
-		"\u0000\u0000\u0260\u0236\u0001\u0000\u0000\u0000\u0260\u0239\u0001\u0000"+
-		"\u0000\u0000\u0260\u023c\u0001\u0000\u0000\u0000\u0260\u023f\u0001\u0000"+
-		"\u0000\u0000\u0260\u0242\u0001\u0000\u0000\u0000\u0260\u0245\u0001\u0000"+
-		"\u0000\u0000\u0260\u024b\u0001\u0000\u0000\u0000\u0260\u024e\u0001\u0000"+
-		"\u0000\u0000\u0260\u0256\u0001\u0000\u0000\u0000\u0260\u025b\u0001\u0000"+
-		"\u0000\u0000\u0260\u025e\u0001\u0000\u0000\u0000\u0261\u0264\u0001\u0000"+
-		"\u0000\u0000\u0262\u0260\u0001\u0000\u0000\u0000\u0262\u0263\u0001\u0000"+
-		"\u0000\u0000\u0263Y\u0001\u0000\u0000\u0000\u0264\u0262\u0001\u0000\u0000"+
-		"\u0000\u0265\u026e\u0003\\.\u0000\u0266\u026e\u0005@\u0000\u0000\u0267"+
-		"\u0268\u0005@\u0000\u0000\u0268\u026a\u0005\u0004\u0000\u0000\u0269\u026b"+
-		"\u0003`0\u0000\u026a\u0269\u0001\u0000\u0000\u0000\u026a\u026b\u0001\u0000"+
-		"\u0000\u0000\u026b\u026c\u0001\u0000\u0000\u0000\u026c\u026e\u0005\u0005"+
-		"\u0000\u0000\u026d\u0265\u0001\u0000\u0000\u0000\u026d\u0266\u0001\u0000"+
-		"\u0000\u0000\u026d\u0267\u0001\u0000\u0000\u0000\u026e[\u0001\u0000\u0000"+
-		"\u0000\u026f\u0276\u0005A\u0000\u0000\u0270\u0276\u0005B\u0000\u0000\u0271"+
-		"\u0276\u0005C\u0000\u0000\u0272\u0276\u0005D\u0000\u0000\u0273\u0276\u0003"+
-		"^/\u0000\u0274\u0276\u00050\u0000\u0000\u0275\u026f\u0001\u0000\u0000"+
-		"\u0000\u0275\u0270\u0001\u0000\u0000\u0000\u0275\u0271\u0001\u0000\u0000"+
-		"\u0000\u0275\u0272\u0001\u0000\u0000\u0000\u0275\u0273\u0001\u0000\u0000"+
-		"\u0000\u0275\u0274\u0001\u0000\u0000\u0000\u0276]\u0001\u0000\u0000\u0000"+
-		"\u0277\u0278\u0007\n\u0000\u0000\u0278_\u0001\u0000\u0000\u0000\u0279"+
-		"\u027e\u0003X,\u0000\u027a\u027b\u0005\u0006\u0000\u0000\u027b\u027d\u0003"+
-		"X,\u0000\u027c\u027a\u0001\u0000\u0000\u0000\u027d\u0280\u0001\u0000\u0000"+
-		"\u0000\u027e\u027c\u0001\u0000\u0000\u0000\u027e\u027f\u0001\u0000\u0000"+
-		"\u0000\u027fa\u0001\u0000\u0000\u0000\u0280\u027e\u0001\u0000\u0000\u0000"+
-		"Dekw}\u0083\u0089\u008c\u008f\u0093\u0096\u009a\u009f\u00a4\u00ab\u00b0"+
-		"\u00b8\u00bf\u00c3\u00c6\u00c9\u00ce\u00d6\u00e0\u00e5\u00e9\u00f1\u00f4"+
-		"\u00fc\u0103\u010c\u0110\u0117\u011b\u0123\u012b\u0133\u0136\u0140\u0154"+
-		"\u0159\u0171\u017c\u0180\u0184\u018c\u01a5\u01ac\u01be\u01c8\u01ca\u01ce"+
-		"\u01d6\u01da\u01e3\u01e9\u01ef\u0203\u020a\u0215\u0222\u0231\u0253\u0260"+
-		"\u0262\u026a\u026d\u0275\u027e";
+		",\u0001,\u0001,\u0003,\u0247\b,\u0001,\u0001,\u0001,\u0001,\u0001,\u0001"+
+		",\u0001,\u0001,\u0001,\u0001,\u0001,\u0005,\u0254\b,\n,\f,\u0257\t,\u0001"+
+		"-\u0001-\u0001-\u0001-\u0001-\u0003-\u025e\b-\u0001-\u0003-\u0261\b-\u0001"+
+		".\u0001.\u0001.\u0001.\u0001.\u0001.\u0003.\u0269\b.\u0001/\u0001/\u0001"+
+		"0\u00010\u00010\u00050\u0270\b0\n0\f0\u0273\t0\u00010\u0000\u0002LX1\u0000"+
+		"\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c"+
+		"\u001e \"$&(*,.02468:<>@BDFHJLNPRTVXZ\\^`\u0000\u000b\u0001\u0000\u001c"+
+		"\u001e\u0001\u000048\u0001\u0000;?\u0002\u0000@ACC\u0002\u0000\n\f9:\u0001"+
+		"\u0000\r\u000f\u0001\u0000\n\u000b\u0001\u0000\u0010\u0013\u0001\u0000"+
+		"\u0014\u0015\u0001\u00009:\u0001\u000012\u02ac\u0000e\u0001\u0000\u0000"+
+		"\u0000\u0002p\u0001\u0000\u0000\u0000\u0004w\u0001\u0000\u0000\u0000\u0006"+
+		"y\u0001\u0000\u0000\u0000\b\u009a\u0001\u0000\u0000\u0000\n\u009c\u0001"+
+		"\u0000\u0000\u0000\f\u009f\u0001\u0000\u0000\u0000\u000e\u00a9\u0001\u0000"+
+		"\u0000\u0000\u0010\u00c3\u0001\u0000\u0000\u0000\u0012\u00c6\u0001\u0000"+
+		"\u0000\u0000\u0014\u00ce\u0001\u0000\u0000\u0000\u0016\u00db\u0001\u0000"+
+		"\u0000\u0000\u0018\u00e9\u0001\u0000\u0000\u0000\u001a\u00eb\u0001\u0000"+
+		"\u0000\u0000\u001c\u0110\u0001\u0000\u0000\u0000\u001e\u0112\u0001\u0000"+
+		"\u0000\u0000 \u011b\u0001\u0000\u0000\u0000\"\u0136\u0001\u0000\u0000"+
+		"\u0000$\u0138\u0001\u0000\u0000\u0000&\u013a\u0001\u0000\u0000\u0000("+
+		"\u013c\u0001\u0000\u0000\u0000*\u0154\u0001\u0000\u0000\u0000,\u0156\u0001"+
+		"\u0000\u0000\u0000.\u0159\u0001\u0000\u0000\u00000\u015d\u0001\u0000\u0000"+
+		"\u00002\u0162\u0001\u0000\u0000\u00004\u0167\u0001\u0000\u0000\u00006"+
+		"\u016a\u0001\u0000\u0000\u00008\u0173\u0001\u0000\u0000\u0000:\u0179\u0001"+
+		"\u0000\u0000\u0000<\u0189\u0001\u0000\u0000\u0000>\u0195\u0001\u0000\u0000"+
+		"\u0000@\u019d\u0001\u0000\u0000\u0000B\u01aa\u0001\u0000\u0000\u0000D"+
+		"\u01b0\u0001\u0000\u0000\u0000F\u01b3\u0001\u0000\u0000\u0000H\u01b6\u0001"+
+		"\u0000\u0000\u0000J\u01b8\u0001\u0000\u0000\u0000L\u01be\u0001\u0000\u0000"+
+		"\u0000N\u01da\u0001\u0000\u0000\u0000P\u01dc\u0001\u0000\u0000\u0000R"+
+		"\u01de\u0001\u0000\u0000\u0000T\u01e9\u0001\u0000\u0000\u0000V\u01f2\u0001"+
+		"\u0000\u0000\u0000X\u0224\u0001\u0000\u0000\u0000Z\u0260\u0001\u0000\u0000"+
+		"\u0000\\\u0268\u0001\u0000\u0000\u0000^\u026a\u0001\u0000\u0000\u0000"+
+		"`\u026c\u0001\u0000\u0000\u0000bd\u0003\u0002\u0001\u0000cb\u0001\u0000"+
+		"\u0000\u0000dg\u0001\u0000\u0000\u0000ec\u0001\u0000\u0000\u0000ef\u0001"+
+		"\u0000\u0000\u0000fk\u0001\u0000\u0000\u0000ge\u0001\u0000\u0000\u0000"+
+		"hj\u0003\u0004\u0002\u0000ih\u0001\u0000\u0000\u0000jm\u0001\u0000\u0000"+
+		"\u0000ki\u0001\u0000\u0000\u0000kl\u0001\u0000\u0000\u0000ln\u0001\u0000"+
+		"\u0000\u0000mk\u0001\u0000\u0000\u0000no\u0005\u0000\u0000\u0001o\u0001"+
+		"\u0001\u0000\u0000\u0000pq\u0005\u001b\u0000\u0000qr\u0005D\u0000\u0000"+
+		"rs\u0005\u0001\u0000\u0000s\u0003\u0001\u0000\u0000\u0000tx\u0003\u0006"+
+		"\u0003\u0000ux\u0003\u001c\u000e\u0000vx\u0003\u0012\t\u0000wt\u0001\u0000"+
+		"\u0000\u0000wu\u0001\u0000\u0000\u0000wv\u0001\u0000\u0000\u0000x\u0005"+
+		"\u0001\u0000\u0000\u0000yz\u0005\u0019\u0000\u0000z}\u0005@\u0000\u0000"+
+		"{|\u0005\u001a\u0000\u0000|~\u0005@\u0000\u0000}{\u0001\u0000\u0000\u0000"+
+		"}~\u0001\u0000\u0000\u0000~\u007f\u0001\u0000\u0000\u0000\u007f\u0083"+
+		"\u0005\u0002\u0000\u0000\u0080\u0082\u0003\b\u0004\u0000\u0081\u0080\u0001"+
+		"\u0000\u0000\u0000\u0082\u0085\u0001\u0000\u0000\u0000\u0083\u0081\u0001"+
+		"\u0000\u0000\u0000\u0083\u0084\u0001\u0000\u0000\u0000\u0084\u0086\u0001"+
+		"\u0000\u0000\u0000\u0085\u0083\u0001\u0000\u0000\u0000\u0086\u0087\u0005"+
+		"\u0003\u0000\u0000\u0087\u0007\u0001\u0000\u0000\u0000\u0088\u008a\u0003"+
+		"\n\u0005\u0000\u0089\u0088\u0001\u0000\u0000\u0000\u0089\u008a\u0001\u0000"+
+		"\u0000\u0000\u008a\u008c\u0001\u0000\u0000\u0000\u008b\u008d\u0005\u001f"+
+		"\u0000\u0000\u008c\u008b\u0001\u0000\u0000\u0000\u008c\u008d\u0001\u0000"+
+		"\u0000\u0000\u008d\u008f\u0001\u0000\u0000\u0000\u008e\u0090\u0005 \u0000"+
+		"\u0000\u008f\u008e\u0001\u0000\u0000\u0000\u008f\u0090\u0001\u0000\u0000"+
+		"\u0000\u0090\u0091\u0001\u0000\u0000\u0000\u0091\u009b\u0003\u0014\n\u0000"+
+		"\u0092\u0094\u0003\n\u0005\u0000\u0093\u0092\u0001\u0000\u0000\u0000\u0093"+
+		"\u0094\u0001\u0000\u0000\u0000\u0094\u0096\u0001\u0000\u0000\u0000\u0095"+
+		"\u0097\u0005\u001f\u0000\u0000\u0096\u0095\u0001\u0000\u0000\u0000\u0096"+
+		"\u0097\u0001\u0000\u0000\u0000\u0097\u0098\u0001\u0000\u0000\u0000\u0098"+
+		"\u009b\u0003\u001c\u000e\u0000\u0099\u009b\u0003\f\u0006\u0000\u009a\u0089"+
+		"\u0001\u0000\u0000\u0000\u009a\u0093\u0001\u0000\u0000\u0000\u009a\u0099"+
+		"\u0001\u0000\u0000\u0000\u009b\t\u0001\u0000\u0000\u0000\u009c\u009d\u0007"+
+		"\u0000\u0000\u0000\u009d\u000b\u0001\u0000\u0000\u0000\u009e\u00a0\u0003"+
+		"\n\u0005\u0000\u009f\u009e\u0001\u0000\u0000\u0000\u009f\u00a0\u0001\u0000"+
+		"\u0000\u0000\u00a0\u00a1\u0001\u0000\u0000\u0000\u00a1\u00a2\u0005@\u0000"+
+		"\u0000\u00a2\u00a4\u0005\u0004\u0000\u0000\u00a3\u00a5\u0003\u001e\u000f"+
+		"\u0000\u00a4\u00a3\u0001\u0000\u0000\u0000\u00a4\u00a5\u0001\u0000\u0000"+
+		"\u0000\u00a5\u00a6\u0001\u0000\u0000\u0000\u00a6\u00a7\u0005\u0005\u0000"+
+		"\u0000\u00a7\u00a8\u0003\u000e\u0007\u0000\u00a8\r\u0001\u0000\u0000\u0000"+
+		"\u00a9\u00ab\u0005\u0002\u0000\u0000\u00aa\u00ac\u0003\u0010\b\u0000\u00ab"+
+		"\u00aa\u0001\u0000\u0000\u0000\u00ab\u00ac\u0001\u0000\u0000\u0000\u00ac"+
+		"\u00b0\u0001\u0000\u0000\u0000\u00ad\u00af\u0003*\u0015\u0000\u00ae\u00ad"+
+		"\u0001\u0000\u0000\u0000\u00af\u00b2\u0001\u0000\u0000\u0000\u00b0\u00ae"+
+		"\u0001\u0000\u0000\u0000\u00b0\u00b1\u0001\u0000\u0000\u0000\u00b1\u00b3"+
+		"\u0001\u0000\u0000\u0000\u00b2\u00b0\u0001\u0000\u0000\u0000\u00b3\u00b4"+
+		"\u0005\u0003\u0000\u0000\u00b4\u000f\u0001\u0000\u0000\u0000\u00b5\u00b6"+
+		"\u0005/\u0000\u0000\u00b6\u00b8\u0005\u0004\u0000\u0000\u00b7\u00b9\u0003"+
+		"`0\u0000\u00b8\u00b7\u0001\u0000\u0000\u0000\u00b8\u00b9\u0001\u0000\u0000"+
+		"\u0000\u00b9\u00ba\u0001\u0000\u0000\u0000\u00ba\u00bb\u0005\u0005\u0000"+
+		"\u0000\u00bb\u00c4\u0005\u0001\u0000\u0000\u00bc\u00bd\u0005.\u0000\u0000"+
+		"\u00bd\u00bf\u0005\u0004\u0000\u0000\u00be\u00c0\u0003`0\u0000\u00bf\u00be"+
+		"\u0001\u0000\u0000\u0000\u00bf\u00c0\u0001\u0000\u0000\u0000\u00c0\u00c1"+
+		"\u0001\u0000\u0000\u0000\u00c1\u00c2\u0005\u0005\u0000\u0000\u00c2\u00c4"+
+		"\u0005\u0001\u0000\u0000\u00c3\u00b5\u0001\u0000\u0000\u0000\u00c3\u00bc"+
+		"\u0001\u0000\u0000\u0000\u00c4\u0011\u0001\u0000\u0000\u0000\u00c5\u00c7"+
+		"\u0005\u001f\u0000\u0000\u00c6\u00c5\u0001\u0000\u0000\u0000\u00c6\u00c7"+
+		"\u0001\u0000\u0000\u0000\u00c7\u00c9\u0001\u0000\u0000\u0000\u00c8\u00ca"+
+		"\u0005 \u0000\u0000\u00c9\u00c8\u0001\u0000\u0000\u0000\u00c9\u00ca\u0001"+
+		"\u0000\u0000\u0000\u00ca\u00cb\u0001\u0000\u0000\u0000\u00cb\u00cc\u0003"+
+		"\u0014\n\u0000\u00cc\u0013\u0001\u0000\u0000\u0000\u00cd\u00cf\u0005 "+
+		"\u0000\u0000\u00ce\u00cd\u0001\u0000\u0000\u0000\u00ce\u00cf\u0001\u0000"+
+		"\u0000\u0000\u00cf\u00d0\u0001\u0000\u0000\u0000\u00d0\u00d1\u0003\"\u0011"+
+		"\u0000\u00d1\u00d6\u0003\u0016\u000b\u0000\u00d2\u00d3\u0005\u0006\u0000"+
+		"\u0000\u00d3\u00d5\u0003\u0016\u000b\u0000\u00d4\u00d2\u0001\u0000\u0000"+
+		"\u0000\u00d5\u00d8\u0001\u0000\u0000\u0000\u00d6\u00d4\u0001\u0000\u0000"+
+		"\u0000\u00d6\u00d7\u0001\u0000\u0000\u0000\u00d7\u00d9\u0001\u0000\u0000"+
+		"\u0000\u00d8\u00d6\u0001\u0000\u0000\u0000\u00d9\u00da\u0005\u0001\u0000"+
+		"\u0000\u00da\u0015\u0001\u0000\u0000\u0000\u00db\u00e0\u0005@\u0000\u0000"+
+		"\u00dc\u00dd\u0005E\u0000\u0000\u00dd\u00df\u0005F\u0000\u0000\u00de\u00dc"+
+		"\u0001\u0000\u0000\u0000\u00df\u00e2\u0001\u0000\u0000\u0000\u00e0\u00de"+
+		"\u0001\u0000\u0000\u0000\u00e0\u00e1\u0001\u0000\u0000\u0000\u00e1\u00e5"+
+		"\u0001\u0000\u0000\u0000\u00e2\u00e0\u0001\u0000\u0000\u0000\u00e3\u00e4"+
+		"\u0005\u0007\u0000\u0000\u00e4\u00e6\u0003\u0018\f\u0000\u00e5\u00e3\u0001"+
+		"\u0000\u0000\u0000\u00e5\u00e6\u0001\u0000\u0000\u0000\u00e6\u0017\u0001"+
+		"\u0000\u0000\u0000\u00e7\u00ea\u0003X,\u0000\u00e8\u00ea\u0003\u001a\r"+
+		"\u0000\u00e9\u00e7\u0001\u0000\u0000\u0000\u00e9\u00e8\u0001\u0000\u0000"+
+		"\u0000\u00ea\u0019\u0001\u0000\u0000\u0000\u00eb\u00f4\u0005\u0002\u0000"+
+		"\u0000\u00ec\u00f1\u0003\u0018\f\u0000\u00ed\u00ee\u0005\u0006\u0000\u0000"+
+		"\u00ee\u00f0\u0003\u0018\f\u0000\u00ef\u00ed\u0001\u0000\u0000\u0000\u00f0"+
+		"\u00f3\u0001\u0000\u0000\u0000\u00f1\u00ef\u0001\u0000\u0000\u0000\u00f1"+
+		"\u00f2\u0001\u0000\u0000\u0000\u00f2\u00f5\u0001\u0000\u0000\u0000\u00f3"+
+		"\u00f1\u0001\u0000\u0000\u0000\u00f4\u00ec\u0001\u0000\u0000\u0000\u00f4"+
+		"\u00f5\u0001\u0000\u0000\u0000\u00f5\u00f6\u0001\u0000\u0000\u0000\u00f6"+
+		"\u00f7\u0005\u0003\u0000\u0000\u00f7\u001b\u0001\u0000\u0000\u0000\u00f8"+
+		"\u00f9\u0003\"\u0011\u0000\u00f9\u00fa\u0005@\u0000\u0000\u00fa\u00fc"+
+		"\u0005\u0004\u0000\u0000\u00fb\u00fd\u0003\u001e\u000f\u0000\u00fc\u00fb"+
+		"\u0001\u0000\u0000\u0000\u00fc\u00fd\u0001\u0000\u0000\u0000\u00fd\u00fe"+
+		"\u0001\u0000\u0000\u0000\u00fe\u0103\u0005\u0005\u0000\u0000\u00ff\u0100"+
+		"\u0005E\u0000\u0000\u0100\u0102\u0005F\u0000\u0000\u0101\u00ff\u0001\u0000"+
+		"\u0000\u0000\u0102\u0105\u0001\u0000\u0000\u0000\u0103\u0101\u0001\u0000"+
+		"\u0000\u0000\u0103\u0104\u0001\u0000\u0000\u0000\u0104\u0106\u0001\u0000"+
+		"\u0000\u0000\u0105\u0103\u0001\u0000\u0000\u0000\u0106\u0107\u0003(\u0014"+
+		"\u0000\u0107\u0111\u0001\u0000\u0000\u0000\u0108\u0109\u0005!\u0000\u0000"+
+		"\u0109\u010a\u0005@\u0000\u0000\u010a\u010c\u0005\u0004\u0000\u0000\u010b"+
+		"\u010d\u0003\u001e\u000f\u0000\u010c\u010b\u0001\u0000\u0000\u0000\u010c"+
+		"\u010d\u0001\u0000\u0000\u0000\u010d\u010e\u0001\u0000\u0000\u0000\u010e"+
+		"\u010f\u0005\u0005\u0000\u0000\u010f\u0111\u0003(\u0014\u0000\u0110\u00f8"+
+		"\u0001\u0000\u0000\u0000\u0110\u0108\u0001\u0000\u0000\u0000\u0111\u001d"+
+		"\u0001\u0000\u0000\u0000\u0112\u0117\u0003 \u0010\u0000\u0113\u0114\u0005"+
+		"\u0006\u0000\u0000\u0114\u0116\u0003 \u0010\u0000\u0115\u0113\u0001\u0000"+
+		"\u0000\u0000\u0116\u0119\u0001\u0000\u0000\u0000\u0117\u0115\u0001\u0000"+
+		"\u0000\u0000\u0117\u0118\u0001\u0000\u0000\u0000\u0118\u001f\u0001\u0000"+
+		"\u0000\u0000\u0119\u0117\u0001\u0000\u0000\u0000\u011a\u011c\u0005 \u0000"+
+		"\u0000\u011b\u011a\u0001\u0000\u0000\u0000\u011b\u011c\u0001\u0000\u0000"+
+		"\u0000\u011c\u011d\u0001\u0000\u0000\u0000\u011d\u011e\u0003\"\u0011\u0000"+
+		"\u011e\u0123\u0005@\u0000\u0000\u011f\u0120\u0005E\u0000\u0000\u0120\u0122"+
+		"\u0005F\u0000\u0000\u0121\u011f\u0001\u0000\u0000\u0000\u0122\u0125\u0001"+
+		"\u0000\u0000\u0000\u0123\u0121\u0001\u0000\u0000\u0000\u0123\u0124\u0001"+
+		"\u0000\u0000\u0000\u0124!\u0001\u0000\u0000\u0000\u0125\u0123\u0001\u0000"+
+		"\u0000\u0000\u0126\u012b\u0003$\u0012\u0000\u0127\u0128\u0005E\u0000\u0000"+
+		"\u0128\u012a\u0005F\u0000\u0000\u0129\u0127\u0001\u0000\u0000\u0000\u012a"+
+		"\u012d\u0001\u0000\u0000\u0000\u012b\u0129\u0001\u0000\u0000\u0000\u012b"+
+		"\u012c\u0001\u0000\u0000\u0000\u012c\u0137\u0001\u0000\u0000\u0000\u012d"+
+		"\u012b\u0001\u0000\u0000\u0000\u012e\u0133\u0003&\u0013\u0000\u012f\u0130"+
+		"\u0005E\u0000\u0000\u0130\u0132\u0005F\u0000\u0000\u0131\u012f\u0001\u0000"+
+		"\u0000\u0000\u0132\u0135\u0001\u0000\u0000\u0000\u0133\u0131\u0001\u0000"+
+		"\u0000\u0000\u0133\u0134\u0001\u0000\u0000\u0000\u0134\u0137\u0001\u0000"+
+		"\u0000\u0000\u0135\u0133\u0001\u0000\u0000\u0000\u0136\u0126\u0001\u0000"+
+		"\u0000\u0000\u0136\u012e\u0001\u0000\u0000\u0000\u0137#\u0001\u0000\u0000"+
+		"\u0000\u0138\u0139\u0007\u0001\u0000\u0000\u0139%\u0001\u0000\u0000\u0000"+
+		"\u013a\u013b\u0005@\u0000\u0000\u013b\'\u0001\u0000\u0000\u0000\u013c"+
+		"\u0140\u0005\u0002\u0000\u0000\u013d\u013f\u0003*\u0015\u0000\u013e\u013d"+
+		"\u0001\u0000\u0000\u0000\u013f\u0142\u0001\u0000\u0000\u0000\u0140\u013e"+
+		"\u0001\u0000\u0000\u0000\u0140\u0141\u0001\u0000\u0000\u0000\u0141\u0143"+
+		"\u0001\u0000\u0000\u0000\u0142\u0140\u0001\u0000\u0000\u0000\u0143\u0144"+
+		"\u0005\u0003\u0000\u0000\u0144)\u0001\u0000\u0000\u0000\u0145\u0155\u0003"+
+		",\u0016\u0000\u0146\u0155\u00030\u0018\u0000\u0147\u0155\u00032\u0019"+
+		"\u0000\u0148\u0155\u00034\u001a\u0000\u0149\u0155\u00036\u001b\u0000\u014a"+
+		"\u0155\u00038\u001c\u0000\u014b\u0155\u0003:\u001d\u0000\u014c\u0155\u0003"+
+		"<\u001e\u0000\u014d\u0155\u0003>\u001f\u0000\u014e\u0155\u0003@ \u0000"+
+		"\u014f\u0155\u0003B!\u0000\u0150\u0155\u0003D\"\u0000\u0151\u0155\u0003"+
+		"F#\u0000\u0152\u0155\u0003H$\u0000\u0153\u0155\u0003J%\u0000\u0154\u0145"+
+		"\u0001\u0000\u0000\u0000\u0154\u0146\u0001\u0000\u0000\u0000\u0154\u0147"+
+		"\u0001\u0000\u0000\u0000\u0154\u0148\u0001\u0000\u0000\u0000\u0154\u0149"+
+		"\u0001\u0000\u0000\u0000\u0154\u014a\u0001\u0000\u0000\u0000\u0154\u014b"+
+		"\u0001\u0000\u0000\u0000\u0154\u014c\u0001\u0000\u0000\u0000\u0154\u014d"+
+		"\u0001\u0000\u0000\u0000\u0154\u014e\u0001\u0000\u0000\u0000\u0154\u014f"+
+		"\u0001\u0000\u0000\u0000\u0154\u0150\u0001\u0000\u0000\u0000\u0154\u0151"+
+		"\u0001\u0000\u0000\u0000\u0154\u0152\u0001\u0000\u0000\u0000\u0154\u0153"+
+		"\u0001\u0000\u0000\u0000\u0155+\u0001\u0000\u0000\u0000\u0156\u0157\u0003"+
+		".\u0017\u0000\u0157-\u0001\u0000\u0000\u0000\u0158\u015a\u0005 \u0000"+
+		"\u0000\u0159\u0158\u0001\u0000\u0000\u0000\u0159\u015a\u0001\u0000\u0000"+
+		"\u0000\u015a\u015b\u0001\u0000\u0000\u0000\u015b\u015c\u0003\u0014\n\u0000"+
+		"\u015c/\u0001\u0000\u0000\u0000\u015d\u015e\u0003L&\u0000\u015e\u015f"+
+		"\u0005\u0007\u0000\u0000\u015f\u0160\u0003X,\u0000\u0160\u0161\u0005\u0001"+
+		"\u0000\u0000\u01611\u0001\u0000\u0000\u0000\u0162\u0163\u0003L&\u0000"+
+		"\u0163\u0164\u0007\u0002\u0000\u0000\u0164\u0165\u0003X,\u0000\u0165\u0166"+
+		"\u0005\u0001\u0000\u0000\u01663\u0001\u0000\u0000\u0000\u0167\u0168\u0003"+
+		"X,\u0000\u0168\u0169\u0005\u0001\u0000\u0000\u01695\u0001\u0000\u0000"+
+		"\u0000\u016a\u016b\u0005\"\u0000\u0000\u016b\u016c\u0005\u0004\u0000\u0000"+
+		"\u016c\u016d\u0003X,\u0000\u016d\u016e\u0005\u0005\u0000\u0000\u016e\u0171"+
+		"\u0003*\u0015\u0000\u016f\u0170\u0005#\u0000\u0000\u0170\u0172\u0003*"+
+		"\u0015\u0000\u0171\u016f\u0001\u0000\u0000\u0000\u0171\u0172\u0001\u0000"+
+		"\u0000\u0000\u01727\u0001\u0000\u0000\u0000\u0173\u0174\u0005$\u0000\u0000"+
+		"\u0174\u0175\u0005\u0004\u0000\u0000\u0175\u0176\u0003X,\u0000\u0176\u0177"+
+		"\u0005\u0005\u0000\u0000\u0177\u0178\u0003*\u0015\u0000\u01789\u0001\u0000"+
+		"\u0000\u0000\u0179\u017a\u0005%\u0000\u0000\u017a\u017c\u0005\u0004\u0000"+
+		"\u0000\u017b\u017d\u0003N\'\u0000\u017c\u017b\u0001\u0000\u0000\u0000"+
+		"\u017c\u017d\u0001\u0000\u0000\u0000\u017d\u017e\u0001\u0000\u0000\u0000"+
+		"\u017e\u0180\u0005\u0001\u0000\u0000\u017f\u0181\u0003X,\u0000\u0180\u017f"+
+		"\u0001\u0000\u0000\u0000\u0180\u0181\u0001\u0000\u0000\u0000\u0181\u0182"+
+		"\u0001\u0000\u0000\u0000\u0182\u0184\u0005\u0001\u0000\u0000\u0183\u0185"+
+		"\u0003P(\u0000\u0184\u0183\u0001\u0000\u0000\u0000\u0184\u0185\u0001\u0000"+
+		"\u0000\u0000\u0185\u0186\u0001\u0000\u0000\u0000\u0186\u0187\u0005\u0005"+
+		"\u0000\u0000\u0187\u0188\u0003*\u0015\u0000\u0188;\u0001\u0000\u0000\u0000"+
+		"\u0189\u018a\u0005%\u0000\u0000\u018a\u018c\u0005\u0004\u0000\u0000\u018b"+
+		"\u018d\u0005 \u0000\u0000\u018c\u018b\u0001\u0000\u0000\u0000\u018c\u018d"+
+		"\u0001\u0000\u0000\u0000\u018d\u018e\u0001\u0000\u0000\u0000\u018e\u018f"+
+		"\u0003\"\u0011\u0000\u018f\u0190\u0005@\u0000\u0000\u0190\u0191\u0005"+
+		"\b\u0000\u0000\u0191\u0192\u0003X,\u0000\u0192\u0193\u0005\u0005\u0000"+
+		"\u0000\u0193\u0194\u0003*\u0015\u0000\u0194=\u0001\u0000\u0000\u0000\u0195"+
+		"\u0196\u0005&\u0000\u0000\u0196\u0197\u0003*\u0015\u0000\u0197\u0198\u0005"+
+		"$\u0000\u0000\u0198\u0199\u0005\u0004\u0000\u0000\u0199\u019a\u0003X,"+
+		"\u0000\u019a\u019b\u0005\u0005\u0000\u0000\u019b\u019c\u0005\u0001\u0000"+
+		"\u0000\u019c?\u0001\u0000\u0000\u0000\u019d\u019e\u0005\'\u0000\u0000"+
+		"\u019e\u019f\u0005\u0004\u0000\u0000\u019f\u01a0\u0003X,\u0000\u01a0\u01a1"+
+		"\u0005\u0005\u0000\u0000\u01a1\u01a5\u0005\u0002\u0000\u0000\u01a2\u01a4"+
+		"\u0003T*\u0000\u01a3\u01a2\u0001\u0000\u0000\u0000\u01a4\u01a7\u0001\u0000"+
+		"\u0000\u0000\u01a5\u01a3\u0001\u0000\u0000\u0000\u01a5\u01a6\u0001\u0000"+
+		"\u0000\u0000\u01a6\u01a8\u0001\u0000\u0000\u0000\u01a7\u01a5\u0001\u0000"+
+		"\u0000\u0000\u01a8\u01a9\u0005\u0003\u0000\u0000\u01a9A\u0001\u0000\u0000"+
+		"\u0000\u01aa\u01ac\u0005,\u0000\u0000\u01ab\u01ad\u0003X,\u0000\u01ac"+
+		"\u01ab\u0001\u0000\u0000\u0000\u01ac\u01ad\u0001\u0000\u0000\u0000\u01ad"+
+		"\u01ae\u0001\u0000\u0000\u0000\u01ae\u01af\u0005\u0001\u0000\u0000\u01af"+
+		"C\u0001\u0000\u0000\u0000\u01b0\u01b1\u0005*\u0000\u0000\u01b1\u01b2\u0005"+
+		"\u0001\u0000\u0000\u01b2E\u0001\u0000\u0000\u0000\u01b3\u01b4\u0005+\u0000"+
+		"\u0000\u01b4\u01b5\u0005\u0001\u0000\u0000\u01b5G\u0001\u0000\u0000\u0000"+
+		"\u01b6\u01b7\u0003(\u0014\u0000\u01b7I\u0001\u0000\u0000\u0000\u01b8\u01b9"+
+		"\u0005\u0001\u0000\u0000\u01b9K\u0001\u0000\u0000\u0000\u01ba\u01bb\u0006"+
+		"&\uffff\uffff\u0000\u01bb\u01bf\u0005@\u0000\u0000\u01bc\u01bf\u0005."+
+		"\u0000\u0000\u01bd\u01bf\u0005/\u0000\u0000\u01be\u01ba\u0001\u0000\u0000"+
+		"\u0000\u01be\u01bc\u0001\u0000\u0000\u0000\u01be\u01bd\u0001\u0000\u0000"+
+		"\u0000\u01bf\u01ca\u0001\u0000\u0000\u0000\u01c0\u01c1\n\u0002\u0000\u0000"+
+		"\u01c1\u01c2\u0005\t\u0000\u0000\u01c2\u01c9\u0005@\u0000\u0000\u01c3"+
+		"\u01c4\n\u0001\u0000\u0000\u01c4\u01c5\u0005E\u0000\u0000\u01c5\u01c6"+
+		"\u0003X,\u0000\u01c6\u01c7\u0005F\u0000\u0000\u01c7\u01c9\u0001\u0000"+
+		"\u0000\u0000\u01c8\u01c0\u0001\u0000\u0000\u0000\u01c8\u01c3\u0001\u0000"+
+		"\u0000\u0000\u01c9\u01cc\u0001\u0000\u0000\u0000\u01ca\u01c8\u0001\u0000"+
+		"\u0000\u0000\u01ca\u01cb\u0001\u0000\u0000\u0000\u01cbM\u0001\u0000\u0000"+
+		"\u0000\u01cc\u01ca\u0001\u0000\u0000\u0000\u01cd\u01cf\u0005 \u0000\u0000"+
+		"\u01ce\u01cd\u0001\u0000\u0000\u0000\u01ce\u01cf\u0001\u0000\u0000\u0000"+
+		"\u01cf\u01d0\u0001\u0000\u0000\u0000\u01d0\u01d1\u0003\"\u0011\u0000\u01d1"+
+		"\u01d6\u0003\u0016\u000b\u0000\u01d2\u01d3\u0005\u0006\u0000\u0000\u01d3"+
+		"\u01d5\u0003\u0016\u000b\u0000\u01d4\u01d2\u0001\u0000\u0000\u0000\u01d5"+
+		"\u01d8\u0001\u0000\u0000\u0000\u01d6\u01d4\u0001\u0000\u0000\u0000\u01d6"+
+		"\u01d7\u0001\u0000\u0000\u0000\u01d7\u01db\u0001\u0000\u0000\u0000\u01d8"+
+		"\u01d6\u0001\u0000\u0000\u0000\u01d9\u01db\u0003R)\u0000\u01da\u01ce\u0001"+
+		"\u0000\u0000\u0000\u01da\u01d9\u0001\u0000\u0000\u0000\u01dbO\u0001\u0000"+
+		"\u0000\u0000\u01dc\u01dd\u0003R)\u0000\u01ddQ\u0001\u0000\u0000\u0000"+
+		"\u01de\u01e3\u0003X,\u0000\u01df\u01e0\u0005\u0006\u0000\u0000\u01e0\u01e2"+
+		"\u0003X,\u0000\u01e1\u01df\u0001\u0000\u0000\u0000\u01e2\u01e5\u0001\u0000"+
+		"\u0000\u0000\u01e3\u01e1\u0001\u0000\u0000\u0000\u01e3\u01e4\u0001\u0000"+
+		"\u0000\u0000\u01e4S\u0001\u0000\u0000\u0000\u01e5\u01e3\u0001\u0000\u0000"+
+		"\u0000\u01e6\u01e7\u0005(\u0000\u0000\u01e7\u01ea\u0003V+\u0000\u01e8"+
+		"\u01ea\u0005)\u0000\u0000\u01e9\u01e6\u0001\u0000\u0000\u0000\u01e9\u01e8"+
+		"\u0001\u0000\u0000\u0000\u01ea\u01eb\u0001\u0000\u0000\u0000\u01eb\u01ef"+
+		"\u0005\b\u0000\u0000\u01ec\u01ee\u0003*\u0015\u0000\u01ed\u01ec\u0001"+
+		"\u0000\u0000\u0000\u01ee\u01f1\u0001\u0000\u0000\u0000\u01ef\u01ed\u0001"+
+		"\u0000\u0000\u0000\u01ef\u01f0\u0001\u0000\u0000\u0000\u01f0U\u0001\u0000"+
+		"\u0000\u0000\u01f1\u01ef\u0001\u0000\u0000\u0000\u01f2\u01f3\u0007\u0003"+
+		"\u0000\u0000\u01f3W\u0001\u0000\u0000\u0000\u01f4\u01f5\u0006,\uffff\uffff"+
+		"\u0000\u01f5\u0225\u0003Z-\u0000\u01f6\u0225\u0005.\u0000\u0000\u01f7"+
+		"\u0225\u0005/\u0000\u0000\u01f8\u01f9\u0005-\u0000\u0000\u01f9\u01fa\u0003"+
+		"\"\u0011\u0000\u01fa\u01fb\u0005E\u0000\u0000\u01fb\u01fc\u0003X,\u0000"+
+		"\u01fc\u0203\u0005F\u0000\u0000\u01fd\u01fe\u0005E\u0000\u0000\u01fe\u01ff"+
+		"\u0003X,\u0000\u01ff\u0200\u0005F\u0000\u0000\u0200\u0202\u0001\u0000"+
+		"\u0000\u0000\u0201\u01fd\u0001\u0000\u0000\u0000\u0202\u0205\u0001\u0000"+
+		"\u0000\u0000\u0203\u0201\u0001\u0000\u0000\u0000\u0203\u0204\u0001\u0000"+
+		"\u0000\u0000\u0204\u020a\u0001\u0000\u0000\u0000\u0205\u0203\u0001\u0000"+
+		"\u0000\u0000\u0206\u0207\u0005E\u0000\u0000\u0207\u0209\u0005F\u0000\u0000"+
+		"\u0208\u0206\u0001\u0000\u0000\u0000\u0209\u020c\u0001\u0000\u0000\u0000"+
+		"\u020a\u0208\u0001\u0000\u0000\u0000\u020a\u020b\u0001\u0000\u0000\u0000"+
+		"\u020b\u0225\u0001\u0000\u0000\u0000\u020c\u020a\u0001\u0000\u0000\u0000"+
+		"\u020d\u020e\u0005-\u0000\u0000\u020e\u020f\u0003\"\u0011\u0000\u020f"+
+		"\u0210\u0003\u001a\r\u0000\u0210\u0225\u0001\u0000\u0000\u0000\u0211\u0212"+
+		"\u0005-\u0000\u0000\u0212\u0213\u0003&\u0013\u0000\u0213\u0215\u0005\u0004"+
+		"\u0000\u0000\u0214\u0216\u0003`0\u0000\u0215\u0214\u0001\u0000\u0000\u0000"+
+		"\u0215\u0216\u0001\u0000\u0000\u0000\u0216\u0217\u0001\u0000\u0000\u0000"+
+		"\u0217\u0218\u0005\u0005\u0000\u0000\u0218\u0225\u0001\u0000\u0000\u0000"+
+		"\u0219\u021a\u0005\u0004\u0000\u0000\u021a\u021b\u0003\"\u0011\u0000\u021b"+
+		"\u021c\u0005\u0005\u0000\u0000\u021c\u021d\u0003X,\f\u021d\u0225\u0001"+
+		"\u0000\u0000\u0000\u021e\u021f\u0007\u0004\u0000\u0000\u021f\u0225\u0003"+
+		"X,\t\u0220\u0221\u0005\u0004\u0000\u0000\u0221\u0222\u0003X,\u0000\u0222"+
+		"\u0223\u0005\u0005\u0000\u0000\u0223\u0225\u0001\u0000\u0000\u0000\u0224"+
+		"\u01f4\u0001\u0000\u0000\u0000\u0224\u01f6\u0001\u0000\u0000\u0000\u0224"+
+		"\u01f7\u0001\u0000\u0000\u0000\u0224\u01f8\u0001\u0000\u0000\u0000\u0224"+
+		"\u020d\u0001\u0000\u0000\u0000\u0224\u0211\u0001\u0000\u0000\u0000\u0224"+
+		"\u0219\u0001\u0000\u0000\u0000\u0224\u021e\u0001\u0000\u0000\u0000\u0224"+
+		"\u0220\u0001\u0000\u0000\u0000\u0225\u0255\u0001\u0000\u0000\u0000\u0226"+
+		"\u0227\n\b\u0000\u0000\u0227\u0228\u0007\u0005\u0000\u0000\u0228\u0254"+
+		"\u0003X,\t\u0229\u022a\n\u0007\u0000\u0000\u022a\u022b\u0007\u0006\u0000"+
+		"\u0000\u022b\u0254\u0003X,\b\u022c\u022d\n\u0006\u0000\u0000\u022d\u022e"+
+		"\u0007\u0007\u0000\u0000\u022e\u0254\u0003X,\u0007\u022f\u0230\n\u0005"+
+		"\u0000\u0000\u0230\u0231\u0007\b\u0000\u0000\u0231\u0254\u0003X,\u0006"+
+		"\u0232\u0233\n\u0004\u0000\u0000\u0233\u0234\u0005\u0016\u0000\u0000\u0234"+
+		"\u0254\u0003X,\u0005\u0235\u0236\n\u0003\u0000\u0000\u0236\u0237\u0005"+
+		"\u0017\u0000\u0000\u0237\u0254\u0003X,\u0004\u0238\u0239\n\u0002\u0000"+
+		"\u0000\u0239\u023a\u0005\u0018\u0000\u0000\u023a\u023b\u0003X,\u0000\u023b"+
+		"\u023c\u0005\b\u0000\u0000\u023c\u023d\u0003X,\u0002\u023d\u0254\u0001"+
+		"\u0000\u0000\u0000\u023e\u023f\n\u0012\u0000\u0000\u023f\u0240\u0005\t"+
+		"\u0000\u0000\u0240\u0254\u0005@\u0000\u0000\u0241\u0242\n\u0011\u0000"+
+		"\u0000\u0242\u0243\u0005\t\u0000\u0000\u0243\u0244\u0005@\u0000\u0000"+
+		"\u0244\u0246\u0005\u0004\u0000\u0000\u0245\u0247\u0003`0\u0000\u0246\u0245"+
+		"\u0001\u0000\u0000\u0000\u0246\u0247\u0001\u0000\u0000\u0000\u0247\u0248"+
+		"\u0001\u0000\u0000\u0000\u0248\u0254\u0005\u0005\u0000\u0000\u0249\u024a"+
+		"\n\u0010\u0000\u0000\u024a\u024b\u0005E\u0000\u0000\u024b\u024c\u0003"+
+		"X,\u0000\u024c\u024d\u0005F\u0000\u0000\u024d\u0254\u0001\u0000\u0000"+
+		"\u0000\u024e\u024f\n\u000b\u0000\u0000\u024f\u0250\u00053\u0000\u0000"+
+		"\u0250\u0254\u0003&\u0013\u0000\u0251\u0252\n\n\u0000\u0000\u0252\u0254"+
+		"\u0007\t\u0000\u0000\u0253\u0226\u0001\u0000\u0000\u0000\u0253\u0229\u0001"+
+		"\u0000\u0000\u0000\u0253\u022c\u0001\u0000\u0000\u0000\u0253\u022f\u0001"+
+		"\u0000\u0000\u0000\u0253\u0232\u0001\u0000\u0000\u0000\u0253\u0235\u0001"+
+		"\u0000\u0000\u0000\u0253\u0238\u0001\u0000\u0000\u0000\u0253\u023e\u0001"+
+		"\u0000\u0000\u0000\u0253\u0241\u0001\u0000\u0000\u0000\u0253\u0249\u0001"+
+		"\u0000\u0000\u0000\u0253\u024e\u0001\u0000\u0000\u0000\u0253\u0251\u0001"+
+		"\u0000\u0000\u0000\u0254\u0257\u0001\u0000\u0000\u0000\u0255\u0253\u0001"+
+		"\u0000\u0000\u0000\u0255\u0256\u0001\u0000\u0000\u0000\u0256Y\u0001\u0000"+
+		"\u0000\u0000\u0257\u0255\u0001\u0000\u0000\u0000\u0258\u0261\u0003\\."+
+		"\u0000\u0259\u0261\u0005@\u0000\u0000\u025a\u025b\u0005@\u0000\u0000\u025b"+
+		"\u025d\u0005\u0004\u0000\u0000\u025c\u025e\u0003`0\u0000\u025d\u025c\u0001"+
+		"\u0000\u0000\u0000\u025d\u025e\u0001\u0000\u0000\u0000\u025e\u025f\u0001"+
+		"\u0000\u0000\u0000\u025f\u0261\u0005\u0005\u0000\u0000\u0260\u0258\u0001"+
+		"\u0000\u0000\u0000\u0260\u0259\u0001\u0000\u0000\u0000\u0260\u025a\u0001"+
+		"\u0000\u0000\u0000\u0261[\u0001\u0000\u0000\u0000\u0262\u0269\u0005A\u0000"+
+		"\u0000\u0263\u0269\u0005B\u0000\u0000\u0264\u0269\u0005C\u0000\u0000\u0265"+
+		"\u0269\u0005D\u0000\u0000\u0266\u0269\u0003^/\u0000\u0267\u0269\u0005"+
+		"0\u0000\u0000\u0268\u0262\u0001\u0000\u0000\u0000\u0268\u0263\u0001\u0000"+
+		"\u0000\u0000\u0268\u0264\u0001\u0000\u0000\u0000\u0268\u0265\u0001\u0000"+
+		"\u0000\u0000\u0268\u0266\u0001\u0000\u0000\u0000\u0268\u0267\u0001\u0000"+
+		"\u0000\u0000\u0269]\u0001\u0000\u0000\u0000\u026a\u026b\u0007\n\u0000"+
+		"\u0000\u026b_\u0001\u0000\u0000\u0000\u026c\u0271\u0003X,\u0000\u026d"+
+		"\u026e\u0005\u0006\u0000\u0000\u026e\u0270\u0003X,\u0000\u026f\u026d\u0001"+
+		"\u0000\u0000\u0000\u0270\u0273\u0001\u0000\u0000\u0000\u0271\u026f\u0001"+
+		"\u0000\u0000\u0000\u0271\u0272\u0001\u0000\u0000\u0000\u0272a\u0001\u0000"+
+		"\u0000\u0000\u0273\u0271\u0001\u0000\u0000\u0000Cekw}\u0083\u0089\u008c"+
+		"\u008f\u0093\u0096\u009a\u009f\u00a4\u00ab\u00b0\u00b8\u00bf\u00c3\u00c6"+
+		"\u00c9\u00ce\u00d6\u00e0\u00e5\u00e9\u00f1\u00f4\u00fc\u0103\u010c\u0110"+
+		"\u0117\u011b\u0123\u012b\u0133\u0136\u0140\u0154\u0159\u0171\u017c\u0180"+
+		"\u0184\u018c\u01a5\u01ac\u01be\u01c8\u01ca\u01ce\u01d6\u01da\u01e3\u01e9"+
+		"\u01ef\u0203\u020a\u0215\u0224\u0246\u0253\u0255\u025d\u0260\u0268\u0271";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
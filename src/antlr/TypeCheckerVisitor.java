@@ -389,20 +389,6 @@ public interface TypeCheckerVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitInstanceOfExpr(TypeCheckerParser.InstanceOfExprContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code StaticFieldAccess}
-	 * labeled alternative in {@link TypeCheckerParser#expr}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitStaticFieldAccess(TypeCheckerParser.StaticFieldAccessContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code StaticMethodCall}
-	 * labeled alternative in {@link TypeCheckerParser#expr}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitStaticMethodCall(TypeCheckerParser.StaticMethodCallContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code ArrayAccess}
 	 * labeled alternative in {@link TypeCheckerParser#expr}.
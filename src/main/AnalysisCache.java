@@ -0,0 +1,370 @@
+package main;
+
+import semantic.SemanticError;
+import semantic.SymbolTable;
+import semantic.analysis.SymbolTableBuilder;
+
+import org.antlr.v4.runtime.RuntimeMetaData;
+
+import antlr.TypeCheckerParser;
+
+import java.io.*;
+import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Persistent, content-addressed cache of analysis results.
+ *
+ * Entries are keyed by a hash of the source text and the checker version,
+ * and hold the sorted error lists plus a symbol table summary, so an
+ * unchanged file is answered without lexing or parsing it.
+ *
+ * Several processes may share one cache directory. Entries are written to
+ * a temporary file and atomically renamed into place, so readers see
+ * either a complete entry or none. Eviction removes least recently used
+ * entries once the directory grows past its size limit and is guarded by
+ * a lock file so only one process evicts at a time.
+ */
+public class AnalysisCache {
+    private static final String FORMAT_VERSION = "tccache 1";
+    private static final String ENTRY_SUFFIX = ".entry";
+    private static final String TEMP_SUFFIX = ".part";
+    private static final String LOCK_FILE = ".lock";
+    // Evict down to this fraction of the limit so eviction does not run on every store
+    private static final double EVICT_TARGET = 0.9;
+
+    // One class from each part of the analysis path; the whole class
+    // directory or jar each is loaded from is versioned
+    private static final Class<?>[] VERSIONED_ROOTS = {
+        SourceChecker.class, SymbolTable.class, SymbolTableBuilder.class, TypeCheckerParser.class
+    };
+
+    private final Path dir;
+    private final long maxBytes;
+    private final String checkerVersion;
+
+    public AnalysisCache(String dir, long maxBytes) throws IOException {
+        this.dir = Paths.get(dir);
+        this.maxBytes = maxBytes;
+        this.checkerVersion = computeCheckerVersion();
+        Files.createDirectories(this.dir);
+    }
+
+    /**
+     * Look up a cached result for the given source, or null on a miss.
+     */
+    public CheckResult lookup(String fileName, SourceText source) {
+        Path entry = entryPath(key(source));
+        try {
+            List<String> lines = Files.readAllLines(entry, StandardCharsets.UTF_8);
+            CheckResult result = decode(fileName, source, lines);
+            if (result == null) {
+                Files.deleteIfExists(entry);
+                return null;
+            }
+            // Mark as recently used for eviction
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            return result;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            // An entry evicted or replaced concurrently is just a miss
+            return null;
+        }
+    }
+
+    /**
+     * Store the result of a fresh analysis.
+     */
+    public void store(CheckResult result) throws IOException {
+        // A truncated result depends on the limits, not just the source
+        if (result.isFromCache() || result.isTruncated()) {
+            return;
+        }
+        Path entry = entryPath(key(result.getSourceText()));
+        Files.createDirectories(entry.getParent());
+
+        Path temp = Files.createTempFile(entry.getParent(), "entry", TEMP_SUFFIX);
+        try {
+            Files.write(temp, encode(result).getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Remove least recently used entries if the cache exceeds its size limit.
+     * Does nothing if another process is already evicting.
+     */
+    public void evict() throws IOException {
+        try (FileChannel channel = FileChannel.open(dir.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                return;
+            }
+            if (lock == null) {
+                return;
+            }
+            try {
+                evictLocked();
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    private void evictLocked() throws IOException {
+        List<Path> entries;
+        try (Stream<Path> stream = Files.walk(dir)) {
+            entries = stream.filter(p -> p.toString().endsWith(ENTRY_SUFFIX))
+                            .collect(Collectors.toList());
+        }
+
+        Map<Path, BasicInfo> info = new HashMap<>();
+        long total = 0;
+        for (Path entry : entries) {
+            try {
+                BasicInfo entryInfo = new BasicInfo(Files.size(entry),
+                    Files.getLastModifiedTime(entry).toMillis());
+                info.put(entry, entryInfo);
+                total += entryInfo.size;
+            } catch (IOException e) {
+                // Removed concurrently
+            }
+        }
+        if (total <= maxBytes) {
+            return;
+        }
+
+        List<Path> byAge = new ArrayList<>(info.keySet());
+        byAge.sort(Comparator.comparingLong(p -> info.get(p).lastUsed));
+        long target = (long) (maxBytes * EVICT_TARGET);
+        for (Path entry : byAge) {
+            if (total <= target) break;
+            if (Files.deleteIfExists(entry)) {
+                total -= info.get(entry).size;
+            }
+        }
+    }
+
+    private static class BasicInfo {
+        final long size;
+        final long lastUsed;
+
+        BasicInfo(long size, long lastUsed) {
+            this.size = size;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    private String key(SourceText source) {
+        return ResultCache.hash(source, checkerVersion);
+    }
+
+    private Path entryPath(String key) {
+        // Fan out over subdirectories to keep directories small
+        return dir.resolve(key.substring(0, 2)).resolve(key + ENTRY_SUFFIX);
+    }
+
+    /**
+     * Hash of every class file the checker may load: each directory or jar
+     * the versioned roots come from, plus the ANTLR runtime version. If the
+     * code cannot be read, the version is unique to this process, so
+     * entries are only ever reused by the run that wrote them.
+     */
+    private static String computeCheckerVersion() {
+        List<String> parts = new ArrayList<>();
+        parts.add(FORMAT_VERSION);
+        parts.add(RuntimeMetaData.VERSION);
+        Set<Path> locations = new TreeSet<>();
+        try {
+            for (Class<?> cls : VERSIONED_ROOTS) {
+                CodeSource codeSource = cls.getProtectionDomain().getCodeSource();
+                if (codeSource == null || codeSource.getLocation() == null) {
+                    return unversioned();
+                }
+                locations.add(Paths.get(codeSource.getLocation().toURI()));
+            }
+            for (Path location : locations) {
+                addClassFiles(location, parts);
+            }
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            return unversioned();
+        }
+        return ResultCache.hash(parts.toArray(new String[0]));
+    }
+
+    /**
+     * Add the name and contents of every class file in a class directory,
+     * or the contents of a jar.
+     */
+    private static void addClassFiles(Path location, List<String> parts) throws IOException {
+        if (!Files.isDirectory(location)) {
+            parts.add(location.getFileName().toString());
+            parts.add(new String(Files.readAllBytes(location), StandardCharsets.ISO_8859_1));
+            return;
+        }
+        List<Path> classFiles;
+        try (Stream<Path> stream = Files.walk(location)) {
+            classFiles = stream.filter(p -> p.toString().endsWith(".class"))
+                               .sorted()
+                               .collect(Collectors.toList());
+        }
+        for (Path classFile : classFiles) {
+            parts.add(location.relativize(classFile).toString());
+            parts.add(new String(Files.readAllBytes(classFile), StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    private static String unversioned() {
+        return ResultCache.hash(FORMAT_VERSION, UUID.randomUUID().toString());
+    }
+
+    // ===== Entry format =====
+    // Line-based UTF-8 text; fields are tab separated and escaped.
+    //   X <line> <column> <type> <message>    syntax error
+    //   E <line> <column> <type> <message>    semantic error
+    //   S <depth> <scope name>                scope
+    //   R <name> <type> <kind> <line>         symbol row of the last scope
+
+    private String encode(CheckResult result) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(FORMAT_VERSION).append('\n');
+        for (SemanticError error : result.getSyntaxErrors()) {
+            appendError(sb, "X", error);
+        }
+        for (SemanticError error : result.getErrors()) {
+            appendError(sb, "E", error);
+        }
+        if (result.getScopeSummary() != null) {
+            appendScope(sb, result.getScopeSummary(), 0);
+        }
+        return sb.toString();
+    }
+
+    private static void appendError(StringBuilder sb, String tag, SemanticError error) {
+        sb.append(tag).append('\t').append(error.getLine())
+          .append('\t').append(error.getColumn())
+          .append('\t').append(error.getErrorType().name())
+          .append('\t').append(escape(error.getMessage())).append('\n');
+    }
+
+    private static void appendScope(StringBuilder sb, ScopeSummary scope, int depth) {
+        sb.append("S\t").append(depth).append('\t').append(escape(scope.getScopeName())).append('\n');
+        for (ScopeSummary.Row row : scope.getRows()) {
+            sb.append("R\t").append(escape(row.getName()))
+              .append('\t').append(escape(row.getType()))
+              .append('\t').append(escape(row.getKind()))
+              .append('\t').append(row.getLine()).append('\n');
+        }
+        for (ScopeSummary child : scope.getChildren()) {
+            appendScope(sb, child, depth + 1);
+        }
+    }
+
+    /**
+     * Decode an entry, or return null if it is malformed.
+     */
+    private CheckResult decode(String fileName, SourceText source, List<String> lines) {
+        if (lines.isEmpty() || !lines.get(0).equals(FORMAT_VERSION)) {
+            return null;
+        }
+
+        List<SemanticError> syntaxErrors = new ArrayList<>();
+        List<SemanticError> errors = new ArrayList<>();
+        Deque<ScopeSummary> scopes = new ArrayDeque<>();
+        ScopeSummary root = null;
+
+        try {
+            for (String line : lines.subList(1, lines.size())) {
+                String[] fields = line.split("\t", -1);
+                switch (fields[0]) {
+                    case "X":
+                    case "E": {
+                        SemanticError error = new SemanticError(
+                            Integer.parseInt(fields[1]), Integer.parseInt(fields[2]),
+                            unescape(fields[4]), SemanticError.ErrorType.valueOf(fields[3]));
+                        (fields[0].equals("X") ? syntaxErrors : errors).add(error);
+                        break;
+                    }
+                    case "S": {
+                        int depth = Integer.parseInt(fields[1]);
+                        ScopeSummary scope = new ScopeSummary(unescape(fields[2]));
+                        while (scopes.size() > depth) {
+                            scopes.pop();
+                        }
+                        if (depth == 0) {
+                            root = scope;
+                        } else {
+                            scopes.peek().addChild(scope);
+                        }
+                        scopes.push(scope);
+                        break;
+                    }
+                    case "R":
+                        scopes.peek().addRow(new ScopeSummary.Row(unescape(fields[1]),
+                            unescape(fields[2]), unescape(fields[3]), Integer.parseInt(fields[4])));
+                        break;
+                    default:
+                        return null;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Truncated or corrupt entry
+            return null;
+        }
+
+        return new CheckResult(fileName, source, syntaxErrors, errors, root);
+    }
+
+    private static String escape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\': sb.append("\\\\"); break;
+                case '\t': sb.append("\\t"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                default: sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String unescape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char next = text.charAt(++i);
+                switch (next) {
+                    case 't': sb.append('\t'); break;
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    default: sb.append(next);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,295 @@
+package main;
+
+import semantic.SemanticError;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Checks many source files in one JVM. Files are processed on a fork-join
+ * pool sized to the available cores; every file gets its own lexer, parser,
+ * symbol table and error lists.
+ */
+public class BatchCompiler {
+    private static final String SOURCE_EXTENSION = ".tc";
+
+    private final Path outputDir;
+    private final SourceChecker checker;
+    private final AnalysisCache cache;
+    private final CheckStats stats;
+    private final DiagnosticsWriter diagnostics;
+
+    /**
+     * Result of processing one file of the batch.
+     */
+    static class FileOutcome {
+        final Path file;
+        final CheckResult result;
+        final String failure;
+
+        FileOutcome(Path file, CheckResult result, String failure) {
+            this.file = file;
+            this.result = result;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * Create a batch compiler writing reports under the given directory.
+     * The analysis cache is optional and may be null.
+     */
+    public BatchCompiler(String outputDir, AnalysisCache cache) {
+        this(new SourceChecker(CheckerOptions.DEFAULT), outputDir, cache, null, null);
+    }
+
+    /**
+     * Create a batch compiler that checks files with the given checker and
+     * its limits. It also adds the phase statistics of every file to the
+     * given statistics, if not null. If a diagnostics writer is given, each
+     * file's errors are written to it as soon as the file is checked and no
+     * HTML reports are generated.
+     */
+    public BatchCompiler(SourceChecker checker, String outputDir, AnalysisCache cache,
+                         CheckStats stats, DiagnosticsWriter diagnostics) {
+        this.checker = checker;
+        this.outputDir = Paths.get(outputDir);
+        this.cache = cache;
+        this.stats = stats;
+        this.diagnostics = diagnostics;
+    }
+
+    /**
+     * Check all files matched by the given inputs and print a summary.
+     * Returns the process exit code: 0 if every file is clean, 1 otherwise.
+     */
+    public int run(List<String> inputs) throws IOException, InterruptedException {
+        Map<Path, Path> files = collectFiles(inputs);
+        if (files.isEmpty()) {
+            System.err.println("No " + SOURCE_EXTENSION + " files matched the given inputs.");
+            return 1;
+        }
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        List<FileOutcome> outcomes = new ArrayList<>();
+        try {
+            List<Callable<FileOutcome>> tasks = new ArrayList<>();
+            for (Map.Entry<Path, Path> entry : files.entrySet()) {
+                tasks.add(() -> checkFile(entry.getKey(), entry.getValue()));
+            }
+            for (Future<FileOutcome> future : pool.invokeAll(tasks)) {
+                try {
+                    outcomes.add(future.get());
+                } catch (ExecutionException e) {
+                    // checkFile catches everything itself; keep the batch going regardless
+                    outcomes.add(new FileOutcome(null, null, String.valueOf(e.getCause())));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        if (cache != null) {
+            cache.evict();
+        }
+        return printSummary(outcomes, elapsedMs);
+    }
+
+    private FileOutcome checkFile(Path file, Path reportName) {
+        try {
+            SourceText source = SourceText.map(file);
+            CheckResult result = cache != null ? cache.lookup(file.toString(), source) : null;
+            // Workers measure their own files; totals are added up afterwards
+            CheckStats fileStats = stats != null ? new CheckStats() : null;
+            if (result == null) {
+                result = checker.check(file.toString(), source, fileStats);
+                if (cache != null) {
+                    cache.store(result);
+                }
+            }
+
+            if (diagnostics != null) {
+                diagnostics.write(result);
+            } else if (!result.hasSyntaxErrors()) {
+                if (fileStats != null) {
+                    fileStats.begin(CheckStats.Phase.REPORT);
+                }
+                HTMLReportGenerator reportGen = new HTMLReportGenerator();
+                reportGen.generateReport(
+                    file.toString(),
+                    source,
+                    result.getErrors(),
+                    result.getScopeSummary(),
+                    result.getParserProfile(),
+                    outputDir.resolve(reportName).toString()
+                );
+                if (fileStats != null) {
+                    fileStats.end(CheckStats.Phase.REPORT);
+                }
+            }
+            if (fileStats != null) {
+                stats.add(fileStats);
+            }
+            return new FileOutcome(file, result, null);
+        } catch (IOException e) {
+            return new FileOutcome(file, null, "Error reading file: " + e.getMessage());
+        } catch (Exception e) {
+            return new FileOutcome(file, null, "Unexpected error: " + e);
+        }
+    }
+
+    private int printSummary(List<FileOutcome> outcomes, long elapsedMs) {
+        int clean = 0;
+        int withSyntaxErrors = 0;
+        int withSemanticErrors = 0;
+        int failed = 0;
+        int totalErrors = 0;
+        int cached = 0;
+        int truncated = 0;
+
+        for (FileOutcome outcome : outcomes) {
+            if (outcome.failure != null) {
+                failed++;
+                System.err.println(outcome.file + ": " + outcome.failure);
+                continue;
+            }
+
+            CheckResult result = outcome.result;
+            if (result.isFromCache()) {
+                cached++;
+            }
+            if (result.isTruncated()) {
+                truncated++;
+                System.err.println(outcome.file + ": checking stopped early: " + result.getTruncationReason());
+            }
+            if (result.hasSyntaxErrors()) {
+                withSyntaxErrors++;
+                for (SemanticError error : result.getSyntaxErrors()) {
+                    System.err.println(outcome.file + ": " + MainCompiler.formatSyntaxError(error));
+                }
+            } else if (!result.getErrors().isEmpty()) {
+                withSemanticErrors++;
+                totalErrors += result.getErrors().size();
+                System.out.println(outcome.file + ": " + result.getErrors().size() + " error(s)");
+            } else if (!result.isTruncated()) {
+                clean++;
+            }
+        }
+
+        System.out.println("\nBatch type checking complete.");
+        System.out.println("Files checked:          " + outcomes.size() + " (" + elapsedMs + " ms)");
+        System.out.println("Clean:                  " + clean);
+        System.out.println("With syntax errors:     " + withSyntaxErrors);
+        System.out.println("With semantic errors:   " + withSemanticErrors);
+        System.out.println("Failed:                 " + failed);
+        System.out.println("Total semantic errors:  " + totalErrors);
+        if (truncated > 0) {
+            System.out.println("Truncated:              " + truncated);
+        }
+        if (cache != null) {
+            System.out.println("Answered from cache:    " + cached);
+        }
+        if (diagnostics == null) {
+            System.out.println("Reports written to:     " + outputDir);
+        }
+
+        return clean == outcomes.size() ? 0 : 1;
+    }
+
+    /**
+     * Expand files, directories and glob patterns into source files.
+     * Maps each file to the report path used for it under the output
+     * directory: its path relative to the input that matched it. A report
+     * path already taken by a file of an earlier input is put under a
+     * directory named after the input's position instead, e.g. input2/,
+     * so no two workers write the same report.
+     */
+    Map<Path, Path> collectFiles(List<String> inputs) throws IOException {
+        Map<Path, Path> files = new LinkedHashMap<>();
+        Map<Path, Path> reports = new HashMap<>();
+
+        for (int index = 0; index < inputs.size(); index++) {
+            String input = inputs.get(index);
+            Path path = Paths.get(input);
+            if (Files.isDirectory(path)) {
+                for (Path file : walk(path)) {
+                    if (file.toString().endsWith(SOURCE_EXTENSION)) {
+                        addFile(files, reports, file, path.relativize(file), index);
+                    }
+                }
+            } else if (Files.isRegularFile(path)) {
+                addFile(files, reports, path, path.getFileName(), index);
+            } else {
+                // Treat as a glob, walking from the longest literal prefix
+                Path base = globBase(input);
+                Path root = base != null ? base : Paths.get(".");
+                PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + input);
+                for (Path file : walk(root)) {
+                    Path candidate = base != null ? file : root.relativize(file);
+                    if (matcher.matches(candidate)) {
+                        addFile(files, reports, file, root.relativize(file), index);
+                    }
+                }
+            }
+        }
+
+        return files;
+    }
+
+    private static void addFile(Map<Path, Path> files, Map<Path, Path> reports, Path file,
+                                Path relative, int inputIndex) throws IOException {
+        if (files.containsKey(file)) {
+            return;
+        }
+        Path report = reportPath(relative);
+        if (reports.containsKey(report)) {
+            report = Paths.get("input" + (inputIndex + 1)).resolve(report);
+        }
+        Path owner = reports.putIfAbsent(report, file);
+        if (owner != null) {
+            throw new IOException("Files " + owner + " and " + file + " would both be reported to " + report);
+        }
+        files.put(file, report);
+    }
+
+    private static List<Path> walk(Path root) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> stream = Files.walk(root)) {
+            return stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Longest directory prefix of a glob pattern that contains no wildcards,
+     * or null if the pattern starts with a wildcard.
+     */
+    private static Path globBase(String pattern) {
+        int firstMeta = pattern.length();
+        for (char meta : new char[] {'*', '?', '[', '{'}) {
+            int index = pattern.indexOf(meta);
+            if (index >= 0) {
+                firstMeta = Math.min(firstMeta, index);
+            }
+        }
+        int slash = pattern.lastIndexOf('/', firstMeta);
+        if (slash < 0) {
+            return null;
+        }
+        return Paths.get(slash == 0 ? "/" : pattern.substring(0, slash));
+    }
+
+    private static Path reportPath(Path relative) {
+        String name = relative.toString();
+        if (name.endsWith(SOURCE_EXTENSION)) {
+            name = name.substring(0, name.length() - SOURCE_EXTENSION.length());
+        }
+        return Paths.get(name + ".html");
+    }
+}
@@ -0,0 +1,35 @@
+package main;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one pipeline phase of one file: parse, symbol
+ * table, type check or report. When recording is off, creating and
+ * committing the event does nothing.
+ */
+@Name("tc.CheckPhase")
+@Label("Check Phase")
+@Category("Type Checker")
+@Description("One phase of checking a source file")
+public class CheckPhaseEvent extends jdk.jfr.Event {
+    @Label("File")
+    String file;
+
+    @Label("Phase")
+    String phase;
+
+    /**
+     * End the event and commit it if it is being recorded.
+     */
+    void finish(String file, String phase) {
+        end();
+        if (shouldCommit()) {
+            this.file = file;
+            this.phase = phase;
+            commit();
+        }
+    }
+}
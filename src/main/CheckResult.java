@@ -0,0 +1,132 @@
+package main;
+
+import semantic.SemanticError;
+import semantic.SymbolTable;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.*;
+
+/**
+ * Outcome of running the checking pipeline over a single source file.
+ * Each result owns its own error lists, so results for different files
+ * never share state.
+ */
+public class CheckResult {
+    private final String fileName;
+    private final SourceText source;
+    private final ParseTree tree;
+    private final List<SemanticError> syntaxErrors;
+    private final List<SemanticError> errors;
+    private final SymbolTable globalScope;
+    private ScopeSummary scopeSummary;
+    private boolean fromCache = false;
+    private String truncationReason = null;
+    private ParserProfile parserProfile = null;
+
+    public CheckResult(String fileName, SourceText source, ParseTree tree,
+                       List<SemanticError> syntaxErrors,
+                       List<SemanticError> errors,
+                       SymbolTable globalScope) {
+        this.fileName = fileName;
+        this.source = source;
+        this.tree = tree;
+        this.syntaxErrors = syntaxErrors;
+        this.errors = errors;
+        this.globalScope = globalScope;
+    }
+
+    /**
+     * Create a result restored from the analysis cache. Such a result has
+     * no parse tree or live symbol table, only their summary.
+     */
+    public CheckResult(String fileName, SourceText source,
+                       List<SemanticError> syntaxErrors,
+                       List<SemanticError> errors,
+                       ScopeSummary scopeSummary) {
+        this(fileName, source, null, syntaxErrors, errors, null);
+        this.scopeSummary = scopeSummary;
+        this.fromCache = true;
+    }
+
+    // Getters
+    public String getFileName() { return fileName; }
+    public SourceText getSourceText() { return source; }
+    public ParseTree getTree() { return tree; }
+    public List<SemanticError> getSyntaxErrors() { return syntaxErrors; }
+    public List<SemanticError> getErrors() { return errors; }
+    public SymbolTable getGlobalScope() { return globalScope; }
+
+    /**
+     * The checked source as a String. This copies the source buffer.
+     */
+    public String getSource() {
+        return source.toString();
+    }
+
+    /**
+     * Display summary of the symbol table, or null if parsing failed.
+     */
+    public ScopeSummary getScopeSummary() {
+        if (scopeSummary == null && globalScope != null) {
+            scopeSummary = ScopeSummary.of(globalScope);
+        }
+        return scopeSummary;
+    }
+
+    /**
+     * Check if this result was restored from the cache instead of analyzed.
+     */
+    public boolean isFromCache() {
+        return fromCache;
+    }
+
+    /**
+     * Mark the result as incomplete: checking stopped early for the given
+     * reason and the error lists hold only what was found until then.
+     */
+    public void markTruncated(String reason) {
+        this.truncationReason = reason;
+    }
+
+    public boolean isTruncated() {
+        return truncationReason != null;
+    }
+
+    /**
+     * Why checking stopped early, or null if the result is complete.
+     */
+    public String getTruncationReason() {
+        return truncationReason;
+    }
+
+    /**
+     * Attach the decision profile of the parse, for --profile-parser.
+     */
+    public void setParserProfile(ParserProfile parserProfile) {
+        this.parserProfile = parserProfile;
+    }
+
+    /**
+     * Decision profile of the parse, or null if the parser was not
+     * profiled. Results from the cache never have one.
+     */
+    public ParserProfile getParserProfile() {
+        return parserProfile;
+    }
+
+    /**
+     * Check if parsing failed. Semantic analysis is skipped in that case.
+     */
+    public boolean hasSyntaxErrors() {
+        return !syntaxErrors.isEmpty();
+    }
+
+    /**
+     * Check if the file passed both parsing and type checking. A truncated
+     * result is never clean, since the check did not finish.
+     */
+    public boolean isClean() {
+        return syntaxErrors.isEmpty() && errors.isEmpty() && !isTruncated();
+    }
+}
@@ -0,0 +1,241 @@
+package main;
+
+import semantic.CancellationToken;
+import semantic.SemanticError;
+import semantic.SymbolTable;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resident type checking service listening on localhost.
+ *
+ * POST /check?format=json|html&name=file.tc with the source as request body
+ * returns diagnostics as JSON or the HTML report page. The optional
+ * maxErrors and timeoutMs parameters override the server's limits for one
+ * request. GET /stats returns request counters and latency percentiles.
+ *
+ * Requests are checked on a fixed pool of worker threads; virtual threads
+ * would need JDK 21, and the build targets JDK 17. Requests beyond the
+ * queue capacity are rejected with 503 instead of piling up. Results are cached by a hash of the request. Checks still
+ * running when the server stops are cancelled.
+ */
+public class CheckServer {
+    private static final int LATENCY_WINDOW = 4096;
+
+    private final int port;
+    private final SourceChecker checker;
+    private final Set<CancellationToken> runningChecks = ConcurrentHashMap.newKeySet();
+    private final ResultCache cache;
+    private final LatencyStats latency = new LatencyStats(LATENCY_WINDOW);
+    private final Semaphore admission;
+    private final ExecutorService workers;
+    private final int capacity;
+    private final AtomicLong rejected = new AtomicLong();
+    private HttpServer server;
+
+    public CheckServer(int port, int workerCount, int queueCapacity, int cacheEntries) {
+        this(port, workerCount, queueCapacity, cacheEntries, new SourceChecker(CheckerOptions.DEFAULT));
+    }
+
+    /**
+     * Create a server that checks requests with the given checker and,
+     * unless a request overrides them, its limits.
+     */
+    public CheckServer(int port, int workerCount, int queueCapacity, int cacheEntries,
+                       SourceChecker checker) {
+        this.port = port;
+        this.checker = checker;
+        this.cache = new ResultCache(cacheEntries);
+        this.capacity = workerCount + queueCapacity;
+        this.admission = new Semaphore(capacity);
+        this.workers = Executors.newFixedThreadPool(workerCount);
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/check", this::handleCheck);
+        server.createContext("/stats", this::handleStats);
+        server.start();
+        System.out.println("Type checker listening on http://localhost:" + server.getAddress().getPort());
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+        workers.shutdown();
+        for (CancellationToken cancellation : runningChecks) {
+            cancellation.cancel();
+        }
+    }
+
+    private void handleCheck(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            send(exchange, 405, "text/plain", "Use POST with the source as request body\n");
+            return;
+        }
+
+        // Backpressure: refuse work beyond the queue capacity
+        if (!admission.tryAcquire()) {
+            rejected.incrementAndGet();
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            send(exchange, 503, "text/plain", "Server busy\n");
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            workers.execute(() -> {
+                try {
+                    processCheck(exchange);
+                } catch (Exception e) {
+                    sendQuietly(exchange, 500, "text/plain", "Internal error: " + e + "\n");
+                } finally {
+                    admission.release();
+                    latency.record(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            admission.release();
+            send(exchange, 503, "text/plain", "Server shutting down\n");
+        }
+    }
+
+    private void processCheck(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String format = query.getOrDefault("format", "json");
+        String name = query.getOrDefault("name", "input.tc");
+
+        if (!format.equals("json") && !format.equals("html")) {
+            send(exchange, 400, "text/plain", "Unknown format: " + format + "\n");
+            return;
+        }
+
+        CancellationToken cancellation;
+        try {
+            cancellation = new CancellationToken(
+                positiveParam(query, "maxErrors", checker.getOptions().getMaxErrors()),
+                positiveParam(query, "timeoutMs", checker.getOptions().getTimeBudgetMillis()));
+        } catch (IllegalArgumentException e) {
+            send(exchange, 400, "text/plain", "Bad number: " + e.getMessage() + "\n");
+            return;
+        }
+
+        SourceText source;
+        try (InputStream in = exchange.getRequestBody()) {
+            source = SourceText.read(in, name);
+        }
+
+        String key = ResultCache.hash(source, format, name);
+        byte[] body = cache.get(key);
+        if (body == null) {
+            runningChecks.add(cancellation);
+            CheckResult result;
+            try {
+                result = checker.check(name, source, null, cancellation);
+            } finally {
+                runningChecks.remove(cancellation);
+            }
+            body = render(result, format).getBytes(StandardCharsets.UTF_8);
+            // A complete result does not depend on the limits, a truncated one does
+            if (!result.isTruncated()) {
+                cache.put(key, body);
+            }
+        }
+
+        String contentType = format.equals("html") ? "text/html; charset=utf-8" : "application/json";
+        send(exchange, 200, contentType, body);
+    }
+
+    private String render(CheckResult result, String format) {
+        if (format.equals("json")) {
+            return DiagnosticsJson.toJson(result);
+        }
+
+        // Syntax errors are shown in the report in place of semantic errors
+        List<SemanticError> errors = result.hasSyntaxErrors() ?
+            result.getSyntaxErrors() : result.getErrors();
+        SymbolTable globalScope = result.getGlobalScope() != null ?
+            result.getGlobalScope() : SymbolTable.createGlobalScope();
+        return new HTMLReportGenerator().renderReport(
+            result.getFileName(), result.getSourceText(), errors, globalScope);
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"requests\":").append(latency.getTotal());
+        json.append(",\"rejected\":").append(rejected.get());
+        json.append(",\"inFlight\":").append(capacity - admission.availablePermits());
+        json.append(",\"cacheEntries\":").append(cache.size());
+        json.append(",\"cacheHits\":").append(cache.getHits());
+        json.append(",\"cacheMisses\":").append(cache.getMisses());
+        json.append(",\"p50Millis\":").append(String.format(Locale.ROOT, "%.3f", latency.percentileMillis(50)));
+        json.append(",\"p99Millis\":").append(String.format(Locale.ROOT, "%.3f", latency.percentileMillis(99)));
+        json.append("}\n");
+        send(exchange, 200, "application/json", json.toString());
+    }
+
+    /**
+     * A limit from the query, which like the command line options must be a
+     * positive int, or the default if it is not given.
+     */
+    private static int positiveParam(Map<String, String> query, String key, long defaultValue) {
+        String value = query.get(key);
+        if (value == null) {
+            return (int) defaultValue;
+        }
+        int number = Integer.parseInt(value);
+        if (number <= 0) {
+            throw new IllegalArgumentException("Expected a positive number for " + key + ": " + number);
+        }
+        return number;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8),
+                       URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body)
+            throws IOException {
+        send(exchange, status, contentType, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body)
+            throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sendQuietly(HttpExchange exchange, int status, String contentType, String body) {
+        try {
+            send(exchange, status, contentType, body);
+        } catch (IOException | IllegalStateException e) {
+            // Response already started or client went away
+            exchange.close();
+        }
+    }
+}
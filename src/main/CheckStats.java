@@ -0,0 +1,168 @@
+package main;
+
+import semantic.AnalysisCounters;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+
+/**
+ * Per-phase wall time, CPU time and allocation of a check, plus the
+ * analysis counters, as printed by --stats.
+ *
+ * Phases are measured on the calling thread, so one instance must be
+ * used by one thread at a time. Results of several files can be summed
+ * with {@link #add(CheckStats)}.
+ */
+public class CheckStats {
+
+    /**
+     * Measured phases, in pipeline order.
+     */
+    public enum Phase {
+        LEXING("Lexing"),
+        PARSING("Parsing"),
+        SYMBOL_TABLE("Symbol table"),
+        NAME_BINDING("Name binding"),
+        TYPE_CHECKING("Type checking"),
+        REPORT("HTML report");
+
+        private final String description;
+
+        Phase(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final long[] wallNanos = new long[Phase.values().length];
+    private final long[] cpuNanos = new long[Phase.values().length];
+    private final long[] allocatedBytes = new long[Phase.values().length];
+    private final long[] counters = new long[AnalysisCounters.Counter.values().length];
+    private int files = 0;
+
+    // State of the running phase
+    private Phase current;
+    private long startWall;
+    private long startCpu;
+    private long startAllocated;
+    private long[] startCounters;
+
+    /**
+     * Start measuring a file; counters from here to {@link #endFile()} are
+     * attributed to it.
+     */
+    public void beginFile() {
+        startCounters = AnalysisCounters.snapshot();
+    }
+
+    public void endFile() {
+        long[] now = AnalysisCounters.snapshot();
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += now[i] - startCounters[i];
+        }
+        files++;
+    }
+
+    public void begin(Phase phase) {
+        current = phase;
+        startWall = System.nanoTime();
+        startCpu = cpuTime();
+        startAllocated = allocated();
+    }
+
+    public void end(Phase phase) {
+        if (current != phase) {
+            throw new IllegalStateException("Phase " + phase + " was not started");
+        }
+        wallNanos[phase.ordinal()] += System.nanoTime() - startWall;
+        cpuNanos[phase.ordinal()] += cpuTime() - startCpu;
+        allocatedBytes[phase.ordinal()] += allocated() - startAllocated;
+        current = null;
+    }
+
+    /**
+     * Add the measurements of another instance to this one.
+     */
+    public synchronized void add(CheckStats other) {
+        for (int i = 0; i < wallNanos.length; i++) {
+            wallNanos[i] += other.wallNanos[i];
+            cpuNanos[i] += other.cpuNanos[i];
+            allocatedBytes[i] += other.allocatedBytes[i];
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        files += other.files;
+    }
+
+    private static long cpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : 0;
+    }
+
+    private static long allocated() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Table for the console.
+     */
+    public synchronized String toText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Phase statistics (").append(files).append(files == 1 ? " file" : " files").append("):\n");
+        sb.append(String.format(Locale.ROOT, "  %-15s %12s %12s %14s%n", "Phase", "Wall ms", "CPU ms", "Allocated KB"));
+        for (Phase phase : Phase.values()) {
+            int i = phase.ordinal();
+            sb.append(String.format(Locale.ROOT, "  %-15s %12.3f %12.3f %14d%n", phase.getDescription(),
+                wallNanos[i] / 1e6, cpuNanos[i] / 1e6, allocatedBytes[i] / 1024));
+        }
+        sb.append("Counters:\n");
+        for (AnalysisCounters.Counter counter : AnalysisCounters.Counter.values()) {
+            sb.append(String.format(Locale.ROOT, "  %-38s %12d%n", counter.getDescription(),
+                counters[counter.ordinal()]));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Single JSON object, for tracking regressions across runs.
+     */
+    public synchronized String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"files\":").append(files).append(",\"phases\":{");
+        for (Phase phase : Phase.values()) {
+            int i = phase.ordinal();
+            if (i > 0) json.append(',');
+            json.append(DiagnosticsJson.quote(phase.name().toLowerCase(Locale.ROOT)))
+                .append(":{\"wallNanos\":").append(wallNanos[i])
+                .append(",\"cpuNanos\":").append(cpuNanos[i])
+                .append(",\"allocatedBytes\":").append(allocatedBytes[i]).append('}');
+        }
+        json.append("},\"counters\":{");
+        for (AnalysisCounters.Counter counter : AnalysisCounters.Counter.values()) {
+            if (counter.ordinal() > 0) json.append(',');
+            json.append(DiagnosticsJson.quote(counter.name().toLowerCase(Locale.ROOT)))
+                .append(':').append(counters[counter.ordinal()]);
+        }
+        json.append("}}\n");
+        return json.toString();
+    }
+
+    // Getters
+    public int getFiles() { return files; }
+    public long getWallNanos(Phase phase) { return wallNanos[phase.ordinal()]; }
+    public long getCpuNanos(Phase phase) { return cpuNanos[phase.ordinal()]; }
+    public long getAllocatedBytes(Phase phase) { return allocatedBytes[phase.ordinal()]; }
+    public long getCount(AnalysisCounters.Counter counter) { return counters[counter.ordinal()]; }
+}
@@ -0,0 +1,134 @@
+package main;
+
+import semantic.CancellationToken;
+
+import java.io.PrintStream;
+
+/**
+ * Settings of a {@link SourceChecker}: its limits, which lexer and parser
+ * it runs and where it reports progress. Instances are immutable; each
+ * with method returns a copy with one setting changed, so
+ *
+ * <pre>
+ *   CheckerOptions.DEFAULT.withParser(CheckerOptions.Parser.HANDWRITTEN).withMaxErrors(50)
+ * </pre>
+ *
+ * names every setting it changes.
+ */
+public final class CheckerOptions {
+
+    /**
+     * Parser used to build the parse tree.
+     */
+    public enum Parser {
+        /** The generated parser, SLL first with a full LL fallback. */
+        GENERATED,
+        /** {@link HandwrittenParser}; input it rejects is parsed again by the generated parser. */
+        HANDWRITTEN,
+        /** {@link ParallelProgramParser} for large files, the generated parser otherwise. */
+        PARALLEL
+    }
+
+    /** No limits, the generated lexer and parser, no progress messages. */
+    public static final CheckerOptions DEFAULT = new CheckerOptions(null, CancellationToken.NO_ERROR_LIMIT,
+        CancellationToken.NO_TIME_LIMIT, Parser.GENERATED, false, false, false);
+
+    private final PrintStream progress;
+    private final int maxErrors;
+    private final long timeBudgetMillis;
+    private final Parser parser;
+    private final boolean profileParser;
+    private final boolean handwrittenLexer;
+    private final boolean declareWhileParsing;
+
+    private CheckerOptions(PrintStream progress, int maxErrors, long timeBudgetMillis, Parser parser,
+                           boolean profileParser, boolean handwrittenLexer, boolean declareWhileParsing) {
+        this.progress = progress;
+        this.maxErrors = maxErrors;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.parser = parser;
+        this.profileParser = profileParser;
+        this.handwrittenLexer = handwrittenLexer;
+        this.declareWhileParsing = declareWhileParsing;
+    }
+
+    /**
+     * Print phase messages to the given stream, or nowhere if it is null.
+     */
+    public CheckerOptions withProgress(PrintStream progress) {
+        return new CheckerOptions(progress, maxErrors, timeBudgetMillis, parser,
+            profileParser, handwrittenLexer, declareWhileParsing);
+    }
+
+    /**
+     * Stop checking a file after more than maxErrors semantic errors.
+     */
+    public CheckerOptions withMaxErrors(int maxErrors) {
+        return new CheckerOptions(progress, maxErrors, timeBudgetMillis, parser,
+            profileParser, handwrittenLexer, declareWhileParsing);
+    }
+
+    /**
+     * Stop checking a file after timeBudgetMillis.
+     */
+    public CheckerOptions withTimeBudgetMillis(long timeBudgetMillis) {
+        return new CheckerOptions(progress, maxErrors, timeBudgetMillis, parser,
+            profileParser, handwrittenLexer, declareWhileParsing);
+    }
+
+    public CheckerOptions withParser(Parser parser) {
+        return new CheckerOptions(progress, maxErrors, timeBudgetMillis, parser,
+            profileParser, handwrittenLexer, declareWhileParsing);
+    }
+
+    /**
+     * Attach a {@link ParserProfile} to every result. Profiling parses in
+     * plain LL mode, where each decision tries SLL prediction first and
+     * falls back to full context on its own, so the profile shows which
+     * decisions need full context. Only the generated parser is profiled.
+     */
+    public CheckerOptions withProfileParser(boolean profileParser) {
+        return new CheckerOptions(progress, maxErrors, timeBudgetMillis, parser,
+            profileParser, handwrittenLexer, declareWhileParsing);
+    }
+
+    /**
+     * Lex with {@link HandwrittenLexer} instead of the generated lexer. Both
+     * produce the same tokens and lexical errors.
+     */
+    public CheckerOptions withHandwrittenLexer(boolean handwrittenLexer) {
+        return new CheckerOptions(progress, maxErrors, timeBudgetMillis, parser,
+            profileParser, handwrittenLexer, declareWhileParsing);
+    }
+
+    /**
+     * Build the symbol table while parsing, with a symbol table listener on
+     * the generated parser, instead of in a separate pass over the finished
+     * tree. The table and its errors are the same.
+     */
+    public CheckerOptions withDeclareWhileParsing(boolean declareWhileParsing) {
+        return new CheckerOptions(progress, maxErrors, timeBudgetMillis, parser,
+            profileParser, handwrittenLexer, declareWhileParsing);
+    }
+
+    /**
+     * Throw IllegalArgumentException if the settings cannot be combined.
+     */
+    void validate() {
+        if (parser != Parser.GENERATED && profileParser) {
+            throw new IllegalArgumentException("Only the generated parser can be profiled");
+        }
+        if (parser != Parser.GENERATED && declareWhileParsing) {
+            throw new IllegalArgumentException("Only the generated sequential parser declares symbols while parsing");
+        }
+    }
+
+    // Getters
+    public PrintStream getProgress() { return progress; }
+    public int getMaxErrors() { return maxErrors; }
+    public long getTimeBudgetMillis() { return timeBudgetMillis; }
+    public Parser getParser() { return parser; }
+    public boolean isProfileParser() { return profileParser; }
+    public boolean isHandwrittenLexer() { return handwrittenLexer; }
+    public boolean isDeclareWhileParsing() { return declareWhileParsing; }
+}
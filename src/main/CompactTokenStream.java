@@ -0,0 +1,588 @@
+package main;
+
+import semantic.NameTable;
+import semantic.analysis.IdentifierTokens;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+import antlr.TypeCheckerLexer;
+
+import java.util.*;
+
+/**
+ * Token stream that keeps token attributes in parallel int arrays instead
+ * of one CommonToken object per token.
+ *
+ * The stream installs its own {@link TokenFactory} on the token source, so
+ * the lexer records every token straight into the arrays: type, start and
+ * stop index take twelve bytes. Line and column are not stored per token.
+ * Tokens are in source order, so for every line that has tokens it is
+ * enough to keep the index of its first token and the index at which the
+ * line starts. Channels and explicit token text, which this grammar never
+ * uses, are kept only when they occur.
+ *
+ * A {@link Token} object is made only when the parser asks for one, for a
+ * parse tree node or an error, and is then reused for that index. Like
+ * CommonTokenStream, the stream shows the parser the tokens on the default
+ * channel only and fetches tokens from the source as the parser needs them.
+ *
+ * Given a {@link NameTable}, the stream interns the text of every ID token
+ * as it is recorded and keeps its name ID. The text of an ID token is then
+ * always the table's canonical String, and a {@link
+ * semantic.analysis.NameBinder} reads the IDs from the arrays.
+ */
+public class CompactTokenStream implements TokenStream, IdentifierTokens {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final TokenSource tokenSource;
+    private final Pair<TokenSource, CharStream> sourcePair;
+    private final NameTable names;
+
+    // Per token
+    private int[] types = new int[INITIAL_CAPACITY];
+    private int[] starts = new int[INITIAL_CAPACITY];
+    private int[] stops = new int[INITIAL_CAPACITY];
+    private int[] nameIds; // Only with a name table
+    private Token[] views = new Token[INITIAL_CAPACITY];
+    private int size = 0;
+
+    // Per line with tokens: line number, first token, index of column 0
+    private int[] lineNumbers = new int[INITIAL_CAPACITY / 4];
+    private int[] lineFirstTokens = new int[INITIAL_CAPACITY / 4];
+    private int[] lineStarts = new int[INITIAL_CAPACITY / 4];
+    private int lineCount = 0;
+
+    // Only if some token needs them, otherwise null
+    private byte[] channels;
+    private Map<Integer, String> texts;
+    // Explicit line and column from token explicitFrom on, if the token
+    // source's positions stop fitting the line table
+    private int[] explicitLines;
+    private int[] explicitColumns;
+    private int explicitFrom = -1;
+
+    // Index of the current token, as in BufferedTokenStream
+    private int p = -1;
+    private boolean fetchedEOF = false;
+
+    public CompactTokenStream(TokenSource tokenSource) {
+        this(tokenSource, null);
+    }
+
+    /**
+     * Create a stream that interns identifiers in the given table, if it
+     * is not null.
+     */
+    public CompactTokenStream(TokenSource tokenSource, NameTable names) {
+        this.tokenSource = tokenSource;
+        this.sourcePair = new Pair<>(tokenSource, tokenSource.getInputStream());
+        this.names = names;
+        if (names != null) {
+            nameIds = new int[INITIAL_CAPACITY];
+        }
+        tokenSource.setTokenFactory(new Factory());
+    }
+
+    /**
+     * Records the tokens the lexer makes. Tokens made by the parser's error
+     * recovery, which have no position in the input, are ordinary
+     * CommonTokens and are not part of the stream.
+     */
+    private class Factory implements TokenFactory<Token> {
+        // Returned for every recorded token and pointed at it; the lexer only
+        // hands it back to fetch, which reads its type
+        private final CompactToken recorded = new CompactToken(-1);
+
+        @Override
+        public Token create(Pair<TokenSource, CharStream> source, int type, String text,
+                            int channel, int start, int stop, int line, int charPositionInLine) {
+            if (start < 0) {
+                CommonToken token = new CommonToken(source, type, channel, start, stop);
+                token.setLine(line);
+                token.setCharPositionInLine(charPositionInLine);
+                if (text != null) {
+                    token.setText(text);
+                }
+                return token;
+            }
+            int index = add(type, channel, start, stop, line, charPositionInLine);
+            if (text != null) {
+                if (texts == null) {
+                    texts = new HashMap<>();
+                }
+                texts.put(index, text);
+            }
+            if (names != null && type == TypeCheckerLexer.ID) {
+                nameIds[index] = text != null ? names.intern(text) : names.intern(source.b, start, stop);
+            }
+            // The parser asks the stream for the tokens it keeps
+            recorded.index = index;
+            return recorded;
+        }
+
+        @Override
+        public Token create(int type, String text) {
+            return new CommonToken(type, text);
+        }
+    }
+
+    private int add(int type, int channel, int start, int stop, int line, int column) {
+        if (size == types.length) {
+            int capacity = size * 2;
+            types = Arrays.copyOf(types, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            stops = Arrays.copyOf(stops, capacity);
+            views = Arrays.copyOf(views, capacity);
+            if (nameIds != null) {
+                nameIds = Arrays.copyOf(nameIds, capacity);
+            }
+            if (channels != null) {
+                channels = Arrays.copyOf(channels, capacity);
+            }
+            if (explicitLines != null) {
+                explicitLines = Arrays.copyOf(explicitLines, capacity);
+                explicitColumns = Arrays.copyOf(explicitColumns, capacity);
+            }
+        }
+        int index = size++;
+        types[index] = type;
+        starts[index] = start;
+        stops[index] = stop;
+        if (channel != Token.DEFAULT_CHANNEL) {
+            if (channels == null) {
+                channels = new byte[types.length];
+            }
+            channels[index] = (byte) channel;
+        }
+
+        if (explicitLines == null) {
+            if (lineCount > 0 && lineNumbers[lineCount - 1] == line
+                    && lineStarts[lineCount - 1] == start - column) {
+                return index;
+            }
+            if (lineCount == 0 || lineNumbers[lineCount - 1] < line) {
+                addLine(line, index, start - column);
+                return index;
+            }
+            explicitFrom = index;
+            explicitLines = new int[types.length];
+            explicitColumns = new int[types.length];
+        }
+        explicitLines[index] = line;
+        explicitColumns[index] = column;
+        return index;
+    }
+
+    private void addLine(int line, int firstToken, int lineStart) {
+        if (lineCount == lineNumbers.length) {
+            int capacity = lineCount * 2;
+            lineNumbers = Arrays.copyOf(lineNumbers, capacity);
+            lineFirstTokens = Arrays.copyOf(lineFirstTokens, capacity);
+            lineStarts = Arrays.copyOf(lineStarts, capacity);
+        }
+        lineNumbers[lineCount] = line;
+        lineFirstTokens[lineCount] = firstToken;
+        lineStarts[lineCount] = lineStart;
+        lineCount++;
+    }
+
+    // Token attributes by index
+
+    public int getType(int index) {
+        return types[index];
+    }
+
+    public int getChannel(int index) {
+        return channels == null ? Token.DEFAULT_CHANNEL : channels[index];
+    }
+
+    public int getStartIndex(int index) {
+        return starts[index];
+    }
+
+    public int getStopIndex(int index) {
+        return stops[index];
+    }
+
+    public int getLine(int index) {
+        if (explicitLines != null && index >= explicitFrom) {
+            return explicitLines[index];
+        }
+        return lineNumbers[lineOf(index)];
+    }
+
+    public int getColumn(int index) {
+        if (explicitLines != null && index >= explicitFrom) {
+            return explicitColumns[index];
+        }
+        return starts[index] - lineStarts[lineOf(index)];
+    }
+
+    /**
+     * Name ID of an ID token, or NameTable.NO_NAME without a name table or
+     * for other tokens.
+     */
+    @Override
+    public int getNameId(int index) {
+        return nameIds != null && types[index] == TypeCheckerLexer.ID ? nameIds[index] : NameTable.NO_NAME;
+    }
+
+    public String getText(int index) {
+        int nameId = getNameId(index);
+        if (nameId != NameTable.NO_NAME) {
+            return names.getName(nameId);
+        }
+        if (texts != null && texts.containsKey(index)) {
+            return texts.get(index);
+        }
+        CharStream input = sourcePair.b;
+        if (input == null) {
+            return null;
+        }
+        int n = input.size();
+        if (starts[index] < n && stops[index] < n) {
+            return input.getText(Interval.of(starts[index], stops[index]));
+        }
+        return "<EOF>";
+    }
+
+    /**
+     * Entry of the line table that holds the given token.
+     */
+    private int lineOf(int index) {
+        int low = 0;
+        int high = lineCount - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (lineFirstTokens[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Bytes held by the token arrays and the line table, not counting the
+     * token objects made so far.
+     */
+    public long getStoreBytes() {
+        long bytes = 4L * (types.length + starts.length + stops.length)
+            + 4L * views.length
+            + (nameIds != null ? 4L * nameIds.length : 0)
+            + 4L * (lineNumbers.length + lineFirstTokens.length + lineStarts.length);
+        if (channels != null) {
+            bytes += channels.length;
+        }
+        if (explicitLines != null) {
+            bytes += 4L * (explicitLines.length + explicitColumns.length);
+        }
+        return bytes;
+    }
+
+    /**
+     * Read-only token backed by the stream's arrays.
+     */
+    private final class CompactToken implements Token {
+        // Fixed, except for the factory's token of the last recorded index
+        private int index;
+
+        CompactToken(int index) {
+            this.index = index;
+        }
+
+        @Override public String getText() { return CompactTokenStream.this.getText(index); }
+        @Override public int getType() { return types[index]; }
+        @Override public int getLine() { return CompactTokenStream.this.getLine(index); }
+        @Override public int getCharPositionInLine() { return getColumn(index); }
+        @Override public int getChannel() { return CompactTokenStream.this.getChannel(index); }
+        @Override public int getTokenIndex() { return index; }
+        @Override public int getStartIndex() { return starts[index]; }
+        @Override public int getStopIndex() { return stops[index]; }
+        @Override public TokenSource getTokenSource() { return sourcePair.a; }
+        @Override public CharStream getInputStream() { return sourcePair.b; }
+
+        @Override
+        public String toString() {
+            String text = getText();
+            text = text == null ? "<no text>"
+                : text.replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t");
+            String channel = getChannel() > 0 ? ",channel=" + getChannel() : "";
+            return "[@" + index + "," + starts[index] + ":" + stops[index] + "='" + text + "',<"
+                + types[index] + ">" + channel + "," + getLine() + ":" + getCharPositionInLine() + "]";
+        }
+    }
+
+    // TokenStream, following BufferedTokenStream and CommonTokenStream
+
+    @Override
+    public Token get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("token index " + index + " out of range 0.." + (size - 1));
+        }
+        Token view = views[index];
+        if (view == null) {
+            view = new CompactToken(index);
+            views[index] = view;
+        }
+        return view;
+    }
+
+    /**
+     * All tokens fetched so far, including those on other channels.
+     */
+    public List<Token> getTokens() {
+        return new AbstractList<Token>() {
+            @Override
+            public Token get(int index) {
+                return CompactTokenStream.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public TokenSource getTokenSource() {
+        return tokenSource;
+    }
+
+    @Override
+    public int index() {
+        return p;
+    }
+
+    @Override
+    public int mark() {
+        return 0;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public void seek(int index) {
+        lazyInit();
+        p = adjustSeekIndex(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getSourceName() {
+        return tokenSource.getSourceName();
+    }
+
+    @Override
+    public void consume() {
+        boolean skipEofCheck;
+        if (p >= 0) {
+            if (fetchedEOF) {
+                skipEofCheck = p < size - 1;
+            } else {
+                skipEofCheck = p < size;
+            }
+        } else {
+            skipEofCheck = false;
+        }
+        if (!skipEofCheck && LA(1) == Token.EOF) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        if (sync(p + 1)) {
+            p = adjustSeekIndex(p + 1);
+        }
+    }
+
+    /**
+     * Make sure the token at index i has been fetched, if there is one.
+     */
+    private boolean sync(int i) {
+        int n = i - size + 1;
+        if (n > 0) {
+            return fetch(n) >= n;
+        }
+        return true;
+    }
+
+    private int fetch(int n) {
+        if (fetchedEOF) {
+            return 0;
+        }
+        for (int i = 0; i < n; i++) {
+            // The factory records the token
+            Token token = tokenSource.nextToken();
+            if (token.getType() == Token.EOF) {
+                fetchedEOF = true;
+                trimToSize();
+                return i + 1;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Drop the spare capacity once all tokens are in.
+     */
+    private void trimToSize() {
+        types = Arrays.copyOf(types, size);
+        starts = Arrays.copyOf(starts, size);
+        stops = Arrays.copyOf(stops, size);
+        views = Arrays.copyOf(views, size);
+        if (nameIds != null) {
+            nameIds = Arrays.copyOf(nameIds, size);
+        }
+        if (channels != null) {
+            channels = Arrays.copyOf(channels, size);
+        }
+        if (explicitLines != null) {
+            explicitLines = Arrays.copyOf(explicitLines, size);
+            explicitColumns = Arrays.copyOf(explicitColumns, size);
+        }
+        lineNumbers = Arrays.copyOf(lineNumbers, lineCount);
+        lineFirstTokens = Arrays.copyOf(lineFirstTokens, lineCount);
+        lineStarts = Arrays.copyOf(lineStarts, lineCount);
+    }
+
+    /**
+     * Fetch all tokens from the source.
+     */
+    public void fill() {
+        lazyInit();
+        while (fetch(1000) == 1000) {
+            // Keep going
+        }
+    }
+
+    @Override
+    public int LA(int i) {
+        Token token = LT(i);
+        return token == null ? Token.INVALID_TYPE : token.getType();
+    }
+
+    @Override
+    public Token LT(int k) {
+        lazyInit();
+        if (k == 0) {
+            return null;
+        }
+        if (k < 0) {
+            return LB(-k);
+        }
+        int i = p;
+        int n = 1;
+        // Find k good tokens
+        while (n < k) {
+            if (sync(i + 1)) {
+                i = nextTokenOnChannel(i + 1);
+            }
+            n++;
+        }
+        return get(i);
+    }
+
+    private Token LB(int k) {
+        if (k == 0 || (p - k) < 0) {
+            return null;
+        }
+        int i = p;
+        int n = 1;
+        // Find k good tokens looking backwards
+        while (n <= k && i > 0) {
+            i = previousTokenOnChannel(i - 1);
+            n++;
+        }
+        if (i < 0) {
+            return null;
+        }
+        return get(i);
+    }
+
+    private int adjustSeekIndex(int i) {
+        return nextTokenOnChannel(i);
+    }
+
+    private int nextTokenOnChannel(int i) {
+        sync(i);
+        if (i >= size) {
+            return size - 1;
+        }
+        while (getChannel(i) != Token.DEFAULT_CHANNEL) {
+            if (types[i] == Token.EOF) {
+                return i;
+            }
+            i++;
+            sync(i);
+        }
+        return i;
+    }
+
+    private int previousTokenOnChannel(int i) {
+        sync(i);
+        if (i >= size) {
+            return size - 1;
+        }
+        while (i >= 0) {
+            if (types[i] == Token.EOF || getChannel(i) == Token.DEFAULT_CHANNEL) {
+                return i;
+            }
+            i--;
+        }
+        return i;
+    }
+
+    private void lazyInit() {
+        if (p == -1) {
+            sync(0);
+            p = adjustSeekIndex(0);
+        }
+    }
+
+    @Override
+    public String getText() {
+        return getText(Interval.of(0, size - 1));
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = interval.a;
+        int stop = interval.b;
+        if (start < 0 || stop < 0) {
+            return "";
+        }
+        sync(stop);
+        if (stop >= size) {
+            stop = size - 1;
+        }
+        StringBuilder text = new StringBuilder();
+        for (int i = start; i <= stop; i++) {
+            if (types[i] == Token.EOF) {
+                break;
+            }
+            text.append(getText(i));
+        }
+        return text.toString();
+    }
+
+    @Override
+    public String getText(RuleContext ctx) {
+        return getText(ctx.getSourceInterval());
+    }
+
+    @Override
+    public String getText(Token start, Token stop) {
+        if (start != null && stop != null) {
+            return getText(Interval.of(start.getTokenIndex(), stop.getTokenIndex()));
+        }
+        return "";
+    }
+}
@@ -0,0 +1,272 @@
+package main;
+
+import semantic.CancellationToken;
+
+import java.util.*;
+
+/**
+ * Command line options for {@link MainCompiler}.
+ */
+public class CompilerOptions {
+    private boolean batch = false;
+    private boolean server = false;
+    private boolean watch = false;
+    private int port = 8642;
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 256;
+    private int cacheEntries = 1024;
+    private String outputDir = "output";
+    private String cacheDir = null;
+    private long cacheMaxBytes = 256L * 1024 * 1024;
+    private boolean stats = false;
+    private String statsJsonFile = null;
+    private String format = "html";
+    private int maxErrors = CancellationToken.NO_ERROR_LIMIT;
+    private long timeBudgetMillis = CancellationToken.NO_TIME_LIMIT;
+    private String parser = "generated";
+    private String lexer = "generated";
+    private String symbols = "separate";
+    private boolean stream = false;
+    private boolean profileParser = false;
+    private String profileJsonFile = null;
+    private final List<String> inputs = new ArrayList<>();
+
+    /**
+     * Parse the command line. Throws IllegalArgumentException on bad usage.
+     */
+    public static CompilerOptions parse(String[] args) {
+        CompilerOptions options = new CompilerOptions();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--batch":
+                    options.batch = true;
+                    break;
+                case "--watch":
+                    options.watch = true;
+                    break;
+                case "--server":
+                    options.server = true;
+                    break;
+                case "--port":
+                    options.port = requirePort(args, ++i, arg);
+                    break;
+                case "--workers":
+                    options.workers = requirePositive(args, ++i, arg);
+                    break;
+                case "--queue":
+                    options.queueCapacity = requirePositive(args, ++i, arg);
+                    break;
+                case "--cache-entries":
+                    options.cacheEntries = requirePositive(args, ++i, arg);
+                    break;
+                case "--cache-dir":
+                    options.cacheDir = requireValue(args, ++i, arg);
+                    break;
+                case "--cache-max-mb":
+                    options.cacheMaxBytes = requirePositive(args, ++i, arg) * 1024L * 1024;
+                    break;
+                case "--stats":
+                    options.stats = true;
+                    break;
+                case "--stats-json":
+                    options.stats = true;
+                    options.statsJsonFile = requireValue(args, ++i, arg);
+                    break;
+                case "--format":
+                    options.format = requireValue(args, ++i, arg);
+                    if (!Arrays.asList("html", "jsonl", "sarif").contains(options.format)) {
+                        throw new IllegalArgumentException("Unknown format: " + options.format);
+                    }
+                    break;
+                case "--max-errors":
+                    options.maxErrors = requirePositive(args, ++i, arg);
+                    break;
+                case "--time-budget-ms":
+                    options.timeBudgetMillis = requirePositive(args, ++i, arg);
+                    break;
+                case "--parser":
+                    options.parser = requireValue(args, ++i, arg);
+                    if (!Arrays.asList("generated", "handwritten", "parallel").contains(options.parser)) {
+                        throw new IllegalArgumentException("Unknown parser: " + options.parser);
+                    }
+                    break;
+                case "--lexer":
+                    options.lexer = requireValue(args, ++i, arg);
+                    if (!Arrays.asList("generated", "handwritten").contains(options.lexer)) {
+                        throw new IllegalArgumentException("Unknown lexer: " + options.lexer);
+                    }
+                    break;
+                case "--symbols":
+                    options.symbols = requireValue(args, ++i, arg);
+                    if (!Arrays.asList("separate", "while-parsing").contains(options.symbols)) {
+                        throw new IllegalArgumentException("Unknown symbol table mode: " + options.symbols);
+                    }
+                    break;
+                case "--stream":
+                    options.stream = true;
+                    break;
+                case "--profile-parser":
+                    options.profileParser = true;
+                    break;
+                case "--profile-parser-json":
+                    options.profileParser = true;
+                    options.profileJsonFile = requireValue(args, ++i, arg);
+                    break;
+                case "-o":
+                case "--out":
+                    options.outputDir = requireValue(args, ++i, arg);
+                    break;
+                default:
+                    if (arg.startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + arg);
+                    }
+                    options.inputs.add(arg);
+            }
+        }
+
+        if (options.inputs.isEmpty() && !options.server) {
+            throw new IllegalArgumentException("No input files given");
+        }
+        if (options.symbols.equals("while-parsing") && !options.parser.equals("generated")) {
+            throw new IllegalArgumentException("--symbols while-parsing works with the generated parser only");
+        }
+        if (options.stream) {
+            if (options.batch || options.server || options.watch) {
+                throw new IllegalArgumentException("--stream works for single files only");
+            }
+            if (options.format.equals("html")) {
+                throw new IllegalArgumentException("--stream needs --format jsonl or sarif");
+            }
+            if (!options.parser.equals("generated") || !options.symbols.equals("separate")
+                    || options.profileParser || options.stats || options.cacheDir != null) {
+                throw new IllegalArgumentException(
+                    "--stream cannot be combined with --parser, --symbols, --profile-parser, --stats or a cache");
+            }
+        }
+        if (options.watch) {
+            if (options.inputs.size() > 1) {
+                throw new IllegalArgumentException("--watch follows one directory");
+            }
+            if (!options.format.equals("html") || options.stats || options.cacheDir != null) {
+                throw new IllegalArgumentException(
+                    "--watch writes HTML reports only and cannot be combined with --format, --stats or a cache");
+            }
+        }
+        if (options.profileParser) {
+            if (options.server || options.watch) {
+                throw new IllegalArgumentException("--profile-parser works for single files and batches only");
+            }
+            if (!options.parser.equals("generated")) {
+                throw new IllegalArgumentException("--profile-parser profiles the generated parser only");
+            }
+            if (options.batch && options.profileJsonFile != null) {
+                throw new IllegalArgumentException("--profile-parser-json works for single files only");
+            }
+        }
+        return options;
+    }
+
+    private static String requireValue(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    private static int requireInt(String[] args, int index, String option) {
+        String value = requireValue(args, index, option);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected a number for " + option + ": " + value);
+        }
+    }
+
+    private static int requirePositive(String[] args, int index, String option) {
+        int value = requireInt(args, index, option);
+        if (value <= 0) {
+            throw new IllegalArgumentException("Expected a positive number for " + option + ": " + value);
+        }
+        return value;
+    }
+
+    private static int requirePort(String[] args, int index, String option) {
+        int value = requireInt(args, index, option);
+        if (value < 0 || value > 65535) {
+            throw new IllegalArgumentException("Expected a port from 0 to 65535 for " + option + ": " + value);
+        }
+        return value;
+    }
+
+    public static String usage() {
+        return "Usage: java main.MainCompiler [cache options] <input-file|-> [output-file]\n"
+             + "       java main.MainCompiler --batch [cache options] [-o <output-dir>] <file|dir|glob>...\n"
+             + "       java main.MainCompiler --watch [-o <output-dir>] <dir>\n"
+             + "       java main.MainCompiler --server [--port <n>] [--workers <n>] [--queue <n>]"
+             + " [--cache-entries <n>]\n"
+             + "Cache options: --cache-dir <dir> [--cache-max-mb <n>]\n"
+             + "Statistics (single file and batch): --stats [--stats-json <file>]\n"
+             + "Output format (single file and batch): --format html|jsonl|sarif\n"
+             + "  jsonl and sarif write diagnostics only, to the output file or standard output\n"
+             + "Limits per file: --max-errors <n> --time-budget-ms <n>\n"
+             + "Parser: --parser generated|handwritten|parallel\n"
+             + "  handwritten is a faster recursive descent parser; syntax errors are still\n"
+             + "  reported by the generated parser\n"
+             + "  parallel parses the top-level declarations of large files on all cores\n"
+             + "Lexer: --lexer generated|handwritten\n"
+             + "  handwritten is a faster table-driven scanner with the same tokens and errors\n"
+             + "Symbol table: --symbols separate|while-parsing\n"
+             + "  while-parsing declares the symbols as the generated parser completes each\n"
+             + "  declaration instead of walking the finished tree once more\n"
+             + "Streaming (single file, jsonl or sarif): --stream\n"
+             + "  checks one top-level declaration at a time and writes its diagnostics at once,\n"
+             + "  keeping only the signatures of the others in memory\n"
+             + "Parser profile (single file and batch): --profile-parser [--profile-parser-json <file>]\n"
+             + "  adds per-decision prediction statistics to the HTML report; the JSON file\n"
+             + "  is written for single files only\n"
+             + "Fast start: java main.StartupBenchmark --train-only <input-file> writes a class data\n"
+             + "  sharing archive and prints the java command line that uses it";
+    }
+
+    /**
+     * The checker settings given on the command line.
+     */
+    public CheckerOptions toCheckerOptions() {
+        CheckerOptions.Parser parserKind = parser.equals("handwritten") ? CheckerOptions.Parser.HANDWRITTEN
+            : parser.equals("parallel") ? CheckerOptions.Parser.PARALLEL : CheckerOptions.Parser.GENERATED;
+        return CheckerOptions.DEFAULT
+            .withMaxErrors(maxErrors)
+            .withTimeBudgetMillis(timeBudgetMillis)
+            .withParser(parserKind)
+            .withProfileParser(profileParser)
+            .withHandwrittenLexer(lexer.equals("handwritten"))
+            .withDeclareWhileParsing(symbols.equals("while-parsing"));
+    }
+
+    // Getters
+    public boolean isBatch() { return batch; }
+    public boolean isServer() { return server; }
+    public boolean isWatch() { return watch; }
+    public int getPort() { return port; }
+    public int getWorkers() { return workers; }
+    public int getQueueCapacity() { return queueCapacity; }
+    public int getCacheEntries() { return cacheEntries; }
+    public String getOutputDir() { return outputDir; }
+    public String getCacheDir() { return cacheDir; }
+    public long getCacheMaxBytes() { return cacheMaxBytes; }
+    public boolean isStats() { return stats; }
+    public String getStatsJsonFile() { return statsJsonFile; }
+    public String getFormat() { return format; }
+    public int getMaxErrors() { return maxErrors; }
+    public long getTimeBudgetMillis() { return timeBudgetMillis; }
+    public boolean isHandwrittenParser() { return parser.equals("handwritten"); }
+    public boolean isParallelParser() { return parser.equals("parallel"); }
+    public boolean isHandwrittenLexer() { return lexer.equals("handwritten"); }
+    public boolean isDeclareWhileParsing() { return symbols.equals("while-parsing"); }
+    public boolean isStream() { return stream; }
+    public boolean isProfileParser() { return profileParser; }
+    public String getProfileJsonFile() { return profileJsonFile; }
+    public List<String> getInputs() { return inputs; }
+}
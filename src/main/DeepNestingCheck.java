@@ -0,0 +1,154 @@
+package main;
+
+import semantic.SemanticError;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Checks deeply nested programs from {@link SyntheticProgram}: operator
+ * chains of a quarter, half and all of the given depth (100000 operators
+ * by default), and blocks, ternaries and parentheses nested as deep as the
+ * generated parser's own recursion allows. Every program must check
+ * without errors and without overflowing the stack, with the symbol table
+ * built separately and while parsing, and the time per operator of the
+ * longest chains must stay within a small factor of the shortest, as it
+ * does when checking is linear.
+ *
+ * With --write the programs are also written to a directory, as a corpus
+ * for the compiler itself.
+ */
+public class DeepNestingCheck {
+    // The generated parser recurses for every level, which limits nesting
+    // long before the checker does
+    private static final int NESTING_LEVELS = 500;
+    private static final int RUNS = 3;
+    // Allowed growth of the time per operator from a quarter to the full depth
+    private static final double MAX_SLOWDOWN = 2.5;
+
+    private final List<String> failures = new ArrayList<>();
+    // Median check times of the last program, without and with --symbols while-parsing
+    private final double[] millis = new double[2];
+
+    public static void main(String[] args) {
+        int depth = 100000;
+        String outputDir = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--depth") && i + 1 < args.length) {
+                depth = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--write") && i + 1 < args.length) {
+                outputDir = args[++i];
+            } else {
+                System.err.println("Usage: java main.DeepNestingCheck [--depth <n>] [--write <dir>]");
+                System.exit(2);
+            }
+        }
+
+        Map<String, String> programs = new LinkedHashMap<>();
+        for (int operators : new int[] { depth / 4, depth / 2, depth }) {
+            programs.put("deep-expressions-" + operators, SyntheticProgram.deepExpressions(operators));
+        }
+        programs.put("deep-nesting-" + NESTING_LEVELS, SyntheticProgram.deepNesting(NESTING_LEVELS));
+
+        if (outputDir != null) {
+            try {
+                Files.createDirectories(Paths.get(outputDir));
+                for (Map.Entry<String, String> program : programs.entrySet()) {
+                    Files.writeString(Paths.get(outputDir, program.getKey() + ".tc"), program.getValue());
+                }
+            } catch (IOException e) {
+                System.err.println("Cannot write corpus: " + e.getMessage());
+                System.exit(1);
+            }
+        }
+
+        // The symbol table builder's debug output would drown the table
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        DeepNestingCheck check = new DeepNestingCheck();
+        // Warm up, so the shortest chains are not measured cold
+        check.run("warm-up", SyntheticProgram.deepExpressions(depth / 4));
+        out.println(String.format(Locale.ROOT, "%-28s %12s %12s %12s", "Program", "Separate ms",
+            "Parsing ms", "us/operator"));
+        Map<String, Double> perOperator = new LinkedHashMap<>();
+        for (Map.Entry<String, String> program : programs.entrySet()) {
+            double time = check.run(program.getKey(), program.getValue());
+            perOperator.put(program.getKey(), time);
+            out.println(String.format(Locale.ROOT, "%-28s %12.1f %12.1f %12.3f",
+                program.getKey(), check.millis[0], check.millis[1], time));
+        }
+
+        double shortest = perOperator.get("deep-expressions-" + depth / 4);
+        double longest = perOperator.get("deep-expressions-" + depth);
+        if (shortest > 0 && longest > shortest * MAX_SLOWDOWN) {
+            check.failures.add(String.format(Locale.ROOT,
+                "time per operator grew %.1fx from %d to %d operators", longest / shortest, depth / 4, depth));
+        }
+
+        for (String failure : check.failures) {
+            out.println("  " + failure);
+        }
+        out.println(check.failures.isEmpty() ? "All programs checked" : check.failures.size() + " failures");
+        System.exit(check.failures.isEmpty() ? 0 : 1);
+    }
+
+    /**
+     * Check a program in both symbol table modes and return the time per
+     * operator in microseconds, or 0 if it failed.
+     */
+    private double run(String name, String text) {
+        SourceText source = SourceText.of(name, text);
+        Arrays.fill(millis, 0);
+        for (int mode = 0; mode < 2; mode++) {
+            SourceChecker checker = new SourceChecker(CheckerOptions.DEFAULT.withDeclareWhileParsing(mode == 1));
+            long[] times = new long[RUNS];
+            for (int i = 0; i < RUNS; i++) {
+                long start = System.nanoTime();
+                CheckResult result;
+                try {
+                    result = checker.check(name, source);
+                } catch (StackOverflowError e) {
+                    failures.add(name + ": stack overflow" + (mode == 1 ? " while parsing" : ""));
+                    return 0;
+                }
+                times[i] = System.nanoTime() - start;
+                if (!result.isClean()) {
+                    List<SemanticError> errors = new ArrayList<>(result.getSyntaxErrors());
+                    errors.addAll(result.getErrors());
+                    failures.add(name + ": " + errors.size() + " errors, first " + errors.get(0));
+                    return 0;
+                }
+            }
+            Arrays.sort(times);
+            millis[mode] = times[RUNS / 2] / 1e6;
+        }
+
+        int operators = Math.max(countOperators(text), 1);
+        return millis[0] * 1000 / operators;
+    }
+
+    /**
+     * Binary and ternary operators in the text, which has no string
+     * literals containing them.
+     */
+    private static int countOperators(String text) {
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ' ' && i + 2 < text.length() && text.charAt(i + 2) == ' '
+                    && "+-*/%<>?".indexOf(text.charAt(i + 1)) >= 0) {
+                count++;
+            } else if (c == ' ' && i + 3 < text.length() && text.charAt(i + 3) == ' '
+                    && (text.startsWith("&&", i + 1) || text.startsWith("||", i + 1)
+                        || text.startsWith("==", i + 1) || text.startsWith("!=", i + 1)
+                        || text.startsWith(">=", i + 1))) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,116 @@
+package main;
+
+import semantic.SemanticError;
+
+import java.util.*;
+
+/**
+ * Minimal JSON rendering of diagnostics. The compiler has no JSON library
+ * on its classpath, so the few shapes it emits are written by hand.
+ */
+public class DiagnosticsJson {
+
+    private DiagnosticsJson() {}
+
+    /**
+     * Render a single error as a JSON object.
+     */
+    public static String toJson(SemanticError error) {
+        StringBuilder sb = new StringBuilder();
+        appendError(sb, error);
+        return sb.toString();
+    }
+
+    /**
+     * Render an error as a self-contained JSON object that also names its
+     * file, as written on one line of JSON Lines output.
+     */
+    public static String toJson(String file, SemanticError error) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"file\":").append(quote(file)).append(",");
+        appendErrorFields(sb, error);
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Render the marker written after the errors of a file whose checking
+     * stopped early.
+     */
+    public static String truncationToJson(CheckResult result) {
+        return "{\"file\":" + quote(result.getFileName())
+            + ",\"truncated\":true,\"reason\":" + quote(result.getTruncationReason()) + "}";
+    }
+
+    /**
+     * Render the diagnostics of a whole check result as a JSON object.
+     */
+    public static String toJson(CheckResult result) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"file\":").append(quote(result.getFileName()));
+        sb.append(",\"syntaxErrors\":");
+        appendErrors(sb, result.getSyntaxErrors());
+        sb.append(",\"errors\":");
+        appendErrors(sb, result.getErrors());
+        sb.append(",\"errorCount\":")
+          .append(result.getSyntaxErrors().size() + result.getErrors().size());
+        sb.append(",\"truncated\":").append(result.isTruncated());
+        if (result.isTruncated()) {
+            sb.append(",\"truncationReason\":").append(quote(result.getTruncationReason()));
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    private static void appendErrors(StringBuilder sb, List<SemanticError> errors) {
+        sb.append("[");
+        for (int i = 0; i < errors.size(); i++) {
+            if (i > 0) sb.append(",");
+            appendError(sb, errors.get(i));
+        }
+        sb.append("]");
+    }
+
+    private static void appendError(StringBuilder sb, SemanticError error) {
+        sb.append("{");
+        appendErrorFields(sb, error);
+        sb.append("}");
+    }
+
+    private static void appendErrorFields(StringBuilder sb, SemanticError error) {
+        sb.append("\"line\":").append(error.getLine());
+        sb.append(",\"column\":").append(error.getColumn());
+        sb.append(",\"type\":").append(quote(error.getErrorType().name()));
+        sb.append(",\"message\":").append(quote(error.getMessage()));
+        sb.append(",\"suggestion\":").append(quote(error.getSuggestion()));
+    }
+
+    /**
+     * Quote and escape a string as a JSON string literal.
+     */
+    public static String quote(String text) {
+        if (text == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder(text.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"':  sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+        return sb.toString();
+    }
+}
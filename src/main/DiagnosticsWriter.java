@@ -0,0 +1,32 @@
+package main;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes diagnostics in a machine-readable format, one file at a time, to
+ * a buffered stream. Used instead of the HTML report when only the errors
+ * are needed. Implementations are safe to call from several threads.
+ */
+public interface DiagnosticsWriter extends Closeable {
+
+    /**
+     * Write the syntax and semantic errors of one checked file.
+     */
+    void write(CheckResult result) throws IOException;
+
+    /**
+     * Create a writer for a --format value other than "html".
+     */
+    static DiagnosticsWriter create(String format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        switch (format) {
+            case "jsonl":
+                return new JsonLinesWriter(writer);
+            case "sarif":
+                return new SarifWriter(writer);
+            default:
+                throw new IllegalArgumentException("Unknown diagnostics format: " + format);
+        }
+    }
+}
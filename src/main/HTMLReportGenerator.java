@@ -2,10 +2,6 @@
 package main;
 
 import semantic.*;
-import semantic.symbols.ClassSymbol;
-import semantic.symbols.ConstructorSymbol;
-import semantic.symbols.FunctionSymbol;
-import semantic.symbols.VariableSymbol;
 
 import java.io.*;
 import java.nio.file.*;
@@ -20,11 +16,79 @@ public class HTMLReportGenerator {
                               List<SemanticError> errors, 
                               SymbolTable globalScope,
                               String outputFile) throws IOException {
-        
+        generateReport(inputFile, SourceText.of(inputFile, sourceCode), errors,
+            ScopeSummary.of(globalScope), outputFile);
+    }
+    
+    /**
+     * Write the report for a result that only has a symbol table summary,
+     * e.g. one loaded from the analysis cache.
+     */
+    public void generateReport(String inputFile, SourceText source,
+                              List<SemanticError> errors,
+                              ScopeSummary symbols,
+                              String outputFile) throws IOException {
+        generateReport(inputFile, source, errors, symbols, null, outputFile);
+    }
+    
+    /**
+     * Write the report with a parser profile section if the profile is
+     * not null.
+     */
+    public void generateReport(String inputFile, SourceText source,
+                              List<SemanticError> errors,
+                              ScopeSummary symbols,
+                              ParserProfile profile,
+                              String outputFile) throws IOException {
         // Ensure output directory exists
         Path outputPath = Paths.get(outputFile);
         Files.createDirectories(outputPath.getParent());
         
+        // Write to file
+        Files.write(outputPath, renderReport(inputFile, source, errors, symbols, profile).getBytes());
+    }
+    
+    /**
+     * Build the complete report page without writing it anywhere.
+     */
+    public String renderReport(String inputFile, SourceText source,
+                               List<SemanticError> errors,
+                               SymbolTable globalScope) {
+        return renderReport(inputFile, source, errors, ScopeSummary.of(globalScope));
+    }
+    
+    /**
+     * Build the report page. Source lines are read from the source buffer
+     * as they are needed.
+     */
+    public String renderReport(String inputFile, SourceText source,
+                               List<SemanticError> errors,
+                               ScopeSummary symbols) {
+        return renderReport(inputFile, source, errors, symbols, null);
+    }
+    
+    /**
+     * Build the report page with a parser profile section if the profile
+     * is not null.
+     */
+    public String renderReport(String inputFile, SourceText source,
+                               List<SemanticError> errors,
+                               ScopeSummary symbols,
+                               ParserProfile profile) {
+        if (!FlightRecording.isActive()) {
+            return buildReport(inputFile, source, errors, symbols, profile);
+        }
+        CheckPhaseEvent event = new CheckPhaseEvent();
+        event.begin();
+        String report = buildReport(inputFile, source, errors, symbols, profile);
+        event.finish(inputFile, CheckStats.Phase.REPORT.getDescription());
+        return report;
+    }
+    
+    private String buildReport(String inputFile, SourceText source,
+                               List<SemanticError> errors,
+                               ScopeSummary symbols,
+                               ParserProfile profile) {
         StringBuilder html = new StringBuilder();
         
         // HTML header
@@ -74,9 +138,10 @@ public class HTMLReportGenerator {
             html.append("<div class='stat-label'>Total Errors</div>\n");
             html.append("</div>\n");
             
-            // Count errors by type
+            // Count errors by type, in declaration order of the types
             Map<SemanticError.ErrorType, Long> errorCounts = errors.stream()
-                .collect(Collectors.groupingBy(SemanticError::getErrorType, Collectors.counting()));
+                .collect(Collectors.groupingBy(SemanticError::getErrorType,
+                    () -> new EnumMap<>(SemanticError.ErrorType.class), Collectors.counting()));
             
             for (Map.Entry<SemanticError.ErrorType, Long> entry : errorCounts.entrySet()) {
                 html.append("<div class='stat-item'>\n");
@@ -124,7 +189,7 @@ public class HTMLReportGenerator {
                     }
                     
                     // Show code context
-                    String context = getLineContext(sourceCode, line);
+                    String context = getLineContext(source, line);
                     if (context != null) {
                         html.append("<pre class='code-context'><code>").append(escapeHtml(context)).append("</code></pre>\n");
                     }
@@ -146,8 +211,8 @@ public class HTMLReportGenerator {
         html.append("<pre class='line-numbers'><code>");
         
         // Add line numbers
-        String[] lines = sourceCode.split("\n");
-        for (int i = 1; i <= lines.length; i++) {
+        int lineCount = source.getLineCount();
+        for (int i = 1; i <= lineCount; i++) {
             html.append(String.format("%4d\n", i));
         }
         
@@ -159,15 +224,15 @@ public class HTMLReportGenerator {
             .map(SemanticError::getLine)
             .collect(Collectors.toSet());
         
-        for (int i = 0; i < lines.length; i++) {
+        for (int i = 0; i < lineCount; i++) {
             int lineNum = i + 1;
             if (errorLines.contains(lineNum)) {
                 html.append("<span class='error-line' id='line-").append(lineNum).append("'>");
-                html.append(escapeHtml(lines[i]));
+                html.append(escapeHtml(source.getLine(lineNum)));
                 html.append("</span>\n");
             } else {
                 html.append("<span id='line-").append(lineNum).append("'>");
-                html.append(escapeHtml(lines[i]));
+                html.append(escapeHtml(source.getLine(lineNum)));
                 html.append("</span>\n");
             }
         }
@@ -180,10 +245,18 @@ public class HTMLReportGenerator {
         html.append("<section class='symbol-table'>\n");
         html.append("<h2>Symbol Table</h2>\n");
         html.append("<div class='table-container'>\n");
-        generateSymbolTableHTML(html, globalScope, 0);
+        generateSymbolTableHTML(html, symbols, 0);
         html.append("</div>\n");
         html.append("</section>\n");
         
+        // Parser profile section
+        if (profile != null) {
+            html.append("<section class='parser-profile'>\n");
+            html.append("<h2>Parser Profile</h2>\n");
+            generateParserProfileHTML(html, profile);
+            html.append("</section>\n");
+        }
+        
         // Footer
         html.append("<footer>\n");
         html.append("<p>Generated by EECS4302 Type Checker Compiler</p>\n");
@@ -191,11 +264,10 @@ public class HTMLReportGenerator {
         
         html.append("</body>\n</html>");
         
-        // Write to file
-        Files.write(outputPath, html.toString().getBytes());
+        return html.toString();
     }
     
-    private void generateSymbolTableHTML(StringBuilder html, SymbolTable scope, int level) {
+    private void generateSymbolTableHTML(StringBuilder html, ScopeSummary scope, int level) {
         String indent = "  ".repeat(level);
         
         html.append(indent).append("<div class='scope-block'>\n");
@@ -211,11 +283,11 @@ public class HTMLReportGenerator {
         html.append(indent).append("    </thead>\n");
         html.append(indent).append("    <tbody>\n");
         
-        for (Symbol symbol : scope.getSymbols().values()) {
+        for (ScopeSummary.Row symbol : scope.getRows()) {
             html.append(indent).append("      <tr>\n");
             html.append(indent).append("        <td>").append(escapeHtml(symbol.getName())).append("</td>\n");
-            html.append(indent).append("        <td>").append(escapeHtml(symbol.getType().toString())).append("</td>\n");
-            html.append(indent).append("        <td>").append(getSymbolKind(symbol)).append("</td>\n");
+            html.append(indent).append("        <td>").append(escapeHtml(symbol.getType())).append("</td>\n");
+            html.append(indent).append("        <td>").append(symbol.getKind()).append("</td>\n");
             html.append(indent).append("        <td>").append(symbol.getLine()).append("</td>\n");
             html.append(indent).append("      </tr>\n");
         }
@@ -224,49 +296,68 @@ public class HTMLReportGenerator {
         html.append(indent).append("  </table>\n");
         
         // Nested scopes
-        for (SymbolTable child : scope.getChildren()) {
+        for (ScopeSummary child : scope.getChildren()) {
             generateSymbolTableHTML(html, child, level + 1);
         }
         
         html.append(indent).append("</div>\n");
     }
     
-    private String getSymbolKind(Symbol symbol) {
-        if (symbol instanceof VariableSymbol) {
-            VariableSymbol var = (VariableSymbol) symbol;
-            String kind = "Variable";
-            if (var.isStatic()) kind = "Static " + kind;
-            if (var.isFinal()) kind = "Final " + kind;
-            return kind;
-        } else if (symbol instanceof FunctionSymbol) {
-            FunctionSymbol func = (FunctionSymbol) symbol;
-            String kind = "Function";
-            if (func.isStatic()) kind = "Static " + kind;
-            return kind;
-        } else if (symbol instanceof ClassSymbol) {
-            return "Class";
-        } else if (symbol instanceof ConstructorSymbol) {
-            return "Constructor";
+    private void generateParserProfileHTML(StringBuilder html, ParserProfile profile) {
+        html.append("<p>").append(profile.getDecisions().size()).append(" grammar decisions, ")
+            .append(String.format(Locale.ROOT, "%.3f", profile.getTotalTimeNanos() / 1e6))
+            .append(" ms in prediction. Slowest decisions first.</p>\n");
+        html.append("<div class='table-container'>\n");
+        html.append("<table class='symbol-table-content'>\n");
+        html.append("  <thead>\n");
+        html.append("    <tr>\n");
+        for (String heading : new String[] { "Rule", "Decision", "Invocations", "Time (ms)", "Avg look",
+                "SLL max look", "LL fallbacks", "LL max look", "Ambiguities", "Context sensitivities", "Errors" }) {
+            html.append("      <th>").append(heading).append("</th>\n");
+        }
+        html.append("    </tr>\n");
+        html.append("  </thead>\n");
+        html.append("  <tbody>\n");
+        
+        for (ParserProfile.Decision decision : profile.getDecisions()) {
+            html.append("    <tr>\n");
+            html.append("      <td>").append(escapeHtml(decision.getRule())).append("</td>\n");
+            html.append("      <td>").append(decision.getNumber()).append("</td>\n");
+            html.append("      <td>").append(decision.getInvocations()).append("</td>\n");
+            html.append("      <td>").append(String.format(Locale.ROOT, "%.3f", decision.getTimeNanos() / 1e6))
+                .append("</td>\n");
+            html.append("      <td>").append(String.format(Locale.ROOT, "%.2f", decision.getAverageLook()))
+                .append("</td>\n");
+            html.append("      <td>").append(decision.getSllMaxLook()).append("</td>\n");
+            html.append("      <td>").append(decision.getLlFallbacks()).append("</td>\n");
+            html.append("      <td>").append(decision.getLlMaxLook()).append("</td>\n");
+            html.append("      <td>").append(decision.getAmbiguities()).append("</td>\n");
+            html.append("      <td>").append(decision.getContextSensitivities()).append("</td>\n");
+            html.append("      <td>").append(decision.getErrors()).append("</td>\n");
+            html.append("    </tr>\n");
         }
-        return "Unknown";
+        
+        html.append("  </tbody>\n");
+        html.append("</table>\n");
+        html.append("</div>\n");
     }
     
-    private String getLineContext(String sourceCode, int lineNumber) {
-        String[] lines = sourceCode.split("\n");
-        if (lineNumber <= 0 || lineNumber > lines.length) {
+    private String getLineContext(SourceText source, int lineNumber) {
+        int lineCount = source.getLineCount();
+        if (lineNumber <= 0 || lineNumber > lineCount) {
             return null;
         }
         
         StringBuilder context = new StringBuilder();
         int start = Math.max(0, lineNumber - 2);
-        int end = Math.min(lines.length, lineNumber + 1);
+        int end = Math.min(lineCount, lineNumber + 1);
         
         for (int i = start; i < end; i++) {
             String lineNumStr = String.format("%4d | ", i + 1);
             if (i == lineNumber - 1) {
-                context.append(">> ").append(lineNumStr).append(lines[i]).append("\n");
+                context.append(">> ").append(lineNumStr).append(source.getLine(i + 1)).append("\n");
             } else {
-                context.append("   ").append(lineNumStr).append(lines[i]).append("\n");
+                context.append("   ").append(lineNumStr).append(source.getLine(i + 1)).append("\n");
             }
         }
         
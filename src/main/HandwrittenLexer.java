@@ -0,0 +1,469 @@
+package main;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+import antlr.TypeCheckerLexer;
+
+import java.util.*;
+
+/**
+ * Hand-written scanner for the token set of TypeChecker.g4. It produces
+ * the same token types, positions and lexical errors as the generated
+ * {@link TypeCheckerLexer} and plugs into the parser as a
+ * {@link TokenSource}.
+ *
+ * The scanner reads the character stream in place, without copying it:
+ * a {@link Utf8CharStream} is read straight from its byte buffer, any
+ * other stream by index. Whitespace and comments are skipped in tight
+ * loops, character classes come from a table and keywords are found
+ * through a perfect hash of the first, second and last character and the
+ * length, followed by one comparison. The scanner allocates nothing per
+ * token: the tokens themselves come from the token factory, which with
+ * {@link CompactTokenStream} only records them.
+ *
+ * Input that no rule matches is reported the way the generated lexer
+ * reports it: "token recognition error at: '...'" with the characters
+ * consumed up to and including the one that failed, which is then
+ * skipped.
+ */
+public class HandwrittenLexer implements TokenSource {
+    private static final int SEMI = literal(";");
+    private static final int LBRACE = literal("{");
+    private static final int RBRACE = literal("}");
+    private static final int LPAREN = literal("(");
+    private static final int RPAREN = literal(")");
+    private static final int COMMA = literal(",");
+    private static final int ASSIGN = literal("=");
+    private static final int COLON = literal(":");
+    private static final int DOT = literal(".");
+    private static final int PLUS = literal("+");
+    private static final int MINUS = literal("-");
+    private static final int NOT = literal("!");
+    private static final int MUL = literal("*");
+    private static final int DIV = literal("/");
+    private static final int MOD = literal("%");
+    private static final int LT = literal("<");
+    private static final int GT = literal(">");
+    private static final int LE = literal("<=");
+    private static final int GE = literal(">=");
+    private static final int EQ = literal("==");
+    private static final int NE = literal("!=");
+    private static final int AND = literal("&&");
+    private static final int OR = literal("||");
+    private static final int QUESTION = literal("?");
+
+    // Character classes of the ASCII range
+    private static final byte ID_START = 1;
+    private static final byte ID_PART = 2;
+    private static final byte DIGIT = 4;
+    private static final byte WHITESPACE = 8;
+    private static final byte[] CHAR_CLASSES = new byte[128];
+
+    // Perfect hash of the keywords: every keyword has its own slot
+    private static final int KEYWORD_SLOTS = 64;
+    private static final char[][] KEYWORDS = new char[KEYWORD_SLOTS][];
+    private static final int[] KEYWORD_TYPES = new int[KEYWORD_SLOTS];
+
+    static {
+        for (int c = 'a'; c <= 'z'; c++) {
+            CHAR_CLASSES[c] = ID_START | ID_PART;
+            CHAR_CLASSES[c - 'a' + 'A'] = ID_START | ID_PART;
+        }
+        CHAR_CLASSES['_'] = ID_START | ID_PART;
+        for (int c = '0'; c <= '9'; c++) {
+            CHAR_CLASSES[c] = ID_PART | DIGIT;
+        }
+        for (char c : new char[] { ' ', '\t', '\r', '\n' }) {
+            CHAR_CLASSES[c] = WHITESPACE;
+        }
+
+        // Keywords are the literal tokens made of letters only
+        Vocabulary vocabulary = TypeCheckerLexer.VOCABULARY;
+        for (int type = 1; type <= vocabulary.getMaxTokenType(); type++) {
+            String literal = vocabulary.getLiteralName(type);
+            if (literal == null || !literal.matches("'[a-z]+'")) {
+                continue;
+            }
+            char[] keyword = literal.substring(1, literal.length() - 1).toCharArray();
+            int slot = keywordHash(keyword[0], keyword[1], keyword[keyword.length - 1], keyword.length);
+            if (KEYWORDS[slot] != null) {
+                throw new IllegalStateException("Keyword hash is not perfect: " + literal);
+            }
+            KEYWORDS[slot] = keyword;
+            KEYWORD_TYPES[slot] = type;
+        }
+    }
+
+    private final CharStream input;
+    // The same stream if it is one, for direct reads
+    private final Utf8CharStream utf8;
+    private final Pair<TokenSource, CharStream> sourcePair;
+    private final int size;
+    private final List<ANTLRErrorListener> listeners = new ArrayList<>();
+    private TokenFactory<?> factory = CommonTokenFactory.DEFAULT;
+
+    private int pos = 0;
+    private int line = 1;
+    private int column = 0;
+
+    public HandwrittenLexer(CharStream input) {
+        this.input = input;
+        this.utf8 = input instanceof Utf8CharStream ? (Utf8CharStream) input : null;
+        this.sourcePair = new Pair<>(this, input);
+        this.size = input.size();
+        listeners.add(ConsoleErrorListener.INSTANCE);
+    }
+
+    private static int literal(String text) {
+        String quoted = "'" + text + "'";
+        Vocabulary vocabulary = TypeCheckerLexer.VOCABULARY;
+        for (int type = 1; type <= vocabulary.getMaxTokenType(); type++) {
+            if (quoted.equals(vocabulary.getLiteralName(type))) {
+                return type;
+            }
+        }
+        throw new IllegalStateException("No token for " + quoted);
+    }
+
+    private static int keywordHash(int first, int second, int last, int length) {
+        return (first + second * 18 + last * 28 + length * 7) & (KEYWORD_SLOTS - 1);
+    }
+
+    public void addErrorListener(ANTLRErrorListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeErrorListeners() {
+        listeners.clear();
+    }
+
+    // ===== TokenSource =====
+
+    @Override
+    public Token nextToken() {
+        while (true) {
+            skipWhitespaceAndComments();
+            if (pos >= size) {
+                return factory.create(sourcePair, Token.EOF, null, Token.DEFAULT_CHANNEL,
+                    pos, pos - 1, line, column);
+            }
+            int start = pos;
+            int startLine = line;
+            int startColumn = column;
+            int type = scan();
+            if (type != Token.INVALID_TYPE) {
+                return factory.create(sourcePair, type, null, Token.DEFAULT_CHANNEL,
+                    start, pos - 1, startLine, startColumn);
+            }
+            recognitionError(start, startLine, startColumn);
+        }
+    }
+
+    @Override
+    public int getLine() {
+        return line;
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return column;
+    }
+
+    @Override
+    public CharStream getInputStream() {
+        return input;
+    }
+
+    @Override
+    public String getSourceName() {
+        return input.getSourceName();
+    }
+
+    @Override
+    public void setTokenFactory(TokenFactory<?> factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory() {
+        return factory;
+    }
+
+    // ===== Scanning =====
+
+    private int charClass(int c) {
+        return c < 128 ? CHAR_CLASSES[c] : 0;
+    }
+
+    /**
+     * Code point at the given index, which must be below size.
+     */
+    private int charAt(int index) {
+        if (utf8 != null) {
+            return utf8.codePointAt(index);
+        }
+        input.seek(index);
+        return input.LA(1);
+    }
+
+    private int peek(int offset) {
+        int index = pos + offset;
+        return index < size ? charAt(index) : IntStream.EOF;
+    }
+
+    /**
+     * Consume one character, keeping line and column as the generated
+     * lexer does: only '\n' starts a new line.
+     */
+    private void consume() {
+        if (charAt(pos) == '\n') {
+            line++;
+            column = 0;
+        } else {
+            column++;
+        }
+        pos++;
+    }
+
+    /**
+     * Skip the characters of a line, none of which is '\n'.
+     */
+    private void skip(int count) {
+        pos += count;
+        column += count;
+    }
+
+    private void skipWhitespaceAndComments() {
+        while (pos < size) {
+            int c = charAt(pos);
+            if (c < 128 && (CHAR_CLASSES[c] & WHITESPACE) != 0) {
+                consume();
+            } else if (c == '/' && peek(1) == '/') {
+                int end = pos + 2;
+                while (end < size && charAt(end) != '\r' && charAt(end) != '\n') {
+                    end++;
+                }
+                skip(end - pos);
+            } else if (c == '/' && peek(1) == '*') {
+                int end = blockCommentEnd();
+                if (end < 0) {
+                    return;
+                }
+                while (pos < end) {
+                    consume();
+                }
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Index after the "*&#47;" that closes the block comment at pos, or -1
+     * if it is not closed. An unclosed comment is not a comment: it starts
+     * with a '/' token.
+     */
+    private int blockCommentEnd() {
+        int previous = 0;
+        for (int i = pos + 2; i < size; i++) {
+            int c = charAt(i);
+            if (previous == '*' && c == '/') {
+                return i + 1;
+            }
+            previous = c;
+        }
+        return -1;
+    }
+
+    /**
+     * Scan the longest token at pos and return its type, or
+     * INVALID_TYPE with pos at the character that failed.
+     */
+    private int scan() {
+        int c = charAt(pos);
+        int charClass = charClass(c);
+        if ((charClass & ID_START) != 0) {
+            return scanIdentifier();
+        }
+        if ((charClass & DIGIT) != 0) {
+            return scanNumber();
+        }
+        switch (c) {
+            case '\'':
+                // Any character between the quotes, even a line break
+                consume();
+                if (pos < size) {
+                    consume();
+                    if (peek(0) == '\'') {
+                        consume();
+                        return TypeCheckerLexer.CHAR_LITERAL;
+                    }
+                }
+                return Token.INVALID_TYPE;
+            case '"':
+                consume();
+                int end = pos;
+                while (end < size) {
+                    int next = charAt(end);
+                    if (next == '"' || next == '\r' || next == '\n') {
+                        break;
+                    }
+                    end++;
+                }
+                skip(end - pos);
+                if (peek(0) == '"') {
+                    skip(1);
+                    return TypeCheckerLexer.STRING_LITERAL;
+                }
+                return Token.INVALID_TYPE;
+            case ';': return single(SEMI);
+            case '{': return single(LBRACE);
+            case '}': return single(RBRACE);
+            case '(': return single(LPAREN);
+            case ')': return single(RPAREN);
+            case ',': return single(COMMA);
+            case ':': return single(COLON);
+            case '.': return single(DOT);
+            case '?': return single(QUESTION);
+            case '[': return single(TypeCheckerLexer.LBRACK);
+            case ']': return single(TypeCheckerLexer.RBRACK);
+            case '+': return operator('+', TypeCheckerLexer.INC, '=', TypeCheckerLexer.ADD_ASSIGN, PLUS);
+            case '-': return operator('-', TypeCheckerLexer.DEC, '=', TypeCheckerLexer.SUB_ASSIGN, MINUS);
+            case '*': return operator('=', TypeCheckerLexer.MUL_ASSIGN, MUL);
+            case '/': return operator('=', TypeCheckerLexer.DIV_ASSIGN, DIV);
+            case '%': return operator('=', TypeCheckerLexer.MOD_ASSIGN, MOD);
+            case '<': return operator('=', LE, LT);
+            case '>': return operator('=', GE, GT);
+            case '=': return operator('=', EQ, ASSIGN);
+            case '!': return operator('=', NE, NOT);
+            case '&': return pair('&', AND);
+            case '|': return pair('|', OR);
+            default:
+                return Token.INVALID_TYPE;
+        }
+    }
+
+    private int scanIdentifier() {
+        int start = pos;
+        int first = charAt(start);
+        int second = 0;
+        int last = first;
+        int end = pos + 1;
+        while (end < size) {
+            int c = charAt(end);
+            if ((charClass(c) & ID_PART) == 0) {
+                break;
+            }
+            if (end == start + 1) {
+                second = c;
+            }
+            last = c;
+            end++;
+        }
+        skip(end - start);
+
+        int length = end - start;
+        if (length < 2) {
+            return TypeCheckerLexer.ID;
+        }
+        int slot = keywordHash(first, second, last, length);
+        char[] keyword = KEYWORDS[slot];
+        if (keyword == null || keyword.length != length) {
+            return TypeCheckerLexer.ID;
+        }
+        for (int i = 0; i < length; i++) {
+            if (charAt(start + i) != keyword[i]) {
+                return TypeCheckerLexer.ID;
+            }
+        }
+        return KEYWORD_TYPES[slot];
+    }
+
+    private int scanNumber() {
+        skipDigits();
+        if (peek(0) == '.' && peek(1) >= 0 && (charClass(peek(1)) & DIGIT) != 0) {
+            skip(1);
+            skipDigits();
+            return TypeCheckerLexer.FLOAT_LITERAL;
+        }
+        return TypeCheckerLexer.INT_LITERAL;
+    }
+
+    private void skipDigits() {
+        int end = pos;
+        while (end < size && (charClass(charAt(end)) & DIGIT) != 0) {
+            end++;
+        }
+        skip(end - pos);
+    }
+
+    private int single(int type) {
+        skip(1);
+        return type;
+    }
+
+    private int operator(char second, int longType, int shortType) {
+        skip(1);
+        if (peek(0) == second) {
+            skip(1);
+            return longType;
+        }
+        return shortType;
+    }
+
+    private int operator(char second, int secondType, char alternative, int alternativeType, int shortType) {
+        skip(1);
+        if (peek(0) == second) {
+            skip(1);
+            return secondType;
+        }
+        if (peek(0) == alternative) {
+            skip(1);
+            return alternativeType;
+        }
+        return shortType;
+    }
+
+    /**
+     * Scan a two character operator whose first character alone is no token.
+     */
+    private int pair(char second, int type) {
+        skip(1);
+        if (peek(0) == second) {
+            skip(1);
+            return type;
+        }
+        return Token.INVALID_TYPE;
+    }
+
+    /**
+     * Report the characters from start up to and including the one at pos,
+     * where scanning failed, and skip the failing character.
+     */
+    private void recognitionError(int start, int startLine, int startColumn) {
+        int stop = Math.min(pos, size - 1);
+        String text = input.getText(Interval.of(start, stop));
+        String message = "token recognition error at: '" + errorDisplay(text) + "'";
+        for (ANTLRErrorListener listener : listeners) {
+            listener.syntaxError(null, null, startLine, startColumn, message, null);
+        }
+        if (pos < size) {
+            consume();
+        }
+    }
+
+    private static String errorDisplay(String text) {
+        StringBuilder display = new StringBuilder();
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '\n': display.append("\\n"); break;
+                case '\t': display.append("\\t"); break;
+                case '\r': display.append("\\r"); break;
+                default: display.append(c);
+            }
+        }
+        return display.toString();
+    }
+}
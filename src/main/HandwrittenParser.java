@@ -0,0 +1,1266 @@
+package main;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.tree.*;
+
+import antlr.TypeCheckerParser;
+import antlr.TypeCheckerParser.*;
+
+import java.util.*;
+
+/**
+ * Recursive descent parser for TypeChecker.g4 with precedence climbing for
+ * expressions. It builds the same TypeCheckerParser context objects, with
+ * the same start and stop tokens, as the generated parser, so the semantic
+ * passes cannot tell the two apart.
+ *
+ * Where the grammar is ambiguous the generated parser picks the lowest
+ * numbered alternative, and so does this parser: "(a) - b" is a cast,
+ * not a subtraction.
+ *
+ * The parser does no error recovery. At the first syntax error
+ * {@link #parseProgram()} returns null and {@link #getErrorToken()} is the
+ * token the generated parser reports first; the caller then parses with the
+ * generated parser to get its diagnostics. Parse listeners get the same
+ * rule exit and terminal events as from the generated parser. Enter events
+ * carry the labeled alternative's context, where the generated parser
+ * passes the rule's base context.
+ */
+public class HandwrittenParser {
+    private static final int SEMI = literal(";");
+    private static final int LBRACE = literal("{");
+    private static final int RBRACE = literal("}");
+    private static final int LPAREN = literal("(");
+    private static final int RPAREN = literal(")");
+    private static final int COMMA = literal(",");
+    private static final int ASSIGN = literal("=");
+    private static final int COLON = literal(":");
+    private static final int DOT = literal(".");
+    private static final int PLUS = literal("+");
+    private static final int MINUS = literal("-");
+    private static final int NOT = literal("!");
+    private static final int MUL = literal("*");
+    private static final int DIV = literal("/");
+    private static final int MOD = literal("%");
+    private static final int LT = literal("<");
+    private static final int GT = literal(">");
+    private static final int LE = literal("<=");
+    private static final int GE = literal(">=");
+    private static final int EQ = literal("==");
+    private static final int NE = literal("!=");
+    private static final int AND = literal("&&");
+    private static final int OR = literal("||");
+    private static final int QUESTION = literal("?");
+
+    // Precedences of the generated expr rule, as used by its precpred() checks
+    private static final int PREC_FIELD_ACCESS = 18;
+    private static final int PREC_METHOD_CALL = 17;
+    private static final int PREC_ARRAY_ACCESS = 16;
+    private static final int PREC_CAST_OPERAND = 12;
+    private static final int PREC_INSTANCEOF = 11;
+    private static final int PREC_POST_INC_DEC = 10;
+    private static final int PREC_UNARY_OPERAND = 9;
+    private static final int PREC_MULTIPLICATIVE = 8;
+    private static final int PREC_ADDITIVE = 7;
+    private static final int PREC_RELATIONAL = 6;
+    private static final int PREC_EQUALITY = 5;
+    private static final int PREC_AND = 4;
+    private static final int PREC_OR = 3;
+    private static final int PREC_TERNARY = 2;
+
+    private final Token[] tokens;
+    private final List<ParseTreeListener> listeners = new ArrayList<>();
+    private int pos = 0;
+    // Depth of speculative parses, which build no tree and fire no events
+    private int speculating = 0;
+    // Furthest token at which a syntax error was found
+    private int errorIndex = -1;
+
+    /**
+     * Thrown at a syntax error; carries no stack trace.
+     */
+    private static class SyntaxError extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        SyntaxError() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final SyntaxError SYNTAX_ERROR = new SyntaxError();
+
+    /**
+     * Create a parser over a complete token list ending with EOF, for
+     * example from a filled CompactTokenStream or CommonTokenStream.
+     * Tokens that are not on the default channel are ignored.
+     */
+    public HandwrittenParser(List<? extends Token> tokens) {
+        List<Token> visible = new ArrayList<>(tokens.size());
+        for (Token token : tokens) {
+            if (token.getChannel() == Token.DEFAULT_CHANNEL) {
+                visible.add(token);
+            }
+        }
+        if (visible.isEmpty() || visible.get(visible.size() - 1).getType() != Token.EOF) {
+            throw new IllegalArgumentException("Token list must end with EOF");
+        }
+        this.tokens = visible.toArray(new Token[0]);
+    }
+
+    public void addParseListener(ParseTreeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Parse a whole program, or return null at the first syntax error.
+     */
+    public ProgramContext parseProgram() {
+        pos = 0;
+        errorIndex = -1;
+        try {
+            return program();
+        } catch (SyntaxError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Token at which the last parse failed, or null if it succeeded.
+     */
+    public Token getErrorToken() {
+        return errorIndex < 0 ? null : tokens[Math.min(errorIndex, tokens.length - 1)];
+    }
+
+    /**
+     * Token type of a literal token of the grammar, such as ";".
+     */
+    static int literal(String text) {
+        String quoted = "'" + text + "'";
+        Vocabulary vocabulary = TypeCheckerParser.VOCABULARY;
+        for (int type = 1; type <= vocabulary.getMaxTokenType(); type++) {
+            if (quoted.equals(vocabulary.getLiteralName(type))) {
+                return type;
+            }
+        }
+        throw new IllegalStateException("No token for " + quoted);
+    }
+
+    // ===== Token access =====
+
+    private int la(int k) {
+        return type(pos + k - 1);
+    }
+
+    private int type(int index) {
+        return tokens[Math.min(index, tokens.length - 1)].getType();
+    }
+
+    private Token previous() {
+        return pos > 0 ? tokens[pos - 1] : null;
+    }
+
+    private SyntaxError error() {
+        return errorAt(pos);
+    }
+
+    private SyntaxError errorAt(int index) {
+        errorIndex = Math.max(errorIndex, index);
+        return SYNTAX_ERROR;
+    }
+
+    private Token match(ParserRuleContext ctx, int type) {
+        if (la(1) != type) {
+            throw error();
+        }
+        return consume(ctx);
+    }
+
+    private Token consume(ParserRuleContext ctx) {
+        Token token = tokens[pos];
+        if (token.getType() != Token.EOF) {
+            pos++;
+        }
+        if (speculating == 0) {
+            TerminalNode node = ctx.addChild(new TerminalNodeImpl(token));
+            for (ParseTreeListener listener : listeners) {
+                listener.visitTerminal(node);
+            }
+        }
+        return token;
+    }
+
+    // ===== Rule bookkeeping =====
+
+    /**
+     * Start a rule context: hook it into its parent, as the generated parser
+     * does on entering a rule, and set its start token.
+     */
+    private <T extends ParserRuleContext> T enter(T ctx) {
+        ctx.start = tokens[Math.min(pos, tokens.length - 1)];
+        if (speculating == 0) {
+            if (ctx.getParent() != null) {
+                ctx.getParent().addChild(ctx);
+            }
+            fireEnter(ctx);
+        }
+        return ctx;
+    }
+
+    private <T extends ParserRuleContext> T exit(T ctx) {
+        ctx.stop = previous();
+        if (speculating == 0) {
+            fireExit(ctx);
+        }
+        return ctx;
+    }
+
+    private void fireEnter(ParserRuleContext ctx) {
+        for (ParseTreeListener listener : listeners) {
+            listener.enterEveryRule(ctx);
+            ctx.enterRule(listener);
+        }
+    }
+
+    private void fireExit(ParserRuleContext ctx) {
+        for (int i = listeners.size() - 1; i >= 0; i--) {
+            ParseTreeListener listener = listeners.get(i);
+            ctx.exitRule(listener);
+            listener.exitEveryRule(ctx);
+        }
+    }
+
+    // ===== Lookahead scans that build nothing =====
+
+    private static boolean isPrimitiveType(int type) {
+        return type == TypeCheckerParser.INT || type == TypeCheckerParser.FLOAT
+            || type == TypeCheckerParser.STRING || type == TypeCheckerParser.BOOLEAN
+            || type == TypeCheckerParser.CHAR;
+    }
+
+    private static boolean isLiteral(int type) {
+        return type == TypeCheckerParser.INT_LITERAL || type == TypeCheckerParser.FLOAT_LITERAL
+            || type == TypeCheckerParser.CHAR_LITERAL || type == TypeCheckerParser.STRING_LITERAL
+            || type == TypeCheckerParser.TRUE || type == TypeCheckerParser.FALSE
+            || type == TypeCheckerParser.NULL;
+    }
+
+    private static boolean startsExpr(int type) {
+        return isLiteral(type) || type == TypeCheckerParser.ID || type == TypeCheckerParser.THIS
+            || type == TypeCheckerParser.SUPER || type == TypeCheckerParser.NEW || type == LPAREN
+            || isUnaryOperator(type);
+    }
+
+    private static boolean isUnaryOperator(int type) {
+        return type == PLUS || type == MINUS || type == NOT
+            || type == TypeCheckerParser.INC || type == TypeCheckerParser.DEC;
+    }
+
+    private static boolean isCompoundAssign(int type) {
+        return type == TypeCheckerParser.ADD_ASSIGN || type == TypeCheckerParser.SUB_ASSIGN
+            || type == TypeCheckerParser.MUL_ASSIGN || type == TypeCheckerParser.DIV_ASSIGN
+            || type == TypeCheckerParser.MOD_ASSIGN;
+    }
+
+    private boolean startsStatement(int type) {
+        switch (type) {
+            case TypeCheckerParser.IF:
+            case TypeCheckerParser.WHILE:
+            case TypeCheckerParser.FOR:
+            case TypeCheckerParser.DO:
+            case TypeCheckerParser.SWITCH:
+            case TypeCheckerParser.RETURN:
+            case TypeCheckerParser.BREAK:
+            case TypeCheckerParser.CONTINUE:
+            case TypeCheckerParser.FINAL:
+                return true;
+            default:
+                return type == LBRACE || type == SEMI || isPrimitiveType(type) || startsExpr(type);
+        }
+    }
+
+    /**
+     * Index just past a type starting at the given index, or -1.
+     */
+    private int scanType(int index) {
+        int type = type(index);
+        if (!isPrimitiveType(type) && type != TypeCheckerParser.ID) {
+            return -1;
+        }
+        index++;
+        while (type(index) == TypeCheckerParser.LBRACK && type(index + 1) == TypeCheckerParser.RBRACK) {
+            index += 2;
+        }
+        return index;
+    }
+
+    /**
+     * Index just past an lvalue starting at the given index, or -1. Index
+     * expressions are skipped by bracket matching only.
+     */
+    private int scanLvalue(int index) {
+        int type = type(index);
+        if (type != TypeCheckerParser.ID && type != TypeCheckerParser.THIS && type != TypeCheckerParser.SUPER) {
+            return -1;
+        }
+        index++;
+        while (true) {
+            if (type(index) == DOT && type(index + 1) == TypeCheckerParser.ID) {
+                index += 2;
+            } else if (type(index) == TypeCheckerParser.LBRACK) {
+                int depth = 0;
+                do {
+                    int next = type(index);
+                    if (next == Token.EOF) return -1;
+                    if (next == TypeCheckerParser.LBRACK) depth++;
+                    if (next == TypeCheckerParser.RBRACK) depth--;
+                    index++;
+                } while (depth > 0);
+            } else {
+                return index;
+            }
+        }
+    }
+
+    // ===== Declarations =====
+
+    private ProgramContext program() {
+        ProgramContext ctx = enter(new ProgramContext(null, -1));
+        while (la(1) == TypeCheckerParser.IMPORT) {
+            importDecl(ctx);
+        }
+        while (la(1) != Token.EOF) {
+            declaration(ctx);
+        }
+        match(ctx, Token.EOF);
+        exit(ctx);
+        // A rule that matched EOF stops at EOF
+        ctx.stop = tokens[tokens.length - 1];
+        return ctx;
+    }
+
+    private void importDecl(ParserRuleContext parent) {
+        ImportDeclContext ctx = enter(new ImportDeclContext(parent, 0));
+        match(ctx, TypeCheckerParser.IMPORT);
+        match(ctx, TypeCheckerParser.STRING_LITERAL);
+        match(ctx, SEMI);
+        exit(ctx);
+    }
+
+    private void declaration(ParserRuleContext parent) {
+        DeclarationContext ctx = enter(new DeclarationContext(parent, 0));
+        int type = la(1);
+        if (type == TypeCheckerParser.CLASS) {
+            classDecl(ctx);
+        } else if (type == TypeCheckerParser.VOID) {
+            funcDecl(ctx);
+        } else if (type == TypeCheckerParser.STATIC || type == TypeCheckerParser.FINAL) {
+            globalVarDecl(ctx);
+        } else if (isFunction(pos)) {
+            funcDecl(ctx);
+        } else {
+            globalVarDecl(ctx);
+        }
+        exit(ctx);
+    }
+
+    private void classDecl(ParserRuleContext parent) {
+        ClassDeclContext ctx = enter(new ClassDeclContext(parent, 0));
+        match(ctx, TypeCheckerParser.CLASS);
+        match(ctx, TypeCheckerParser.ID);
+        if (la(1) == TypeCheckerParser.EXTENDS) {
+            consume(ctx);
+            match(ctx, TypeCheckerParser.ID);
+        }
+        match(ctx, LBRACE);
+        while (la(1) != RBRACE) {
+            classMember(ctx);
+        }
+        match(ctx, RBRACE);
+        exit(ctx);
+    }
+
+    private void classMember(ParserRuleContext parent) {
+        int index = pos;
+        if (isVisibility(type(index))) {
+            index++;
+        }
+        boolean isStatic = type(index) == TypeCheckerParser.STATIC;
+        if (isStatic) {
+            index++;
+        }
+
+        ClassMemberContext base = new ClassMemberContext(parent, 0);
+        int type = type(index);
+        if (type == TypeCheckerParser.FINAL) {
+            fieldDecl(new FieldDeclContext(base));
+        } else if (type == TypeCheckerParser.VOID) {
+            methodDecl(new MethodDeclContext(base));
+        } else if (!isStatic && type == TypeCheckerParser.ID && type(index + 1) == LPAREN) {
+            ConstructorContext ctx = enter(new ConstructorContext(base));
+            constructorDecl(ctx);
+            exit(ctx);
+        } else if (isFunction(index)) {
+            methodDecl(new MethodDeclContext(base));
+        } else {
+            fieldDecl(new FieldDeclContext(base));
+        }
+    }
+
+    /**
+     * Decide between a function and a variable declaration that start
+     * with a type at the given index. Both begin with a type and a name,
+     * so when neither fits, the generated parser reports the error at the
+     * first token that ends both, which this reproduces.
+     */
+    private boolean isFunction(int index) {
+        int end = scanType(index);
+        if (end < 0) {
+            throw errorAt(index);
+        }
+        if (type(end) == TypeCheckerParser.LBRACK) {
+            // '[' not followed by ']'
+            throw errorAt(end + 1);
+        }
+        if (type(end) != TypeCheckerParser.ID) {
+            throw errorAt(end);
+        }
+        int next = type(end + 1);
+        if (next == LPAREN) {
+            return true;
+        }
+        if (next == TypeCheckerParser.LBRACK || next == ASSIGN || next == COMMA || next == SEMI) {
+            return false;
+        }
+        throw errorAt(end + 1);
+    }
+
+    private static boolean isVisibility(int type) {
+        return type == TypeCheckerParser.PUBLIC || type == TypeCheckerParser.PRIVATE
+            || type == TypeCheckerParser.PROTECTED;
+    }
+
+    private void fieldDecl(FieldDeclContext ctx) {
+        enter(ctx);
+        if (isVisibility(la(1))) {
+            visibility(ctx);
+        }
+        if (la(1) == TypeCheckerParser.STATIC) {
+            consume(ctx);
+        }
+        if (la(1) == TypeCheckerParser.FINAL) {
+            consume(ctx);
+        }
+        varDecl(ctx);
+        exit(ctx);
+    }
+
+    private void methodDecl(MethodDeclContext ctx) {
+        enter(ctx);
+        if (isVisibility(la(1))) {
+            visibility(ctx);
+        }
+        if (la(1) == TypeCheckerParser.STATIC) {
+            consume(ctx);
+        }
+        funcDecl(ctx);
+        exit(ctx);
+    }
+
+    private void visibility(ParserRuleContext parent) {
+        VisibilityContext ctx = enter(new VisibilityContext(parent, 0));
+        consume(ctx);
+        exit(ctx);
+    }
+
+    private void constructorDecl(ParserRuleContext parent) {
+        ConstructorDeclContext ctx = enter(new ConstructorDeclContext(parent, 0));
+        if (isVisibility(la(1))) {
+            visibility(ctx);
+        }
+        match(ctx, TypeCheckerParser.ID);
+        match(ctx, LPAREN);
+        if (la(1) != RPAREN) {
+            paramList(ctx);
+        }
+        match(ctx, RPAREN);
+        constructorBody(ctx);
+        exit(ctx);
+    }
+
+    private void constructorBody(ParserRuleContext parent) {
+        ConstructorBodyContext ctx = enter(new ConstructorBodyContext(parent, 0));
+        match(ctx, LBRACE);
+        if ((la(1) == TypeCheckerParser.SUPER || la(1) == TypeCheckerParser.THIS) && la(2) == LPAREN) {
+            constructorCall(ctx);
+        }
+        statements(ctx);
+        match(ctx, RBRACE);
+        exit(ctx);
+    }
+
+    private void constructorCall(ParserRuleContext parent) {
+        ConstructorCallContext base = new ConstructorCallContext(parent, 0);
+        ConstructorCallContext ctx = la(1) == TypeCheckerParser.SUPER
+            ? new SuperConstructorCallContext(base) : new ThisConstructorCallContext(base);
+        enter(ctx);
+        consume(ctx);
+        match(ctx, LPAREN);
+        if (la(1) != RPAREN) {
+            argList(ctx);
+        }
+        match(ctx, RPAREN);
+        match(ctx, SEMI);
+        exit(ctx);
+    }
+
+    private void globalVarDecl(ParserRuleContext parent) {
+        GlobalVarDeclContext ctx = enter(new GlobalVarDeclContext(parent, 0));
+        if (la(1) == TypeCheckerParser.STATIC) {
+            consume(ctx);
+        }
+        if (la(1) == TypeCheckerParser.FINAL) {
+            consume(ctx);
+        }
+        varDecl(ctx);
+        exit(ctx);
+    }
+
+    private void varDecl(ParserRuleContext parent) {
+        VarDeclContext ctx = enter(new VarDeclContext(parent, 0));
+        if (la(1) == TypeCheckerParser.FINAL) {
+            consume(ctx);
+        }
+        type(ctx);
+        varDeclarator(ctx);
+        while (la(1) == COMMA) {
+            consume(ctx);
+            varDeclarator(ctx);
+        }
+        match(ctx, SEMI);
+        exit(ctx);
+    }
+
+    private void varDeclarator(ParserRuleContext parent) {
+        VarDeclaratorContext ctx = enter(new VarDeclaratorContext(parent, 0));
+        match(ctx, TypeCheckerParser.ID);
+        while (la(1) == TypeCheckerParser.LBRACK) {
+            consume(ctx);
+            match(ctx, TypeCheckerParser.RBRACK);
+        }
+        if (la(1) == ASSIGN) {
+            consume(ctx);
+            initializer(ctx);
+        }
+        exit(ctx);
+    }
+
+    private void initializer(ParserRuleContext parent) {
+        InitializerContext ctx = enter(new InitializerContext(parent, 0));
+        if (la(1) == LBRACE) {
+            arrayInitializer(ctx);
+        } else {
+            expr(ctx, 0);
+        }
+        exit(ctx);
+    }
+
+    private void arrayInitializer(ParserRuleContext parent) {
+        ArrayInitializerContext ctx = enter(new ArrayInitializerContext(parent, 0));
+        match(ctx, LBRACE);
+        if (la(1) != RBRACE) {
+            initializer(ctx);
+            while (la(1) == COMMA) {
+                consume(ctx);
+                initializer(ctx);
+            }
+        }
+        match(ctx, RBRACE);
+        exit(ctx);
+    }
+
+    private void funcDecl(ParserRuleContext parent) {
+        FuncDeclContext ctx = enter(new FuncDeclContext(parent, 0));
+        boolean isVoid = la(1) == TypeCheckerParser.VOID;
+        if (isVoid) {
+            consume(ctx);
+        } else {
+            type(ctx);
+        }
+        match(ctx, TypeCheckerParser.ID);
+        match(ctx, LPAREN);
+        if (la(1) != RPAREN) {
+            paramList(ctx);
+        }
+        match(ctx, RPAREN);
+        if (!isVoid) {
+            while (la(1) == TypeCheckerParser.LBRACK) {
+                consume(ctx);
+                match(ctx, TypeCheckerParser.RBRACK);
+            }
+        }
+        block(ctx);
+        exit(ctx);
+    }
+
+    private void paramList(ParserRuleContext parent) {
+        ParamListContext ctx = enter(new ParamListContext(parent, 0));
+        param(ctx);
+        while (la(1) == COMMA) {
+            consume(ctx);
+            param(ctx);
+        }
+        exit(ctx);
+    }
+
+    private void param(ParserRuleContext parent) {
+        ParamContext ctx = enter(new ParamContext(parent, 0));
+        if (la(1) == TypeCheckerParser.FINAL) {
+            consume(ctx);
+        }
+        type(ctx);
+        match(ctx, TypeCheckerParser.ID);
+        while (la(1) == TypeCheckerParser.LBRACK) {
+            consume(ctx);
+            match(ctx, TypeCheckerParser.RBRACK);
+        }
+        exit(ctx);
+    }
+
+    private void type(ParserRuleContext parent) {
+        TypeContext ctx = enter(new TypeContext(parent, 0));
+        if (isPrimitiveType(la(1))) {
+            PrimitiveTypeContext primitive = enter(new PrimitiveTypeContext(ctx, 0));
+            consume(primitive);
+            exit(primitive);
+        } else {
+            classType(ctx);
+        }
+        while (la(1) == TypeCheckerParser.LBRACK && la(2) == TypeCheckerParser.RBRACK) {
+            consume(ctx);
+            consume(ctx);
+        }
+        exit(ctx);
+    }
+
+    private void classType(ParserRuleContext parent) {
+        ClassTypeContext ctx = enter(new ClassTypeContext(parent, 0));
+        match(ctx, TypeCheckerParser.ID);
+        exit(ctx);
+    }
+
+    // ===== Statements =====
+
+    private void block(ParserRuleContext parent) {
+        BlockContext ctx = enter(new BlockContext(parent, 0));
+        match(ctx, LBRACE);
+        statements(ctx);
+        match(ctx, RBRACE);
+        exit(ctx);
+    }
+
+    private void statements(ParserRuleContext parent) {
+        while (startsStatement(la(1))) {
+            statement(parent);
+        }
+    }
+
+    private void statement(ParserRuleContext parent) {
+        StatementContext ctx = enter(new StatementContext(parent, 0));
+        int type = la(1);
+        if (type == LBRACE) {
+            BlockStmtContext stmt = enter(new BlockStmtContext(ctx, 0));
+            block(stmt);
+            exit(stmt);
+        } else if (type == SEMI) {
+            EmptyStmtContext stmt = enter(new EmptyStmtContext(ctx, 0));
+            consume(stmt);
+            exit(stmt);
+        } else if (type == TypeCheckerParser.IF) {
+            ifStmt(ctx);
+        } else if (type == TypeCheckerParser.WHILE) {
+            whileStmt(ctx);
+        } else if (type == TypeCheckerParser.FOR) {
+            int index = pos + 2;
+            if (type(index) == TypeCheckerParser.FINAL) {
+                index++;
+            }
+            int end = scanType(index);
+            if (end >= 0 && type(end) == TypeCheckerParser.ID && type(end + 1) == COLON) {
+                forEachStmt(ctx);
+            } else {
+                forStmt(ctx);
+            }
+        } else if (type == TypeCheckerParser.DO) {
+            doWhileStmt(ctx);
+        } else if (type == TypeCheckerParser.SWITCH) {
+            switchStmt(ctx);
+        } else if (type == TypeCheckerParser.RETURN) {
+            ReturnStmtContext stmt = enter(new ReturnStmtContext(ctx, 0));
+            consume(stmt);
+            if (la(1) != SEMI) {
+                expr(stmt, 0);
+            }
+            match(stmt, SEMI);
+            exit(stmt);
+        } else if (type == TypeCheckerParser.BREAK) {
+            BreakStmtContext stmt = enter(new BreakStmtContext(ctx, 0));
+            consume(stmt);
+            match(stmt, SEMI);
+            exit(stmt);
+        } else if (type == TypeCheckerParser.CONTINUE) {
+            ContinueStmtContext stmt = enter(new ContinueStmtContext(ctx, 0));
+            consume(stmt);
+            match(stmt, SEMI);
+            exit(stmt);
+        } else if (isLocalVarDecl()) {
+            LocalVarDeclStmtContext stmt = enter(new LocalVarDeclStmtContext(ctx, 0));
+            LocalVarDeclContext decl = enter(new LocalVarDeclContext(stmt, 0));
+            if (la(1) == TypeCheckerParser.FINAL) {
+                consume(decl);
+            }
+            varDecl(decl);
+            exit(decl);
+            exit(stmt);
+        } else {
+            int end = scanLvalue(pos);
+            if (end >= 0 && type(end) == ASSIGN) {
+                AssignStmtContext stmt = enter(new AssignStmtContext(ctx, 0));
+                lvalue(stmt);
+                consume(stmt);
+                expr(stmt, 0);
+                match(stmt, SEMI);
+                exit(stmt);
+            } else if (end >= 0 && isCompoundAssign(type(end))) {
+                CompoundAssignStmtContext stmt = enter(new CompoundAssignStmtContext(ctx, 0));
+                lvalue(stmt);
+                stmt.op = consume(stmt);
+                expr(stmt, 0);
+                match(stmt, SEMI);
+                exit(stmt);
+            } else {
+                ExprStmtContext stmt = enter(new ExprStmtContext(ctx, 0));
+                expr(stmt, 0);
+                match(stmt, SEMI);
+                exit(stmt);
+            }
+        }
+        exit(ctx);
+    }
+
+    private boolean isLocalVarDecl() {
+        int type = la(1);
+        if (type == TypeCheckerParser.FINAL || isPrimitiveType(type)) {
+            return true;
+        }
+        if (type != TypeCheckerParser.ID) {
+            return false;
+        }
+        // "a[]" cannot start an lvalue or an expression
+        int end = scanType(pos);
+        return type(end) == TypeCheckerParser.ID || end > pos + 1;
+    }
+
+    private void ifStmt(ParserRuleContext parent) {
+        IfStmtContext ctx = enter(new IfStmtContext(parent, 0));
+        consume(ctx);
+        match(ctx, LPAREN);
+        expr(ctx, 0);
+        match(ctx, RPAREN);
+        statementOrError(ctx);
+        if (la(1) == TypeCheckerParser.ELSE) {
+            consume(ctx);
+            statementOrError(ctx);
+        }
+        exit(ctx);
+    }
+
+    /**
+     * A statement that the grammar requires at this point.
+     */
+    private void statementOrError(ParserRuleContext parent) {
+        if (!startsStatement(la(1))) {
+            throw error();
+        }
+        statement(parent);
+    }
+
+    private void whileStmt(ParserRuleContext parent) {
+        WhileStmtContext ctx = enter(new WhileStmtContext(parent, 0));
+        consume(ctx);
+        match(ctx, LPAREN);
+        expr(ctx, 0);
+        match(ctx, RPAREN);
+        statementOrError(ctx);
+        exit(ctx);
+    }
+
+    private void forStmt(ParserRuleContext parent) {
+        ForStmtContext ctx = enter(new ForStmtContext(parent, 0));
+        consume(ctx);
+        match(ctx, LPAREN);
+        if (la(1) != SEMI) {
+            forInit(ctx);
+        }
+        match(ctx, SEMI);
+        if (la(1) != SEMI) {
+            expr(ctx, 0);
+        }
+        match(ctx, SEMI);
+        if (la(1) != RPAREN) {
+            ForUpdateContext update = enter(new ForUpdateContext(ctx, 0));
+            exprList(update);
+            exit(update);
+        }
+        match(ctx, RPAREN);
+        statementOrError(ctx);
+        exit(ctx);
+    }
+
+    private void forInit(ParserRuleContext parent) {
+        ForInitContext ctx = enter(new ForInitContext(parent, 0));
+        if (isLocalVarDecl()) {
+            if (la(1) == TypeCheckerParser.FINAL) {
+                consume(ctx);
+            }
+            type(ctx);
+            varDeclarator(ctx);
+            while (la(1) == COMMA) {
+                consume(ctx);
+                varDeclarator(ctx);
+            }
+        } else {
+            exprList(ctx);
+        }
+        exit(ctx);
+    }
+
+    private void forEachStmt(ParserRuleContext parent) {
+        ForEachStmtContext ctx = enter(new ForEachStmtContext(parent, 0));
+        consume(ctx);
+        match(ctx, LPAREN);
+        if (la(1) == TypeCheckerParser.FINAL) {
+            consume(ctx);
+        }
+        type(ctx);
+        match(ctx, TypeCheckerParser.ID);
+        match(ctx, COLON);
+        expr(ctx, 0);
+        match(ctx, RPAREN);
+        statementOrError(ctx);
+        exit(ctx);
+    }
+
+    private void doWhileStmt(ParserRuleContext parent) {
+        DoWhileStmtContext ctx = enter(new DoWhileStmtContext(parent, 0));
+        consume(ctx);
+        statementOrError(ctx);
+        match(ctx, TypeCheckerParser.WHILE);
+        match(ctx, LPAREN);
+        expr(ctx, 0);
+        match(ctx, RPAREN);
+        match(ctx, SEMI);
+        exit(ctx);
+    }
+
+    private void switchStmt(ParserRuleContext parent) {
+        SwitchStmtContext ctx = enter(new SwitchStmtContext(parent, 0));
+        consume(ctx);
+        match(ctx, LPAREN);
+        expr(ctx, 0);
+        match(ctx, RPAREN);
+        match(ctx, LBRACE);
+        while (la(1) == TypeCheckerParser.CASE || la(1) == TypeCheckerParser.DEFAULT) {
+            switchCase(ctx);
+        }
+        match(ctx, RBRACE);
+        exit(ctx);
+    }
+
+    private void switchCase(ParserRuleContext parent) {
+        SwitchCaseContext ctx = enter(new SwitchCaseContext(parent, 0));
+        if (la(1) == TypeCheckerParser.CASE) {
+            consume(ctx);
+            SwitchLabelContext label = enter(new SwitchLabelContext(ctx, 0));
+            int type = la(1);
+            if (type != TypeCheckerParser.INT_LITERAL && type != TypeCheckerParser.CHAR_LITERAL
+                    && type != TypeCheckerParser.ID) {
+                throw error();
+            }
+            consume(label);
+            exit(label);
+        } else {
+            consume(ctx);
+        }
+        match(ctx, COLON);
+        statements(ctx);
+        exit(ctx);
+    }
+
+    private void lvalue(ParserRuleContext parent) {
+        LvalueContext base = new LvalueContext(parent, 0);
+        LvalueContext ctx;
+        int type = la(1);
+        if (type == TypeCheckerParser.ID) {
+            ctx = new VarLvalueContext(base);
+        } else if (type == TypeCheckerParser.THIS) {
+            ctx = new ThisLvalueContext(base);
+        } else if (type == TypeCheckerParser.SUPER) {
+            ctx = new SuperLvalueContext(base);
+        } else {
+            throw error();
+        }
+        // Left-recursive like expr: the finished lvalue is attached at the end
+        ctx.start = tokens[pos];
+        fireEnterUnattached(ctx);
+        consume(ctx);
+        ctx.stop = previous();
+
+        while (la(1) == DOT || la(1) == TypeCheckerParser.LBRACK) {
+            if (speculating == 0) fireExit(ctx);
+            LvalueContext outer = la(1) == DOT
+                ? new FieldLvalueContext(new LvalueContext(parent, 0))
+                : new ArrayLvalueContext(new LvalueContext(parent, 0));
+            wrap(outer, ctx);
+            if (la(1) == DOT) {
+                consume(outer);
+                match(outer, TypeCheckerParser.ID);
+            } else {
+                consume(outer);
+                expr(outer, 0);
+                match(outer, TypeCheckerParser.RBRACK);
+            }
+            outer.stop = previous();
+            ctx = outer;
+        }
+        finishRecursion(parent, ctx);
+    }
+
+    // ===== Expressions =====
+
+    private void exprList(ParserRuleContext parent) {
+        ExprListContext ctx = enter(new ExprListContext(parent, 0));
+        expr(ctx, 0);
+        while (la(1) == COMMA) {
+            consume(ctx);
+            expr(ctx, 0);
+        }
+        exit(ctx);
+    }
+
+    private void argList(ParserRuleContext parent) {
+        ArgListContext ctx = enter(new ArgListContext(parent, 0));
+        expr(ctx, 0);
+        while (la(1) == COMMA) {
+            consume(ctx);
+            expr(ctx, 0);
+        }
+        exit(ctx);
+    }
+
+    /**
+     * Fire the enter event of a left-recursive rule's context, which the
+     * generated parser hooks into the tree only when the rule returns.
+     */
+    private void fireEnterUnattached(ParserRuleContext ctx) {
+        if (speculating == 0) {
+            fireEnter(ctx);
+        }
+    }
+
+    /**
+     * Make the expression parsed so far the first child of a new outer
+     * context, as pushNewRecursionContext does.
+     */
+    private void wrap(ParserRuleContext outer, ParserRuleContext inner) {
+        outer.start = inner.start;
+        if (speculating == 0) {
+            inner.setParent(outer);
+            outer.addChild(inner);
+        }
+    }
+
+    /**
+     * End a left-recursive rule: set the stop token, fire the exit event and
+     * hook the outermost context into the parent, as unrollRecursionContexts does.
+     */
+    private void finishRecursion(ParserRuleContext parent, ParserRuleContext ctx) {
+        ctx.stop = previous();
+        if (speculating == 0) {
+            fireExit(ctx);
+            if (parent != null) {
+                parent.addChild(ctx);
+            }
+        }
+    }
+
+    private ExprContext expr(ParserRuleContext parent, int precedence) {
+        ExprContext ctx = prefixExpr(parent);
+        ctx.stop = previous();
+
+        while (true) {
+            int type = la(1);
+            ExprContext outer;
+            if (type == DOT) {
+                boolean call = la(3) == LPAREN;
+                if ((call ? PREC_METHOD_CALL : PREC_FIELD_ACCESS) < precedence) break;
+                if (speculating == 0) fireExit(ctx);
+                outer = call ? new MethodCallContext(new ExprContext(parent, 0))
+                             : new FieldAccessContext(new ExprContext(parent, 0));
+                wrap(outer, ctx);
+                consume(outer);
+                match(outer, TypeCheckerParser.ID);
+                if (call) {
+                    consume(outer);
+                    if (la(1) != RPAREN) {
+                        argList(outer);
+                    }
+                    match(outer, RPAREN);
+                }
+            } else if (type == TypeCheckerParser.LBRACK) {
+                if (PREC_ARRAY_ACCESS < precedence) break;
+                if (speculating == 0) fireExit(ctx);
+                outer = new ArrayAccessContext(new ExprContext(parent, 0));
+                wrap(outer, ctx);
+                consume(outer);
+                expr(outer, 0);
+                match(outer, TypeCheckerParser.RBRACK);
+            } else if (type == TypeCheckerParser.INSTANCEOF) {
+                if (PREC_INSTANCEOF < precedence) break;
+                if (speculating == 0) fireExit(ctx);
+                outer = new InstanceOfExprContext(new ExprContext(parent, 0));
+                wrap(outer, ctx);
+                consume(outer);
+                classType(outer);
+            } else if (type == TypeCheckerParser.INC || type == TypeCheckerParser.DEC) {
+                if (PREC_POST_INC_DEC < precedence) break;
+                if (speculating == 0) fireExit(ctx);
+                PostIncDecContext postfix = new PostIncDecContext(new ExprContext(parent, 0));
+                wrap(postfix, ctx);
+                postfix.op = consume(postfix);
+                outer = postfix;
+            } else if (type == QUESTION) {
+                if (PREC_TERNARY < precedence) break;
+                if (speculating == 0) fireExit(ctx);
+                outer = new TernaryContext(new ExprContext(parent, 0));
+                wrap(outer, ctx);
+                consume(outer);
+                expr(outer, 0);
+                match(outer, COLON);
+                expr(outer, PREC_TERNARY);
+            } else if (type == AND || type == OR) {
+                int level = type == AND ? PREC_AND : PREC_OR;
+                if (level < precedence) break;
+                if (speculating == 0) fireExit(ctx);
+                outer = type == AND ? new AndContext(new ExprContext(parent, 0))
+                                    : new OrContext(new ExprContext(parent, 0));
+                wrap(outer, ctx);
+                consume(outer);
+                expr(outer, level + 1);
+            } else {
+                int level = binaryPrecedence(type);
+                if (level < 0 || level < precedence) break;
+                if (speculating == 0) fireExit(ctx);
+                BinaryExprContext binary = new BinaryExprContext(new ExprContext(parent, 0));
+                wrap(binary, ctx);
+                binary.op = consume(binary);
+                expr(binary, level + 1);
+                outer = binary;
+            }
+            outer.stop = previous();
+            ctx = outer;
+        }
+
+        finishRecursion(parent, ctx);
+        return ctx;
+    }
+
+    private static int binaryPrecedence(int type) {
+        if (type == MUL || type == DIV || type == MOD) return PREC_MULTIPLICATIVE;
+        if (type == PLUS || type == MINUS) return PREC_ADDITIVE;
+        if (type == LT || type == GT || type == LE || type == GE) return PREC_RELATIONAL;
+        if (type == EQ || type == NE) return PREC_EQUALITY;
+        return -1;
+    }
+
+    /**
+     * The non-left-recursive alternatives of expr.
+     */
+    private ExprContext prefixExpr(ParserRuleContext parent) {
+        ExprContext base = new ExprContext(parent, 0);
+        int type = la(1);
+        ExprContext ctx;
+        if (isLiteral(type) || type == TypeCheckerParser.ID) {
+            ctx = start(new PrimaryExprContext(base));
+            primary(ctx);
+        } else if (type == TypeCheckerParser.THIS) {
+            ctx = start(new ThisExprContext(base));
+            consume(ctx);
+        } else if (type == TypeCheckerParser.SUPER) {
+            ctx = start(new SuperExprContext(base));
+            consume(ctx);
+        } else if (type == TypeCheckerParser.NEW) {
+            ctx = newExpr(base);
+        } else if (type == LPAREN) {
+            if (isCast()) {
+                ctx = start(new CastExprContext(base));
+                consume(ctx);
+                type(ctx);
+                match(ctx, RPAREN);
+                expr(ctx, PREC_CAST_OPERAND);
+            } else {
+                ctx = start(new ParenExprContext(base));
+                consume(ctx);
+                expr(ctx, 0);
+                match(ctx, RPAREN);
+            }
+        } else if (isUnaryOperator(type)) {
+            UnaryExprContext unary = start(new UnaryExprContext(base));
+            unary.op = consume(unary);
+            expr(unary, PREC_UNARY_OPERAND);
+            ctx = unary;
+        } else {
+            throw error();
+        }
+        return ctx;
+    }
+
+    private <T extends ExprContext> T start(T ctx) {
+        ctx.start = tokens[pos];
+        fireEnterUnattached(ctx);
+        return ctx;
+    }
+
+    /**
+     * Decide between a cast and a parenthesized expression at '('. A cast
+     * needs a type in the parentheses and an operand after them. When both
+     * readings parse, as for "(a) - b", the generated parser takes the cast,
+     * which is the earlier alternative.
+     */
+    private boolean isCast() {
+        // "(int" or "(a[]" cannot start an expression
+        if (isPrimitiveType(type(pos + 1))) {
+            return true;
+        }
+        int end = scanType(pos + 1);
+        if (end < 0) {
+            return false;
+        }
+        if (end > pos + 2) {
+            return true;
+        }
+        if (type(end) != RPAREN) {
+            return false;
+        }
+        int next = type(end + 1);
+        if (!startsExpr(next)) {
+            return false;
+        }
+        if (!isUnaryOperator(next) || next == NOT) {
+            // Nothing else can follow a parenthesized expression
+            return true;
+        }
+        // "+", "-", "++" and "--" can continue a parenthesized expression as well
+        int mark = pos;
+        speculating++;
+        try {
+            pos = end + 1;
+            expr(null, PREC_CAST_OPERAND);
+            return true;
+        } catch (SyntaxError e) {
+            return false;
+        } finally {
+            speculating--;
+            pos = mark;
+        }
+    }
+
+    private ExprContext newExpr(ExprContext base) {
+        ExprContext ctx;
+        if (la(2) == TypeCheckerParser.ID && la(3) == LPAREN) {
+            ctx = start(new NewExprContext(base));
+            consume(ctx);
+            classType(ctx);
+            consume(ctx);
+            if (la(1) != RPAREN) {
+                argList(ctx);
+            }
+            match(ctx, RPAREN);
+            return ctx;
+        }
+
+        int end = scanType(pos + 1);
+        if (end >= 0 && type(end) == LBRACE) {
+            ctx = start(new NewArrayWithInitContext(base));
+            consume(ctx);
+            type(ctx);
+            arrayInitializer(ctx);
+            return ctx;
+        }
+
+        ctx = start(new NewArrayExprContext(base));
+        match(ctx, TypeCheckerParser.NEW);
+        type(ctx);
+        match(ctx, TypeCheckerParser.LBRACK);
+        expr(ctx, 0);
+        match(ctx, TypeCheckerParser.RBRACK);
+        while (la(1) == TypeCheckerParser.LBRACK && la(2) != TypeCheckerParser.RBRACK) {
+            consume(ctx);
+            expr(ctx, 0);
+            match(ctx, TypeCheckerParser.RBRACK);
+        }
+        while (la(1) == TypeCheckerParser.LBRACK && la(2) == TypeCheckerParser.RBRACK) {
+            consume(ctx);
+            consume(ctx);
+        }
+        return ctx;
+    }
+
+    private void primary(ParserRuleContext parent) {
+        PrimaryContext base = new PrimaryContext(parent, 0);
+        int type = la(1);
+        if (type == TypeCheckerParser.ID) {
+            if (la(2) == LPAREN) {
+                FuncCallContext ctx = enter(new FuncCallContext(base));
+                consume(ctx);
+                consume(ctx);
+                if (la(1) != RPAREN) {
+                    argList(ctx);
+                }
+                match(ctx, RPAREN);
+                exit(ctx);
+            } else {
+                VarRefContext ctx = enter(new VarRefContext(base));
+                consume(ctx);
+                exit(ctx);
+            }
+            return;
+        }
+
+        LiteralPrimaryContext ctx = enter(new LiteralPrimaryContext(base));
+        LiteralContext literalBase = new LiteralContext(ctx, 0);
+        LiteralContext literal;
+        if (type == TypeCheckerParser.INT_LITERAL) {
+            literal = new IntLiteralContext(literalBase);
+        } else if (type == TypeCheckerParser.FLOAT_LITERAL) {
+            literal = new FloatLiteralContext(literalBase);
+        } else if (type == TypeCheckerParser.CHAR_LITERAL) {
+            literal = new CharLiteralContext(literalBase);
+        } else if (type == TypeCheckerParser.STRING_LITERAL) {
+            literal = new StringLiteralContext(literalBase);
+        } else if (type == TypeCheckerParser.NULL) {
+            literal = new NullLiteralContext(literalBase);
+        } else {
+            literal = new BooleanLiteralContext(literalBase);
+        }
+        enter(literal);
+        if (literal instanceof BooleanLiteralContext) {
+            BoolLiteralContext bool = enter(new BoolLiteralContext(literal, 0));
+            consume(bool);
+            exit(bool);
+        } else {
+            consume(literal);
+        }
+        exit(literal);
+        exit(ctx);
+    }
+}
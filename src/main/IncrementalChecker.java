@@ -0,0 +1,206 @@
+package main;
+
+import semantic.*;
+import semantic.analysis.SymbolTableBuilder;
+import semantic.analysis.TypeChecker;
+import semantic.symbols.VariableSymbol;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+
+import antlr.TypeCheckerParser;
+
+import java.util.*;
+
+/**
+ * Checks a program again after each edit, on the trees of an {@link
+ * IncrementalParser}, redoing only what the edit can have changed.
+ *
+ * The signatures are declared as by {@link StreamingChecker}: the classes
+ * with their fields, methods and constructors, the functions and the
+ * global variables, without the bodies. An edit within one body leaves
+ * them as they were, so they are kept, with their errors moved to where
+ * the edit moved their tokens; any other edit declares them again.
+ *
+ * The bodies are then checked one declaration at a time. The errors of a
+ * declaration depend on the signatures, its own bodies and which global
+ * variables and fields earlier bodies initialized, so they are kept too
+ * and found again only for the declaration whose body changed, and for
+ * the declarations after it that see different variables initialized.
+ * Names are resolved by the type checker as it goes: a declaration whose
+ * body was parsed again has tokens numbered from more than one start, and
+ * a {@link semantic.analysis.NameBinder} needs them in one stream.
+ *
+ * The errors are those of a whole-file check. The result has neither a
+ * tree nor a global scope, whose symbols keep the lines of the check that
+ * declared them.
+ */
+public class IncrementalChecker {
+    private final IncrementalParser parser;
+    private final NameTable names = new NameTable();
+
+    // Declared signatures, or null if the next check declares them again
+    private SymbolTableBuilder signatures;
+    private List<SemanticError> signatureErrors;
+    // Global variables and fields, with those initialized by their declarations
+    private List<VariableSymbol> variables;
+    private BitSet declaredInitialized;
+    private final Map<TypeCheckerParser.DeclarationContext, Checked> checked = new HashMap<>();
+    private int lastChecked;
+
+    /**
+     * Parse a program for checking.
+     */
+    public IncrementalChecker(String name, String text) {
+        this.parser = new IncrementalParser(name, text);
+    }
+
+    public IncrementalParser getParser() {
+        return parser;
+    }
+
+    /**
+     * Number of declarations whose bodies the last check checked, rather
+     * than keeping their errors.
+     */
+    public int getLastChecked() {
+        return lastChecked;
+    }
+
+    /**
+     * Replace removedLength characters at offset with the inserted text, as
+     * {@link IncrementalParser#edit} does.
+     */
+    public void edit(int offset, int removedLength, String inserted) {
+        parser.edit(offset, removedLength, inserted);
+        ParserRuleContext body = parser.getLastReparsedBody();
+        if (signatures == null) {
+            return;
+        }
+        if (body == null) {
+            signatures = null;
+            checked.clear();
+            return;
+        }
+
+        while (!(body instanceof TypeCheckerParser.DeclarationContext)) {
+            body = body.getParent();
+        }
+        checked.remove(body);
+        signatureErrors.replaceAll(parser::moved);
+        for (Checked declaration : checked.values()) {
+            declaration.errors.replaceAll(parser::moved);
+        }
+    }
+
+    /**
+     * Check the program as it is after the last edit.
+     */
+    public CheckResult check() {
+        String fileName = parser.getName();
+        SourceText source = SourceText.of(fileName, parser.getText());
+        if (parser.hasSyntaxErrors()) {
+            return new CheckResult(fileName, source, null, parser.getSyntaxErrors(), new ArrayList<>(), null);
+        }
+
+        TypeCheckerParser.ProgramContext program = parser.getTree();
+        if (signatures == null) {
+            declareSignatures(program);
+        }
+        signatures.restartBodies();
+        List<SemanticError> errors = new ArrayList<>(signatureErrors);
+        BitSet initialized = declaredInitialized;
+        lastChecked = 0;
+        for (TypeCheckerParser.DeclarationContext declaration : program.declaration()) {
+            Checked known = checked.get(declaration);
+            if (known != null && known.before.equals(initialized)) {
+                signatures.skipBodies(declaration);
+                errors.addAll(known.errors);
+                initialized = known.after;
+                continue;
+            }
+
+            for (int i = 0; i < variables.size(); i++) {
+                variables.get(i).setInitialized(initialized.get(i));
+            }
+            signatures.declareBodies(declaration);
+            TypeChecker typeChecker = new TypeChecker(signatures);
+            typeChecker.visit(declaration);
+            signatures.releaseBodies();
+            lastChecked++;
+
+            Checked result = new Checked(initialized, initializedVariables());
+            result.errors.addAll(signatures.getErrors());
+            result.errors.addAll(typeChecker.getErrors());
+            signatures.getErrors().clear();
+            checked.put(declaration, result);
+            errors.addAll(result.errors);
+            initialized = result.after;
+        }
+
+        errors.sort(SemanticError::compareTo);
+        return new CheckResult(fileName, source, null, new ArrayList<>(), errors, null);
+    }
+
+    /**
+     * Declare the signatures of all declarations, as the streaming check
+     * does, and forget the errors found with the old ones.
+     */
+    private void declareSignatures(TypeCheckerParser.ProgramContext program) {
+        checked.clear();
+        signatures = new SymbolTableBuilder(names);
+        for (TypeCheckerParser.DeclarationContext declaration : program.declaration()) {
+            if (declaration.classDecl() != null) {
+                signatures.declareClass(declaration.classDecl().ID(0).getSymbol());
+            }
+        }
+        for (TypeCheckerParser.ImportDeclContext importDecl : program.importDecl()) {
+            signatures.visit(importDecl);
+        }
+        for (TypeCheckerParser.DeclarationContext declaration : program.declaration()) {
+            signatures.declareSignatures(declaration);
+        }
+        signatures.resolveForwardReferences();
+        signatureErrors = new ArrayList<>(signatures.getErrors());
+        signatures.getErrors().clear();
+
+        variables = new ArrayList<>();
+        collectVariables(signatures.getGlobalScope());
+        declaredInitialized = initializedVariables();
+    }
+
+    private void collectVariables(SymbolTable scope) {
+        for (Symbol symbol : scope.getSymbols().values()) {
+            if (symbol instanceof VariableSymbol) {
+                variables.add((VariableSymbol) symbol);
+            }
+        }
+        for (SymbolTable child : scope.getChildren()) {
+            collectVariables(child);
+        }
+    }
+
+    private BitSet initializedVariables() {
+        BitSet initialized = new BitSet(variables.size());
+        for (int i = 0; i < variables.size(); i++) {
+            if (variables.get(i).isInitialized()) {
+                initialized.set(i);
+            }
+        }
+        return initialized;
+    }
+
+    /**
+     * The errors of a declaration's bodies, checked with the given
+     * variables initialized, and the variables initialized after them.
+     */
+    private static class Checked {
+        final BitSet before;
+        final BitSet after;
+        final List<SemanticError> errors = new ArrayList<>();
+
+        Checked(BitSet before, BitSet after) {
+            this.before = before;
+            this.after = after;
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package main;
+
+import semantic.SemanticError;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import antlr.TypeCheckerLexer;
+import antlr.TypeCheckerParser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Times one-character edits with {@link IncrementalParser} and the check
+ * after them with {@link IncrementalChecker} on a synthetic program of
+ * about 20000 lines, as an editor sends them while typing: a letter added
+ * to a name, a digit to a number, a space or a line break added or
+ * removed. Every edit is undone again, and both are timed. Random
+ * characters at random places, which often break the syntax, are checked
+ * but not timed, on the synthetic program and on the given files.
+ *
+ * The trees are compared with a full parse of the edited text, node by
+ * node and token by token, positions included, and the errors with those
+ * of {@link SourceChecker}: after every edit of the given files and with
+ * --verify, otherwise after every fiftieth. Reports the median, 95th
+ * percentile and maximum times per edit, how much each edit parsed again
+ * and the times of a full parse and check.
+ */
+public class IncrementalParseBenchmark {
+    // About forty-four lines per class
+    private static final int CLASSES = 455;
+    private static final double TARGET_MILLIS = 5;
+    private static final int VERIFY_EVERY = 50;
+    private static final int MAX_REPORTED = 10;
+    private static final String RANDOM_CHARACTERS = "{}();,.=+a1 \n\"/*";
+
+    private boolean verifyAll;
+    private final List<String> mismatches = new ArrayList<>();
+    private final Map<IncrementalParser.Reparse, Integer> reparses =
+        new EnumMap<>(IncrementalParser.Reparse.class);
+    private int edits = 0;
+    private int rechecked = 0;
+
+    public static void main(String[] args) {
+        int count = 2000;
+        long seed = 42;
+        boolean verifyAll = false;
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--edits") && i + 1 < args.length) {
+                count = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--seed") && i + 1 < args.length) {
+                seed = Long.parseLong(args[++i]);
+            } else if (args[i].equals("--verify")) {
+                verifyAll = true;
+            } else if (args[i].startsWith("--")) {
+                System.err.println("Usage: java main.IncrementalParseBenchmark [--edits <n>] [--seed <n>] "
+                    + "[--verify] [file or directory...]");
+                System.exit(2);
+            } else {
+                inputs.add(args[i]);
+            }
+        }
+
+        // The symbol table builder's debug output would drown the report
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        IncrementalParseBenchmark benchmark = new IncrementalParseBenchmark();
+        Random random = new Random(seed);
+        try {
+            benchmark.verifyAll = true;
+            for (String input : inputs) {
+                for (Path file : expand(Paths.get(input))) {
+                    IncrementalChecker checker = new IncrementalChecker(file.toString(),
+                        SourceText.read(file).toString());
+                    benchmark.verify(checker, file + " initial check");
+                    int broken = benchmark.randomEdits(checker, random, count / 10);
+                    out.println(String.format(Locale.ROOT, "%-40s %6d random edits, %6d with syntax errors",
+                        shorten(file.toString()), count / 10, broken));
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Benchmark failed: " + e.getMessage());
+            System.exit(1);
+        }
+        benchmark.verifyAll = verifyAll;
+
+        String text = SyntheticProgram.generate(CLASSES);
+        int lines = (int) text.chars().filter(c -> c == '\n').count();
+        long[] fullParses = new long[5];
+        long[] fullChecks = new long[fullParses.length];
+        IncrementalChecker checker = null;
+        for (int i = 0; i < fullParses.length; i++) {
+            long start = System.nanoTime();
+            checker = new IncrementalChecker("synthetic-" + CLASSES, text);
+            fullParses[i] = System.nanoTime() - start;
+            start = System.nanoTime();
+            checker.check();
+            fullChecks[i] = System.nanoTime() - start;
+        }
+        benchmark.verify(checker, "initial check");
+
+        // Warm up, then measure
+        benchmark.typeEdits(checker, random, count / 2);
+        benchmark.reparses.clear();
+        benchmark.edits = 0;
+        benchmark.rechecked = 0;
+        long[][] times = benchmark.typeEdits(checker, random, count);
+        int broken = benchmark.randomEdits(checker, random, count / 10);
+
+        double median = percentile(times[0], 0.5);
+        out.println(String.format(Locale.ROOT, "%d lines: full parse %.3f ms, full check %.3f ms", lines,
+            percentile(fullParses, 0.5), percentile(fullChecks, 0.5)));
+        out.println(String.format(Locale.ROOT, "%d edits       %10s %10s %10s", times[0].length, "median ms",
+            "95% ms", "max ms"));
+        out.println(String.format(Locale.ROOT, "  parse       %10.3f %10.3f %10.3f", median,
+            percentile(times[0], 0.95), percentile(times[0], 1)));
+        out.println(String.format(Locale.ROOT, "  check       %10.3f %10.3f %10.3f", percentile(times[1], 0.5),
+            percentile(times[1], 0.95), percentile(times[1], 1)));
+        for (Map.Entry<IncrementalParser.Reparse, Integer> reparse : benchmark.reparses.entrySet()) {
+            out.println(String.format(Locale.ROOT, "  %-14s parsed again by %6d edits",
+                reparse.getKey().name().toLowerCase(Locale.ROOT), reparse.getValue()));
+        }
+        out.println(String.format(Locale.ROOT, "  %.1f declarations checked again per edit",
+            benchmark.rechecked / (double) times[0].length));
+        out.println(count / 10 + " random edits, " + broken + " with syntax errors");
+        out.println(String.format(Locale.ROOT, "Median edit %s the %.0f ms target",
+            median < TARGET_MILLIS ? "within" : "OVER", TARGET_MILLIS));
+        for (String mismatch : benchmark.mismatches.subList(0, Math.min(MAX_REPORTED, benchmark.mismatches.size()))) {
+            out.println("  " + mismatch);
+        }
+        out.println(benchmark.mismatches.isEmpty() ? "All trees and errors match a full check"
+            : benchmark.mismatches.size() + " mismatches");
+        System.exit(benchmark.mismatches.isEmpty() ? 0 : 1);
+    }
+
+    private static List<Path> expand(Path input) throws IOException {
+        if (!Files.isDirectory(input)) {
+            return List.of(input);
+        }
+        try (Stream<Path> files = Files.list(input)) {
+            return files.filter(file -> file.toString().endsWith(".tc")).sorted().toList();
+        }
+    }
+
+    /**
+     * Make and undo the given number of typing edits and return the time
+     * of each edit and of the check after it.
+     */
+    private long[][] typeEdits(IncrementalChecker checker, Random random, int count) {
+        long[][] times = new long[2][count * 2];
+        for (int i = 0; i < count; i++) {
+            String text = checker.getParser().getText();
+            int offset;
+            char c;
+            do {
+                offset = random.nextInt(text.length());
+                c = text.charAt(offset);
+            } while (!Character.isLetterOrDigit(c) && !Character.isWhitespace(c));
+            String inserted = "";
+            int removed = 0;
+            if (Character.isLetter(c)) {
+                inserted = "q";
+            } else if (Character.isDigit(c)) {
+                inserted = "7";
+            } else if (random.nextBoolean()) {
+                inserted = c == '\n' ? "\n" : " ";
+            } else {
+                removed = 1;
+            }
+            String undo = removed == 0 ? "" : text.substring(offset, offset + 1);
+
+            timedEdit(checker, offset, removed, inserted, times, 2 * i);
+            timedEdit(checker, offset, inserted.length(), undo, times, 2 * i + 1);
+        }
+        return times;
+    }
+
+    private void timedEdit(IncrementalChecker checker, int offset, int removed, String inserted,
+                           long[][] times, int index) {
+        long start = System.nanoTime();
+        checker.edit(offset, removed, inserted);
+        long edited = System.nanoTime();
+        CheckResult result = checker.check();
+        times[0][index] = edited - start;
+        times[1][index] = System.nanoTime() - edited;
+        reparses.merge(checker.getParser().getLastReparse(), 1, Integer::sum);
+        rechecked += checker.getLastChecked();
+        if (verifyAll || ++edits % VERIFY_EVERY == 0) {
+            verify(checker, result, "edit at " + offset);
+        }
+    }
+
+    /**
+     * Make and undo random one-character edits anywhere and return how many
+     * left the program with syntax errors.
+     */
+    private int randomEdits(IncrementalChecker checker, Random random, int count) {
+        int broken = 0;
+        String name = checker.getParser().getName();
+        for (int i = 0; i < count; i++) {
+            String text = checker.getParser().getText();
+            int offset = random.nextInt(text.length() + 1);
+            String inserted = String.valueOf(RANDOM_CHARACTERS.charAt(random.nextInt(RANDOM_CHARACTERS.length())));
+            checker.edit(offset, 0, inserted);
+            verify(checker, name + " random edit " + i);
+            if (checker.getParser().hasSyntaxErrors()) {
+                broken++;
+            }
+            checker.edit(offset, 1, "");
+            verify(checker, name + " undo of random edit " + i);
+        }
+        return broken;
+    }
+
+    private void verify(IncrementalChecker checker, String edit) {
+        verify(checker, checker.check(), edit);
+    }
+
+    /**
+     * Compare the incremental tree with a full parse and the result with a
+     * full check of the same text.
+     */
+    private void verify(IncrementalChecker checker, CheckResult result, String edit) {
+        IncrementalParser parser = checker.getParser();
+        CheckResult full = new SourceChecker(CheckerOptions.DEFAULT).check(parser.getName(), SourceText.of(parser.getName(),
+            parser.getText()));
+        if (!format(full.getSyntaxErrors()).equals(format(result.getSyntaxErrors()))) {
+            mismatches.add(edit + ": syntax errors differ");
+            return;
+        }
+        if (!format(full.getErrors()).equals(format(result.getErrors()))) {
+            mismatches.add(edit + ": errors differ, expected " + format(full.getErrors()) + " but got "
+                + format(result.getErrors()));
+            return;
+        }
+
+        TypeCheckerLexer lexer = new TypeCheckerLexer(CharStreams.fromString(parser.getText()));
+        lexer.removeErrorListeners();
+        TypeCheckerParser fullParser = new TypeCheckerParser(new CommonTokenStream(lexer));
+        fullParser.removeErrorListeners();
+        String difference = difference(ProgramParser.parse(fullParser), parser.getTree(), null);
+        if (difference != null) {
+            mismatches.add(edit + ": " + difference);
+        }
+    }
+
+    private static List<String> format(List<SemanticError> errors) {
+        List<String> formatted = new ArrayList<>();
+        for (SemanticError error : errors) {
+            formatted.add(error.getLine() + ":" + error.getColumn() + " " + error.getMessage());
+        }
+        return formatted;
+    }
+
+    /**
+     * First difference between two trees, or null if they are identical.
+     */
+    private static String difference(ParseTree expected, ParseTree actual, ParseTree parent) {
+        if (expected.getClass() != actual.getClass()) {
+            return "expected " + expected.getClass().getSimpleName() + " but got "
+                + actual.getClass().getSimpleName();
+        }
+        if (actual.getParent() != parent) {
+            return "wrong parent for " + actual.getClass().getSimpleName();
+        }
+        if (expected instanceof TerminalNode) {
+            Token expectedToken = ((TerminalNode) expected).getSymbol();
+            Token actualToken = ((TerminalNode) actual).getSymbol();
+            return same(expectedToken, actualToken) ? null
+                : "expected token " + expectedToken + " but got " + actualToken;
+        }
+        ParserRuleContext expectedRule = (ParserRuleContext) expected;
+        ParserRuleContext actualRule = (ParserRuleContext) actual;
+        if (!same(expectedRule.getStart(), actualRule.getStart())
+                || !same(expectedRule.getStop(), actualRule.getStop())) {
+            return "start or stop token differs for " + actual.getClass().getSimpleName();
+        }
+        if (expected.getChildCount() != actual.getChildCount()) {
+            return "child count differs for " + actual.getClass().getSimpleName();
+        }
+        for (int i = 0; i < expected.getChildCount(); i++) {
+            String difference = difference(expected.getChild(i), actual.getChild(i), actual);
+            if (difference != null) {
+                return difference;
+            }
+        }
+        return null;
+    }
+
+    private static boolean same(Token expected, Token actual) {
+        if (expected == null || actual == null) {
+            // Rules the parser recovered from may have no stop token
+            return expected == actual;
+        }
+        return expected.getType() == actual.getType()
+            && expected.getText().equals(actual.getText())
+            && expected.getStartIndex() == actual.getStartIndex()
+            && expected.getStopIndex() == actual.getStopIndex()
+            && expected.getLine() == actual.getLine()
+            && expected.getCharPositionInLine() == actual.getCharPositionInLine();
+    }
+
+    private static double percentile(long[] nanos, double fraction) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.min(sorted.length - 1, fraction * sorted.length)] / 1e6;
+    }
+
+    private static String shorten(String name) {
+        return name.length() <= 40 ? name : "..." + name.substring(name.length() - 37);
+    }
+}
@@ -0,0 +1,574 @@
+package main;
+
+import semantic.SemanticError;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import antlr.TypeCheckerLexer;
+import antlr.TypeCheckerParser;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Parses a program once and then again after each text edit, reusing
+ * what the edit did not touch, for editors that send a change per
+ * keystroke.
+ *
+ * The program is kept as chunks split at declaration boundaries, as
+ * {@link ParallelProgramParser} splits it, each with its tokens and the
+ * subtrees parsed from them. An edit is lexed again from two tokens
+ * before it until the new tokens line up with the old ones; the lexer has
+ * no modes, so from there on the old tokens are still right and only
+ * move. If the changed tokens lie within one method, constructor or
+ * function body, only that body is parsed again and put in place of the
+ * old one. Otherwise the chunks the change spans are split and parsed
+ * again. All other declaration subtrees are reused as they are.
+ *
+ * Tokens keep their text rather than the stream they were read from, so
+ * they stay valid as the text changes. Positions count UTF-16 code units,
+ * as editors do. While some chunk has a syntax error, the whole text is
+ * parsed with error recovery after each edit, which reports the errors as
+ * a full parse does, but the chunks are kept, so that the edit fixing the
+ * error parses only what it changed. After a lexical error the next edit
+ * starts over from a full parse.
+ *
+ * The tree of the previous edit must not be used after the next one:
+ * its subtrees move to the new tree.
+ */
+public class IncrementalParser {
+    /** How much of the program the last parse covered. */
+    public enum Reparse {
+        PROGRAM,
+        DECLARATIONS,
+        BODY
+    }
+
+    private static final int SEMI = HandwrittenParser.literal(";");
+    private static final int LBRACE = HandwrittenParser.literal("{");
+    private static final int RBRACE = HandwrittenParser.literal("}");
+    // Tokens lexed again before an edit, in case the lexer looked ahead into it
+    private static final int RELEX_MARGIN = 2;
+
+    /**
+     * Makes tokens that hold their text instead of their input stream.
+     */
+    private static final TokenFactory<CommonToken> DETACHED_TOKENS = new TokenFactory<>() {
+        @Override
+        public CommonToken create(Pair<TokenSource, CharStream> source, int type, String text, int channel,
+                                  int start, int stop, int line, int charPositionInLine) {
+            if (text == null) {
+                text = type == Token.EOF ? "<EOF>" : source.b.getText(Interval.of(start, stop));
+            }
+            CommonToken token = new CommonToken(type, text);
+            token.setChannel(channel);
+            token.setStartIndex(start);
+            token.setStopIndex(stop);
+            token.setLine(line);
+            token.setCharPositionInLine(charPositionInLine);
+            return token;
+        }
+
+        @Override
+        public CommonToken create(int type, String text) {
+            return new CommonToken(type, text);
+        }
+    };
+
+    private final String name;
+    private String text;
+    // Empty after a lexical error
+    private final List<Chunk> chunks = new ArrayList<>();
+    private Token eof;
+    private TypeCheckerParser.ProgramContext tree;
+    private List<SemanticError> syntaxErrors = new ArrayList<>();
+    private Reparse lastReparse;
+    private int lastReparsedTokens;
+    private ParserRuleContext lastReparsedBody;
+    // Where the tokens after the last edit moved: from movedColumn on line
+    // movedLine on, by lineDelta lines, and by columnDelta columns on that line
+    private int movedLine;
+    private int movedColumn;
+    private int lineDelta;
+    private int columnDelta;
+
+    /**
+     * Parse a program in full.
+     */
+    public IncrementalParser(String name, String text) {
+        this.name = name;
+        this.text = text;
+        parseAll();
+    }
+
+    public String getName() { return name; }
+    public String getText() { return text; }
+    public TypeCheckerParser.ProgramContext getTree() { return tree; }
+    public List<SemanticError> getSyntaxErrors() { return syntaxErrors; }
+    public boolean hasSyntaxErrors() { return !syntaxErrors.isEmpty(); }
+
+    /**
+     * How much the last parse covered: the whole program, some top-level
+     * declarations or a single body.
+     */
+    public Reparse getLastReparse() {
+        return lastReparse;
+    }
+
+    /**
+     * Number of tokens the last parse read.
+     */
+    public int getLastReparsedTokens() {
+        return lastReparsedTokens;
+    }
+
+    /**
+     * The body the last parse covered, if it covered a single body.
+     */
+    public ParserRuleContext getLastReparsedBody() {
+        return lastReparse == Reparse.BODY ? lastReparsedBody : null;
+    }
+
+    /**
+     * An error found before the last edit, where its token is after it.
+     * Only errors at tokens the edit left as they were can be moved.
+     */
+    SemanticError moved(SemanticError error) {
+        int line = error.getLine();
+        int column = error.getColumn();
+        if (line < movedLine || line == movedLine && column < movedColumn) {
+            return error;
+        }
+        return new SemanticError(line + lineDelta, line == movedLine ? column + columnDelta : column,
+            error.getMessage(), error.getType());
+    }
+
+    /**
+     * Replace removedLength characters at offset with the inserted text
+     * and return the new tree. Offsets count UTF-16 code units.
+     */
+    public TypeCheckerParser.ProgramContext edit(int offset, int removedLength, String inserted) {
+        if (offset < 0 || removedLength < 0 || offset + removedLength > text.length()) {
+            throw new IllegalArgumentException("Edit of " + removedLength + " characters at " + offset
+                + " is outside the text of " + text.length() + " characters");
+        }
+        String oldText = text;
+        movedLine = Integer.MAX_VALUE;
+        text = oldText.substring(0, offset) + inserted + oldText.substring(offset + removedLength);
+        if (chunks.isEmpty()) {
+            parseAll();
+        } else if (!reparse(offset, offset + removedLength, inserted.length() - removedLength)) {
+            parseAll();
+        }
+        return tree;
+    }
+
+    /**
+     * Parse the edited text where the old tokens from oldEnd on are known to
+     * be unchanged, or return false if that fails.
+     */
+    private boolean reparse(int offset, int oldEnd, int delta) {
+        // Lex again from a little before the first token the edit touches
+        Position start = firstTokenEndingAfter(offset - 1);
+        for (int i = 0; i < RELEX_MARGIN && start.previous() != null; i++) {
+            start = start.previous();
+        }
+        TypeCheckerLexer lexer;
+        MainCompiler.ErrorListener lexicalErrors = new MainCompiler.ErrorListener();
+        if (start.chunk == 0 && start.token == 0) {
+            lexer = newLexer(0, 1, 0, lexicalErrors);
+        } else {
+            Token first = start.get();
+            lexer = newLexer(first.getStartIndex(), first.getLine(), first.getCharPositionInLine(), lexicalErrors);
+        }
+
+        // Until a new token starts where an old one after the edit moved to
+        int newEnd = oldEnd + delta;
+        List<Token> relexed = new ArrayList<>();
+        Position sync = start;
+        Token newEof = null;
+        Token syncToken = null;
+        while (true) {
+            Token token = lexer.nextToken();
+            if (token.getType() == Token.EOF) {
+                newEof = token;
+                sync = null;
+                break;
+            }
+            if (token.getStartIndex() >= newEnd) {
+                while (sync != null && (sync.get().getStartIndex() < oldEnd
+                        || sync.get().getStartIndex() + delta < token.getStartIndex())) {
+                    sync = sync.next();
+                }
+                if (sync != null && sync.get().getStartIndex() + delta == token.getStartIndex()) {
+                    syncToken = token;
+                    break;
+                }
+            }
+            relexed.add(token);
+        }
+        if (lexicalErrors.hasErrors()) {
+            return false;
+        }
+
+        // The body the change lies in, found while the old positions hold
+        ParserRuleContext body = null;
+        int bodyStart = -1;
+        int bodyStop = -1;
+        if (sync != null && sync.chunk == start.chunk && chunks.get(start.chunk).program != null) {
+            Chunk chunk = chunks.get(start.chunk);
+            for (ParserRuleContext candidate : bodies(chunk.program)) {
+                int first = indexOf(chunk.tokens, candidate.getStart());
+                int last = indexOf(chunk.tokens, candidate.getStop());
+                if (first < start.token && last >= sync.token) {
+                    body = candidate;
+                    bodyStart = first;
+                    bodyStop = last - (sync.token - start.token) + relexed.size();
+                    break;
+                }
+            }
+        }
+
+        // Move the tokens after the change
+        if (sync != null) {
+            Token old = sync.get();
+            movedLine = old.getLine();
+            movedColumn = old.getCharPositionInLine();
+            lineDelta = syncToken.getLine() - movedLine;
+            columnDelta = syncToken.getCharPositionInLine() - movedColumn;
+            for (Position p = sync; p != null; p = p.next()) {
+                move((CommonToken) p.get(), delta);
+            }
+            move((CommonToken) eof, delta);
+        } else {
+            eof = newEof;
+        }
+
+        // The tokens of the changed chunks
+        int firstChunk = start.chunk;
+        boolean syncStartsChunk = sync != null && sync.token == 0 && sync.chunk > firstChunk;
+        int lastChunk = sync == null ? chunks.size() - 1 : syncStartsChunk ? sync.chunk - 1 : sync.chunk;
+        List<Token> tokens = new ArrayList<>(chunks.get(firstChunk).tokens.subList(0, start.token));
+        tokens.addAll(relexed);
+        if (sync != null && !syncStartsChunk) {
+            List<Token> rest = chunks.get(sync.chunk).tokens;
+            tokens.addAll(rest.subList(sync.token, rest.size()));
+        }
+
+        if (body != null && reparseBody(body, tokens, bodyStart, bodyStop)) {
+            chunks.get(firstChunk).tokens = tokens;
+            finish(true);
+            return true;
+        }
+
+        List<Chunk> parsed = new ArrayList<>();
+        for (List<Token> part : split(tokens)) {
+            parsed.add(new Chunk(part, parse(part, TypeCheckerParser::program)));
+        }
+        chunks.subList(firstChunk, lastChunk + 1).clear();
+        chunks.addAll(firstChunk, parsed);
+        lastReparse = Reparse.DECLARATIONS;
+        lastReparsedTokens = tokens.size();
+        finish(true);
+        return true;
+    }
+
+    /**
+     * Parse a method, constructor or function body again from the chunk's
+     * new tokens and put it in place of the old one.
+     */
+    private boolean reparseBody(ParserRuleContext body, List<Token> tokens, int first, int last) {
+        List<Token> bodyTokens = new ArrayList<>(tokens.subList(first, last + 1));
+        ParserRuleContext parsed = body instanceof TypeCheckerParser.BlockContext
+            ? parse(bodyTokens, TypeCheckerParser::block)
+            : parse(bodyTokens, TypeCheckerParser::constructorBody);
+        if (parsed == null) {
+            return false;
+        }
+        ParserRuleContext parent = body.getParent();
+        parent.children.set(parent.children.indexOf(body), parsed);
+        parsed.setParent(parent);
+        lastReparsedBody = parsed;
+        lastReparse = Reparse.BODY;
+        lastReparsedTokens = bodyTokens.size();
+        return true;
+    }
+
+    private void move(CommonToken token, int delta) {
+        if (token.getLine() == movedLine) {
+            token.setCharPositionInLine(token.getCharPositionInLine() + columnDelta);
+        }
+        token.setLine(token.getLine() + lineDelta);
+        token.setStartIndex(token.getStartIndex() + delta);
+        token.setStopIndex(token.getStopIndex() + delta);
+    }
+
+    /**
+     * Lex, split and parse the whole text.
+     */
+    private void parseAll() {
+        chunks.clear();
+        lastReparse = Reparse.PROGRAM;
+        MainCompiler.ErrorListener lexicalErrors = new MainCompiler.ErrorListener();
+        TypeCheckerLexer lexer = newLexer(0, 1, 0, lexicalErrors);
+        List<Token> tokens = new ArrayList<>();
+        for (Token token = lexer.nextToken(); ; token = lexer.nextToken()) {
+            if (token.getType() == Token.EOF) {
+                eof = token;
+                break;
+            }
+            tokens.add(token);
+        }
+        lastReparsedTokens = tokens.size();
+        if (lexicalErrors.hasErrors()) {
+            // The tokens cannot be trusted to stay as they are
+            parseWithErrors();
+            return;
+        }
+        for (List<Token> part : split(tokens)) {
+            chunks.add(new Chunk(part, parse(part, TypeCheckerParser::program)));
+        }
+        finish(false);
+    }
+
+    /**
+     * Build the tree from the chunks, or parse the whole text if a chunk
+     * has a syntax error. Its tokens are kept, so that the edit fixing it
+     * need not parse everything again.
+     */
+    private void finish(boolean split) {
+        for (Chunk chunk : chunks) {
+            if (chunk.program == null) {
+                List<Chunk> kept = new ArrayList<>(chunks);
+                parseWithErrors();
+                if (syntaxErrors.isEmpty() && split) {
+                    // Chunks split after the edit can differ from those of the
+                    // whole program where it spans them
+                    parseAll();
+                } else {
+                    chunks.addAll(kept);
+                }
+                return;
+            }
+        }
+        syntaxErrors = new ArrayList<>();
+        assemble();
+    }
+
+    /**
+     * Parse the whole text with error recovery for its syntax errors.
+     */
+    private void parseWithErrors() {
+        chunks.clear();
+        lastReparse = Reparse.PROGRAM;
+        MainCompiler.ErrorListener errorListener = new MainCompiler.ErrorListener();
+        TypeCheckerLexer lexer = new TypeCheckerLexer(charStream());
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorListener);
+        TypeCheckerParser parser = new TypeCheckerParser(new CommonTokenStream(lexer));
+        parser.removeErrorListeners();
+        parser.addErrorListener(errorListener);
+        tree = ProgramParser.parse(parser);
+        syntaxErrors = errorListener.getErrors();
+    }
+
+    private void assemble() {
+        List<TypeCheckerParser.ProgramContext> parts = new ArrayList<>();
+        int tokens = 0;
+        for (Chunk chunk : chunks) {
+            parts.add(chunk.program);
+            tokens += chunk.tokens.size();
+        }
+        // Its index is the number of tokens before it, as in a whole stream
+        ((CommonToken) eof).setTokenIndex(tokens);
+        tree = ParallelProgramParser.assemble(parts, eof, chunks.isEmpty() ? eof : chunks.get(0).tokens.get(0));
+    }
+
+    private TypeCheckerLexer newLexer(int start, int line, int column, ANTLRErrorListener errorListener) {
+        TypeCheckerLexer lexer = new TypeCheckerLexer(charStream());
+        lexer.setTokenFactory(DETACHED_TOKENS);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorListener);
+        lexer.getInputStream().seek(start);
+        lexer.setLine(line);
+        lexer.setCharPositionInLine(column);
+        return lexer;
+    }
+
+    // Unlike the code point streams, it counts UTF-16 code units
+    @SuppressWarnings("deprecation")
+    private CharStream charStream() {
+        ANTLRInputStream input = new ANTLRInputStream(text);
+        input.name = name;
+        return input;
+    }
+
+    /**
+     * Parse tokens with a rule, failing at the first syntax error, or
+     * return null if they are not exactly one match of the rule.
+     */
+    private static <T extends ParserRuleContext> T parse(List<Token> tokens,
+                                                         Function<TypeCheckerParser, T> rule) {
+        TypeCheckerParser parser = new TypeCheckerParser(new CommonTokenStream(new ListTokenSource(tokens)));
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        // SLL first, as for whole programs
+        for (PredictionMode mode : new PredictionMode[] { PredictionMode.SLL, PredictionMode.LL }) {
+            parser.getInterpreter().setPredictionMode(mode);
+            try {
+                T tree = rule.apply(parser);
+                return parser.getCurrentToken().getType() == Token.EOF ? tree : null;
+            } catch (ParseCancellationException e) {
+                parser.reset();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Split tokens into chunks at declaration boundaries.
+     */
+    private static List<List<Token>> split(List<Token> tokens) {
+        List<List<Token>> parts = new ArrayList<>();
+        int start = 0;
+        int depth = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            int type = tokens.get(i).getType();
+            if (type == LBRACE) {
+                depth++;
+            } else if (type == RBRACE) {
+                depth--;
+            }
+            if (depth == 0 && (type == SEMI || type == RBRACE) && i + 1 < tokens.size()
+                    && ParallelProgramParser.startsDeclaration(tokens.get(i + 1).getType())) {
+                parts.add(new ArrayList<>(tokens.subList(start, i + 1)));
+                start = i + 1;
+            }
+        }
+        if (start < tokens.size()) {
+            parts.add(new ArrayList<>(tokens.subList(start, tokens.size())));
+        }
+        return parts;
+    }
+
+    /**
+     * The method, constructor and function bodies of a chunk.
+     */
+    private static List<ParserRuleContext> bodies(TypeCheckerParser.ProgramContext program) {
+        List<ParserRuleContext> bodies = new ArrayList<>();
+        for (TypeCheckerParser.DeclarationContext declaration : program.declaration()) {
+            if (declaration.funcDecl() != null) {
+                bodies.add(declaration.funcDecl().block());
+            } else if (declaration.classDecl() != null) {
+                for (TypeCheckerParser.ClassMemberContext member : declaration.classDecl().classMember()) {
+                    if (member instanceof TypeCheckerParser.MethodDeclContext) {
+                        bodies.add(((TypeCheckerParser.MethodDeclContext) member).funcDecl().block());
+                    } else if (member instanceof TypeCheckerParser.ConstructorContext) {
+                        bodies.add(((TypeCheckerParser.ConstructorContext) member).constructorDecl()
+                            .constructorBody());
+                    }
+                }
+            }
+        }
+        return bodies;
+    }
+
+    /**
+     * Index of a token in a chunk's tokens, by its start.
+     */
+    private static int indexOf(List<Token> tokens, Token token) {
+        int low = 0;
+        int high = tokens.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int start = tokens.get(mid).getStartIndex();
+            if (start < token.getStartIndex()) {
+                low = mid + 1;
+            } else if (start > token.getStartIndex()) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Position of the first token that ends at or after the given offset,
+     * or of the last token if none does.
+     */
+    private Position firstTokenEndingAfter(int offset) {
+        int low = 0;
+        int high = chunks.size() - 1;
+        // Last chunk ending at or after the offset
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            List<Token> tokens = chunks.get(mid).tokens;
+            if (tokens.get(tokens.size() - 1).getStopIndex() < offset) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        List<Token> tokens = chunks.get(low).tokens;
+        int first = 0;
+        int last = tokens.size() - 1;
+        while (first < last) {
+            int mid = (first + last) >>> 1;
+            if (tokens.get(mid).getStopIndex() < offset) {
+                first = mid + 1;
+            } else {
+                last = mid;
+            }
+        }
+        return new Position(low, first);
+    }
+
+    /**
+     * Tokens of a chunk and the imports and declarations parsed from them.
+     */
+    private static class Chunk {
+        List<Token> tokens;
+        final TypeCheckerParser.ProgramContext program;
+
+        Chunk(List<Token> tokens, TypeCheckerParser.ProgramContext program) {
+            this.tokens = tokens;
+            this.program = program;
+        }
+    }
+
+    /**
+     * A token by its chunk and index in the chunk.
+     */
+    private class Position {
+        final int chunk;
+        final int token;
+
+        Position(int chunk, int token) {
+            this.chunk = chunk;
+            this.token = token;
+        }
+
+        Token get() {
+            return chunks.get(chunk).tokens.get(token);
+        }
+
+        Position next() {
+            if (token + 1 < chunks.get(chunk).tokens.size()) {
+                return new Position(chunk, token + 1);
+            }
+            return chunk + 1 < chunks.size() ? new Position(chunk + 1, 0) : null;
+        }
+
+        Position previous() {
+            if (token > 0) {
+                return new Position(chunk, token - 1);
+            }
+            return chunk > 0 ? new Position(chunk - 1, chunks.get(chunk - 1).tokens.size() - 1) : null;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package main;
+
+import semantic.SemanticError;
+
+import java.io.*;
+
+/**
+ * Writes diagnostics as JSON Lines: one JSON object per error and line,
+ * followed by a truncation marker line for files that were cut short.
+ */
+public class JsonLinesWriter implements DiagnosticsWriter {
+    private final Writer out;
+
+    public JsonLinesWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public synchronized void write(CheckResult result) throws IOException {
+        for (SemanticError error : result.getSyntaxErrors()) {
+            writeLine(result.getFileName(), error);
+        }
+        for (SemanticError error : result.getErrors()) {
+            writeLine(result.getFileName(), error);
+        }
+        if (result.isTruncated()) {
+            out.write(DiagnosticsJson.truncationToJson(result));
+            out.write('\n');
+        }
+        // Let consumers see each file as soon as it is checked
+        out.flush();
+    }
+
+    private void writeLine(String file, SemanticError error) throws IOException {
+        out.write(DiagnosticsJson.toJson(file, error));
+        out.write('\n');
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
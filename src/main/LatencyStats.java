@@ -0,0 +1,53 @@
+package main;
+
+import java.util.*;
+
+/**
+ * Keeps a sliding window of request latencies and reports percentiles.
+ */
+public class LatencyStats {
+    private final long[] samples;
+    private int next = 0;
+    private int count = 0;
+    private long total = 0;
+
+    public LatencyStats(int windowSize) {
+        this.samples = new long[windowSize];
+    }
+
+    /**
+     * Record one request duration in nanoseconds.
+     */
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        total++;
+    }
+
+    /**
+     * Total number of recorded requests, including ones that fell out of the window.
+     */
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    /**
+     * Percentile (0-100) of the current window in milliseconds, or 0 if empty.
+     */
+    public double percentileMillis(double percentile) {
+        long[] window;
+        synchronized (this) {
+            window = Arrays.copyOf(samples, count);
+        }
+        if (window.length == 0) {
+            return 0;
+        }
+        Arrays.sort(window);
+        int index = (int) Math.ceil(percentile / 100.0 * window.length) - 1;
+        index = Math.max(0, Math.min(window.length - 1, index));
+        return window[index] / 1_000_000.0;
+    }
+}
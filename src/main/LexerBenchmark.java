@@ -0,0 +1,162 @@
+package main;
+
+import org.antlr.v4.runtime.*;
+
+import antlr.TypeCheckerLexer;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Compares the generated {@link TypeCheckerLexer} with
+ * {@link HandwrittenLexer} on real and synthetic inputs.
+ *
+ * Each input is lexed into a {@link CompactTokenStream}, as the checker
+ * does. Every input is lexed by both lexers for the warm-up iterations
+ * before anything is measured, so the small inputs are not timed while
+ * the hand-written lexer is still interpreted, and the median time is
+ * reported. The token types, positions
+ * and lexical errors of both lexers are compared as well.
+ */
+public class LexerBenchmark {
+    private static final int[] SYNTHETIC_CLASSES = { 50, 500 };
+
+    public static void main(String[] args) {
+        int iterations = 20;
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--iterations") && i + 1 < args.length) {
+                iterations = Integer.parseInt(args[++i]);
+            } else {
+                inputs.add(args[i]);
+            }
+        }
+
+        try {
+            Map<String, SourceText> sources = new LinkedHashMap<>();
+            for (String input : inputs) {
+                for (Path file : expand(Paths.get(input))) {
+                    sources.put(file.toString(), SourceText.read(file));
+                }
+            }
+            for (int classes : SYNTHETIC_CLASSES) {
+                String name = "synthetic-" + classes;
+                sources.put(name, SourceText.of(name, SyntheticProgram.generate(classes)));
+            }
+
+            for (int i = 0; i < iterations; i++) {
+                for (SourceText source : sources.values()) {
+                    lex(source, LexerBenchmark::generated);
+                    lex(source, LexerBenchmark::handwritten);
+                }
+            }
+
+            System.out.println(String.format(Locale.ROOT, "%-40s %7s %8s %12s %12s %8s %6s",
+                "Input", "Lines", "Tokens", "Generated ms", "Hand ms", "Speedup", "Same"));
+            boolean allSame = true;
+            for (Map.Entry<String, SourceText> source : sources.entrySet()) {
+                allSame &= run(source.getKey(), source.getValue(), iterations);
+            }
+            if (!allSame) {
+                System.err.println("The lexers disagree");
+                System.exit(1);
+            }
+        } catch (IOException e) {
+            System.err.println("Benchmark failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static List<Path> expand(Path input) throws IOException {
+        if (!Files.isDirectory(input)) {
+            return List.of(input);
+        }
+        try (Stream<Path> files = Files.list(input)) {
+            return files.filter(file -> file.toString().endsWith(".tc")).sorted().toList();
+        }
+    }
+
+    private static boolean run(String name, SourceText source, int iterations) {
+        Lex generated = lex(source, LexerBenchmark::generated);
+        Lex handwritten = lex(source, LexerBenchmark::handwritten);
+        boolean same = generated.errors.equals(handwritten.errors)
+            && describe(generated.tokens).equals(describe(handwritten.tokens));
+
+        long[] generatedTimes = new long[iterations];
+        long[] handTimes = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            generatedTimes[i] = lex(source, LexerBenchmark::generated).nanos;
+            handTimes[i] = lex(source, LexerBenchmark::handwritten).nanos;
+        }
+        double generatedMillis = median(generatedTimes);
+        double handMillis = median(handTimes);
+
+        System.out.println(String.format(Locale.ROOT, "%-40s %7d %8d %12.3f %12.3f %7.2fx %6s",
+            shorten(name), source.getLineCount(), generated.tokens.size(), generatedMillis, handMillis,
+            generatedMillis / handMillis, same ? "yes" : "NO"));
+        return same;
+    }
+
+    private static TokenSource generated(MainCompiler.ErrorListener listener, CharStream input) {
+        TypeCheckerLexer lexer = new TypeCheckerLexer(input);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(listener);
+        return lexer;
+    }
+
+    private static TokenSource handwritten(MainCompiler.ErrorListener listener, CharStream input) {
+        HandwrittenLexer lexer = new HandwrittenLexer(input);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(listener);
+        return lexer;
+    }
+
+    /**
+     * Result of lexing one input: tokens, lexical errors and time.
+     */
+    private static class Lex {
+        final List<String> errors = new ArrayList<>();
+        List<Token> tokens;
+        long nanos;
+    }
+
+    private interface LexerFactory {
+        TokenSource create(MainCompiler.ErrorListener listener, CharStream input);
+    }
+
+    private static Lex lex(SourceText source, LexerFactory factory) {
+        Lex result = new Lex();
+        MainCompiler.ErrorListener listener = new MainCompiler.ErrorListener();
+        CharStream input = source.newCharStream();
+
+        long start = System.nanoTime();
+        CompactTokenStream tokens = new CompactTokenStream(factory.create(listener, input));
+        tokens.fill();
+        result.nanos = System.nanoTime() - start;
+
+        result.tokens = tokens.getTokens();
+        listener.getErrors().forEach(error -> result.errors.add(MainCompiler.formatSyntaxError(error)));
+        return result;
+    }
+
+    private static List<String> describe(List<Token> tokens) {
+        List<String> described = new ArrayList<>(tokens.size());
+        for (Token token : tokens) {
+            described.add(token.getType() + " " + token.getStartIndex() + ":" + token.getStopIndex()
+                + " " + token.getLine() + ":" + token.getCharPositionInLine());
+        }
+        return described;
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1e6;
+    }
+
+    private static String shorten(String name) {
+        return name.length() <= 40 ? name : "..." + name.substring(name.length() - 37);
+    }
+}
@@ -2,14 +2,8 @@
 package main;
 
 import semantic.*;
-import semantic.analysis.SymbolTableBuilder;
-import semantic.analysis.TypeChecker;
 
 import org.antlr.v4.runtime.*;
-import org.antlr.v4.runtime.tree.*;
-
-import antlr.TypeCheckerLexer;
-import antlr.TypeCheckerParser;
 
 import java.io.*;
 import java.nio.file.*;
@@ -17,82 +11,148 @@ import java.util.*;
 
 public class MainCompiler {
     public static void main(String[] args) {
-        if (args.length < 1) {
-            System.err.println("Usage: java main.Main <input-file> [output-file]");
+        CompilerOptions options;
+        try {
+            options = CompilerOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(CompilerOptions.usage());
             System.exit(1);
+            return;
+        }
+        
+        if (options.isServer()) {
+            try {
+                CheckServer server = new CheckServer(options.getPort(), options.getWorkers(),
+                    options.getQueueCapacity(), options.getCacheEntries(), newChecker(options, null));
+                server.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+            } catch (IOException e) {
+                System.err.println("Could not start server: " + e.getMessage());
+                System.exit(1);
+            }
+            return;
+        }
+        
+        if (options.isWatch()) {
+            try {
+                new WatchCompiler(newChecker(options, null), options.getInputs().get(0),
+                    options.getOutputDir()).run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                System.err.println("Watch failed: " + e.getMessage());
+                System.exit(1);
+            }
+            return;
+        }
+        
+        if (options.isBatch()) {
+            try {
+                DiagnosticsWriter diagnostics = openDiagnostics(options, null);
+                CheckStats stats = startStats(options);
+                int exitCode = new BatchCompiler(newChecker(options, null), options.getOutputDir(),
+                    openCache(options), stats, diagnostics).run(options.getInputs());
+                if (diagnostics != null) {
+                    diagnostics.close();
+                }
+                printStats(options, stats);
+                System.exit(exitCode);
+            } catch (Exception e) {
+                System.err.println("Batch failed: " + e.getMessage());
+                System.exit(1);
+            }
         }
         
-        String inputFile = args[0];
-        String outputFile = args.length > 1 ? args[1] : "output/index.html";
+        String inputFile = options.getInputs().get(0);
+        String outputFile = options.getInputs().size() > 1 ? options.getInputs().get(1) : null;
         
         try {
-            // Read input file
-            String input = new String(Files.readAllBytes(Paths.get(inputFile)));
+            // Machine-readable formats replace the HTML report
+            DiagnosticsWriter diagnostics = openDiagnostics(options, outputFile);
+            if (outputFile == null) {
+                outputFile = "output/index.html";
+            }
             
-            // Create lexer
-            TypeCheckerLexer lexer = new TypeCheckerLexer(CharStreams.fromString(input));
-            lexer.removeErrorListeners();
-            lexer.addErrorListener(new ErrorListener());
+            // Map the input file, or read standard input for "-"
+            SourceText input = SourceText.open(inputFile);
             
-            // Create parser
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
-            TypeCheckerParser parser = new TypeCheckerParser(tokens);
-            parser.removeErrorListeners();
-            parser.addErrorListener(new ErrorListener());
+            if (options.isStream()) {
+                // The diagnostics are written declaration by declaration
+                boolean clean = new StreamingChecker(options.getMaxErrors(), options.getTimeBudgetMillis(),
+                    options.isHandwrittenLexer()).check(input.getName(), input, diagnostics);
+                diagnostics.close();
+                System.exit(clean ? 0 : 1);
+            }
             
-            // Parse
-            ParseTree tree = parser.program();
+            // Answer from the analysis cache if this exact source was checked before
+            AnalysisCache cache = openCache(options);
+            CheckStats stats = startStats(options);
+            CheckResult result = cache != null ? cache.lookup(input.getName(), input) : null;
             
-            // Check for syntax errors
-            if (ErrorListener.hasErrors()) {
-                System.err.println("Syntax errors found. Type checking aborted.");
-                System.exit(1);
+            if (result != null) {
+                System.out.println("Loaded analysis from cache.");
+            } else {
+                // Lex, parse, build symbol table and type check
+                result = newChecker(options, System.out).check(input.getName(), input, stats);
+                if (cache != null) {
+                    cache.store(result);
+                    cache.evict();
+                }
             }
             
-            // First pass: Build symbol table
-            System.out.println("Building symbol table...");
-            SymbolTableBuilder symbolBuilder = new SymbolTableBuilder();
-            symbolBuilder.visit(tree);
+            if (result.isTruncated()) {
+                System.err.println("Checking stopped early (" + result.getTruncationReason()
+                    + "); not all errors are reported.");
+            }
             
-            // Second pass: Type checking
-            System.out.println("Performing type checking...");
-            TypeChecker typeChecker = new TypeChecker(
-            	    symbolBuilder.getGlobalScope(), 
-            	    symbolBuilder.getNodeScopes()
-            	);
-            	typeChecker.visit(tree);
+            writeParserProfile(options, result);
             
-            // Combine errors
-            List<SemanticError> allErrors = new ArrayList<>();
-            allErrors.addAll(symbolBuilder.getErrors());
-            allErrors.addAll(typeChecker.getErrors());
+            if (diagnostics != null) {
+                diagnostics.write(result);
+                diagnostics.close();
+                printStats(options, stats);
+                System.exit(result.isClean() ? 0 : 1);
+            }
             
-            // Sort errors by line number
-            allErrors.sort((e1, e2) -> {
-                if (e1.getLine() != e2.getLine()) {
-                    return Integer.compare(e1.getLine(), e2.getLine());
+            // Check for syntax errors
+            if (result.hasSyntaxErrors()) {
+                for (SemanticError error : result.getSyntaxErrors()) {
+                    System.err.println(formatSyntaxError(error));
                 }
-                return Integer.compare(e1.getColumn(), e2.getColumn());
-            });
+                System.err.println("Syntax errors found. Type checking aborted.");
+                printStats(options, stats);
+                System.exit(1);
+            }
+            
+            List<SemanticError> allErrors = result.getErrors();
             
             // Generate HTML report
             System.out.println("Generating HTML report...");
+            if (stats != null) {
+                stats.begin(CheckStats.Phase.REPORT);
+            }
             HTMLReportGenerator reportGen = new HTMLReportGenerator();
             reportGen.generateReport(
-                inputFile,
+                input.getName(),
                 input,
                 allErrors,
-                symbolBuilder.getGlobalScope(),
+                result.getScopeSummary(),
+                result.getParserProfile(),
                 outputFile
             );
+            if (stats != null) {
+                stats.end(CheckStats.Phase.REPORT);
+            }
             
             // Print summary
             System.out.println("\nType checking complete.");
             System.out.println("Total errors: " + allErrors.size());
             System.out.println("Report generated: " + outputFile);
+            printStats(options, stats);
             
-            // Exit with error code if there were errors
-            if (!allErrors.isEmpty()) {
+            // Exit with error code if there were errors or checking did not finish
+            if (!result.isClean()) {
                 System.exit(1);
             }
             
@@ -106,9 +166,95 @@ public class MainCompiler {
         }
     }
     
-    // Custom error listener
+    private static AnalysisCache openCache(CompilerOptions options) throws IOException {
+        if (options.getCacheDir() == null) {
+            return null;
+        }
+        return new AnalysisCache(options.getCacheDir(), options.getCacheMaxBytes());
+    }
+    
+    private static SourceChecker newChecker(CompilerOptions options, PrintStream progress) {
+        return new SourceChecker(options.toCheckerOptions().withProgress(progress));
+    }
+    
+    /**
+     * Open the diagnostics writer for --format jsonl or sarif, or return
+     * null for HTML reports. Without an output file the diagnostics go to
+     * standard output, and everything else printed there is redirected to
+     * standard error so the output stays machine-readable.
+     */
+    private static DiagnosticsWriter openDiagnostics(CompilerOptions options, String outputFile)
+            throws IOException {
+        if (options.getFormat().equals("html")) {
+            return null;
+        }
+        OutputStream out;
+        if (outputFile == null) {
+            out = System.out;
+            System.setOut(System.err);
+        } else {
+            Path path = Paths.get(outputFile);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            out = Files.newOutputStream(path);
+        }
+        return DiagnosticsWriter.create(options.getFormat(), out);
+    }
+    
+    /**
+     * Statistics to fill in if --stats was given, otherwise null.
+     */
+    private static CheckStats startStats(CompilerOptions options) {
+        if (!options.isStats()) {
+            return null;
+        }
+        AnalysisCounters.setEnabled(true);
+        return new CheckStats();
+    }
+    
+    private static void printStats(CompilerOptions options, CheckStats stats) throws IOException {
+        if (stats == null) {
+            return;
+        }
+        System.out.println();
+        System.out.print(stats.toText());
+        if (options.getStatsJsonFile() != null) {
+            Files.write(Paths.get(options.getStatsJsonFile()), stats.toJson().getBytes());
+            System.out.println("Statistics written: " + options.getStatsJsonFile());
+        }
+    }
+    
+    /**
+     * Write the parser profile as JSON if --profile-parser-json was given.
+     * A result from the analysis cache has no profile.
+     */
+    private static void writeParserProfile(CompilerOptions options, CheckResult result) throws IOException {
+        if (options.getProfileJsonFile() == null) {
+            return;
+        }
+        if (result.getParserProfile() == null) {
+            System.err.println("No parser profile: the analysis was loaded from the cache.");
+            return;
+        }
+        Files.write(Paths.get(options.getProfileJsonFile()), result.getParserProfile().toJson().getBytes());
+        System.out.println("Parser profile written: " + options.getProfileJsonFile());
+    }
+    
+    /**
+     * Format a syntax error the way it is printed on the console.
+     */
+    static String formatSyntaxError(SemanticError error) {
+        return "Syntax Error at line " + error.getLine() + ":" + error.getColumn() + " - " + error.getMessage();
+    }
+    
+    // Custom error listener. Each lexer/parser pair gets its own instance,
+    // so syntax errors in one file never affect another. Errors are kept in
+    // source order: the lexer reports an error when the parser first asks
+    // for the tokens around it, and how far the parser looks ahead (or
+    // whether the tokens were lexed up front) must not change the output.
     static class ErrorListener extends BaseErrorListener {
-        private static boolean hasErrors = false;
+        private final List<SemanticError> errors = new ArrayList<>();
         
         @Override
         public void syntaxError(Recognizer<?, ?> recognizer,
@@ -116,12 +262,18 @@ public class MainCompiler {
                               int line, int charPositionInLine,
                               String msg,
                               RecognitionException e) {
-            hasErrors = true;
-            System.err.println("Syntax Error at line " + line + ":" + charPositionInLine + " - " + msg);
+            errors.add(new SemanticError(line, charPositionInLine, msg,
+                SemanticError.ErrorType.SYNTAX_ERROR));
+        }
+        
+        public boolean hasErrors() {
+            return !errors.isEmpty();
         }
         
-        public static boolean hasErrors() {
-            return hasErrors;
+        public List<SemanticError> getErrors() {
+            // Stable, so errors at one position keep their reporting order
+            errors.sort(SemanticError::compareTo);
+            return errors;
         }
     }
 }
@@ -0,0 +1,180 @@
+package main;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+
+import antlr.TypeCheckerParser;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Parses the top-level declarations of one program in parallel.
+ *
+ * The program is lexed once. Its tokens are split into chunks at
+ * declaration boundaries: after a ';' or '}' at brace depth 0 that is
+ * followed by a token a declaration can start with. Every chunk is then a
+ * sequence of whole declarations and is parsed as a program of its own by
+ * a separate {@link TypeCheckerParser}, on the common fork/join pool. All
+ * parsers share the generated parser's DFA cache. The declarations of all
+ * chunks are finally moved, in order, under one {@link
+ * TypeCheckerParser.ProgramContext}, which ends with the real EOF token.
+ *
+ * The chunks are parsed from the tokens of a {@link CompactTokenStream},
+ * which are read-only and keep their index in the whole stream, so the
+ * positions and source intervals of the assembled tree are those of a
+ * sequential parse. A chunk with a syntax error makes the whole parse
+ * fail; the caller then parses sequentially, which reports the errors
+ * exactly as before.
+ */
+public final class ParallelProgramParser {
+    /** Smaller chunks are not worth a parser of their own. */
+    private static final int MIN_CHUNK_TOKENS = 4096;
+
+    private static final int SEMI = HandwrittenParser.literal(";");
+    private static final int LBRACE = HandwrittenParser.literal("{");
+    private static final int RBRACE = HandwrittenParser.literal("}");
+
+    private ParallelProgramParser() {
+    }
+
+    /**
+     * Parse in as many chunks as there are processors, or return null if
+     * the program is too small to split or has a syntax error.
+     */
+    public static TypeCheckerParser.ProgramContext parse(CompactTokenStream tokens,
+                                                         ParseTreeListener listener) {
+        return parse(tokens, listener, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Parse in at most the given number of chunks, or return null if there
+     * would be only one or some chunk has a syntax error. The listener, if
+     * not null, is added to every chunk's parser and must be thread-safe.
+     */
+    public static TypeCheckerParser.ProgramContext parse(CompactTokenStream tokens,
+                                                         ParseTreeListener listener, int chunks) {
+        if (chunks < 1) {
+            throw new IllegalArgumentException("Expected at least one chunk: " + chunks);
+        }
+        tokens.fill();
+        List<Integer> bounds = split(tokens, chunks);
+        if (bounds.size() <= 2) {
+            return null;
+        }
+
+        List<Callable<TypeCheckerParser.ProgramContext>> tasks = new ArrayList<>();
+        List<Token> all = tokens.getTokens();
+        for (int i = 0; i + 1 < bounds.size(); i++) {
+            List<Token> chunk = all.subList(bounds.get(i), bounds.get(i + 1));
+            tasks.add(() -> parseChunk(chunk, listener));
+        }
+
+        List<TypeCheckerParser.ProgramContext> parts = new ArrayList<>();
+        try {
+            for (Future<TypeCheckerParser.ProgramContext> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                parts.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while parsing");
+        } catch (ExecutionException e) {
+            // E.g. the listener cancelled the check
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        if (parts.contains(null)) {
+            return null;
+        }
+        return assemble(parts, tokens.get(tokens.size() - 1), tokens.get(0));
+    }
+
+    /**
+     * Token indices at which the chunks start, followed by the index of the
+     * EOF token, which belongs to no chunk.
+     */
+    private static List<Integer> split(CompactTokenStream tokens, int chunks) {
+        int end = tokens.size() - 1;
+        int target = Math.max(MIN_CHUNK_TOKENS, end / chunks + 1);
+        List<Integer> bounds = new ArrayList<>();
+        bounds.add(0);
+        int depth = 0;
+        for (int i = 0; i < end - 1; i++) {
+            int type = tokens.getType(i);
+            if (type == LBRACE) {
+                depth++;
+            } else if (type == RBRACE) {
+                depth--;
+            }
+            if (depth == 0 && (type == SEMI || type == RBRACE)
+                    && i + 1 - bounds.get(bounds.size() - 1) >= target
+                    && startsDeclaration(tokens.getType(i + 1))) {
+                bounds.add(i + 1);
+            }
+        }
+        bounds.add(end);
+        return bounds;
+    }
+
+    static boolean startsDeclaration(int type) {
+        switch (type) {
+            case TypeCheckerParser.CLASS:
+            case TypeCheckerParser.STATIC:
+            case TypeCheckerParser.FINAL:
+            case TypeCheckerParser.INT:
+            case TypeCheckerParser.FLOAT:
+            case TypeCheckerParser.STRING:
+            case TypeCheckerParser.BOOLEAN:
+            case TypeCheckerParser.CHAR:
+            case TypeCheckerParser.VOID:
+            case TypeCheckerParser.ID:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Parse one chunk as a program, or return null if it has a syntax error.
+     */
+    static TypeCheckerParser.ProgramContext parseChunk(List<Token> chunk, ParseTreeListener listener) {
+        TypeCheckerParser parser = new TypeCheckerParser(new CommonTokenStream(new ListTokenSource(chunk)));
+        parser.removeErrorListeners();
+        MainCompiler.ErrorListener errors = new MainCompiler.ErrorListener();
+        parser.addErrorListener(errors);
+        if (listener != null) {
+            parser.addParseListener(listener);
+        }
+        TypeCheckerParser.ProgramContext tree = ProgramParser.parse(parser);
+        return errors.hasErrors() ? null : tree;
+    }
+
+    /**
+     * Move the imports and declarations of all parts under one program
+     * that ends with the given EOF token, as a sequential parse would.
+     */
+    static TypeCheckerParser.ProgramContext assemble(List<TypeCheckerParser.ProgramContext> parts,
+                                                     Token eof, Token first) {
+        TypeCheckerParser.ProgramContext program = new TypeCheckerParser.ProgramContext(null, -1);
+        program.start = first;
+        for (TypeCheckerParser.ProgramContext part : parts) {
+            for (ParseTree child : part.children) {
+                if (child instanceof ParserRuleContext) {
+                    ParserRuleContext rule = (ParserRuleContext) child;
+                    rule.setParent(program);
+                    program.addChild(rule);
+                } else if (((TerminalNode) child).getSymbol().getType() != Token.EOF) {
+                    throw new IllegalStateException("Unexpected token in program: " + child.getText());
+                }
+            }
+        }
+        program.addChild(new TerminalNodeImpl(eof));
+        program.stop = eof;
+        return program;
+    }
+}
@@ -0,0 +1,191 @@
+package main;
+
+import semantic.SemanticError;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+
+import antlr.TypeCheckerLexer;
+import antlr.TypeCheckerParser;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Compares the two-stage SLL/LL parse of {@link ProgramParser} with a
+ * plain full LL parse, with {@link HandwrittenParser} and with
+ * {@link ParallelProgramParser} on real and synthetic inputs.
+ *
+ * Each input is lexed once and the same tokens are parsed in all modes.
+ * All modes run their warm-up parses before anything is measured, so
+ * the shared DFA cache is equally warm for both generated parser modes.
+ * The syntax errors and the parse trees of all modes are compared as well;
+ * the hand-written parser must reject exactly the inputs with errors.
+ * The parallel parse is shown only for inputs large enough to split.
+ */
+public class ParseBenchmark {
+    private static final int[] SYNTHETIC_CLASSES = { 50, 500 };
+
+    public static void main(String[] args) {
+        int iterations = 20;
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--iterations") && i + 1 < args.length) {
+                iterations = Integer.parseInt(args[++i]);
+            } else {
+                inputs.add(args[i]);
+            }
+        }
+
+        try {
+            Map<String, SourceText> sources = new LinkedHashMap<>();
+            for (String input : inputs) {
+                for (Path file : expand(Paths.get(input))) {
+                    sources.put(file.toString(), SourceText.read(file));
+                }
+            }
+            for (int classes : SYNTHETIC_CLASSES) {
+                String name = "synthetic-" + classes;
+                sources.put(name, SourceText.of(name, SyntheticProgram.generate(classes)));
+            }
+
+            System.out.println(String.format(Locale.ROOT, "%-40s %7s %8s %10s %10s %8s %9s %10s %12s %6s",
+                "Input", "Lines", "Tokens", "LL ms", "SLL/LL ms", "Speedup", "Fallback", "Hand ms",
+                "Parallel ms", "Same"));
+            boolean allSame = true;
+            for (Map.Entry<String, SourceText> source : sources.entrySet()) {
+                allSame &= run(source.getKey(), source.getValue(), iterations);
+            }
+            if (!allSame) {
+                System.err.println("The parse modes disagree");
+                System.exit(1);
+            }
+        } catch (IOException e) {
+            System.err.println("Benchmark failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static List<Path> expand(Path input) throws IOException {
+        if (!Files.isDirectory(input)) {
+            return List.of(input);
+        }
+        try (Stream<Path> files = Files.list(input)) {
+            return files.filter(file -> file.toString().endsWith(".tc")).sorted().toList();
+        }
+    }
+
+    private static boolean run(String name, SourceText source, int iterations) {
+        TypeCheckerLexer lexer = new TypeCheckerLexer(source.newCharStream());
+        lexer.removeErrorListeners();
+        CommonTokenStream lexed = new CommonTokenStream(lexer);
+        lexed.fill();
+        List<Token> tokens = lexed.getTokens();
+
+        Parse ll = parse(tokens, ProgramParser::parseLL);
+        Parse twoStage = parse(tokens, ProgramParser::parse);
+        String llTree = ll.tree.toStringTree(ll.parser);
+        TypeCheckerParser.ProgramContext handTree = new HandwrittenParser(tokens).parseProgram();
+        TypeCheckerLexer compactLexer = new TypeCheckerLexer(source.newCharStream());
+        compactLexer.removeErrorListeners();
+        CompactTokenStream compact = new CompactTokenStream(compactLexer);
+        TypeCheckerParser.ProgramContext parallelTree = ParallelProgramParser.parse(compact, null);
+        boolean same = ll.errors.equals(twoStage.errors)
+            && llTree.equals(twoStage.tree.toStringTree(twoStage.parser))
+            && (handTree == null ? !ll.errors.isEmpty() : llTree.equals(handTree.toStringTree(ll.parser)))
+            && (parallelTree == null || llTree.equals(parallelTree.toStringTree(ll.parser)));
+
+        for (int i = 0; i < iterations; i++) {
+            parse(tokens, ProgramParser::parseLL);
+            parse(tokens, ProgramParser::parse);
+            parseHandwritten(tokens);
+            parseParallel(compact, parallelTree);
+        }
+        long[] llTimes = new long[iterations];
+        long[] twoStageTimes = new long[iterations];
+        long[] handTimes = new long[iterations];
+        long[] parallelTimes = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            llTimes[i] = parse(tokens, ProgramParser::parseLL).nanos;
+            twoStageTimes[i] = parse(tokens, ProgramParser::parse).nanos;
+            handTimes[i] = parseHandwritten(tokens);
+            parallelTimes[i] = parseParallel(compact, parallelTree);
+        }
+        double llMillis = median(llTimes);
+        double twoStageMillis = median(twoStageTimes);
+        String handMillis = handTree == null ? "rejected"
+            : String.format(Locale.ROOT, "%.3f", median(handTimes));
+        String parallelMillis = parallelTree == null ? "-"
+            : String.format(Locale.ROOT, "%.3f", median(parallelTimes));
+
+        System.out.println(String.format(Locale.ROOT, "%-40s %7d %8d %10.3f %10.3f %7.2fx %9s %10s %12s %6s",
+            shorten(name), source.getLineCount(), tokens.size(), llMillis, twoStageMillis,
+            llMillis / twoStageMillis, twoStage.fellBack ? "yes" : "no", handMillis, parallelMillis,
+            same ? "yes" : "NO"));
+        return same;
+    }
+
+    private static long parseHandwritten(List<Token> tokens) {
+        long start = System.nanoTime();
+        new HandwrittenParser(tokens).parseProgram();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Time a parallel parse of the already lexed tokens, if the input was
+     * split at all.
+     */
+    private static long parseParallel(CompactTokenStream tokens, TypeCheckerParser.ProgramContext first) {
+        if (first == null) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        ParallelProgramParser.parse(tokens, null);
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Result of one parse: syntax errors, tree and time.
+     */
+    private static class Parse {
+        final List<String> errors = new ArrayList<>();
+        TypeCheckerParser.ProgramContext tree;
+        TypeCheckerParser parser;
+        boolean fellBack;
+        long nanos;
+    }
+
+    private static Parse parse(List<Token> tokens,
+                               Function<TypeCheckerParser, TypeCheckerParser.ProgramContext> mode) {
+        Parse result = new Parse();
+        MainCompiler.ErrorListener listener = new MainCompiler.ErrorListener();
+        TypeCheckerParser parser = new TypeCheckerParser(new CommonTokenStream(new ListTokenSource(tokens)));
+        parser.removeErrorListeners();
+        parser.addErrorListener(listener);
+
+        long start = System.nanoTime();
+        TypeCheckerParser.ProgramContext tree = mode.apply(parser);
+        result.nanos = System.nanoTime() - start;
+
+        result.tree = tree;
+        result.parser = parser;
+        result.fellBack = parser.getInterpreter().getPredictionMode() == PredictionMode.LL;
+        for (SemanticError error : listener.getErrors()) {
+            result.errors.add(MainCompiler.formatSyntaxError(error));
+        }
+        return result;
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1e6;
+    }
+
+    private static String shorten(String name) {
+        return name.length() <= 40 ? name : "..." + name.substring(name.length() - 37);
+    }
+}
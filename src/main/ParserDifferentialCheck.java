@@ -0,0 +1,272 @@
+package main;
+
+import semantic.SemanticError;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.tree.*;
+
+import antlr.TypeCheckerLexer;
+import antlr.TypeCheckerParser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Differential check of {@link HandwrittenParser} against the generated
+ * parser. Both parse the given files, synthetic programs and token level
+ * mutations of the files (a token deleted, duplicated, swapped with its
+ * neighbour or replaced). They must accept exactly the same inputs, build
+ * identical trees (context classes, start and stop tokens, parents and
+ * terminals) and agree on the location of the first syntax error.
+ *
+ * Every input is also checked with each parsing mode of
+ * {@link SourceChecker}: generated, hand-written, parallel, declaring
+ * symbols while parsing and measuring statistics. All must report the same
+ * syntax errors in the same order, including on an input that mixes
+ * lexical and syntax errors and is large enough to be parsed in parallel.
+ */
+public class ParserDifferentialCheck {
+    private static final int MAX_REPORTED = 10;
+    private static final String[] REPLACEMENTS = {
+        ";", "(", ")", "{", "}", "[", "]", ".", ",", "=", "+", "-", "++", "!", "?", ":",
+        "x", "Foo", "1", "2.5", "'c'", "\"s\"", "int", "final", "new", "this", "return", "instanceof"
+    };
+    // Lexical errors (an unterminated string, single '&' and '|') between
+    // syntax errors, which modes that lex ahead used to list first
+    private static final String MIXED_ERRORS =
+        "int mixedErrors() {\n"
+        + "  int a = \"x;\n"
+        + "  return 2 & 3 | 4;\n"
+        + "}\n";
+    private static final String[] MODES = { "generated", "handwritten", "parallel", "while-parsing", "stats" };
+    private static final SourceChecker[] CHECKERS = {
+        new SourceChecker(CheckerOptions.DEFAULT),
+        new SourceChecker(CheckerOptions.DEFAULT.withParser(CheckerOptions.Parser.HANDWRITTEN)),
+        new SourceChecker(CheckerOptions.DEFAULT.withParser(CheckerOptions.Parser.PARALLEL)),
+        new SourceChecker(CheckerOptions.DEFAULT.withDeclareWhileParsing(true)),
+        new SourceChecker(CheckerOptions.DEFAULT)
+    };
+
+    private int checked = 0;
+    private int accepted = 0;
+    private int rejected = 0;
+    private final List<String> mismatches = new ArrayList<>();
+
+    public static void main(String[] args) {
+        int mutations = 200;
+        long seed = 42;
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--mutations") && i + 1 < args.length) {
+                mutations = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--seed") && i + 1 < args.length) {
+                seed = Long.parseLong(args[++i]);
+            } else {
+                inputs.add(args[i]);
+            }
+        }
+
+        // The symbol table builder's debug output would drown the report
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        ParserDifferentialCheck check = new ParserDifferentialCheck();
+        Random random = new Random(seed);
+        try {
+            for (String input : inputs) {
+                for (Path file : expand(Paths.get(input))) {
+                    String text = SourceText.read(file).toString();
+                    check.compare(file.toString(), text);
+                    for (int i = 0; i < mutations; i++) {
+                        check.compare(file + " mutation " + i, mutate(text, random));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Check failed: " + e.getMessage());
+            System.exit(1);
+        }
+        check.compare("synthetic-20", SyntheticProgram.generate(20));
+        check.compare("mixed-errors", SyntheticProgram.generate(20) + MIXED_ERRORS);
+
+        out.println("Checked " + check.checked + " inputs: " + check.accepted + " accepted and "
+            + check.rejected + " rejected by both parsers, " + check.mismatches.size() + " mismatches");
+        for (String mismatch : check.mismatches.subList(0, Math.min(MAX_REPORTED, check.mismatches.size()))) {
+            out.println("  " + mismatch);
+        }
+        System.exit(check.mismatches.isEmpty() ? 0 : 1);
+    }
+
+    private static List<Path> expand(Path input) throws IOException {
+        if (!Files.isDirectory(input)) {
+            return List.of(input);
+        }
+        try (Stream<Path> files = Files.list(input)) {
+            return files.filter(file -> file.toString().endsWith(".tc")).sorted().toList();
+        }
+    }
+
+    /**
+     * Apply one random token level edit.
+     */
+    private static String mutate(String text, Random random) {
+        List<? extends Token> tokens = lex(text);
+        if (tokens.size() < 2) {
+            return text;
+        }
+        // Never pick the EOF token
+        Token token = tokens.get(random.nextInt(tokens.size() - 1));
+        int start = token.getStartIndex();
+        int end = token.getStopIndex() + 1;
+        String replacement = REPLACEMENTS[random.nextInt(REPLACEMENTS.length)];
+        switch (random.nextInt(4)) {
+            case 0:
+                return text.substring(0, start) + text.substring(end);
+            case 1:
+                return text.substring(0, end) + " " + token.getText() + text.substring(end);
+            case 2:
+                int index = token.getTokenIndex();
+                if (index + 2 >= tokens.size()) {
+                    return text.substring(0, start) + text.substring(end);
+                }
+                Token next = tokens.get(index + 1);
+                return text.substring(0, start) + next.getText()
+                    + text.substring(end, next.getStartIndex()) + token.getText()
+                    + text.substring(next.getStopIndex() + 1);
+            default:
+                return text.substring(0, start) + replacement + text.substring(end);
+        }
+    }
+
+    private static List<? extends Token> lex(String text) {
+        TypeCheckerLexer lexer = new TypeCheckerLexer(CharStreams.fromString(text));
+        lexer.removeErrorListeners();
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        tokens.fill();
+        return tokens.getTokens();
+    }
+
+    private void compare(String name, String text) {
+        checked++;
+        compareSyntaxErrors(name, text);
+        List<? extends Token> tokens = lex(text);
+
+        // The hand-written parser stops at the error the generated parser
+        // reports first, which need not be the first in source order
+        List<SemanticError> reported = new ArrayList<>();
+        TypeCheckerParser generated = new TypeCheckerParser(new CommonTokenStream(new ListTokenSource(tokens)));
+        generated.removeErrorListeners();
+        generated.addErrorListener(new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                                    int charPositionInLine, String msg, RecognitionException e) {
+                reported.add(new SemanticError(line, charPositionInLine, msg, SemanticError.ErrorType.SYNTAX_ERROR));
+            }
+        });
+        ParseTree expected = ProgramParser.parse(generated);
+
+        HandwrittenParser handwritten = new HandwrittenParser(tokens);
+        ParseTree actual = handwritten.parseProgram();
+
+        if (!reported.isEmpty()) {
+            SemanticError first = reported.get(0);
+            Token errorToken = handwritten.getErrorToken();
+            if (actual != null) {
+                mismatches.add(name + ": accepted, generated parser reports " + format(first));
+            } else if (errorToken.getLine() != first.getLine()
+                    || errorToken.getCharPositionInLine() != first.getColumn()) {
+                mismatches.add(name + ": first error at " + errorToken.getLine() + ":"
+                    + errorToken.getCharPositionInLine() + ", generated parser reports " + format(first));
+            } else {
+                rejected++;
+            }
+        } else if (actual == null) {
+            Token errorToken = handwritten.getErrorToken();
+            mismatches.add(name + ": rejected at " + errorToken.getLine() + ":"
+                + errorToken.getCharPositionInLine() + ", generated parser accepts it");
+        } else {
+            String difference = difference(expected, actual, null);
+            if (difference != null) {
+                mismatches.add(name + ": " + difference);
+            } else {
+                accepted++;
+            }
+        }
+    }
+
+    /**
+     * Check the input in every mode and compare the syntax errors with
+     * those of the generated parser.
+     */
+    private void compareSyntaxErrors(String name, String text) {
+        SourceText source = SourceText.of(name, text);
+        List<String> expected = null;
+        for (int mode = 0; mode < MODES.length; mode++) {
+            CheckStats stats = MODES[mode].equals("stats") ? new CheckStats() : null;
+            List<String> errors = new ArrayList<>();
+            for (SemanticError error : CHECKERS[mode].check(name, source, stats).getSyntaxErrors()) {
+                errors.add(format(error));
+            }
+            if (expected == null) {
+                expected = errors;
+            } else if (!errors.equals(expected)) {
+                mismatches.add(name + ": syntax errors with " + MODES[mode] + " are " + errors
+                    + ", generated parser reports " + expected);
+            }
+        }
+    }
+
+    private static String format(SemanticError error) {
+        return error.getLine() + ":" + error.getColumn() + " " + error.getMessage();
+    }
+
+    /**
+     * First difference between two trees, or null if they are identical.
+     */
+    private static String difference(ParseTree expected, ParseTree actual, ParseTree parent) {
+        if (expected.getClass() != actual.getClass()) {
+            return "expected " + describe(expected) + " but got " + describe(actual);
+        }
+        if (actual.getParent() != parent) {
+            return "wrong parent for " + describe(actual);
+        }
+        if (expected instanceof TerminalNode) {
+            Token expectedToken = ((TerminalNode) expected).getSymbol();
+            Token actualToken = ((TerminalNode) actual).getSymbol();
+            return expectedToken.getTokenIndex() == actualToken.getTokenIndex() ? null
+                : "expected token " + expectedToken + " but got " + actualToken;
+        }
+        ParserRuleContext expectedRule = (ParserRuleContext) expected;
+        ParserRuleContext actualRule = (ParserRuleContext) actual;
+        if (index(expectedRule.getStart()) != index(actualRule.getStart())
+                || index(expectedRule.getStop()) != index(actualRule.getStop())) {
+            return "start or stop token differs for " + describe(actual);
+        }
+        if (expected.getChildCount() != actual.getChildCount()) {
+            return "child count differs for " + describe(actual);
+        }
+        for (int i = 0; i < expected.getChildCount(); i++) {
+            String difference = difference(expected.getChild(i), actual.getChild(i), actual);
+            if (difference != null) {
+                return difference;
+            }
+        }
+        return null;
+    }
+
+    private static int index(Token token) {
+        return token == null ? -2 : token.getTokenIndex();
+    }
+
+    private static String describe(ParseTree tree) {
+        String text = tree.getText();
+        if (text.length() > 40) {
+            text = text.substring(0, 37) + "...";
+        }
+        return tree.getClass().getSimpleName() + " '" + text + "'";
+    }
+}
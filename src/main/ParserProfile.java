@@ -0,0 +1,130 @@
+package main;
+
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.DecisionInfo;
+import org.antlr.v4.runtime.atn.DecisionState;
+import org.antlr.v4.runtime.atn.ParseInfo;
+
+import java.util.*;
+
+/**
+ * Per-decision prediction statistics of one parse, as collected by ANTLR's
+ * profiling ATN simulator for --profile-parser. Every decision is named
+ * after the TypeChecker.g4 rule it belongs to, so the decisions where
+ * parse time goes can be traced back to the grammar.
+ */
+public class ParserProfile {
+
+    /**
+     * Statistics of one grammar decision.
+     */
+    public static class Decision {
+        private final int number;
+        private final String rule;
+        private final long invocations;
+        private final long timeNanos;
+        private final long sllTotalLook;
+        private final long sllMaxLook;
+        private final long llFallbacks;
+        private final long llTotalLook;
+        private final long llMaxLook;
+        private final int ambiguities;
+        private final int contextSensitivities;
+        private final int errors;
+
+        Decision(DecisionInfo info, String rule) {
+            this.number = info.decision;
+            this.rule = rule;
+            this.invocations = info.invocations;
+            this.timeNanos = info.timeInPrediction;
+            this.sllTotalLook = info.SLL_TotalLook;
+            this.sllMaxLook = info.SLL_MaxLook;
+            this.llFallbacks = info.LL_Fallback;
+            this.llTotalLook = info.LL_TotalLook;
+            this.llMaxLook = info.LL_MaxLook;
+            this.ambiguities = info.ambiguities.size();
+            this.contextSensitivities = info.contextSensitivities.size();
+            this.errors = info.errors.size();
+        }
+
+        /**
+         * Average number of tokens looked at per invocation, SLL and full
+         * LL lookahead together.
+         */
+        public double getAverageLook() {
+            return invocations == 0 ? 0 : (double) (sllTotalLook + llTotalLook) / invocations;
+        }
+
+        // Getters
+        public int getNumber() { return number; }
+        public String getRule() { return rule; }
+        public long getInvocations() { return invocations; }
+        public long getTimeNanos() { return timeNanos; }
+        public long getSllMaxLook() { return sllMaxLook; }
+        public long getLlFallbacks() { return llFallbacks; }
+        public long getLlMaxLook() { return llMaxLook; }
+        public int getAmbiguities() { return ambiguities; }
+        public int getContextSensitivities() { return contextSensitivities; }
+        public int getErrors() { return errors; }
+    }
+
+    private final List<Decision> decisions = new ArrayList<>();
+    private final long totalTimeNanos;
+
+    /**
+     * Collect the statistics of a parser that ran with profiling on.
+     * Decisions that were never invoked are left out; the rest are sorted
+     * by prediction time, slowest first.
+     */
+    public static ParserProfile of(Parser parser) {
+        ParseInfo info = parser.getParseInfo();
+        if (info == null) {
+            throw new IllegalArgumentException("Profiling is not enabled for this parser");
+        }
+        return new ParserProfile(parser, info);
+    }
+
+    private ParserProfile(Parser parser, ParseInfo info) {
+        long total = 0;
+        for (DecisionInfo decision : info.getDecisionInfo()) {
+            if (decision.invocations == 0) {
+                continue;
+            }
+            DecisionState state = parser.getATN().getDecisionState(decision.decision);
+            decisions.add(new Decision(decision, parser.getRuleNames()[state.ruleIndex]));
+            total += decision.timeInPrediction;
+        }
+        decisions.sort(Comparator.comparingLong(Decision::getTimeNanos).reversed());
+        this.totalTimeNanos = total;
+    }
+
+    /**
+     * Single JSON object with one entry per invoked decision.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"totalTimeNanos\":").append(totalTimeNanos).append(",\"decisions\":[");
+        for (int i = 0; i < decisions.size(); i++) {
+            Decision decision = decisions.get(i);
+            if (i > 0) json.append(',');
+            json.append("{\"decision\":").append(decision.number)
+                .append(",\"rule\":").append(DiagnosticsJson.quote(decision.rule))
+                .append(",\"invocations\":").append(decision.invocations)
+                .append(",\"timeNanos\":").append(decision.timeNanos)
+                .append(",\"sllTotalLook\":").append(decision.sllTotalLook)
+                .append(",\"sllMaxLook\":").append(decision.sllMaxLook)
+                .append(",\"llFallbacks\":").append(decision.llFallbacks)
+                .append(",\"llTotalLook\":").append(decision.llTotalLook)
+                .append(",\"llMaxLook\":").append(decision.llMaxLook)
+                .append(",\"ambiguities\":").append(decision.ambiguities)
+                .append(",\"contextSensitivities\":").append(decision.contextSensitivities)
+                .append(",\"errors\":").append(decision.errors).append('}');
+        }
+        json.append("]}\n");
+        return json.toString();
+    }
+
+    // Getters
+    public List<Decision> getDecisions() { return decisions; }
+    public long getTotalTimeNanos() { return totalTimeNanos; }
+}
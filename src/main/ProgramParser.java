@@ -0,0 +1,65 @@
+package main;
+
+import semantic.AnalysisCounters;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import antlr.TypeCheckerParser;
+
+import java.util.*;
+
+/**
+ * Parses a whole program with the usual two-stage strategy.
+ *
+ * The first stage uses SLL prediction, which never needs full context
+ * lookahead, and gives up at the first syntax error. Nearly all valid
+ * input parses in this stage. If it fails, because the input has an
+ * error or because SLL prediction, which ignores the calling context,
+ * chose a wrong alternative, the tokens are rewound and the
+ * program is parsed again in full LL mode with normal error recovery and
+ * reporting. Input that SLL accepts is valid for LL as well, so the syntax
+ * diagnostics are exactly those of a single LL parse.
+ */
+public final class ProgramParser {
+
+    private ProgramParser() {
+    }
+
+    /**
+     * Parse in SLL mode first and in full LL mode only if that fails.
+     * Syntax errors are reported to the parser's error listeners by the
+     * LL stage only.
+     */
+    public static TypeCheckerParser.ProgramContext parse(TypeCheckerParser parser) {
+        ANTLRErrorStrategy errorHandler = parser.getErrorHandler();
+        List<ANTLRErrorListener> listeners = new ArrayList<>(parser.getErrorListeners());
+
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.removeErrorListeners();
+        try {
+            return parser.program();
+        } catch (ParseCancellationException e) {
+            AnalysisCounters.increment(AnalysisCounters.Counter.FULL_LL_REPARSES);
+        } finally {
+            parser.setErrorHandler(errorHandler);
+            for (ANTLRErrorListener listener : listeners) {
+                parser.addErrorListener(listener);
+            }
+        }
+
+        // Rewinds the token stream as well
+        parser.reset();
+        return parseLL(parser);
+    }
+
+    /**
+     * Parse in full LL mode only, as the parser does by default.
+     */
+    public static TypeCheckerParser.ProgramContext parseLL(TypeCheckerParser parser) {
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        return parser.program();
+    }
+}
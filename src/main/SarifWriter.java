@@ -0,0 +1,115 @@
+package main;
+
+import semantic.SemanticError;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Writes diagnostics as a SARIF 2.1.0 log with a single run.
+ *
+ * Results are streamed as files are checked. The tool description, with
+ * one rule per error type that occurred, is written after the results
+ * when the writer is closed, so nothing has to be held in memory.
+ */
+public class SarifWriter implements DiagnosticsWriter {
+    private static final String TOOL_NAME = "TypeChecker";
+
+    private final Writer out;
+    private final Set<SemanticError.ErrorType> rules = EnumSet.noneOf(SemanticError.ErrorType.class);
+    // File name and reason of each file whose checking stopped early
+    private final List<String[]> truncated = new ArrayList<>();
+    private boolean firstResult = true;
+
+    public SarifWriter(Writer out) {
+        this.out = out;
+        try {
+            out.write("{\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\","
+                + "\"version\":\"2.1.0\",\"runs\":[{\"results\":[");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void write(CheckResult result) throws IOException {
+        for (SemanticError error : result.getSyntaxErrors()) {
+            writeResult(result.getFileName(), error);
+        }
+        for (SemanticError error : result.getErrors()) {
+            writeResult(result.getFileName(), error);
+        }
+        if (result.isTruncated()) {
+            truncated.add(new String[] {result.getFileName(), result.getTruncationReason()});
+        }
+        out.flush();
+    }
+
+    private void writeResult(String file, SemanticError error) throws IOException {
+        rules.add(error.getErrorType());
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(firstResult ? "\n" : ",\n");
+        firstResult = false;
+        sb.append("{\"ruleId\":").append(DiagnosticsJson.quote(error.getErrorType().name()));
+        sb.append(",\"level\":\"error\"");
+        sb.append(",\"message\":{\"text\":").append(DiagnosticsJson.quote(error.getMessage())).append("}");
+        sb.append(",\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":")
+          .append(DiagnosticsJson.quote(toUri(file))).append("}");
+        if (error.getLine() > 0) {
+            // SARIF columns are 1-based
+            sb.append(",\"region\":{\"startLine\":").append(error.getLine())
+              .append(",\"startColumn\":").append(error.getColumn() + 1).append("}");
+        }
+        sb.append("}}]");
+        if (!error.getSuggestion().isEmpty()) {
+            sb.append(",\"properties\":{\"suggestion\":")
+              .append(DiagnosticsJson.quote(error.getSuggestion())).append("}");
+        }
+        sb.append("}");
+        out.write(sb.toString());
+    }
+
+    private static String toUri(String file) {
+        try {
+            Path path = Paths.get(file);
+            if (path.isAbsolute()) {
+                return path.toUri().toString();
+            }
+        } catch (InvalidPathException e) {
+            // Not a path, e.g. <stdin>
+        }
+        // Relative URIs use forward slashes on every platform
+        return file.replace(File.separatorChar, '/');
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n],\"columnKind\":\"unicodeCodePoints\",\"tool\":{\"driver\":{\"name\":")
+          .append(DiagnosticsJson.quote(TOOL_NAME)).append(",\"rules\":[");
+        boolean first = true;
+        for (SemanticError.ErrorType type : rules) {
+            if (!first) sb.append(",");
+            first = false;
+            sb.append("{\"id\":").append(DiagnosticsJson.quote(type.name()))
+              .append(",\"shortDescription\":{\"text\":")
+              .append(DiagnosticsJson.quote(type.getDescription())).append("}}");
+        }
+        sb.append("]}}");
+        // Files whose checking stopped early are reported as tool notifications
+        sb.append(",\"invocations\":[{\"executionSuccessful\":true,\"toolExecutionNotifications\":[");
+        for (int i = 0; i < truncated.size(); i++) {
+            String[] file = truncated.get(i);
+            if (i > 0) sb.append(",");
+            sb.append("{\"level\":\"warning\",\"message\":{\"text\":")
+              .append(DiagnosticsJson.quote("Analysis truncated: " + file[1]))
+              .append("},\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":")
+              .append(DiagnosticsJson.quote(toUri(file[0]))).append("}}}]}");
+        }
+        sb.append("]}]}]}\n");
+        out.write(sb.toString());
+        out.close();
+    }
+}
@@ -0,0 +1,91 @@
+package main;
+
+import semantic.Symbol;
+import semantic.SymbolTable;
+import semantic.symbols.ClassSymbol;
+import semantic.symbols.ConstructorSymbol;
+import semantic.symbols.FunctionSymbol;
+import semantic.symbols.VariableSymbol;
+
+import java.util.*;
+
+/**
+ * Flattened, display-only view of a scope tree: for every scope its name,
+ * one row per symbol and its child scopes. This is what the report shows
+ * and what the analysis cache stores, so a cached result can be rendered
+ * without the live symbol table.
+ */
+public class ScopeSummary {
+    private final String scopeName;
+    private final List<Row> rows = new ArrayList<>();
+    private final List<ScopeSummary> children = new ArrayList<>();
+
+    /**
+     * One symbol as shown in the report.
+     */
+    public static class Row {
+        private final String name;
+        private final String type;
+        private final String kind;
+        private final int line;
+
+        public Row(String name, String type, String kind, int line) {
+            this.name = name;
+            this.type = type;
+            this.kind = kind;
+            this.line = line;
+        }
+
+        public String getName() { return name; }
+        public String getType() { return type; }
+        public String getKind() { return kind; }
+        public int getLine() { return line; }
+    }
+
+    public ScopeSummary(String scopeName) {
+        this.scopeName = scopeName;
+    }
+
+    /**
+     * Summarize a scope and all of its nested scopes.
+     */
+    public static ScopeSummary of(SymbolTable scope) {
+        ScopeSummary summary = new ScopeSummary(scope.getScopeName());
+        for (Symbol symbol : scope.getSymbols().values()) {
+            summary.rows.add(new Row(symbol.getName(), symbol.getType().toString(),
+                getSymbolKind(symbol), symbol.getLine()));
+        }
+        for (SymbolTable child : scope.getChildren()) {
+            summary.children.add(of(child));
+        }
+        return summary;
+    }
+
+    private static String getSymbolKind(Symbol symbol) {
+        if (symbol instanceof VariableSymbol) {
+            VariableSymbol var = (VariableSymbol) symbol;
+            String kind = "Variable";
+            if (var.isStatic()) kind = "Static " + kind;
+            if (var.isFinal()) kind = "Final " + kind;
+            return kind;
+        } else if (symbol instanceof FunctionSymbol) {
+            FunctionSymbol func = (FunctionSymbol) symbol;
+            String kind = "Function";
+            if (func.isStatic()) kind = "Static " + kind;
+            return kind;
+        } else if (symbol instanceof ClassSymbol) {
+            return "Class";
+        } else if (symbol instanceof ConstructorSymbol) {
+            return "Constructor";
+        }
+        return "Unknown";
+    }
+
+    public void addRow(Row row) { rows.add(row); }
+    public void addChild(ScopeSummary child) { children.add(child); }
+
+    // Getters
+    public String getScopeName() { return scopeName; }
+    public List<Row> getRows() { return rows; }
+    public List<ScopeSummary> getChildren() { return children; }
+}
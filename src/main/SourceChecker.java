@@ -0,0 +1,320 @@
+package main;
+
+import semantic.*;
+import semantic.analysis.NameBinder;
+import semantic.analysis.NameBindings;
+import semantic.analysis.SymbolTableBuilder;
+import semantic.analysis.SymbolTableListener;
+import semantic.analysis.TypeChecker;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.tree.*;
+
+import antlr.TypeCheckerLexer;
+import antlr.TypeCheckerParser;
+
+import java.io.PrintStream;
+import java.util.*;
+
+/**
+ * Runs the lexer, parser, symbol table builder and type checker over one
+ * source text. All error state lives in the returned {@link CheckResult},
+ * so a single instance can be shared by several worker threads.
+ */
+public class SourceChecker {
+    private final CheckerOptions options;
+
+    /**
+     * Create a checker with the given settings. Throws
+     * IllegalArgumentException if they cannot be combined.
+     */
+    public SourceChecker(CheckerOptions options) {
+        options.validate();
+        this.options = options;
+    }
+
+    /**
+     * A token with this checker's limits whose time budget starts now.
+     * Pass it to {@link #check(String, SourceText, CheckStats, CancellationToken)}
+     * to be able to cancel the check from another thread.
+     */
+    public CancellationToken newCancellationToken() {
+        return new CancellationToken(options.getMaxErrors(), options.getTimeBudgetMillis());
+    }
+
+    public CheckResult check(String fileName, String source) {
+        return check(fileName, SourceText.of(fileName, source));
+    }
+
+    public CheckResult check(String fileName, SourceText source) {
+        return check(fileName, source, null);
+    }
+
+    /**
+     * Check a source, measuring every phase into the given statistics if
+     * it is not null. When measuring, the whole input is lexed before
+     * parsing starts so the two phases can be timed separately. Syntax
+     * errors are listed in source order, so this does not change them.
+     */
+    public CheckResult check(String fileName, SourceText source, CheckStats stats) {
+        return check(fileName, source, stats, newCancellationToken());
+    }
+
+    /**
+     * Check a source until it is done or the token stops it. A stopped
+     * check returns what was found so far, marked as truncated.
+     */
+    public CheckResult check(String fileName, SourceText source, CheckStats stats,
+                             CancellationToken cancellation) {
+        if (stats != null) {
+            stats.beginFile();
+        }
+        try {
+            return runPhases(fileName, source, stats, cancellation);
+        } finally {
+            if (stats != null) {
+                stats.endFile();
+            }
+        }
+    }
+
+    private CheckResult runPhases(String fileName, SourceText source, CheckStats stats,
+                                  CancellationToken cancellation) {
+        MainCompiler.ErrorListener errorListener = new MainCompiler.ErrorListener();
+
+        // Create lexer; it decodes straight from the source buffer
+        TokenSource lexer;
+        if (options.isHandwrittenLexer()) {
+            HandwrittenLexer handwritten = new HandwrittenLexer(source.newCharStream());
+            handwritten.removeErrorListeners();
+            handwritten.addErrorListener(errorListener);
+            lexer = handwritten;
+        } else {
+            TypeCheckerLexer generated = new TypeCheckerLexer(source.newCharStream());
+            generated.removeErrorListeners();
+            generated.addErrorListener(errorListener);
+            lexer = generated;
+        }
+
+        // Create parser; the token attributes are kept in compact arrays and
+        // identifiers are interned once, for the symbol tables to key on
+        NameTable names = new NameTable();
+        CompactTokenStream tokens = new CompactTokenStream(lexer, names);
+        Phases phases = new Phases(stats, fileName);
+        if (stats != null) {
+            phases.begin(CheckStats.Phase.LEXING);
+            tokens.fill();
+            phases.end();
+        }
+        TypeCheckerParser parser = new TypeCheckerParser(tokens);
+        parser.removeErrorListeners();
+        parser.addErrorListener(errorListener);
+        parser.addParseListener(new CheckpointListener(cancellation));
+        if (options.isProfileParser()) {
+            parser.setProfile(true);
+        }
+        SymbolTableListener symbolListener = null;
+        if (options.isDeclareWhileParsing()) {
+            // Classes are declared up front, as by the builder's first pass;
+            // lexing ahead does not change the syntax errors, which the
+            // listener keeps in source order
+            tokens.fill();
+            symbolListener = new SymbolTableListener(parser, names, classNames(tokens),
+                cancellation.getMaxErrors());
+            parser.addParseListener(symbolListener);
+        }
+
+        ParseTree tree = null;
+        ParserProfile profile = null;
+        SymbolTableBuilder symbolBuilder = null;
+        TypeChecker typeChecker = null;
+        try {
+            // Parse
+            phases.begin(CheckStats.Phase.PARSING);
+            if (options.getParser() == CheckerOptions.Parser.HANDWRITTEN) {
+                tokens.fill();
+                HandwrittenParser handwritten = new HandwrittenParser(tokens.getTokens());
+                handwritten.addParseListener(new CheckpointListener(cancellation));
+                tree = handwritten.parseProgram();
+            }
+            if (options.getParser() == CheckerOptions.Parser.PARALLEL) {
+                tree = ParallelProgramParser.parse(tokens, new CheckpointListener(cancellation));
+            }
+            if (options.isProfileParser()) {
+                tree = ProgramParser.parseLL(parser);
+                profile = ParserProfile.of(parser);
+            } else if (tree == null) {
+                tree = ProgramParser.parse(parser);
+            }
+            phases.end();
+
+            if (errorListener.hasErrors()) {
+                CheckResult result = new CheckResult(fileName, source, tree,
+                    errorListener.getErrors(), new ArrayList<>(), null);
+                result.setParserProfile(profile);
+                return result;
+            }
+
+            // First pass: Build symbol table
+            log("Building symbol table...");
+            phases.begin(CheckStats.Phase.SYMBOL_TABLE);
+            if (symbolListener != null) {
+                symbolBuilder = symbolListener.getBuilder();
+                symbolListener.finish(cancellation);
+            } else {
+                symbolBuilder = new SymbolTableBuilder(names);
+                symbolBuilder.setCancellation(cancellation);
+                symbolBuilder.visit(tree);
+            }
+            phases.end();
+
+            phases.begin(CheckStats.Phase.NAME_BINDING);
+            NameBindings bindings = new NameBinder(symbolBuilder).bind(tree, tokens);
+            phases.end();
+
+            // Second pass: Type checking
+            log("Performing type checking...");
+            phases.begin(CheckStats.Phase.TYPE_CHECKING);
+            typeChecker = new TypeChecker(symbolBuilder);
+            typeChecker.setCancellation(cancellation);
+            typeChecker.setBindings(bindings);
+            typeChecker.visit(tree);
+            phases.end();
+        } catch (CheckCancelledException e) {
+            // Keep whatever the passes found before they were stopped
+            log("Checking stopped: " + e.getMessage());
+        } finally {
+            // A phase cut short still counts, up to where it stopped
+            phases.end();
+        }
+
+        // Combine errors
+        List<SemanticError> allErrors = new ArrayList<>();
+        if (symbolBuilder != null) {
+            allErrors.addAll(symbolBuilder.getErrors());
+        }
+        if (typeChecker != null) {
+            allErrors.addAll(typeChecker.getErrors());
+        }
+
+        // Sort errors by line number
+        allErrors.sort(SemanticError::compareTo);
+
+        SymbolTable globalScope = symbolBuilder != null ?
+            symbolBuilder.getGlobalScope() : SymbolTable.createGlobalScope();
+        CheckResult result;
+        if (cancellation.isCancelled()) {
+            // Errors found between the last checkpoint and the limit are over budget
+            int limit = cancellation.getMaxErrors();
+            List<SemanticError> kept = allErrors.size() > limit ?
+                new ArrayList<>(allErrors.subList(0, limit)) : allErrors;
+            result = new CheckResult(fileName, source, tree,
+                errorListener.getErrors(), kept, globalScope);
+            result.markTruncated(cancellation.getReason());
+        } else {
+            result = new CheckResult(fileName, source, tree,
+                errorListener.getErrors(), allErrors, globalScope);
+        }
+        result.setParserProfile(profile);
+        return result;
+    }
+
+    /**
+     * Tokens of the names of the declared classes, in source order.
+     */
+    private static List<Token> classNames(CompactTokenStream tokens) {
+        List<Token> classNames = new ArrayList<>();
+        for (int i = 0; i + 1 < tokens.size(); i++) {
+            if (tokens.getType(i) == TypeCheckerLexer.CLASS && tokens.getType(i + 1) == TypeCheckerLexer.ID) {
+                classNames.add(tokens.get(i + 1));
+            }
+        }
+        return classNames;
+    }
+
+    /**
+     * Checks the cancellation token each time the parser completes a
+     * statement or declaration.
+     */
+    private static class CheckpointListener implements ParseTreeListener {
+        private final CancellationToken cancellation;
+
+        CheckpointListener(CancellationToken cancellation) {
+            this.cancellation = cancellation;
+        }
+
+        @Override
+        public void exitEveryRule(ParserRuleContext ctx) {
+            if (ctx instanceof TypeCheckerParser.StatementContext
+                    || ctx instanceof TypeCheckerParser.DeclarationContext) {
+                cancellation.checkpoint();
+            }
+        }
+
+        @Override
+        public void enterEveryRule(ParserRuleContext ctx) {
+        }
+
+        @Override
+        public void visitTerminal(TerminalNode node) {
+        }
+
+        @Override
+        public void visitErrorNode(ErrorNode node) {
+        }
+    }
+
+    /**
+     * The phases of checking one file. Each is measured by a flight
+     * recorder event if the recorder is running, and by the statistics if
+     * wanted.
+     */
+    private static class Phases {
+        private final CheckStats stats;
+        private final String fileName;
+        private CheckStats.Phase current;
+        private CheckPhaseEvent event;
+
+        Phases(CheckStats stats, String fileName) {
+            this.stats = stats;
+            this.fileName = fileName;
+        }
+
+        void begin(CheckStats.Phase phase) {
+            current = phase;
+            if (stats != null) {
+                stats.begin(phase);
+            }
+            if (FlightRecording.isActive()) {
+                event = new CheckPhaseEvent();
+                event.begin();
+            }
+        }
+
+        /**
+         * End the running phase, if there is one.
+         */
+        void end() {
+            if (current == null) {
+                return;
+            }
+            if (event != null) {
+                event.finish(fileName, current.getDescription());
+                event = null;
+            }
+            if (stats != null) {
+                stats.end(current);
+            }
+            current = null;
+        }
+    }
+
+    // Getters
+    public CheckerOptions getOptions() { return options; }
+
+    private void log(String message) {
+        if (options.getProgress() != null) {
+            options.getProgress().println(message);
+        }
+    }
+}
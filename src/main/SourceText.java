@@ -0,0 +1,169 @@
+package main;
+
+import org.antlr.v4.runtime.CharStream;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.util.*;
+
+/**
+ * UTF-8 source text held in a single byte buffer. The lexer, the error
+ * context and the report's source view all read from this buffer, so a
+ * file is never copied into a String just to be checked.
+ *
+ * Files are memory-mapped. That is only safe while nobody rewrites the
+ * file, so long-running modes that watch files change should use
+ * {@link #read(Path)}, which copies the bytes once onto the heap.
+ */
+public class SourceText {
+    /** Input path that stands for standard input. */
+    public static final String STDIN = "-";
+    private static final String STDIN_NAME = "<stdin>";
+
+    private final String name;
+    private final ByteBuffer bytes;
+    // Byte offset of the start of every line, built on first use
+    private int[] lineStarts;
+    private int lineCount;
+
+    private SourceText(String name, ByteBuffer bytes) {
+        this.name = name;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Open an input path from the command line: "-" reads standard input,
+     * anything else is memory-mapped.
+     */
+    public static SourceText open(String path) throws IOException {
+        if (path.equals(STDIN)) {
+            return read(System.in, STDIN_NAME);
+        }
+        return map(Paths.get(path));
+    }
+
+    /**
+     * Memory-map a file.
+     */
+    public static SourceText map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new SourceText(file.toString(), mapped);
+        }
+    }
+
+    /**
+     * Read a file into a heap buffer.
+     */
+    public static SourceText read(Path file) throws IOException {
+        return new SourceText(file.toString(), ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * Read a stream to its end.
+     */
+    public static SourceText read(InputStream in, String name) throws IOException {
+        return new SourceText(name, ByteBuffer.wrap(in.readAllBytes()));
+    }
+
+    public static SourceText of(String name, String text) {
+        return new SourceText(name, ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * A new character stream over the text, positioned at its start.
+     */
+    public CharStream newCharStream() {
+        return new Utf8CharStream(bytes, name);
+    }
+
+    /**
+     * Number of lines, counted like String.split("\n") counts them: trailing
+     * empty lines are not included.
+     */
+    public int getLineCount() {
+        indexLines();
+        return lineCount;
+    }
+
+    /**
+     * Text of a line without its newline. Lines are numbered from 1.
+     */
+    public String getLine(int lineNumber) {
+        indexLines();
+        if (lineNumber < 1 || lineNumber > lineCount) {
+            throw new IndexOutOfBoundsException("Line " + lineNumber + " of " + lineCount);
+        }
+        int start = lineStarts[lineNumber - 1];
+        int end = lineNumber < lineStarts.length ? lineStarts[lineNumber] - 1 : bytes.limit();
+        return decode(start, end);
+    }
+
+    private void indexLines() {
+        if (lineStarts != null) {
+            return;
+        }
+        int limit = bytes.limit();
+        int[] starts = new int[16];
+        int count = 1;
+        for (int i = 0; i < limit; i++) {
+            if (bytes.get(i) == '\n') {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = i + 1;
+            }
+        }
+        lineStarts = Arrays.copyOf(starts, count);
+
+        if (limit == 0) {
+            lineCount = 1;
+            return;
+        }
+        // Drop trailing empty lines; a line is empty if it starts at the next line's newline
+        lineCount = count;
+        while (lineCount > 0) {
+            int start = lineStarts[lineCount - 1];
+            int end = lineCount < count ? lineStarts[lineCount] - 1 : limit;
+            if (end > start) break;
+            lineCount--;
+        }
+    }
+
+    private String decode(int start, int end) {
+        ByteBuffer slice = bytes.duplicate();
+        slice.position(start).limit(end);
+        return StandardCharsets.UTF_8.decode(slice).toString();
+    }
+
+    /**
+     * Add the raw bytes to a digest.
+     */
+    public void digest(MessageDigest digest) {
+        digest.update(bytes.duplicate());
+    }
+
+    /**
+     * Check if both texts have exactly the same bytes.
+     */
+    public boolean contentEquals(SourceText other) {
+        return bytes.duplicate().rewind().equals(other.bytes.duplicate().rewind());
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public int getByteLength() { return bytes.limit(); }
+
+    /**
+     * The whole text as a String. This copies the buffer.
+     */
+    @Override
+    public String toString() {
+        return decode(0, bytes.limit());
+    }
+}
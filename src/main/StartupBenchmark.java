@@ -0,0 +1,227 @@
+package main;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.jar.*;
+import java.util.stream.Stream;
+
+/**
+ * Fast-start setup and startup benchmark for single file checks.
+ *
+ * Class data sharing only archives classes that come from jar files, so
+ * the class directories on the current class path are first packed into
+ * a jar. A training run then checks the given file with an HTML report,
+ * which loads nearly every class the checker uses, and writes an AppCDS
+ * archive when it exits. Finally the file is checked repeatedly in new
+ * JVMs, with and without the archive, timing the first diagnostic line
+ * (--format jsonl on standard output) and the exit of the process.
+ *
+ * The archive only matches the JDK and the jar files it was made with;
+ * with anything else the JVM ignores it and starts normally.
+ */
+public class StartupBenchmark {
+    private static final String JAR_NAME = "typechecker.jar";
+    private static final String ARCHIVE_NAME = "typechecker.jsa";
+
+    private final String classPath;
+    private final Path workDir;
+    private final String input;
+    private final String java;
+
+    public StartupBenchmark(String classPath, Path workDir, String input) {
+        this.classPath = classPath;
+        this.workDir = workDir;
+        this.input = input;
+        this.java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    public static void main(String[] args) {
+        int runs = 10;
+        boolean trainOnly = false;
+        String workDir = "startup";
+        String input = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--runs":
+                        runs = Integer.parseInt(args[++i]);
+                        break;
+                    case "--work-dir":
+                        workDir = args[++i];
+                        break;
+                    case "--train-only":
+                        trainOnly = true;
+                        break;
+                    default:
+                        if (args[i].startsWith("--") || input != null) {
+                            throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                        }
+                        input = args[i];
+                }
+            }
+            if (input == null || runs <= 0) {
+                throw new IllegalArgumentException("No input file given");
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: java main.StartupBenchmark [--runs <n>] [--work-dir <dir>]"
+                + " [--train-only] <input-file>");
+            System.exit(1);
+            return;
+        }
+
+        try {
+            StartupBenchmark benchmark = new StartupBenchmark(
+                System.getProperty("java.class.path"), Paths.get(workDir), input);
+            List<String> fastStart = benchmark.train();
+            System.out.println("Fast start: " + String.join(" ", fastStart)
+                + " main.MainCompiler <input-file> [output-file]");
+            if (!trainOnly) {
+                benchmark.run(runs, fastStart);
+            }
+        } catch (IOException e) {
+            System.err.println("Benchmark failed: " + e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Pack the class path into jars and write the archive with a training
+     * run. Returns the JVM command line prefix for a fast start.
+     */
+    public List<String> train() throws IOException, InterruptedException {
+        Files.createDirectories(workDir);
+        String jarClassPath = packClassPath();
+        Path archive = workDir.resolve(ARCHIVE_NAME).toAbsolutePath();
+        Files.deleteIfExists(archive);
+
+        List<String> command = new ArrayList<>(Arrays.asList(
+            java, "-XX:ArchiveClassesAtExit=" + archive, "-cp", jarClassPath, "main.MainCompiler",
+            input, workDir.resolve("training.html").toString()));
+        Process training = new ProcessBuilder(command)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        int exitCode = training.waitFor();
+        if (exitCode > 1 || !Files.exists(archive)) {
+            throw new IOException("Training run did not write " + archive + " (exit code " + exitCode + ")");
+        }
+        System.out.println("Wrote " + archive + " (" + Files.size(archive) / 1024 + " KB)");
+
+        return Arrays.asList(java, "-XX:SharedArchiveFile=" + archive, "-XX:TieredStopAtLevel=1",
+            "-cp", jarClassPath);
+    }
+
+    /**
+     * Put all class directories of the class path into one jar. Jar files
+     * on the class path are kept as they are.
+     */
+    private String packClassPath() throws IOException {
+        Path jar = workDir.resolve(JAR_NAME).toAbsolutePath();
+        List<String> entries = new ArrayList<>();
+        List<Path> directories = new ArrayList<>();
+        for (String entry : classPath.split(File.pathSeparator)) {
+            if (entry.isEmpty()) continue;
+            Path path = Paths.get(entry).toAbsolutePath();
+            if (Files.isDirectory(path)) {
+                directories.add(path);
+            } else {
+                entries.add(path.toString());
+            }
+        }
+        if (directories.isEmpty()) {
+            return String.join(File.pathSeparator, entries);
+        }
+
+        Set<String> written = new HashSet<>();
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (Path directory : directories) {
+                List<Path> files;
+                try (Stream<Path> walk = Files.walk(directory)) {
+                    files = walk.filter(Files::isRegularFile).sorted().toList();
+                }
+                for (Path file : files) {
+                    String name = directory.relativize(file).toString().replace(File.separatorChar, '/');
+                    // The first directory on the class path wins, as for the class loader
+                    if (written.add(name)) {
+                        out.putNextEntry(new JarEntry(name));
+                        Files.copy(file, out);
+                        out.closeEntry();
+                    }
+                }
+            }
+        }
+        entries.add(0, jar.toString());
+        return String.join(File.pathSeparator, entries);
+    }
+
+    /**
+     * Time the default start against the fast start, alternating between
+     * them so that both see the same machine load.
+     */
+    public void run(int runs, List<String> fastStart) throws IOException, InterruptedException {
+        Map<String, List<String>> configurations = new LinkedHashMap<>();
+        configurations.put("default", Arrays.asList(java, "-cp", classPath));
+        List<String> cdsOnly = new ArrayList<>(fastStart);
+        cdsOnly.remove("-XX:TieredStopAtLevel=1");
+        configurations.put("archive", cdsOnly);
+        configurations.put("archive + C1", fastStart);
+
+        Map<String, LatencyStats> firstDiagnostic = new LinkedHashMap<>();
+        Map<String, LatencyStats> total = new LinkedHashMap<>();
+        for (String name : configurations.keySet()) {
+            firstDiagnostic.put(name, new LatencyStats(runs));
+            total.put(name, new LatencyStats(runs));
+        }
+
+        for (int i = 0; i < runs; i++) {
+            for (Map.Entry<String, List<String>> configuration : configurations.entrySet()) {
+                long[] times = time(configuration.getValue());
+                firstDiagnostic.get(configuration.getKey()).record(times[0]);
+                total.get(configuration.getKey()).record(times[1]);
+            }
+        }
+
+        System.out.println("Startup of " + input + " (" + runs + " runs, milliseconds):");
+        System.out.println(String.format(Locale.ROOT, "  %-14s %18s %12s %12s",
+            "Configuration", "First diagnostic", "Total p50", "Total min"));
+        for (String name : configurations.keySet()) {
+            System.out.println(String.format(Locale.ROOT, "  %-14s %18.1f %12.1f %12.1f", name,
+                firstDiagnostic.get(name).percentileMillis(50),
+                total.get(name).percentileMillis(50), total.get(name).percentileMillis(0)));
+        }
+    }
+
+    /**
+     * Check the input once in a new JVM. Returns the nanoseconds until the
+     * first diagnostic line, or until exit for a clean file, and until exit.
+     */
+    private long[] time(List<String> jvm) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(jvm);
+        command.addAll(Arrays.asList("main.MainCompiler", "--format", "jsonl", input));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        long first = -1;
+        try (BufferedReader out = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            while (out.readLine() != null) {
+                if (first < 0) {
+                    first = System.nanoTime() - start;
+                }
+            }
+        }
+        int exitCode = process.waitFor();
+        long end = System.nanoTime() - start;
+        if (exitCode > 1) {
+            throw new IOException("Check failed with exit code " + exitCode + ": " + String.join(" ", command));
+        }
+        return new long[] { first < 0 ? end : first, end };
+    }
+}
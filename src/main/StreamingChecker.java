@@ -0,0 +1,294 @@
+package main;
+
+import semantic.*;
+import semantic.analysis.NameBinder;
+import semantic.analysis.NameBindings;
+import semantic.analysis.SymbolTableBuilder;
+import semantic.analysis.TypeChecker;
+
+import org.antlr.v4.runtime.*;
+
+import antlr.TypeCheckerLexer;
+import antlr.TypeCheckerParser;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Checks a source one top-level declaration at a time and writes the
+ * diagnostics of each declaration as soon as it is checked, so the heap
+ * needed is that of the largest declaration plus the signatures of all
+ * of them, not that of the whole file.
+ *
+ * The source is read three times and never held as a whole, neither as
+ * tokens nor as a tree:
+ * <ol>
+ * <li>The lexer alone finds the class names, which are declared first,
+ * as by the symbol table builder's first pass.</li>
+ * <li>Each declaration is parsed on its own and declared without its
+ * bodies, which leaves the global signature tables: the classes with
+ * their fields, methods and constructors, the functions and the global
+ * variables.</li>
+ * <li>Each declaration is parsed again, the local declarations of its
+ * bodies are added, it is type checked and its diagnostics are written.
+ * Its tree, tokens and block scopes are released before the next one is
+ * read.</li>
+ * </ol>
+ * Declarations are split off the tokens where {@link ParallelProgramParser}
+ * splits them. A source with a lexical or syntax error is checked as a
+ * whole by {@link SourceChecker} instead, which reports the errors of a
+ * whole-file parse.
+ *
+ * The errors are those of a whole-file check, in source order per
+ * declaration. Errors without a position, for undefined classes in
+ * bodies, come with the declaration instead of first. With an error
+ * budget the errors kept can differ, as the signatures are checked before
+ * the bodies.
+ */
+public class StreamingChecker {
+    private static final int SEMI = HandwrittenParser.literal(";");
+    private static final int LBRACE = HandwrittenParser.literal("{");
+    private static final int RBRACE = HandwrittenParser.literal("}");
+
+    private final int maxErrors;
+    private final long timeBudgetMillis;
+    private final boolean handwrittenLexer;
+
+    /**
+     * Create a checker with the limits of {@link SourceChecker} that lexes
+     * with {@link HandwrittenLexer} if handwrittenLexer is set.
+     */
+    public StreamingChecker(int maxErrors, long timeBudgetMillis, boolean handwrittenLexer) {
+        this.maxErrors = maxErrors;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.handwrittenLexer = handwrittenLexer;
+    }
+
+    /**
+     * Check a source, writing its diagnostics to the writer declaration by
+     * declaration. Returns true if it is clean.
+     */
+    public boolean check(String fileName, SourceText source, DiagnosticsWriter diagnostics)
+            throws IOException {
+        MainCompiler.ErrorListener errorListener = new MainCompiler.ErrorListener();
+        List<Token> classNames = classNames(newLexer(source, errorListener));
+        if (errorListener.hasErrors()) {
+            return checkWhole(fileName, source, diagnostics);
+        }
+
+        CancellationToken cancellation = new CancellationToken(maxErrors, timeBudgetMillis);
+        SymbolTableBuilder builder = new SymbolTableBuilder(new NameTable());
+        builder.setCancellation(cancellation);
+        Output output = new Output(fileName, source, diagnostics, cancellation);
+        try {
+            // Signatures
+            for (Token className : classNames) {
+                builder.declareClass(className);
+            }
+            DeclarationReader reader = new DeclarationReader(newLexer(source, null));
+            for (List<Token> chunk = reader.next(); chunk != null; chunk = reader.next()) {
+                TypeCheckerParser.ProgramContext program = ParallelProgramParser.parseChunk(chunk, null);
+                if (program == null) {
+                    return checkWhole(fileName, source, diagnostics);
+                }
+                for (TypeCheckerParser.ImportDeclContext importDecl : program.importDecl()) {
+                    builder.visit(importDecl);
+                }
+                for (TypeCheckerParser.DeclarationContext declaration : program.declaration()) {
+                    builder.declareSignatures(declaration);
+                }
+            }
+            builder.resolveForwardReferences();
+        } catch (CheckCancelledException e) {
+            output.finish(builder.getErrors());
+            return false;
+        }
+        List<SemanticError> signatureErrors = new ArrayList<>(builder.getErrors());
+        signatureErrors.sort(SemanticError::compareTo);
+        builder.getErrors().clear();
+
+        // Bodies
+        Iterator<SemanticError> pending = signatureErrors.iterator();
+        List<SemanticError> errors = new ArrayList<>();
+        SemanticError nextSignatureError = pending.hasNext() ? pending.next() : null;
+        NameBinder binder = new NameBinder(builder);
+        TypeChecker typeChecker = null;
+        try {
+            DeclarationReader reader = new DeclarationReader(newLexer(source, null));
+            for (List<Token> chunk = reader.next(); chunk != null; chunk = reader.next()) {
+                TypeCheckerParser.ProgramContext program = ParallelProgramParser.parseChunk(chunk, null);
+                for (TypeCheckerParser.DeclarationContext declaration : program.declaration()) {
+                    builder.declareBodies(declaration);
+                    NameBindings bindings = binder.bind(declaration, chunk);
+                    typeChecker = new TypeChecker(builder);
+                    typeChecker.setCancellation(cancellation);
+                    typeChecker.setBindings(bindings);
+                    typeChecker.visit(declaration);
+                    builder.releaseBodies();
+
+                    // With the signature errors up to the end of the declaration
+                    int lastLine = declaration.getStop().getLine();
+                    while (nextSignatureError != null && nextSignatureError.getLine() <= lastLine) {
+                        errors.add(nextSignatureError);
+                        nextSignatureError = pending.hasNext() ? pending.next() : null;
+                    }
+                    errors.addAll(builder.getErrors());
+                    errors.addAll(typeChecker.getErrors());
+                    builder.getErrors().clear();
+                    typeChecker = null;
+                    output.write(errors);
+                    errors.clear();
+                }
+            }
+        } catch (CheckCancelledException e) {
+            // Keep what the declaration being checked found so far
+            errors.addAll(builder.getErrors());
+            if (typeChecker != null) {
+                errors.addAll(typeChecker.getErrors());
+            }
+        }
+        if (nextSignatureError != null) {
+            errors.add(nextSignatureError);
+            pending.forEachRemaining(errors::add);
+        }
+        return output.finish(errors);
+    }
+
+    /**
+     * Check the whole source at once, for the errors of a whole-file parse.
+     */
+    private boolean checkWhole(String fileName, SourceText source, DiagnosticsWriter diagnostics)
+            throws IOException {
+        CheckResult result = new SourceChecker(CheckerOptions.DEFAULT.withMaxErrors(maxErrors)
+            .withTimeBudgetMillis(timeBudgetMillis).withHandwrittenLexer(handwrittenLexer)).check(fileName, source);
+        diagnostics.write(result);
+        return result.isClean();
+    }
+
+    private TokenSource newLexer(SourceText source, ANTLRErrorListener errorListener) {
+        if (handwrittenLexer) {
+            HandwrittenLexer lexer = new HandwrittenLexer(source.newCharStream());
+            lexer.removeErrorListeners();
+            if (errorListener != null) {
+                lexer.addErrorListener(errorListener);
+            }
+            return lexer;
+        }
+        TypeCheckerLexer lexer = new TypeCheckerLexer(source.newCharStream());
+        lexer.removeErrorListeners();
+        if (errorListener != null) {
+            lexer.addErrorListener(errorListener);
+        }
+        return lexer;
+    }
+
+    /**
+     * Tokens of the names of the declared classes, in source order.
+     */
+    private static List<Token> classNames(TokenSource lexer) {
+        List<Token> classNames = new ArrayList<>();
+        boolean afterClass = false;
+        for (Token token = lexer.nextToken(); token.getType() != Token.EOF; token = lexer.nextToken()) {
+            if (afterClass && token.getType() == TypeCheckerLexer.ID) {
+                classNames.add(token);
+            }
+            afterClass = token.getType() == TypeCheckerLexer.CLASS;
+        }
+        return classNames;
+    }
+
+    /**
+     * Reads the tokens of one declaration at a time from a lexer. The
+     * imports come as one chunk of their own.
+     */
+    private static class DeclarationReader {
+        private final TokenSource lexer;
+        private Token lookahead;
+
+        DeclarationReader(TokenSource lexer) {
+            this.lexer = lexer;
+            this.lookahead = lexer.nextToken();
+        }
+
+        /**
+         * Tokens up to the next declaration boundary, without the EOF
+         * token, or null at the end of the input.
+         */
+        List<Token> next() {
+            if (lookahead.getType() == Token.EOF) {
+                return null;
+            }
+            List<Token> tokens = new ArrayList<>();
+            int depth = 0;
+            while (true) {
+                Token token = lookahead;
+                tokens.add(token);
+                lookahead = lexer.nextToken();
+                int type = token.getType();
+                if (type == LBRACE) {
+                    depth++;
+                } else if (type == RBRACE) {
+                    depth--;
+                }
+                if (lookahead.getType() == Token.EOF
+                        || depth == 0 && (type == SEMI || type == RBRACE)
+                            && ParallelProgramParser.startsDeclaration(lookahead.getType())) {
+                    return tokens;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the errors of each declaration as a result of its own, within
+     * the error budget.
+     */
+    private static class Output {
+        private final String fileName;
+        private final SourceText source;
+        private final DiagnosticsWriter diagnostics;
+        private final CancellationToken cancellation;
+        private int written = 0;
+
+        Output(String fileName, SourceText source, DiagnosticsWriter diagnostics,
+               CancellationToken cancellation) {
+            this.fileName = fileName;
+            this.source = source;
+            this.diagnostics = diagnostics;
+            this.cancellation = cancellation;
+        }
+
+        void write(List<SemanticError> errors) throws IOException {
+            if (!errors.isEmpty()) {
+                diagnostics.write(result(errors));
+            }
+        }
+
+        /**
+         * Write the last errors, and mark the check as truncated if it was
+         * stopped. Returns true if nothing was written.
+         */
+        boolean finish(List<SemanticError> errors) throws IOException {
+            if (!cancellation.isCancelled()) {
+                write(errors);
+                return written == 0;
+            }
+            CheckResult result = result(errors);
+            result.markTruncated(cancellation.getReason());
+            diagnostics.write(result);
+            return false;
+        }
+
+        private CheckResult result(List<SemanticError> errors) {
+            List<SemanticError> sorted = new ArrayList<>(errors);
+            sorted.sort(SemanticError::compareTo);
+            // Errors found between the last checkpoint and the limit are over budget
+            int room = cancellation.getMaxErrors() - written;
+            if (sorted.size() > room) {
+                sorted = new ArrayList<>(sorted.subList(0, room));
+            }
+            written += sorted.size();
+            return new CheckResult(fileName, source, null, new ArrayList<>(), sorted, null);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package main;
+
+/**
+ * Generates large valid programs for the benchmarks. Every class adds
+ * about forty lines with fields, a constructor, loops, conditionals,
+ * array and method call expressions, plus a global function that uses it.
+ * The deep programs stress nesting instead of size.
+ */
+public final class SyntheticProgram {
+
+    private SyntheticProgram() {
+    }
+
+    public static String generate(int classes) {
+        StringBuilder source = new StringBuilder();
+        source.append("// Synthetic program with ").append(classes).append(" classes\n\n");
+        for (int i = 0; i < classes; i++) {
+            String name = "Shape" + i;
+            source.append("class ").append(name);
+            if (i > 0) {
+                source.append(" extends Shape").append(i - 1);
+            }
+            source.append(" {\n");
+            source.append("    private int count").append(i).append(";\n");
+            source.append("    protected float[] values").append(i).append(";\n\n");
+            source.append("    public ").append(name).append("(int n) {\n");
+            if (i > 0) {
+                source.append("        super(n);\n");
+            }
+            source.append("        this.values").append(i).append(" = new float[n];\n");
+            source.append("        count").append(i).append(" = n;\n");
+            source.append("    }\n\n");
+            source.append("    public float area").append(i).append("(int k, float scale) {\n");
+            source.append("        float total = 0.0;\n");
+            source.append("        for (int j = 0; j < k; j++) {\n");
+            source.append("            if (j % 2 == 0 && scale > 1.0 || j == k - 1) {\n");
+            source.append("                total += values").append(i).append("[j] * scale + (float) j / 2.0;\n");
+            source.append("            } else {\n");
+            source.append("                total = total - scale * (j + 1);\n");
+            source.append("            }\n");
+            source.append("        }\n");
+            source.append("        while (total > 100.0) {\n");
+            source.append("            total = total / 2.0;\n");
+            source.append("        }\n");
+            source.append("        return total > 0.0 ? total : -total;\n");
+            source.append("    }\n\n");
+            source.append("    public string describe").append(i).append("(").append(name).append(" other) {\n");
+            source.append("        string s = \"shape \" + count").append(i).append(";\n");
+            source.append("        if (other != null && other instanceof ").append(name).append(") {\n");
+            source.append("            s = s + other.describe").append(i).append("(null);\n");
+            source.append("        }\n");
+            source.append("        return s;\n");
+            source.append("    }\n");
+            source.append("}\n\n");
+
+            source.append("int use").append(name).append("(int n) {\n");
+            source.append("    ").append(name).append(" s = new ").append(name).append("(n);\n");
+            source.append("    int[] a = new int[n];\n");
+            source.append("    for (int j = 0; j < n; j++) {\n");
+            source.append("        a[j] = j * j + n % 3;\n");
+            source.append("    }\n");
+            source.append("    float f = s.area").append(i).append("(n, 1.5);\n");
+            source.append("    return a[0] + (int) f;\n");
+            source.append("}\n\n");
+        }
+        return source.toString();
+    }
+
+    private static final String[] ARITHMETIC = { " + ", " - ", " * ", " / ", " % " };
+    private static final String[] COMPARISONS = { " < ", " >= ", " == ", " != " };
+
+    /**
+     * A program with left-associative operator chains of the given number
+     * of operators: arithmetic with mixed precedence, comparisons joined by
+     * && and ||, and string concatenation. The parse tree of each chain is
+     * as deep as the chain is long.
+     */
+    public static String deepExpressions(int operators) {
+        StringBuilder source = new StringBuilder();
+        source.append("// Operator chains with ").append(operators).append(" operators\n\n");
+
+        source.append("int arithmetic(int x) {\n    return x");
+        for (int i = 0; i < operators; i++) {
+            wrap(source, i);
+            source.append(ARITHMETIC[i % ARITHMETIC.length]).append(i % 3 == 0 ? "x" : String.valueOf(i % 7 + 1));
+        }
+        source.append(";\n}\n\n");
+
+        // Each comparison adds one operator and each && or || another
+        source.append("boolean logical(boolean b, int x) {\n    return b");
+        for (int i = 0; i < operators / 2; i++) {
+            wrap(source, i);
+            source.append(i % 2 == 0 ? " && " : " || ");
+            source.append("x").append(COMPARISONS[i % COMPARISONS.length]).append(i % 10);
+        }
+        source.append(";\n}\n\n");
+
+        source.append("string text(string s, int x) {\n    return s");
+        for (int i = 0; i < operators; i++) {
+            wrap(source, i);
+            source.append(" + ").append(i % 2 == 0 ? "x" : "s");
+        }
+        source.append(";\n}\n\n");
+
+        source.append("void main() {\n");
+        source.append("    int n = arithmetic(3);\n");
+        source.append("    boolean b = logical(n > 0, n);\n");
+        source.append("    string s = text(\"n = \", n);\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * A program nested the given number of levels: blocks in blocks,
+     * ternaries in the else branch of ternaries and parenthesized
+     * additions in parenthesized additions.
+     */
+    public static String deepNesting(int levels) {
+        StringBuilder source = new StringBuilder();
+        source.append("// Constructs nested ").append(levels).append(" levels deep\n\n");
+
+        source.append("int blocks(int x) {\n    int total = x;\n    ");
+        for (int i = 0; i < levels; i++) {
+            source.append("{ int v").append(i % 10).append(" = total + ").append(i).append("; ");
+        }
+        source.append("total = total + v0;");
+        for (int i = 0; i < levels; i++) {
+            source.append(" }");
+        }
+        source.append("\n    return total;\n}\n\n");
+
+        source.append("int ternaries(int x) {\n    return ");
+        for (int i = 0; i < levels; i++) {
+            wrap(source, i);
+            source.append("x == ").append(i).append(" ? ").append(i * 2).append(" : ");
+        }
+        source.append("-1;\n}\n\n");
+
+        source.append("int parentheses(int x) {\n    return ");
+        for (int i = 0; i < levels; i++) {
+            source.append("(x + ");
+        }
+        source.append("1");
+        for (int i = 0; i < levels; i++) {
+            source.append(")");
+        }
+        source.append(";\n}\n\n");
+
+        source.append("void main() {\n");
+        source.append("    int n = blocks(1) + ternaries(2) + parentheses(3);\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Break long chains into lines of twenty operands.
+     */
+    private static void wrap(StringBuilder source, int operand) {
+        if (operand > 0 && operand % 20 == 0) {
+            source.append("\n        ");
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package main;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import antlr.TypeCheckerLexer;
+import antlr.TypeCheckerParser;
+
+import java.util.*;
+
+/**
+ * Measures the heap kept by CommonTokenStream and by
+ * {@link CompactTokenStream} for synthetic programs of growing size.
+ *
+ * For each program it measures the live heap after a full collection,
+ * twice per stream: with the filled token stream only, and with the
+ * parse tree after the stream itself is gone, which is what stays alive
+ * until the report is written. Results are given per thousand source
+ * lines. All inputs are parsed once with both streams before anything is
+ * measured, so the lexer and parser DFA caches, which only grow, are
+ * complete. Run with -XX:+UseSerialGC for exact live heap numbers.
+ */
+public class TokenStoreBenchmark {
+    private static final int[] SYNTHETIC_CLASSES = { 100, 1000 };
+
+    public static void main(String[] args) {
+        int[] sizes = SYNTHETIC_CLASSES;
+        if (args.length > 0) {
+            sizes = Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        }
+
+        Map<String, SourceText> sources = new LinkedHashMap<>();
+        for (int classes : sizes) {
+            String name = "synthetic-" + classes;
+            sources.put(name, SourceText.of(name, SyntheticProgram.generate(classes)));
+        }
+        for (SourceText source : sources.values()) {
+            parse(source, false);
+            parse(source, true);
+        }
+
+        System.out.println(String.format(Locale.ROOT, "%-16s %8s %9s %-8s %14s %14s %12s %12s",
+            "Input", "Lines", "Tokens", "Stream", "Tokens KB/kL", "Tree KB/kL", "Bytes/token", "Parse ms"));
+        for (Map.Entry<String, SourceText> source : sources.entrySet()) {
+            for (boolean compact : new boolean[] { false, true }) {
+                run(source.getKey(), source.getValue(), compact);
+            }
+        }
+    }
+
+    private static void run(String name, SourceText source, boolean compact) {
+        double lines = source.getLineCount() / 1000.0;
+
+        // Tokens only
+        long before = liveHeap();
+        TokenStream tokens = lex(source, compact);
+        long tokenBytes = liveHeap() - before;
+        int tokenCount = tokens.size();
+        tokens = null;
+
+        // Parse tree, which holds the tokens it needs
+        before = liveHeap();
+        long start = System.nanoTime();
+        ParseTree tree = parse(source, compact);
+        long parseNanos = System.nanoTime() - start;
+        long treeBytes = liveHeap() - before;
+
+        System.out.println(String.format(Locale.ROOT, "%-16s %8d %9d %-8s %14.1f %14.1f %12.1f %12.1f",
+            name, source.getLineCount(), tokenCount, compact ? "compact" : "common",
+            tokenBytes / 1024.0 / lines, treeBytes / 1024.0 / lines,
+            (double) tokenBytes / tokenCount, parseNanos / 1e6));
+        if (tree.getChildCount() == 0) {
+            throw new IllegalStateException("Empty parse tree");
+        }
+    }
+
+    private static ParseTree parse(SourceText source, boolean compact) {
+        TypeCheckerParser parser = new TypeCheckerParser(lex(source, compact));
+        parser.removeErrorListeners();
+        return ProgramParser.parse(parser);
+    }
+
+    private static TokenStream lex(SourceText source, boolean compact) {
+        TypeCheckerLexer lexer = new TypeCheckerLexer(source.newCharStream());
+        lexer.removeErrorListeners();
+        if (compact) {
+            CompactTokenStream tokens = new CompactTokenStream(lexer);
+            tokens.fill();
+            return tokens;
+        }
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        tokens.fill();
+        return tokens;
+    }
+
+    private static long liveHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,228 @@
+package main;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Character stream that decodes UTF-8 directly from a byte buffer, which
+ * may be a memory-mapped file, instead of copying the source into a String
+ * or code point array first.
+ *
+ * Indexes are code point indexes, as for the streams from CharStreams.
+ * Pure ASCII input (the common case) is read byte for byte. Otherwise the
+ * byte offset of every STRIDE-th code point is recorded when the stream is
+ * created and a cursor makes sequential reads, which is how the lexer
+ * reads, constant time. Malformed UTF-8 decodes to U+FFFD.
+ */
+public class Utf8CharStream implements CharStream {
+    private static final int STRIDE = 64;
+    private static final int REPLACEMENT = 0xFFFD;
+
+    private final ByteBuffer bytes;
+    private final int byteLength;
+    private final String name;
+    private final int size;
+    // Byte offset of code point k * STRIDE, or null if the input is ASCII
+    private final int[] checkpoints;
+
+    private int position = 0;
+
+    // Decoding cursor: byte offset of code point cursorIndex
+    private int cursorIndex = 0;
+    private int cursorOffset = 0;
+    // Byte length of the code point last decoded
+    private int decodedLength;
+
+    public Utf8CharStream(ByteBuffer buffer, String name) {
+        this.bytes = buffer.duplicate();
+        this.byteLength = bytes.limit();
+        this.name = name;
+
+        int offset = 0;
+        while (offset < byteLength && bytes.get(offset) >= 0) {
+            offset++;
+        }
+        if (offset == byteLength) {
+            this.size = byteLength;
+            this.checkpoints = null;
+            return;
+        }
+
+        // Non-ASCII: count code points, remembering a checkpoint every STRIDE
+        int[] marks = new int[byteLength / STRIDE + 1];
+        int count = offset;
+        for (int i = 0; i < offset; i += STRIDE) {
+            marks[i / STRIDE] = i;
+        }
+        while (offset < byteLength) {
+            if (count % STRIDE == 0) {
+                marks[count / STRIDE] = offset;
+            }
+            decode(offset);
+            offset += decodedLength;
+            count++;
+        }
+        this.size = count;
+        this.checkpoints = marks;
+    }
+
+    /**
+     * Code point at the given index, whatever the stream's position. Reads
+     * in increasing index order are constant time.
+     */
+    int codePointAt(int index) {
+        if (checkpoints == null) {
+            return bytes.get(index);
+        }
+        if (index < cursorIndex || index - cursorIndex > STRIDE) {
+            cursorIndex = index / STRIDE * STRIDE;
+            cursorOffset = checkpoints[index / STRIDE];
+        }
+        while (cursorIndex < index) {
+            decode(cursorOffset);
+            cursorOffset += decodedLength;
+            cursorIndex++;
+        }
+        return decode(cursorOffset);
+    }
+
+    /**
+     * Decode the code point starting at the given byte offset and set
+     * decodedLength. An invalid sequence decodes to U+FFFD and covers the
+     * lead byte plus the continuation bytes that were valid so far.
+     */
+    private int decode(int offset) {
+        int lead = bytes.get(offset) & 0xFF;
+        if (lead < 0x80) {
+            decodedLength = 1;
+            return lead;
+        }
+
+        int length;
+        int codePoint;
+        int min;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            length = 2;
+            codePoint = lead & 0x1F;
+            min = 0x80;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            length = 3;
+            codePoint = lead & 0x0F;
+            min = 0x800;
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            length = 4;
+            codePoint = lead & 0x07;
+            min = 0x10000;
+        } else {
+            decodedLength = 1;
+            return REPLACEMENT;
+        }
+
+        for (int i = 1; i < length; i++) {
+            if (offset + i >= byteLength) {
+                decodedLength = i;
+                return REPLACEMENT;
+            }
+            int next = bytes.get(offset + i) & 0xFF;
+            if ((next & 0xC0) != 0x80) {
+                decodedLength = i;
+                return REPLACEMENT;
+            }
+            codePoint = (codePoint << 6) | (next & 0x3F);
+        }
+
+        decodedLength = length;
+        if (codePoint < min || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            return REPLACEMENT;
+        }
+        return codePoint;
+    }
+
+    @Override
+    public void consume() {
+        if (position >= size) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        position++;
+    }
+
+    @Override
+    public int LA(int i) {
+        int index;
+        if (i > 0) {
+            index = position + i - 1;
+            if (index >= size) return IntStream.EOF;
+        } else if (i < 0) {
+            index = position + i;
+            if (index < 0) return IntStream.EOF;
+        } else {
+            // Undefined
+            return 0;
+        }
+        return codePointAt(index);
+    }
+
+    @Override
+    public int mark() {
+        // The whole input is always available
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return position;
+    }
+
+    @Override
+    public void seek(int index) {
+        position = index;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getSourceName() {
+        if (name == null || name.isEmpty()) {
+            return IntStream.UNKNOWN_SOURCE_NAME;
+        }
+        return name;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.min(interval.a, size);
+        int length = Math.min(interval.b - interval.a + 1, size - start);
+        if (length <= 0) {
+            return "";
+        }
+
+        if (checkpoints == null) {
+            byte[] ascii = new byte[length];
+            bytes.get(start, ascii);
+            return new String(ascii, StandardCharsets.ISO_8859_1);
+        }
+
+        StringBuilder text = new StringBuilder(length);
+        for (int i = start; i < start + length; i++) {
+            text.appendCodePoint(codePointAt(i));
+        }
+        return text.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, size - 1));
+    }
+}
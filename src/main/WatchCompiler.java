@@ -0,0 +1,259 @@
+package main;
+
+import semantic.SemanticError;
+
+import antlr.TypeCheckerParser.ImportDeclContext;
+import antlr.TypeCheckerParser.ProgramContext;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Follows a directory and re-checks source files as they change.
+ *
+ * The check result (parse tree, symbol table and errors) of every file is
+ * kept in memory. When files change only those files and the files that
+ * import them, directly or transitively, are checked again, and only their
+ * reports are rewritten.
+ */
+public class WatchCompiler {
+    private static final String SOURCE_EXTENSION = ".tc";
+    // Editors often write a file in several steps; wait this long for more events
+    private static final long SETTLE_MILLIS = 20;
+
+    private final Path root;
+    private final Path outputDir;
+    private final SourceChecker checker;
+    private final Map<Path, CheckResult> results = new HashMap<>();
+    private final Map<Path, Set<Path>> imports = new HashMap<>();
+    private final Map<WatchKey, Path> watchedDirs = new HashMap<>();
+    private WatchService watcher;
+
+    public WatchCompiler(String root, String outputDir) {
+        this(new SourceChecker(CheckerOptions.DEFAULT), root, outputDir);
+    }
+
+    /**
+     * Follow a directory, checking its files with the given checker and
+     * its limits.
+     */
+    public WatchCompiler(SourceChecker checker, String root, String outputDir) {
+        this.checker = checker;
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.outputDir = Paths.get(outputDir);
+    }
+
+    /**
+     * Check everything once, then re-check on every change until interrupted.
+     */
+    public void run() throws IOException, InterruptedException {
+        if (!Files.isDirectory(root)) {
+            throw new IOException("Not a directory: " + root);
+        }
+
+        watcher = FileSystems.getDefault().newWatchService();
+        registerAll(root);
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(root)) {
+            files = stream.filter(this::isSource).sorted().collect(Collectors.toList());
+        }
+        recheck(new LinkedHashSet<>(files), Collections.emptySet());
+        System.out.println("Watching " + root + " for changes (Ctrl+C to stop)...");
+
+        while (true) {
+            WatchKey key = watcher.take();
+            Set<Path> changed = new LinkedHashSet<>();
+            Set<Path> deleted = new LinkedHashSet<>();
+
+            // Drain this key and anything that arrives while the writes settle
+            while (key != null) {
+                collectEvents(key, changed, deleted);
+                key = watcher.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+            }
+
+            changed.removeAll(deleted);
+            if (!changed.isEmpty() || !deleted.isEmpty()) {
+                recheck(changed, deleted);
+            }
+        }
+    }
+
+    private void collectEvents(WatchKey key, Set<Path> changed, Set<Path> deleted) throws IOException {
+        Path dir = watchedDirs.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || dir == null) {
+                // Events were lost: fall back to comparing every known file
+                changed.addAll(results.keySet());
+                continue;
+            }
+
+            Path path = dir.resolve((Path) event.context());
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+                registerAll(path);
+                try (Stream<Path> stream = Files.walk(path)) {
+                    stream.filter(this::isSource).forEach(changed::add);
+                }
+            } else if (event.kind() == ENTRY_DELETE) {
+                if (results.containsKey(path)) {
+                    deleted.add(path);
+                }
+            } else if (isSource(path)) {
+                changed.add(path);
+            }
+        }
+        if (!key.reset()) {
+            watchedDirs.remove(key);
+        }
+    }
+
+    /**
+     * Re-check changed files and everything that depends on a changed or
+     * deleted file, then rewrite the reports of those files.
+     */
+    private void recheck(Set<Path> changed, Set<Path> deleted) {
+        long start = System.nanoTime();
+        Set<Path> affected = new LinkedHashSet<>();
+
+        for (Path file : deleted) {
+            results.remove(file);
+            imports.remove(file);
+            deleteReport(file);
+            System.out.println(root.relativize(file) + ": removed");
+        }
+
+        for (Path file : changed) {
+            SourceText source;
+            try {
+                // Not mapped: the file may be rewritten while its result is kept
+                source = SourceText.read(file);
+            } catch (IOException e) {
+                // File vanished between the event and the read
+                continue;
+            }
+            CheckResult previous = results.get(file);
+            if (previous != null && previous.getSourceText().contentEquals(source)) {
+                continue;
+            }
+            affected.add(file);
+            results.put(file, checker.check(file.toString(), source));
+        }
+
+        for (Path file : affected) {
+            imports.put(file, findImports(file));
+        }
+        Set<Path> roots = new LinkedHashSet<>(affected);
+        roots.addAll(deleted);
+        Set<Path> dependents = findDependents(roots);
+        dependents.removeAll(affected);
+
+        // Dependents are re-analyzed from their cached source
+        for (Path file : dependents) {
+            CheckResult previous = results.get(file);
+            results.put(file, checker.check(file.toString(), previous.getSourceText()));
+            affected.add(file);
+        }
+
+        for (Path file : affected) {
+            report(file, results.get(file));
+        }
+
+        if (!affected.isEmpty() || !deleted.isEmpty()) {
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            System.out.println("Re-checked " + affected.size() + " file(s) in " + elapsedMs + " ms");
+        }
+    }
+
+    private void report(Path file, CheckResult result) {
+        Path relative = root.relativize(file);
+        if (result.hasSyntaxErrors()) {
+            for (SemanticError error : result.getSyntaxErrors()) {
+                System.err.println(relative + ": " + MainCompiler.formatSyntaxError(error));
+            }
+            return;
+        }
+
+        try {
+            new HTMLReportGenerator().generateReport(
+                file.toString(),
+                result.getSourceText(),
+                result.getErrors(),
+                result.getScopeSummary(),
+                reportPath(file).toString()
+            );
+            System.out.println(relative + ": " + result.getErrors().size() + " error(s)");
+        } catch (IOException e) {
+            System.err.println(relative + ": could not write report: " + e.getMessage());
+        }
+    }
+
+    private void deleteReport(Path file) {
+        try {
+            Files.deleteIfExists(reportPath(file));
+        } catch (IOException e) {
+            System.err.println("Could not delete report for " + file + ": " + e.getMessage());
+        }
+    }
+
+    private Path reportPath(Path file) {
+        String name = root.relativize(file).toString();
+        name = name.substring(0, name.length() - SOURCE_EXTENSION.length());
+        return outputDir.resolve(name + ".html");
+    }
+
+    /**
+     * Resolve the import declarations of a file against its directory.
+     */
+    private Set<Path> findImports(Path file) {
+        Set<Path> result = new HashSet<>();
+        CheckResult checked = results.get(file);
+        if (checked == null || !(checked.getTree() instanceof ProgramContext)) {
+            return result;
+        }
+        for (ImportDeclContext importDecl : ((ProgramContext) checked.getTree()).importDecl()) {
+            if (importDecl.STRING_LITERAL() == null) continue;
+            String name = importDecl.STRING_LITERAL().getText();
+            name = name.substring(1, name.length() - 1);
+            result.add(file.getParent().resolve(name).normalize());
+        }
+        return result;
+    }
+
+    /**
+     * Files that import any of the given files, directly or transitively.
+     */
+    private Set<Path> findDependents(Set<Path> files) {
+        Set<Path> found = new LinkedHashSet<>();
+        Deque<Path> work = new ArrayDeque<>(files);
+        while (!work.isEmpty()) {
+            Path target = work.pop();
+            for (Map.Entry<Path, Set<Path>> entry : imports.entrySet()) {
+                Path importer = entry.getKey();
+                if (entry.getValue().contains(target) && results.containsKey(importer)
+                        && !files.contains(importer) && found.add(importer)) {
+                    work.push(importer);
+                }
+            }
+        }
+        return found;
+    }
+
+    private void registerAll(Path start) throws IOException {
+        try (Stream<Path> stream = Files.walk(start)) {
+            for (Path dir : stream.filter(Files::isDirectory).collect(Collectors.toList())) {
+                WatchKey key = dir.register(watcher, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                watchedDirs.put(key, dir);
+            }
+        }
+    }
+
+    private boolean isSource(Path path) {
+        return Files.isRegularFile(path) && path.toString().endsWith(SOURCE_EXTENSION);
+    }
+}
@@ -0,0 +1,68 @@
+package semantic;
+
+/**
+ * Counts of hot operations during parsing and semantic analysis, for --stats.
+ *
+ * Counting is off by default and then costs one branch per operation.
+ * Counts are kept per thread, so the difference between two snapshots
+ * taken on the thread that checks a file is the work done for that file,
+ * even when other threads check other files at the same time.
+ */
+public final class AnalysisCounters {
+
+    /**
+     * Operations that are counted.
+     */
+    public enum Counter {
+        RESOLVE_CALLS("SymbolTable.resolve calls"),
+        RESOLVE_HOPS("Scope chain hops"),
+        CLASS_SCOPE_LOOKUPS("Class scope lookups"),
+        ASSIGNMENT_CHECKS("isAssignmentCompatible calls"),
+        OVERLOAD_RESOLUTIONS("Method overload resolutions"),
+        FULL_LL_REPARSES("Full LL reparses after SLL failed");
+
+        private final String description;
+
+        Counter(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private static volatile boolean enabled = false;
+    private static final ThreadLocal<long[]> COUNTS =
+        ThreadLocal.withInitial(() -> new long[Counter.values().length]);
+
+    private AnalysisCounters() {
+    }
+
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void increment(Counter counter) {
+        if (enabled) {
+            COUNTS.get()[counter.ordinal()]++;
+        }
+    }
+
+    public static void add(Counter counter, long amount) {
+        if (enabled) {
+            COUNTS.get()[counter.ordinal()] += amount;
+        }
+    }
+
+    /**
+     * Current counts of the calling thread, indexed by Counter ordinal.
+     */
+    public static long[] snapshot() {
+        return COUNTS.get().clone();
+    }
+}
@@ -0,0 +1,65 @@
+package semantic;
+
+/**
+ * Where a name use resolves to, as a lexical address: the scope it was
+ * resolved from, the number of scopes up the chain from there to the one
+ * that defines it, and the slot of the symbol in that scope. An unresolved
+ * name has neither. The defining scope and the symbol in the slot are
+ * looked up once, when the name is bound, so reading them walks nothing.
+ */
+public final class Binding {
+    private final SymbolTable from;
+    private final int depth;
+    private final int slot;
+    private final SymbolTable scope;
+    private final Symbol symbol;
+
+    Binding(SymbolTable from, int depth, int slot) {
+        this.from = from;
+        this.depth = depth;
+        this.slot = slot;
+        this.scope = depth < 0 ? null : from.ancestor(depth);
+        this.symbol = scope == null ? null : scope.getSymbolAt(slot);
+    }
+
+    /**
+     * The scope the name was resolved from.
+     */
+    public SymbolTable getFrom() {
+        return from;
+    }
+
+    /**
+     * Scopes up from {@link #getFrom()} to the defining scope, or -1 if the
+     * name is not defined.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Slot of the symbol in the defining scope, or -1 if the name is not
+     * defined.
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    public boolean isResolved() {
+        return depth >= 0;
+    }
+
+    /**
+     * The scope that defines the symbol, or null if the name is not defined.
+     */
+    public SymbolTable getScope() {
+        return scope;
+    }
+
+    /**
+     * The symbol, or null if the name is not defined.
+     */
+    public Symbol getSymbol() {
+        return symbol;
+    }
+}
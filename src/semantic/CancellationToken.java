@@ -0,0 +1,92 @@
+package semantic;
+
+/**
+ * Limits for checking one file: an error budget, a time budget and
+ * cancellation from another thread.
+ *
+ * The analysis passes call {@link #checkpoint()} at declaration and
+ * statement boundaries, which throws {@link CheckCancelledException} once
+ * any limit is hit, so a pass stops between two complete declarations or
+ * statements. Any thread may call {@link #cancel()}, e.g. a server whose
+ * client went away.
+ */
+public class CancellationToken {
+    /** Value for no error limit. */
+    public static final int NO_ERROR_LIMIT = Integer.MAX_VALUE;
+    /** Value for no time limit. */
+    public static final long NO_TIME_LIMIT = 0;
+
+    private final int maxErrors;
+    private final long timeBudgetMillis;
+    private final long deadline;
+    private volatile String reason = null;
+    private int errors = 0;
+
+    /**
+     * Create a token without limits that stops only when cancelled.
+     */
+    public CancellationToken() {
+        this(NO_ERROR_LIMIT, NO_TIME_LIMIT);
+    }
+
+    /**
+     * Create a token whose time budget starts now.
+     */
+    public CancellationToken(int maxErrors, long timeBudgetMillis) {
+        this.maxErrors = maxErrors;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.deadline = System.nanoTime() + timeBudgetMillis * 1_000_000;
+    }
+
+    /**
+     * Request that checking stops at the next checkpoint.
+     */
+    public void cancel() {
+        cancel("cancelled");
+    }
+
+    private void cancel(String why) {
+        // The first reason wins
+        if (reason == null) {
+            reason = why;
+        }
+    }
+
+    /**
+     * Count a reported error against the error budget. Checking stops once
+     * more errors than the budget were found, so a truncated result is
+     * known to have lost errors.
+     */
+    public void errorReported() {
+        if (++errors > maxErrors) {
+            cancel("more than " + maxErrors + " errors");
+        }
+    }
+
+    /**
+     * Throw if checking should stop.
+     */
+    public void checkpoint() {
+        if (reason == null && timeBudgetMillis != NO_TIME_LIMIT && System.nanoTime() - deadline >= 0) {
+            cancel("time budget of " + timeBudgetMillis + " ms exceeded");
+        }
+        if (reason != null) {
+            throw new CheckCancelledException(reason);
+        }
+    }
+
+    public boolean isCancelled() {
+        return reason != null;
+    }
+
+    /**
+     * Why checking stopped, or null if it did not.
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+}
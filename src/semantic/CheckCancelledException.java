@@ -0,0 +1,14 @@
+package semantic;
+
+/**
+ * Thrown at a checkpoint to abandon checking a file once its
+ * {@link CancellationToken} has been cancelled or ran out of budget.
+ */
+public class CheckCancelledException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public CheckCancelledException(String reason) {
+        // Only used for control flow, so skip the stack trace
+        super(reason, null, false, false);
+    }
+}
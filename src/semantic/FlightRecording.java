@@ -0,0 +1,22 @@
+package semantic;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Guard for creating flight recorder events.
+ *
+ * The first event object makes the JVM load and set up the whole
+ * recorder, about a hundred classes, even when nothing is recorded. That
+ * dominates the startup of a short check, so events are only created once
+ * the recorder itself has been started, either by -XX:StartFlightRecording
+ * or later by jcmd.
+ */
+public final class FlightRecording {
+
+    private FlightRecording() {
+    }
+
+    public static boolean isActive() {
+        return FlightRecorder.isInitialized();
+    }
+}
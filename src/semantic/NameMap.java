@@ -0,0 +1,122 @@
+package semantic;
+
+import java.util.*;
+
+/**
+ * Insertion-ordered map from {@link NameTable} IDs to values, used for the
+ * symbols of a scope and the methods of a class.
+ *
+ * Most scopes hold a handful of names, which are found by scanning an int
+ * array. Beyond {@value #SCAN_LIMIT} entries an open addressing index over
+ * the IDs is built. Either way a lookup compares ints only.
+ */
+public class NameMap<V> {
+    private static final int SCAN_LIMIT = 8;
+
+    private int[] ids = new int[4];
+    private Object[] values = new Object[4];
+    private int size = 0;
+
+    // Entry index + 1 by hashed ID, 0 marks a free slot; null while small
+    private int[] index;
+
+    /**
+     * Position of the ID in insertion order, or -1.
+     */
+    public int indexOf(int id) {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = index.length - 1;
+        for (int slot = hash(id) & mask; ; slot = (slot + 1) & mask) {
+            int entry = index[slot] - 1;
+            if (entry < 0 || ids[entry] == id) {
+                return entry;
+            }
+        }
+    }
+
+    public V get(int id) {
+        int entry = indexOf(id);
+        return entry < 0 ? null : valueAt(entry);
+    }
+
+    /**
+     * Set the value of an ID. A new ID goes last; an existing one keeps its
+     * position.
+     */
+    public void put(int id, V value) {
+        int entry = indexOf(id);
+        if (entry >= 0) {
+            values[entry] = value;
+            return;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        ids[size] = id;
+        values[size] = value;
+        size++;
+        if (index != null && size * 2 <= index.length) {
+            insert(index, size - 1);
+        } else if (size > SCAN_LIMIT) {
+            reindex();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Drop the entries after the first count, the last put first.
+     */
+    public void truncate(int count) {
+        if (count >= size) {
+            return;
+        }
+        Arrays.fill(values, count, size, null);
+        size = count;
+        index = null;
+        if (size > SCAN_LIMIT) {
+            reindex();
+        }
+    }
+
+    public int idAt(int entry) {
+        return ids[entry];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V valueAt(int entry) {
+        return (V) values[entry];
+    }
+
+    private void reindex() {
+        index = new int[Integer.highestOneBit(size) * 4];
+        for (int entry = 0; entry < size; entry++) {
+            insert(index, entry);
+        }
+    }
+
+    private void insert(int[] index, int entry) {
+        int mask = index.length - 1;
+        int slot = hash(ids[entry]) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = entry + 1;
+    }
+
+    private static int hash(int id) {
+        // IDs are dense, so multiplying spreads them over the table
+        int hash = id * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,169 @@
+package semantic;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.util.*;
+
+/**
+ * Interns the identifiers of one source into dense integer IDs.
+ *
+ * Every distinct name is stored once, as its canonical String, and gets the
+ * next ID. The token stream interns ID tokens while lexing, so all later
+ * getText() calls on them return the canonical instance, and the symbol
+ * tables are keyed by the IDs. A lookup of a canonical String is found by
+ * identity and uses the hash code the String has already cached.
+ *
+ * A table belongs to one check and is not thread-safe.
+ */
+public class NameTable {
+    public static final int NO_NAME = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    // Open addressing over ID + 1, 0 marks a free slot
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+
+    // Characters of the name being interned from a CharStream
+    private char[] buffer = new char[32];
+
+    /**
+     * ID of the name, adding it if it is new.
+     */
+    public int intern(String name) {
+        int hash = name.hashCode();
+        int mask = slots.length - 1;
+        for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+            int id = slots[slot] - 1;
+            if (id == NO_NAME) {
+                return add(name, hash, slot);
+            }
+            if (names[id] == name || (hashes[id] == hash && names[id].equals(name))) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * ID of the name made of the characters start to stop of the input,
+     * adding it if it is new. Only a new name is turned into a String; the
+     * input is read through seek and LA and left at its current index.
+     */
+    public int intern(CharStream input, int start, int stop) {
+        int length = stop - start + 1;
+        if (length > buffer.length) {
+            buffer = new char[Math.max(length, buffer.length * 2)];
+        }
+        int index = input.index();
+        input.seek(start);
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            int c = input.LA(i + 1);
+            if (c > Character.MAX_VALUE) {
+                // Not a single char; intern the String instead
+                input.seek(index);
+                return intern(input.getText(Interval.of(start, stop)));
+            }
+            buffer[i] = (char) c;
+            hash = 31 * hash + c;
+        }
+        input.seek(index);
+
+        int mask = slots.length - 1;
+        for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+            int id = slots[slot] - 1;
+            if (id == NO_NAME) {
+                return add(new String(buffer, 0, length), hash, slot);
+            }
+            if (hashes[id] == hash && matches(names[id], length)) {
+                return id;
+            }
+        }
+    }
+
+    private boolean matches(String name, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != buffer[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * ID of the name, or NO_NAME if it was never interned.
+     */
+    public int lookup(String name) {
+        if (name == null) {
+            return NO_NAME;
+        }
+        int hash = name.hashCode();
+        int mask = slots.length - 1;
+        for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+            int id = slots[slot] - 1;
+            if (id == NO_NAME) {
+                return NO_NAME;
+            }
+            if (names[id] == name || (hashes[id] == hash && names[id].equals(name))) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * Canonical String of an ID.
+     */
+    public String getName(int id) {
+        if (id < 0 || id >= size) {
+            throw new IllegalArgumentException("Unknown name ID: " + id);
+        }
+        return names[id];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int add(String name, int hash, int slot) {
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        int id = size++;
+        names[id] = name;
+        hashes[id] = hash;
+        slots[slot] = id + 1;
+        // Keep the slots at most half full
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+        return id;
+    }
+
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        int mask = slots.length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = mix(hashes[id]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id + 1;
+        }
+    }
+
+    /**
+     * Spread the String hash so that names differing only in their last
+     * characters do not cluster.
+     */
+    static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -1,6 +1,8 @@
 package semantic;
 
+import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
 
 /**
  * Represents a semantic error found during type checking.
@@ -64,6 +66,8 @@ public class SemanticError {
         INVALID_ARRAY_SIZE("Invalid array size"),
         ARRAY_INDEX_TYPE("Invalid array index type"),
         VISIBILITY_VIOLATION("Visibility violation"),
+        // Syntax errors reported by the lexer/parser
+        SYNTAX_ERROR("Syntax error"),
         // Internal errors
         INTERNAL_ERROR("Internal compiler error"),
     	VISIBILITY_ERROR("Visibility Error");
@@ -93,8 +97,33 @@ public class SemanticError {
         this.column = token.getCharPositionInLine();
         this.message = message;
         this.type = type;
-        this.sourceLine = token.getInputStream() != null ? 
-            token.getInputStream().toString() : null;
+        this.sourceLine = lineOf(token);
+    }
+    
+    /**
+     * Text of the line containing the token, read from its input stream.
+     */
+    private static String lineOf(Token token) {
+        CharStream input = token.getInputStream();
+        if (input == null || token.getStartIndex() < 0) {
+            return null;
+        }
+        
+        int start = Math.max(0, token.getStartIndex() - token.getCharPositionInLine());
+        int end = Math.max(start, token.getStartIndex());
+        // Read forward in chunks until the end of the line
+        StringBuilder line = new StringBuilder();
+        while (end < input.size()) {
+            int chunkEnd = Math.min(input.size(), end + 80);
+            String chunk = input.getText(Interval.of(start, chunkEnd - 1));
+            int newline = chunk.indexOf('\n');
+            if (newline >= 0) {
+                return line.append(chunk, 0, newline).toString();
+            }
+            line.append(chunk);
+            start = end = chunkEnd;
+        }
+        return line.append(input.getText(Interval.of(start, input.size() - 1))).toString();
     }
     
     /**
@@ -6,17 +6,24 @@ import semantic.symbols.*;
 /**
  * Symbol table implementation for managing scopes and symbols.
  * Replaces the old Scope class with a cleaner design.
+ * Symbols are keyed by their {@link NameTable} ID; all scopes of one
+ * program share the name table of their global scope.
  */
 public class SymbolTable {
     private final String scopeName;
     private final ScopeType scopeType;
     private final SymbolTable parent;
-    private final Map<String, Symbol> symbols;
+    private final int depth;  // Number of enclosing scopes
+    private final NameTable names;
+    private final NameMap<Symbol> symbols;
     private final List<SymbolTable> children;
-    private final Map<String, List<MethodSymbol>> methodOverloads; // Add this
+    private NameMap<MethodSymbol> firstOverloads; // Only once a method is defined
     // Context information
     private ClassSymbol enclosingClass;
     private FunctionSymbol enclosingMethod;  // Can be MethodSymbol
+    // Indices of the first and last token the scope covers, -1 if not known
+    private int firstToken = -1;
+    private int lastToken = -1;
     
     /**
      * Scope types for different contexts.
@@ -46,11 +53,16 @@ public class SymbolTable {
      * Create a new symbol table with given name, type and parent.
      */
     public SymbolTable(String scopeName, ScopeType scopeType, SymbolTable parent) {
+        this(scopeName, scopeType, parent, parent != null ? parent.names : new NameTable());
+    }
+    
+    private SymbolTable(String scopeName, ScopeType scopeType, SymbolTable parent, NameTable names) {
         this.scopeName = scopeName;
         this.scopeType = scopeType;
         this.parent = parent;
-        this.symbols = new LinkedHashMap<>();  // Preserve insertion order
-        this.methodOverloads = new HashMap<>();
+        this.depth = parent != null ? parent.depth + 1 : 0;
+        this.names = names;
+        this.symbols = new NameMap<>();  // Preserves insertion order
         this.children = new ArrayList<>();
         
         // Inherit context from parent
@@ -65,7 +77,15 @@ public class SymbolTable {
      * Factory method for creating a global scope.
      */
     public static SymbolTable createGlobalScope() {
-        return new SymbolTable("global", ScopeType.GLOBAL, null);
+        return createGlobalScope(new NameTable());
+    }
+    
+    /**
+     * Factory method for creating a global scope whose names are interned
+     * in the given table, usually the one the token stream filled.
+     */
+    public static SymbolTable createGlobalScope(NameTable names) {
+        return new SymbolTable("global", ScopeType.GLOBAL, null, names);
     }
     
     /**
@@ -107,28 +127,33 @@ public class SymbolTable {
      */
     public boolean define(Symbol symbol) {
         if (symbol == null || symbol.getName() == null) return false;
+        int id = names.intern(symbol.getName());
         
         if (symbol instanceof MethodSymbol) {
             MethodSymbol method = (MethodSymbol) symbol;
             
             // Check if there's already a non-method symbol with this name
-            Symbol existing = symbols.get(method.getName());
+            Symbol existing = symbols.get(id);
             if (existing != null && !(existing instanceof MethodSymbol)) {
                 return false;
             }
             
-            // Add to BOTH maps - this is the key fix!
-            symbols.put(method.getName(), method);  // Add to regular symbols map
-            methodOverloads.computeIfAbsent(method.getName(), k -> new ArrayList<>())
-                          .add(method);
+            // The latest overload resolves; the first is kept for resolveLocal
+            symbols.put(id, method);
+            if (firstOverloads == null) {
+                firstOverloads = new NameMap<>();
+            }
+            if (firstOverloads.get(id) == null) {
+                firstOverloads.put(id, method);
+            }
             return true;
         }
         
         // Regular symbols - no duplicates allowed
-        if (symbols.containsKey(symbol.getName())) {
+        if (symbols.get(id) != null) {
             return false;
         }
-        symbols.put(symbol.getName(), symbol);
+        symbols.put(id, symbol);
         return true;
     }
     
@@ -136,14 +161,13 @@ public class SymbolTable {
      * Resolve a symbol by name in this scope only (not parents).
      */
     public Symbol resolveLocal(String name) {
-        Symbol symbol = symbols.get(name);
+        int id = names.lookup(name);
+        if (id == NameTable.NO_NAME) return null;
+        Symbol symbol = symbols.get(id);
         
-        // If it's a method, you might want to return the first one or handle specially
-        if (symbol instanceof MethodSymbol && methodOverloads.containsKey(name)) {
-            List<MethodSymbol> overloads = methodOverloads.get(name);
-            if (!overloads.isEmpty()) {
-                return overloads.get(0); // Return first overload for simple lookup
-            }
+        // If it's a method, return the first overload for simple lookup
+        if (symbol instanceof MethodSymbol) {
+            return firstOverloads.get(id);
         }
         
         return symbol;
@@ -154,24 +178,116 @@ public class SymbolTable {
      */
     public Symbol resolve(String name) {
         if (name == null) return null; // Add this
-        
-        Symbol symbol = symbols.get(name);
-        if (symbol != null) {
-            return symbol;
+        return resolve(names.lookup(name));
+    }
+    
+    /**
+     * Resolve a symbol by its name ID, searching up the scope chain. A name
+     * that was never interned is in no scope.
+     */
+    public Symbol resolve(int nameId) {
+        long address = locate(nameId, false);
+        if (address < 0) {
+            return null;
         }
-        
-        if (parent != null) {
-            return parent.resolve(name);
+        return ancestor((int) (address >>> 32)).symbols.valueAt((int) address);
+    }
+
+    /**
+     * Resolve a name as {@link #resolve(String)} does, to where it is
+     * defined rather than to its symbol.
+     */
+    public Binding bind(String name) {
+        return bind(name == null ? NameTable.NO_NAME : names.lookup(name));
+    }
+
+    /**
+     * Resolve a name ID as {@link #resolve(int)} does, to where it is
+     * defined rather than to its symbol.
+     */
+    public Binding bind(int nameId) {
+        return bind(nameId, false);
+    }
+
+    /**
+     * Bind a name ID to a local: a symbol of this scope or of the block,
+     * function and method scopes around it, short of the class or global
+     * scope. The binding is unresolved if no local has the name, even if
+     * a member or global does.
+     */
+    public Binding bindLocal(int nameId) {
+        return bind(nameId, true);
+    }
+
+    private Binding bind(int nameId, boolean localsOnly) {
+        long address = locate(nameId, localsOnly);
+        if (address < 0) {
+            return new Binding(this, -1, -1);
+        }
+        return new Binding(this, (int) (address >>> 32), (int) address);
+    }
+
+    /**
+     * Walk up the scope chain to the first scope that defines the name.
+     * Returns the number of scopes walked up in the high and the slot of
+     * the symbol in that scope in the low half, or -1 if none defines it.
+     * With localsOnly the walk stops at the first class or global scope.
+     */
+    private long locate(int nameId, boolean localsOnly) {
+        AnalysisCounters.increment(AnalysisCounters.Counter.RESOLVE_CALLS);
+        int hops = 0;
+        for (SymbolTable scope = this; scope != null; scope = scope.parent) {
+            if (localsOnly && (scope.parent == null || scope.isClassScope())) {
+                break;
+            }
+            int slot = nameId == NameTable.NO_NAME ? -1 : scope.symbols.indexOf(nameId);
+            if (slot >= 0) {
+                AnalysisCounters.add(AnalysisCounters.Counter.RESOLVE_HOPS, hops);
+                return (long) hops << 32 | slot;
+            }
+            hops++;
         }
         
-        return null;
+        AnalysisCounters.add(AnalysisCounters.Counter.RESOLVE_HOPS, Math.max(hops - 1, 0));
+        return -1;
     }
-    
+
+    /**
+     * The scope the given number of levels up the chain; 0 is this scope.
+     */
+    public SymbolTable ancestor(int levels) {
+        SymbolTable scope = this;
+        for (int i = 0; i < levels; i++) {
+            scope = scope.parent;
+        }
+        return scope;
+    }
+
+    /**
+     * The symbol in the given slot of this scope. Slots number the symbols
+     * in the order they were defined; a redefined method overload keeps
+     * the slot of the first.
+     */
+    public Symbol getSymbolAt(int slot) {
+        return symbols.valueAt(slot);
+    }
+
     /**
      * Get all symbols in this scope.
      */
     public Map<String, Symbol> getSymbols() {
-        return new LinkedHashMap<>(symbols);
+        Map<String, Symbol> result = new LinkedHashMap<>();
+        for (int i = 0; i < symbols.size(); i++) {
+            result.put(names.getName(symbols.idAt(i)), symbols.valueAt(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Get the name table shared by all scopes of this program.
+     */
+    public NameTable getNames() {
+        return names;
     }
     
     /**
@@ -195,6 +311,30 @@ public class SymbolTable {
         return parent;
     }
     
+    /**
+     * Number of scopes enclosing this one; 0 for the global scope.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Set the indices of the first and last token of the code this scope
+     * covers, in the token stream it was declared from; -1 if not known.
+     */
+    public void setTokenRange(int firstToken, int lastToken) {
+        this.firstToken = firstToken;
+        this.lastToken = lastToken;
+    }
+
+    public int getFirstToken() {
+        return firstToken;
+    }
+
+    public int getLastToken() {
+        return lastToken;
+    }
+    
     /**
      * Get the scope name.
      */
@@ -215,6 +355,44 @@ public class SymbolTable {
     public List<SymbolTable> getChildren() {
         return new ArrayList<>(children);
     }
+
+    /**
+     * Number of child scopes.
+     */
+    public int getChildCount() {
+        return children.size();
+    }
+
+    /**
+     * The child scope at the given index; children are numbered in the
+     * order they were created.
+     */
+    public SymbolTable getChild(int index) {
+        return children.get(index);
+    }
+    
+    /**
+     * Drop the nested scopes, once nothing resolves names in them any more.
+     */
+    public void clearChildren() {
+        children.clear();
+    }
+
+    /**
+     * Number of symbols defined in this scope.
+     */
+    public int getSymbolCount() {
+        return symbols.size();
+    }
+
+    /**
+     * Drop the symbols defined after the first count, to return the scope
+     * to how it was when it had that many. The dropped symbols must not
+     * be methods.
+     */
+    public void truncateSymbols(int count) {
+        symbols.truncate(count);
+    }
     
     /**
      * Check if this is the global scope.
@@ -249,8 +427,8 @@ public class SymbolTable {
         System.out.println(indentStr + "=== " + scopeName + " (" + scopeType.getName() + ") ===");
         
         // Print symbols
-        for (Map.Entry<String, Symbol> entry : symbols.entrySet()) {
-            System.out.println(indentStr + "  " + entry.getValue().toString());
+        for (int i = 0; i < symbols.size(); i++) {
+            System.out.println(indentStr + "  " + symbols.valueAt(i).toString());
         }
         
         // Print children
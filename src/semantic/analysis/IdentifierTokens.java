@@ -0,0 +1,50 @@
+package semantic.analysis;
+
+import semantic.NameTable;
+
+import org.antlr.v4.runtime.Token;
+
+import antlr.TypeCheckerParser;
+
+import java.util.List;
+
+/**
+ * Tokens by index, with the name ID of each identifier, as a {@link
+ * NameBinder} reads them.
+ */
+public interface IdentifierTokens {
+
+    int size();
+
+    Token get(int index);
+
+    /**
+     * Name ID of the token at the index if it is an identifier whose name
+     * is interned, otherwise NameTable.NO_NAME.
+     */
+    int getNameId(int index);
+
+    /**
+     * The tokens of a list, each at its token index, with their names
+     * looked up in the given table.
+     */
+    static IdentifierTokens of(List<? extends Token> tokens, NameTable names) {
+        return new IdentifierTokens() {
+            @Override
+            public int size() {
+                return tokens.size();
+            }
+
+            @Override
+            public Token get(int index) {
+                return tokens.get(index);
+            }
+
+            @Override
+            public int getNameId(int index) {
+                Token token = tokens.get(index);
+                return token.getType() == TypeCheckerParser.ID ? names.lookup(token.getText()) : NameTable.NO_NAME;
+            }
+        };
+    }
+}
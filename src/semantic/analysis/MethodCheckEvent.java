@@ -0,0 +1,27 @@
+package semantic.analysis;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for type checking one method or function body.
+ * Only bodies that take longer than the threshold are recorded.
+ */
+@Name("tc.MethodCheck")
+@Label("Slow Method Body Check")
+@Category("Type Checker")
+@Description("Type checking of a method or function body that exceeded the threshold")
+@Threshold("1 ms")
+public class MethodCheckEvent extends jdk.jfr.Event {
+    @Label("File")
+    String file;
+
+    @Label("Class")
+    String className;
+
+    @Label("Method")
+    String methodName;
+}
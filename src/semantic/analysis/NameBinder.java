@@ -0,0 +1,150 @@
+package semantic.analysis;
+
+import semantic.Binding;
+import semantic.NameTable;
+import semantic.SymbolTable;
+import semantic.symbols.ClassSymbol;
+import semantic.symbols.FunctionSymbol;
+
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import antlr.TypeCheckerParser.*;
+
+import java.util.*;
+
+/**
+ * Binds the uses of local variables and parameters in a tree to their
+ * slots, once the symbol table builder has declared everything the tree
+ * can see, so the {@link TypeChecker} reads each local's symbol from its
+ * slot instead of looking the name up in every scope up the chain.
+ *
+ * The binder does not walk the tree. The builder records the tokens each
+ * local scope covers: a function or constructor its body, a block or loop
+ * itself. Going down the local scopes of every function, the binder looks
+ * each identifier in a scope's own tokens up in that scope and the local
+ * scopes around it. Fields, functions and classes are left to the type
+ * checker, as are locals named like a class, since such a name in an
+ * expression is the class. The bindings are kept in a side table by
+ * token, along with the scope they were resolved from; the type checker
+ * uses a binding only if that is the scope it is in, and resolves the
+ * name itself otherwise.
+ */
+public class NameBinder {
+    private final SymbolTable globalScope;
+    private final NameTable names;
+    private final Map<ClassSymbol, SymbolTable> classScopes;
+    private final Map<FunctionSymbol, SymbolTable> functionScopes;
+    // Name IDs the global scope resolves to a class
+    private final BitSet classNames = new BitSet();
+
+    /**
+     * Bind with the scopes a symbol table builder declared.
+     */
+    public NameBinder(SymbolTableBuilder symbols) {
+        this.globalScope = symbols.getGlobalScope();
+        this.names = globalScope.getNames();
+        this.classScopes = symbols.getClassScopes();
+        this.functionScopes = symbols.getFunctionScopes();
+        for (ClassSymbol classSymbol : classScopes.keySet()) {
+            int nameId = names.lookup(classSymbol.getName());
+            if (globalScope.resolve(nameId) instanceof ClassSymbol) {
+                classNames.set(nameId);
+            }
+        }
+    }
+
+    /**
+     * Bind the identifiers of a program, or of one of its declarations,
+     * given the tokens it was parsed from, each at its token index.
+     */
+    public NameBindings bind(ParseTree tree, List<? extends Token> tokens) {
+        return bind(tree, IdentifierTokens.of(tokens, names));
+    }
+
+    /**
+     * Bind the identifiers of a program, or of one of its declarations,
+     * given the tokens it was parsed from, with names interned in the
+     * builder's name table.
+     */
+    public NameBindings bind(ParseTree tree, IdentifierTokens tokens) {
+        Interval interval = tree.getSourceInterval();
+        int first = interval.a;
+        int last = Math.min(interval.b, tokens.size() - 1);
+        if (first < 0 || last < first) {
+            return NameBindings.NONE;
+        }
+        NameBindings bindings = new NameBindings(first, last - first + 1);
+
+        List<DeclarationContext> declarations = tree instanceof ProgramContext ?
+            ((ProgramContext) tree).declaration() :
+            tree instanceof DeclarationContext ? List.of((DeclarationContext) tree) : List.of();
+        for (DeclarationContext declaration : declarations) {
+            ClassDeclContext classDecl = declaration.classDecl();
+            FuncDeclContext funcDecl = declaration.funcDecl();
+            if (classDecl != null && classDecl.ID(0) != null) {
+                SymbolTable classScope = classScopes.get(globalScope.resolve(classDecl.ID(0).getText()));
+                if (classScope != null) {
+                    // Methods and constructors
+                    for (int i = 0; i < classScope.getChildCount(); i++) {
+                        bind(classScope.getChild(i), tokens, bindings, first, last);
+                    }
+                }
+            } else if (funcDecl != null && funcDecl.ID() != null) {
+                SymbolTable functionScope = functionScopes.get(globalScope.resolve(funcDecl.ID().getText()));
+                if (functionScope != null) {
+                    bind(functionScope, tokens, bindings, first, last);
+                }
+            }
+        }
+        return bindings;
+    }
+
+    /**
+     * Bind the identifiers in the tokens of a local scope: those of the
+     * scopes nested in it from there, the others from the scope itself.
+     * A scope whose tokens are not known, or not within the given ones,
+     * is left to the type checker.
+     */
+    private void bind(SymbolTable scope, IdentifierTokens tokens, NameBindings bindings, int first, int last) {
+        int stop = scope.getLastToken();
+        if (scope.getFirstToken() < first || stop > last || stop < scope.getFirstToken()) {
+            return;
+        }
+        int next = scope.getFirstToken();
+        for (int i = 0; i < scope.getChildCount(); i++) {
+            SymbolTable child = scope.getChild(i);
+            if (child.getFirstToken() < next || child.getLastToken() > stop
+                    || child.getLastToken() < child.getFirstToken()) {
+                continue;
+            }
+            bindTokens(scope, next, child.getFirstToken() - 1, tokens, bindings);
+            bind(child, tokens, bindings, first, last);
+            next = child.getLastToken() + 1;
+        }
+        bindTokens(scope, next, stop, tokens, bindings);
+    }
+
+    private void bindTokens(SymbolTable scope, int from, int to, IdentifierTokens tokens, NameBindings bindings) {
+        for (int i = from; i <= to; i++) {
+            int nameId = tokens.getNameId(i);
+            if (nameId == NameTable.NO_NAME || classNames.get(nameId)) {
+                continue;
+            }
+            Binding binding = scope.bindLocal(nameId);
+            if (binding.isResolved()) {
+                bindings.put(i, tokens.get(i), binding);
+            }
+        }
+    }
+
+    /**
+     * A name in an expression is a class name if the global scope says so,
+     * and otherwise whatever the scope chain finds.
+     */
+    static Binding bindUse(SymbolTable globalScope, SymbolTable scope, String name) {
+        Binding global = globalScope.bind(name);
+        return global.getSymbol() instanceof ClassSymbol ? global : scope.bind(name);
+    }
+}
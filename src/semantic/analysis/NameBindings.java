@@ -0,0 +1,62 @@
+package semantic.analysis;
+
+import semantic.Binding;
+
+import org.antlr.v4.runtime.Token;
+
+import java.util.Arrays;
+
+/**
+ * The bindings a {@link NameBinder} found for the identifier tokens of one
+ * tree, by token index. A token is only found again if it is the very
+ * token that was bound, so trees whose tokens are numbered from several
+ * starts cannot mix up their bindings.
+ *
+ * The entries are kept in the order they were bound, and the table by
+ * token index holds only their positions: an int array that covers every
+ * token costs the garbage collector nothing to keep, where an array of
+ * references as large would be allocated outside the young generation
+ * and make each store into it slow.
+ */
+public final class NameBindings {
+    /** No bindings: the type checker resolves every name itself. */
+    public static final NameBindings NONE = new NameBindings(0, 0);
+
+    private final int first;
+    // Position + 1 of the entry of each token from first on, 0 if unbound
+    private final int[] entries;
+    private Token[] tokens = new Token[16];
+    private Binding[] bindings = new Binding[16];
+    private int size = 0;
+
+    /**
+     * Room for the tokens with the given number of indices from first on.
+     */
+    NameBindings(int first, int count) {
+        this.first = first;
+        this.entries = new int[count];
+    }
+
+    void put(int index, Token token, Binding binding) {
+        int i = index - first;
+        if (i < 0 || i >= entries.length) {
+            return;
+        }
+        if (size == tokens.length) {
+            tokens = Arrays.copyOf(tokens, size * 2);
+            bindings = Arrays.copyOf(bindings, size * 2);
+        }
+        tokens[size] = token;
+        bindings[size] = binding;
+        entries[i] = ++size;
+    }
+
+    /**
+     * The binding of an identifier token, or null if it was not bound.
+     */
+    public Binding get(Token token) {
+        int i = token.getTokenIndex() - first;
+        int entry = i >= 0 && i < entries.length ? entries[i] - 1 : -1;
+        return entry >= 0 && tokens[entry] == token ? bindings[entry] : null;
+    }
+}
@@ -0,0 +1,31 @@
+package semantic.analysis;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for resolving a method call among its overloads,
+ * including the search through superclasses. Only resolutions that take
+ * longer than the threshold are recorded.
+ */
+@Name("tc.OverloadResolution")
+@Label("Slow Overload Resolution")
+@Category("Type Checker")
+@Description("Method overload resolution that exceeded the threshold")
+@Threshold("100 us")
+public class OverloadResolutionEvent extends jdk.jfr.Event {
+    @Label("File")
+    String file;
+
+    @Label("Class")
+    String className;
+
+    @Label("Method")
+    String methodName;
+
+    @Label("Arguments")
+    int argumentCount;
+}
@@ -4,8 +4,10 @@ import semantic.*;
 import semantic.symbols.*;
 import semantic.types.*;
 
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.RuleNode;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
 import antlr.TypeCheckerBaseVisitor;
@@ -28,9 +30,31 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
     private Set<String> imports;
     private Map<String, List<ClassType>> unresolvedTypes;
     private Map<ParseTree, SymbolTable> nodeScopes = new HashMap<>();
+    // First scope created for each class, function and method symbol
+    private final Map<ClassSymbol, SymbolTable> classScopes = new IdentityHashMap<>();
+    private final Map<FunctionSymbol, SymbolTable> functionScopes = new IdentityHashMap<>();
+    // Streaming: body scopes from declareSignatures in declaration order,
+    // null where a declaration was not declared, with their symbol counts,
+    // the next one declareBodies enters, and those entered by the last
+    // declareBodies
+    private final List<SymbolTable> bodyScopes = new ArrayList<>();
+    private final List<Integer> bodySymbolCounts = new ArrayList<>();
+    private int nextBody = 0;
+    private final List<Integer> enteredBodies = new ArrayList<>();
+    private CancellationToken cancellation = new CancellationToken();
+    // Debug output held back while declaring during a parse, else null
+    private List<String> deferredOutput = null;
     
     public SymbolTableBuilder() {
-        this.globalScope = SymbolTable.createGlobalScope();
+        this(new NameTable());
+    }
+    
+    /**
+     * Create a builder whose scopes are keyed by the IDs of the given name
+     * table, usually the one the token stream interned the identifiers in.
+     */
+    public SymbolTableBuilder(NameTable names) {
+        this.globalScope = SymbolTable.createGlobalScope(names);
         this.currentScope = globalScope;
         this.errors = new ArrayList<>();
         this.imports = new HashSet<>();
@@ -58,17 +82,70 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
     public Map<ParseTree, SymbolTable> getNodeScopes() {
         return nodeScopes;
     }
+    
+    /**
+     * The member scope of each class, for the type checker.
+     */
+    public Map<ClassSymbol, SymbolTable> getClassScopes() {
+        return classScopes;
+    }
+    
+    /**
+     * The scope of each function and method, for the type checker.
+     */
+    public Map<FunctionSymbol, SymbolTable> getFunctionScopes() {
+        return functionScopes;
+    }
     public SymbolTable getGlobalScope() { return globalScope; }
     public List<SemanticError> getErrors() { return errors; }
     public Set<String> getImports() { return imports; }
     
+    /**
+     * Stop building at the next declaration or statement once the token is
+     * cancelled. Errors reported by this pass count against its budget.
+     */
+    public void setCancellation(CancellationToken cancellation) {
+        this.cancellation = cancellation;
+    }
+    
+    void checkpoint() {
+        cancellation.checkpoint();
+    }
+    
+    /**
+     * Hold back the debug output until {@link #flushOutput()}, for a
+     * parse that may still fail or be repeated.
+     */
+    void deferOutput() {
+        deferredOutput = new ArrayList<>();
+    }
+    
+    void flushOutput() {
+        if (deferredOutput != null) {
+            for (String line : deferredOutput) {
+                System.out.println(line);
+            }
+            deferredOutput = null;
+        }
+    }
+    
+    private void debug(String line) {
+        if (deferredOutput != null) {
+            deferredOutput.add(line);
+        } else {
+            System.out.println(line);
+        }
+    }
+    
     private void reportError(Token token, String message, SemanticError.ErrorType type) {
         errors.add(new SemanticError(token, message, type));
+        cancellation.errorReported();
     }
     
     // Alternative when you don't have a token:
     private void reportError(int line, int column, String message, SemanticError.ErrorType type) {
         errors.add(new SemanticError(line, column, message, type));
+        cancellation.errorReported();
     }
     
     @Override
@@ -87,6 +164,7 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
         
         // Second pass: process all declarations
         for (var decl : ctx.declaration()) {
+            cancellation.checkpoint();
             visit(decl);
         }
         resolveForwardReferences();
@@ -103,8 +181,15 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
     }
     
     private void declareClass(ClassDeclContext ctx) {
-        String className = ctx.ID(0).getText();
-        Token token = ctx.ID(0).getSymbol();
+        declareClass(ctx.ID(0).getSymbol());
+    }
+    
+    /**
+     * Declare a class by the token of its name, before any declaration is
+     * processed, so that all declarations see all classes.
+     */
+    public void declareClass(Token token) {
+        String className = token.getText();
         
         if (currentScope.resolveLocal(className) != null) {
             reportError(token,
@@ -114,13 +199,35 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
             return;
         }
         
-        ClassSymbol classSymbol = new ClassSymbol(className, token.getLine(), token.getCharPositionInLine());
+        ClassSymbol classSymbol = new ClassSymbol(className, token.getLine(), token.getCharPositionInLine(),
+            globalScope.getNames());
         currentScope.define(classSymbol);
     }
     
     
     @Override
     public Void visitClassDecl(ClassDeclContext ctx) {
+        SymbolTable savedScope = enterClass(ctx);
+        if (savedScope == null) {
+            return null;
+        }
+        
+        // Process class members
+        for (var member : ctx.classMember()) {
+            cancellation.checkpoint();
+            visit(member);
+        }
+        
+        exitClass(savedScope);
+        return null;
+    }
+    
+    /**
+     * Link the superclass and enter the class scope. Returns the enclosing
+     * scope, or null if the class was not declared, in which case its
+     * members are not processed.
+     */
+    SymbolTable enterClass(ClassDeclContext ctx) {
         String className = ctx.ID(0).getText();
         Symbol symbol = currentScope.resolve(className);
         
@@ -163,6 +270,7 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
         currentClass = classSymbol;
         SymbolTable savedScope = currentScope;
         currentScope = SymbolTable.createClassScope(className, currentScope, classSymbol);
+        classScopes.putIfAbsent(classSymbol, currentScope);
         
         // Define 'this' in class scope
         VariableSymbol thisSymbol = new VariableSymbol("this", classSymbol.getType(), 0, 0);
@@ -177,16 +285,13 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
             currentScope.define(superSymbol);
         }
         
-        // Process class members
-        for (var member : ctx.classMember()) {
-            visit(member);
-        }
-        
+        return savedScope;
+    }
+    
+    void exitClass(SymbolTable savedScope) {
         // Exit class scope
         currentScope = savedScope;
         currentClass = null;
-        
-        return null;
     }
     
     private boolean hasCircularInheritance(ClassSymbol child, ClassSymbol parent) {
@@ -247,6 +352,21 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
     
     @Override
     public Void visitMethodDecl(MethodDeclContext ctx) {
+        SymbolTable savedScope = enterMethod(ctx);
+        
+        // Process method body
+        visit(ctx.funcDecl().block());
+        
+        currentScope = savedScope;
+        
+        return null;
+    }
+    
+    /**
+     * Declare a method and its parameters and enter its scope. Returns
+     * the enclosing scope.
+     */
+    SymbolTable enterMethod(MethodDeclContext ctx) {
         var funcDecl = ctx.funcDecl();
         String methodName = funcDecl.ID().getText();
         Token token = funcDecl.ID().getSymbol();
@@ -274,26 +394,28 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
         method.setStatic(isStatic);
         method.setOwnerClass(currentClass);
         
-        System.out.println("Adding method " + method.getName() + " to class " + currentClass.getName());
+        debug("Adding method " + method.getName() + " to class " + currentClass.getName());
         
         // Add method to class
         if (currentClass != null) {
             currentClass.addMethod(method);
-            System.out.println("Class now has " + currentClass.getMethods(method.getName()).size() + 
+            debug("Class now has " + currentClass.getMethods(method.getName()).size() + 
                               " method(s) named " + method.getName());
         }
         
         // Define method in current scope (which should be the class scope)
         boolean defined = currentScope.define(method);
-        System.out.println("Defined method " + method.getName() + " in scope " + 
+        debug("Defined method " + method.getName() + " in scope " + 
                           currentScope.getScopeName() + ": " + defined);
         
         // Create method scope
         SymbolTable methodScope = SymbolTable.createMethodScope(methodName, currentScope, method);
+        functionScopes.putIfAbsent(method, methodScope);
         
         // Store associations for TypeChecker
         nodeScopes.put(ctx, methodScope);
         nodeScopes.put(funcDecl, methodScope);
+        coverTokens(methodScope, funcDecl.block());
         
         // Process parameters and body in method scope
         SymbolTable savedScope = currentScope;
@@ -303,12 +425,7 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
             processParameters(funcDecl.paramList(), method);
         }
         
-        // Process method body
-        visit(funcDecl.block());
-        
-        currentScope = savedScope;
-        
-        return null;
+        return savedScope;
     }
     
     @Override
@@ -318,6 +435,25 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
     
     @Override
     public Void visitConstructorDecl(TypeCheckerParser.ConstructorDeclContext ctx) {
+        SymbolTable savedScope = enterConstructor(ctx);
+        if (savedScope == null) {
+            return null;
+        }
+        
+        // Visit constructor body
+        visit(ctx.constructorBody());
+        
+        exitConstructor(savedScope);
+        
+        return null;
+    }
+    
+    /**
+     * Declare a constructor and its parameters and enter its scope.
+     * Returns the enclosing scope, or null if the constructor is invalid,
+     * in which case its body is not processed.
+     */
+    SymbolTable enterConstructor(TypeCheckerParser.ConstructorDeclContext ctx) {
         if (currentClass == null) {
             reportError(ctx.ID().getSymbol(),
                 "Constructor outside of class",
@@ -370,24 +506,21 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
         
         // Store association for TypeChecker
         nodeScopes.put(ctx, constructorScope);
+        coverTokens(constructorScope, ctx.constructorBody());
         
-        // Process constructor body
+        // Enter the constructor body; constructors do not nest
         SymbolTable savedScope = currentScope;
         currentScope = constructorScope;
-        boolean wasInConstructor = inConstructor;
-        ConstructorSymbol savedConstructor = currentConstructor;
-        
         inConstructor = true;
         currentConstructor = constructor;
         
-        // Visit constructor body
-        visit(ctx.constructorBody());
-        
-        inConstructor = wasInConstructor;
-        currentConstructor = savedConstructor;
+        return savedScope;
+    }
+    
+    void exitConstructor(SymbolTable savedScope) {
+        inConstructor = false;
+        currentConstructor = null;
         currentScope = savedScope;
-        
-        return null;
     }
     
     @Override
@@ -489,6 +622,24 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
     
     @Override
     public Void visitFuncDecl(FuncDeclContext ctx) {
+        SymbolTable savedScope = enterFunction(ctx);
+        if (savedScope == null) {
+            return null;
+        }
+        
+        visit(ctx.block());
+        
+        currentScope = savedScope;
+        
+        return null;
+    }
+    
+    /**
+     * Declare a global function and its parameters and enter its scope.
+     * Returns the enclosing scope, or null if the name is taken, in which
+     * case the body is not processed.
+     */
+    SymbolTable enterFunction(FuncDeclContext ctx) {
         String funcName = ctx.ID().getText();
         Token token = ctx.ID().getSymbol();
         
@@ -517,6 +668,8 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
         FunctionSymbol function = new FunctionSymbol(funcName, returnType, token.getLine(), token.getCharPositionInLine());
         
         SymbolTable functionScope = SymbolTable.createMethodScope(funcName, currentScope, function);
+        functionScopes.putIfAbsent(function, functionScope);
+        coverTokens(functionScope, ctx.block());
         
         SymbolTable savedScope = currentScope;
         currentScope = functionScope;
@@ -527,32 +680,92 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
         
         savedScope.define(function);
         
-        visit(ctx.block());
-        
-        currentScope = savedScope;
-        
-        return null;
+        return savedScope;
     }
     
     @Override
     public Void visitBlock(BlockContext ctx) {
+        // Blocks nested directly in blocks are walked on an explicit stack,
+        // so deep nesting does not recurse
+        Deque<BlockFrame> blocks = new ArrayDeque<>();
+        blocks.push(new BlockFrame(ctx.statement(), enterBlock(ctx)));
+        while (!blocks.isEmpty()) {
+            BlockFrame frame = blocks.peek();
+            if (frame.next == frame.statements.size()) {
+                // Restore previous scope
+                currentScope = frame.savedScope;
+                blocks.pop();
+                continue;
+            }
+            
+            StatementContext stmt = frame.statements.get(frame.next++);
+            if (stmt.blockStmt() != null && stmt.blockStmt().block() != null) {
+                cancellation.checkpoint();
+                BlockContext nested = stmt.blockStmt().block();
+                blocks.push(new BlockFrame(nested.statement(), enterBlock(nested)));
+            } else {
+                visit(stmt);
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * A block whose statements are being visited.
+     */
+    private static class BlockFrame {
+        final List<StatementContext> statements;
+        final SymbolTable savedScope;
+        int next = 0;
+        
+        BlockFrame(List<StatementContext> statements, SymbolTable savedScope) {
+            this.statements = statements;
+            this.savedScope = savedScope;
+        }
+    }
+    
+    /**
+     * Enter a new block scope. Returns the enclosing scope.
+     */
+    SymbolTable enterBlock(BlockContext ctx) {
         // Create a new block scope
         SymbolTable blockScope = SymbolTable.createBlockScope(currentScope);
         
         // Store the association
         nodeScopes.put(ctx, blockScope);
+        coverTokens(blockScope, ctx);
         
         SymbolTable savedScope = currentScope;
         currentScope = blockScope;
-        
-        // Visit all statements in the block
-        for (var stmt : ctx.statement()) {
-            visit(stmt);
-        }
-        
-        // Restore previous scope
+        return savedScope;
+    }
+    
+    /**
+     * Leave the scope entered by one of the enter methods.
+     */
+    void exitScope(SymbolTable savedScope) {
         currentScope = savedScope;
-        return null;
+    }
+
+    /**
+     * Record the tokens of a node, which the parser has completed since
+     * its scope was entered, as those the current scope covers.
+     */
+    void coverTokens(ParserRuleContext node) {
+        coverTokens(currentScope, node);
+    }
+
+    /**
+     * Record the tokens of a node as those a scope covers, for a {@link
+     * NameBinder}. While parsing, the last one is not known until the node
+     * is complete.
+     */
+    private static void coverTokens(SymbolTable scope, ParserRuleContext node) {
+        if (node == null || node.getStart() == null) {
+            return;
+        }
+        scope.setTokenRange(node.getStart().getTokenIndex(),
+            node.getStop() != null ? node.getStop().getTokenIndex() : -1);
     }
     
     // Add method to resolve forward references
@@ -578,6 +791,174 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
         }
     }
     
+    /**
+     * Declare one top-level declaration without its bodies: a class with
+     * its fields and the signatures of its methods and constructors, a
+     * function's signature or a global variable. The scopes of the bodies
+     * are kept for {@link #declareBodies}, which fills them when the
+     * declaration has been parsed again. All classes must be declared
+     * first, and {@link #resolveForwardReferences} called after the last
+     * declaration.
+     */
+    public void declareSignatures(DeclarationContext ctx) {
+        cancellation.checkpoint();
+        if (ctx.classDecl() != null) {
+            ClassDeclContext classDecl = ctx.classDecl();
+            SymbolTable savedScope = enterClass(classDecl);
+            if (savedScope == null) {
+                keepBodyScope(null);
+                return;
+            }
+            keepBodyScope(currentScope);
+            for (var member : classDecl.classMember()) {
+                cancellation.checkpoint();
+                if (member instanceof MethodDeclContext) {
+                    MethodDeclContext method = (MethodDeclContext) member;
+                    SymbolTable classScope = enterMethod(method);
+                    keepBodyScope(currentScope);
+                    exitScope(classScope);
+                } else if (member instanceof ConstructorContext) {
+                    ConstructorDeclContext constructor = ((ConstructorContext) member).constructorDecl();
+                    SymbolTable classScope = enterConstructor(constructor);
+                    if (classScope != null) {
+                        keepBodyScope(currentScope);
+                        exitConstructor(classScope);
+                    } else {
+                        keepBodyScope(null);
+                    }
+                } else {
+                    visit(member);
+                }
+            }
+            exitClass(savedScope);
+        } else if (ctx.funcDecl() != null) {
+            SymbolTable savedScope = enterFunction(ctx.funcDecl());
+            if (savedScope != null) {
+                keepBodyScope(currentScope);
+                exitScope(savedScope);
+            } else {
+                keepBodyScope(null);
+            }
+        } else {
+            visit(ctx);
+        }
+        // The parse tree of this declaration is not kept
+        nodeScopes.clear();
+    }
+    
+    private void keepBodyScope(SymbolTable scope) {
+        bodyScopes.add(scope);
+        bodySymbolCounts.add(scope == null ? 0 : scope.getSymbolCount());
+    }
+    
+    /**
+     * Declare the local variables and block scopes in the bodies of a
+     * declaration given to {@link #declareSignatures} before, parsed again,
+     * and map its nodes to their scopes for the type checker. Types of
+     * undefined classes in the bodies are reported here, since the forward
+     * references of the signatures are resolved already. The declarations
+     * must come in the order they were declared in.
+     */
+    public void declareBodies(DeclarationContext ctx) {
+        cancellation.checkpoint();
+        unresolvedTypes.clear();
+        if (ctx.classDecl() != null) {
+            ClassDeclContext classDecl = ctx.classDecl();
+            SymbolTable classScope = bodyScopes.get(nextBody++);
+            if (classScope == null) {
+                return;
+            }
+            SymbolTable savedScope = currentScope;
+            currentClass = classScope.getEnclosingClass();
+            currentScope = classScope;
+            for (var member : classDecl.classMember()) {
+                cancellation.checkpoint();
+                if (member instanceof MethodDeclContext) {
+                    MethodDeclContext method = (MethodDeclContext) member;
+                    SymbolTable methodScope = enterBody();
+                    nodeScopes.put(method, methodScope);
+                    nodeScopes.put(method.funcDecl(), methodScope);
+                    coverTokens(methodScope, method.funcDecl().block());
+                    visit(method.funcDecl().block());
+                    exitScope(classScope);
+                } else if (member instanceof ConstructorContext) {
+                    ConstructorDeclContext constructor = ((ConstructorContext) member).constructorDecl();
+                    SymbolTable constructorScope = enterBody();
+                    if (constructorScope != null) {
+                        nodeScopes.put(constructor, constructorScope);
+                        coverTokens(constructorScope, constructor.constructorBody());
+                        inConstructor = true;
+                        visit(constructor.constructorBody());
+                        exitConstructor(classScope);
+                    }
+                }
+            }
+            exitClass(savedScope);
+        } else if (ctx.funcDecl() != null) {
+            SymbolTable functionScope = enterBody();
+            if (functionScope != null) {
+                coverTokens(functionScope, ctx.funcDecl().block());
+                visit(ctx.funcDecl().block());
+                exitScope(globalScope);
+            }
+        }
+        resolveForwardReferences();
+    }
+    
+    private SymbolTable enterBody() {
+        SymbolTable scope = bodyScopes.get(nextBody);
+        if (scope != null) {
+            enteredBodies.add(nextBody);
+            currentScope = scope;
+        }
+        nextBody++;
+        return scope;
+    }
+    
+    /**
+     * Drop the block scopes, the locals and the node scopes of the last
+     * {@link #declareBodies} once the declaration is checked, so that only
+     * the signatures stay.
+     */
+    public void releaseBodies() {
+        for (int body : enteredBodies) {
+            SymbolTable scope = bodyScopes.get(body);
+            scope.clearChildren();
+            scope.truncateSymbols(bodySymbolCounts.get(body));
+        }
+        enteredBodies.clear();
+        nodeScopes.clear();
+    }
+
+    /**
+     * Pass over the bodies of a declaration, as {@link #declareBodies} would
+     * in its turn, without declaring them, for a declaration whose check
+     * is known already.
+     */
+    public void skipBodies(DeclarationContext ctx) {
+        if (ctx.classDecl() != null) {
+            if (bodyScopes.get(nextBody++) == null) {
+                return;
+            }
+            for (var member : ctx.classDecl().classMember()) {
+                if (member instanceof MethodDeclContext || member instanceof ConstructorContext) {
+                    nextBody++;
+                }
+            }
+        } else if (ctx.funcDecl() != null) {
+            nextBody++;
+        }
+    }
+
+    /**
+     * Start over at the first declaration, to declare the bodies of all
+     * declarations again, as they are after an edit that left the
+     * signatures as they were.
+     */
+    public void restartBodies() {
+        nextBody = 0;
+    }
+
     @Override
     public Void visitVarDecl(VarDeclContext ctx) {
         Type type = getType(ctx.type());
@@ -606,7 +987,7 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
             
             // MAKE SURE THIS IS HAPPENING
             currentScope.define(var);
-            System.out.println("Added variable '" + name + "' to scope: " + currentScope.getScopeName());
+            debug("Added variable '" + name + "' to scope: " + currentScope.getScopeName());
         }
         
         return null;
@@ -760,15 +1141,7 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
     
     @Override
     public Void visitForStmt(ForStmtContext ctx) {
-        // Create new scope for the for loop
-        SymbolTable forLoopTable = new SymbolTable("for-loop", 
-            SymbolTable.ScopeType.FOR, currentScope);
-        
-        // Store the association for TypeChecker
-        nodeScopes.put(ctx, forLoopTable);
-        
-        SymbolTable savedScope = currentScope;
-        currentScope = forLoopTable;
+        SymbolTable savedScope = enterLoop(ctx);
         
         try {
             // Visit the for-init (variable declaration or expression)
@@ -798,41 +1171,39 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
         return null;
     }
     
-    @Override
-    public Void visitForEachStmt(ForEachStmtContext ctx) {
-        // Create new scope for enhanced for loop
-        SymbolTable forEachTable = new SymbolTable("for-each-loop", 
-            SymbolTable.ScopeType.FOR, currentScope);
+    /**
+     * Enter a new scope for a for, for-each, while or do-while loop.
+     * Returns the enclosing scope.
+     */
+    SymbolTable enterLoop(ParserRuleContext ctx) {
+        SymbolTable loopTable;
+        if (ctx instanceof ForStmtContext) {
+            loopTable = new SymbolTable("for-loop", SymbolTable.ScopeType.FOR, currentScope);
+        } else if (ctx instanceof ForEachStmtContext) {
+            loopTable = new SymbolTable("for-each-loop", SymbolTable.ScopeType.FOR, currentScope);
+        } else if (ctx instanceof WhileStmtContext) {
+            loopTable = new SymbolTable("while-loop", SymbolTable.ScopeType.WHILE, currentScope);
+        } else if (ctx instanceof DoWhileStmtContext) {
+            loopTable = new SymbolTable("do-while-loop", SymbolTable.ScopeType.WHILE, currentScope);
+        } else {
+            throw new IllegalArgumentException("Not a loop: " + ctx.getClass().getSimpleName());
+        }
         
-        // Store the association
-        nodeScopes.put(ctx, forEachTable);
+        // Store the association for TypeChecker
+        nodeScopes.put(ctx, loopTable);
+        coverTokens(loopTable, ctx);
         
         SymbolTable savedScope = currentScope;
-        currentScope = forEachTable;
+        currentScope = loopTable;
+        return savedScope;
+    }
+    
+    @Override
+    public Void visitForEachStmt(ForEachStmtContext ctx) {
+        SymbolTable savedScope = enterLoop(ctx);
         
         try {
-            // Add the loop variable to the scope
-            Type elementType = getType(ctx.type());
-            String varName = ctx.ID().getText();
-            Token token = ctx.ID().getSymbol();
-            
-            // Check for duplicate variable
-            if (currentScope.resolveLocal(varName) != null) {
-                reportError(token,
-                    "Variable '" + varName + "' is already defined in this scope",
-                    SemanticError.ErrorType.REDEFINITION
-                );
-            } else {
-                VariableSymbol loopVar = new VariableSymbol(
-                    varName, 
-                    elementType, 
-                    token.getLine(), 
-                    token.getCharPositionInLine()
-                );
-                loopVar.setFinal(ctx.FINAL() != null);
-                loopVar.setInitialized(true);
-                currentScope.define(loopVar);
-            }
+            declareLoopVariable(ctx);
             
             // Visit the iterable expression
             if (ctx.expr() != null) {
@@ -850,6 +1221,34 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
         
         return null;
     }
+    
+    /**
+     * Add the variable of an enhanced for loop to the loop's scope.
+     */
+    void declareLoopVariable(ForEachStmtContext ctx) {
+        // Add the loop variable to the scope
+        Type elementType = getType(ctx.type());
+        String varName = ctx.ID().getText();
+        Token token = ctx.ID().getSymbol();
+        
+        // Check for duplicate variable
+        if (currentScope.resolveLocal(varName) != null) {
+            reportError(token,
+                "Variable '" + varName + "' is already defined in this scope",
+                SemanticError.ErrorType.REDEFINITION
+            );
+        } else {
+            VariableSymbol loopVar = new VariableSymbol(
+                varName, 
+                elementType, 
+                token.getLine(), 
+                token.getCharPositionInLine()
+            );
+            loopVar.setFinal(ctx.FINAL() != null);
+            loopVar.setInitialized(true);
+            currentScope.define(loopVar);
+        }
+    }
 
     @Override
     public Void visitThisLvalue(ThisLvalueContext ctx) {
@@ -922,14 +1321,7 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
     
     @Override
     public Void visitWhileStmt(WhileStmtContext ctx) {
-        // Create new scope for while loop (for consistency)
-        SymbolTable whileTable = new SymbolTable("while-loop", 
-            SymbolTable.ScopeType.WHILE, currentScope);
-        
-        nodeScopes.put(ctx, whileTable);
-        
-        SymbolTable savedScope = currentScope;
-        currentScope = whileTable;
+        SymbolTable savedScope = enterLoop(ctx);
         
         try {
             if (ctx.expr() != null) {
@@ -947,14 +1339,7 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
 
     @Override
     public Void visitDoWhileStmt(DoWhileStmtContext ctx) {
-        // Create new scope for do-while loop
-        SymbolTable doWhileTable = new SymbolTable("do-while-loop", 
-            SymbolTable.ScopeType.WHILE, currentScope);
-        
-        nodeScopes.put(ctx, doWhileTable);
-        
-        SymbolTable savedScope = currentScope;
-        currentScope = doWhileTable;
+        SymbolTable savedScope = enterLoop(ctx);
         
         try {
             if (ctx.statement() != null) {
@@ -990,7 +1375,18 @@ public class SymbolTableBuilder extends TypeCheckerBaseVisitor<Void> {
 
     @Override
     public Void visitStatement(StatementContext ctx) {
+        cancellation.checkpoint();
         // Visit the specific statement type
         return visitChildren(ctx);
     }
+    
+    @Override
+    public Void visitChildren(RuleNode node) {
+        // Expressions declare nothing; walking a long operator chain
+        // would recurse once per operator
+        if (node instanceof ExprContext) {
+            return null;
+        }
+        return super.visitChildren(node);
+    }
 }
\ No newline at end of file
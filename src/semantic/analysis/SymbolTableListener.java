@@ -0,0 +1,252 @@
+package semantic.analysis;
+
+import semantic.*;
+
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import antlr.TypeCheckerParser.*;
+
+import java.util.*;
+
+/**
+ * Builds the symbol table while the parser runs, as a parse listener, so
+ * the tree does not have to be walked once more by {@link
+ * SymbolTableBuilder} afterwards.
+ *
+ * The listener drives a SymbolTableBuilder through the same steps its
+ * visitor takes: a scope is entered when the parser reaches the part of a
+ * declaration or statement the visitor would visit next (a class body,
+ * a method body, a loop) and left when that part is complete, and the
+ * declarations are processed when their rule exits. Like the visitor's
+ * first pass, all classes are declared before anything else, from the
+ * class name tokens, so forward references resolve the same way.
+ *
+ * Only a parse without syntax errors builds a usable table. The listener
+ * stops at the first syntax error, and starts over if the parser starts
+ * the program again, as the two-stage parse does when SLL prediction
+ * fails. Until {@link #finish} the builder's debug output is held back
+ * and its errors count against a private error budget, so a parse that
+ * fails or is repeated leaves no trace.
+ */
+public class SymbolTableListener implements ParseTreeListener {
+    private final Parser parser;
+    private final NameTable names;
+    private final List<Token> classNames;
+    private final int maxErrors;
+
+    private SymbolTableBuilder builder;
+    private CancellationToken budget;
+    // Scopes to return to, one per scope the builder entered
+    private final Deque<SymbolTable> savedScopes = new ArrayDeque<>();
+    // Subtree the visitor would not process, or null
+    private ParserRuleContext skipped;
+    private boolean failed;
+    private boolean stopped;
+
+    /**
+     * Create a listener for the given parser. The class names are the
+     * tokens of the declared class names, in source order, and maxErrors
+     * is the error budget of the check.
+     */
+    public SymbolTableListener(Parser parser, NameTable names, List<Token> classNames, int maxErrors) {
+        this.parser = parser;
+        this.names = names;
+        this.classNames = classNames;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Start over with a new builder, on the first parse and on each parse
+     * after it.
+     */
+    private void start() {
+        builder = new SymbolTableBuilder(names);
+        builder.deferOutput();
+        budget = new CancellationToken(maxErrors, CancellationToken.NO_TIME_LIMIT);
+        builder.setCancellation(budget);
+        savedScopes.clear();
+        skipped = null;
+        failed = false;
+        stopped = false;
+        for (Token className : classNames) {
+            builder.declareClass(className);
+        }
+    }
+
+    /**
+     * The builder of the last parse, or null before the first. Only
+     * meaningful if that parse had no syntax errors.
+     */
+    public SymbolTableBuilder getBuilder() {
+        return builder;
+    }
+
+    /**
+     * Hand the result of a parse without syntax errors to the check: print
+     * the held back output and count the errors against the check's
+     * budget. Throws {@link CheckCancelledException} if the builder ran out
+     * of budget, where the visitor would have stopped.
+     */
+    public void finish(CancellationToken cancellation) {
+        builder.flushOutput();
+        builder.setCancellation(cancellation);
+        for (int i = 0; i < builder.getErrors().size(); i++) {
+            cancellation.errorReported();
+        }
+        if (stopped) {
+            cancellation.checkpoint();
+        }
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        if (ctx instanceof ProgramContext) {
+            start();
+            return;
+        }
+        if (!isActive()) {
+            return;
+        }
+        try {
+            enter(ctx);
+        } catch (CheckCancelledException e) {
+            // Out of budget: the visitor would have stopped here
+            stopped = true;
+        }
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        if (ctx == skipped) {
+            skipped = null;
+            return;
+        }
+        if (!isActive()) {
+            return;
+        }
+        if (ctx.exception != null) {
+            failed = true;
+            return;
+        }
+        try {
+            exit(ctx);
+        } catch (CheckCancelledException e) {
+            stopped = true;
+        }
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        if (!isActive()) {
+            return;
+        }
+        if (node.getParent() instanceof ClassDeclContext && node.getText().equals("{")) {
+            // The class header is complete
+            SymbolTable savedScope = builder.enterClass((ClassDeclContext) node.getParent());
+            if (savedScope == null) {
+                skipped = (ClassDeclContext) node.getParent();
+            } else {
+                savedScopes.push(savedScope);
+            }
+        } else if (node.getParent() instanceof ForEachStmtContext && node.getText().equals(":")) {
+            builder.declareLoopVariable((ForEachStmtContext) node.getParent());
+        }
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+        failed = true;
+    }
+
+    private boolean isActive() {
+        if (!failed && parser.getNumberOfSyntaxErrors() > 0) {
+            failed = true;
+        }
+        return !failed && !stopped && skipped == null;
+    }
+
+    private SymbolTable popScope() {
+        if (savedScopes.isEmpty()) {
+            // The parser is unwinding from an error thrown in the middle of
+            // a rule, such as a stack overflow; the table is not used
+            failed = true;
+            return builder.getGlobalScope();
+        }
+        return savedScopes.pop();
+    }
+
+    private void enter(ParserRuleContext ctx) {
+        if (ctx instanceof DeclarationContext || ctx instanceof ClassMemberContext
+                || ctx instanceof StatementContext) {
+            builder.checkpoint();
+        } else if (ctx instanceof BlockContext) {
+            if (ctx.getParent() instanceof FuncDeclContext) {
+                FuncDeclContext function = (FuncDeclContext) ctx.getParent();
+                SymbolTable savedScope;
+                if (function.getParent() instanceof MethodDeclContext) {
+                    savedScope = builder.enterMethod((MethodDeclContext) function.getParent());
+                } else {
+                    savedScope = builder.enterFunction(function);
+                }
+                if (savedScope == null) {
+                    skipped = ctx;
+                    return;
+                }
+                savedScopes.push(savedScope);
+            }
+            savedScopes.push(builder.enterBlock((BlockContext) ctx));
+        } else if (ctx instanceof ConstructorBodyContext) {
+            SymbolTable savedScope = builder.enterConstructor((ConstructorDeclContext) ctx.getParent());
+            if (savedScope == null) {
+                skipped = ctx;
+                return;
+            }
+            savedScopes.push(savedScope);
+        } else if (ctx instanceof ForStmtContext || ctx instanceof ForEachStmtContext
+                || ctx instanceof WhileStmtContext || ctx instanceof DoWhileStmtContext) {
+            savedScopes.push(builder.enterLoop(ctx));
+        }
+    }
+
+    private void exit(ParserRuleContext ctx) {
+        if (ctx instanceof ImportDeclContext) {
+            builder.visitImportDecl((ImportDeclContext) ctx);
+        } else if (ctx instanceof FieldDeclContext) {
+            builder.visitFieldDecl((FieldDeclContext) ctx);
+        } else if (ctx instanceof GlobalVarDeclContext) {
+            builder.visitGlobalVarDecl((GlobalVarDeclContext) ctx);
+        } else if (ctx instanceof LocalVarDeclContext) {
+            builder.visitLocalVarDecl((LocalVarDeclContext) ctx);
+        } else if (ctx instanceof ForInitContext) {
+            builder.visitForInit((ForInitContext) ctx);
+        } else if (ctx instanceof SuperConstructorCallContext) {
+            builder.visitSuperConstructorCall((SuperConstructorCallContext) ctx);
+        } else if (ctx instanceof ThisConstructorCallContext) {
+            builder.visitThisConstructorCall((ThisConstructorCallContext) ctx);
+        } else if (ctx instanceof BlockContext) {
+            builder.coverTokens(ctx);
+            builder.exitScope(popScope());
+            if (ctx.getParent() instanceof FuncDeclContext) {
+                // The method or function scope
+                builder.coverTokens(ctx);
+                builder.exitScope(popScope());
+            }
+        } else if (ctx instanceof ConstructorBodyContext) {
+            builder.coverTokens(ctx);
+            builder.exitConstructor(popScope());
+        } else if (ctx instanceof ForStmtContext || ctx instanceof ForEachStmtContext
+                || ctx instanceof WhileStmtContext || ctx instanceof DoWhileStmtContext) {
+            builder.coverTokens(ctx);
+            builder.exitScope(popScope());
+        } else if (ctx instanceof ClassDeclContext) {
+            builder.exitClass(popScope());
+        } else if (ctx instanceof ProgramContext) {
+            builder.resolveForwardReferences();
+        }
+    }
+}
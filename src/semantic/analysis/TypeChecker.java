@@ -1,5 +1,9 @@
 package semantic.analysis;
 
+import semantic.AnalysisCounters;
+import semantic.Binding;
+import semantic.CancellationToken;
+import semantic.FlightRecording;
 import semantic.SemanticError;
 import semantic.Symbol;
 import semantic.SymbolTable;
@@ -15,6 +19,7 @@ import semantic.types.NullType;
 import semantic.types.PrimitiveType;
 import semantic.types.Type;
 
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
@@ -44,6 +49,10 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
     private List<SemanticError> errors = new ArrayList<>();
     private Stack<ReturnTracker> returnTrackers = new Stack<>();
     private Map<ParseTree, SymbolTable> nodeScopes;
+    private Map<ClassSymbol, SymbolTable> classScopes;
+    private Map<FunctionSymbol, SymbolTable> functionScopes;
+    private CancellationToken cancellation = new CancellationToken();
+    private NameBindings bindings = NameBindings.NONE;
     
     // Enhanced Return Tracking
     private class ReturnPath {
@@ -129,10 +138,21 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         }
     }
     
-    public TypeChecker(SymbolTable globalScope, Map<ParseTree, SymbolTable> nodeScopes) {
+    /**
+     * Check with the scopes a symbol table builder declared.
+     */
+    public TypeChecker(SymbolTableBuilder symbols) {
+        this(symbols.getGlobalScope(), symbols.getNodeScopes(),
+            symbols.getClassScopes(), symbols.getFunctionScopes());
+    }
+    
+    public TypeChecker(SymbolTable globalScope, Map<ParseTree, SymbolTable> nodeScopes,
+            Map<ClassSymbol, SymbolTable> classScopes, Map<FunctionSymbol, SymbolTable> functionScopes) {
         this.globalScope = globalScope;
         this.currentScope = globalScope;
         this.nodeScopes = nodeScopes;
+        this.classScopes = classScopes;
+        this.functionScopes = functionScopes;
         this.loopStack = new Stack<>();
         this.returnTrackers = new Stack<>();
         this.errors = new ArrayList<>();
@@ -143,6 +163,22 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         return errors;
     }
     
+    /**
+     * Stop checking at the next declaration or statement once the token is
+     * cancelled. Errors reported by this pass count against its budget.
+     */
+    public void setCancellation(CancellationToken cancellation) {
+        this.cancellation = cancellation;
+    }
+    
+    /**
+     * Read the names of the tree from the bindings a {@link NameBinder}
+     * found for it, where they were resolved from the scope being checked.
+     */
+    public void setBindings(NameBindings bindings) {
+        this.bindings = bindings;
+    }
+    
     private void addError(Token token, String message, SemanticError.ErrorType type) {
         if (token != null) {
             errors.add(new SemanticError(token, message, type));
@@ -150,6 +186,7 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
             // Use a default location for errors without tokens
             errors.add(new SemanticError(0, 0, message, type));
         }
+        cancellation.errorReported();
     }
     
     private boolean isConstructorAccessible(ConstructorSymbol constructor) {
@@ -237,18 +274,25 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
 
     	return null;
     }
+    /**
+     * Where a name token is defined: its binding if it was bound from the
+     * current scope, otherwise the name resolved from the current scope.
+     */
+    private Binding bound(TerminalNode name) {
+        Binding binding = bindings.get(name.getSymbol());
+        return binding != null && binding.getFrom() == currentScope ? binding : currentScope.bind(name.getText());
+    }
+    
+    private Binding boundUse(TerminalNode name) {
+        Binding binding = bindings.get(name.getSymbol());
+        return binding != null && binding.getFrom() == currentScope ? binding
+            : NameBinder.bindUse(globalScope, currentScope, name.getText());
+    }
+    
     // Helper method to get class member scope
     private SymbolTable getClassMemberScope(ClassSymbol classSymbol) {
-        // Find the class scope in the global scope's children
-    	if (globalScope.getChildren() != null){
-    		for (SymbolTable child : globalScope.getChildren()) {
-    			if (child.getScopeType() == SymbolTable.ScopeType.CLASS &&
-    					child.getEnclosingClass() == classSymbol) {
-    					return child;
-    			}
-    		}
-    	}
-        return null;
+        AnalysisCounters.increment(AnalysisCounters.Counter.CLASS_SCOPE_LOOKUPS);
+        return classScopes.get(classSymbol);
     }
     
     private MethodSymbol findMethodInClass(ClassSymbol classSymbol, String methodName, List<Type> argTypes) {
@@ -348,7 +392,7 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
     private boolean isAssignableLvalue(LvalueContext lvalue) {
         if (lvalue instanceof VarLvalueContext) {
             VarLvalueContext varLvalue = (VarLvalueContext) lvalue;
-            Symbol symbol = currentScope.resolve(varLvalue.ID().getText());
+            Symbol symbol = bound(varLvalue.ID()).getSymbol();
             if (symbol instanceof VariableSymbol) {
                 VariableSymbol var = (VariableSymbol) symbol;
                 return !var.isFinal() || !var.isInitialized();
@@ -460,6 +504,7 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         
         // Visit all declarations
         for (var decl : ctx.declaration()) {
+            cancellation.checkpoint();
             visit(decl);
         }
         return null;
@@ -511,6 +556,7 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         
         // Visit all class members
         for (var member : ctx.classMember()) {
+            cancellation.checkpoint();
             visit(member);
         }
         
@@ -605,7 +651,7 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         returnTrackers.push(tracker);
         
         // Visit method body
-        visit(funcDecl.block());
+        visitBody(funcDecl.block(), methodName);
         
         // Check return requirements
         if (!method.getReturnType().equals(PrimitiveType.VOID) && !tracker.allPathsReturn()) {
@@ -905,7 +951,7 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         SymbolTable previousScope = currentScope;
         
         // IMPORTANT: Find the existing method scope created by SymbolTableBuilder
-        SymbolTable functionScope = findFunctionScope(function);
+        SymbolTable functionScope = functionScopes.get(function);
         
         if (functionScope == null) {
             addError(ctx.ID().getSymbol(),
@@ -921,7 +967,7 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         returnTrackers.push(tracker);
         
         // Visit block - this will visit the function body
-        visit(ctx.block());
+        visitBody(ctx.block(), funcName);
         
         // Check return requirements
         if (!function.getReturnType().equals(PrimitiveType.VOID) && !tracker.allPathsReturn()) {
@@ -940,37 +986,35 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         return function.getType();
     }
 
-    // Helper method to find function scope
-    private SymbolTable findFunctionScope(FunctionSymbol function) {
-        // Search in current scope's children first
-        if (currentScope.getChildren() != null) {
-            for (SymbolTable child : currentScope.getChildren()) {
-                if (child.getScopeType() == SymbolTable.ScopeType.METHOD && 
-                    child.getEnclosingMethod() == function) {
-                    return child;
-                }
-            }
+    /**
+     * Visit a method or function body, recording a flight recorder event
+     * if checking it takes longer than the event threshold.
+     */
+    private void visitBody(BlockContext body, String methodName) {
+        if (!FlightRecording.isActive()) {
+            visit(body);
+            return;
+        }
+        MethodCheckEvent event = new MethodCheckEvent();
+        event.begin();
+        visit(body);
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = sourceName(body);
+            event.className = currentClass != null ? currentClass.getName() : "";
+            event.methodName = methodName;
+            event.commit();
         }
-        
-        // If not found, search from global scope
-        return findScopeRecursive(globalScope, function);
     }
-
-    private SymbolTable findScopeRecursive(SymbolTable scope, FunctionSymbol function) {
-        if (scope.getChildren() != null) {
-            for (SymbolTable child : scope.getChildren()) {
-                if (child.getScopeType() == SymbolTable.ScopeType.METHOD && 
-                    child.getEnclosingMethod() == function) {
-                    return child;
-                }
-                // Recursive search
-                SymbolTable found = findScopeRecursive(child, function);
-                if (found != null) return found;
-            }
+    
+    private static String sourceName(ParserRuleContext ctx) {
+        Token start = ctx.getStart();
+        if (start == null || start.getInputStream() == null) {
+            return "";
         }
-        return null;
+        return start.getInputStream().getSourceName();
     }
-    
+
     // Variable declaration visitors
     @Override
     public Type visitGlobalVarDecl(GlobalVarDeclContext ctx) {
@@ -986,16 +1030,17 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         boolean isFinal = ctx.FINAL() != null;
         
         for (var declarator : ctx.varDeclarator()) {
-            if (declarator == null || declarator.ID() == null) continue;
+            TerminalNode id = declarator == null ? null : declarator.ID();
+            if (id == null) continue;
             
-            String varName = declarator.ID().getText();
+            String varName = id.getText();
             Type varType = getArrayType(baseType, declarator);
             
-            // Use resolve, not resolveLocal - we want to find the variable wherever it was defined
-            Symbol symbol = currentScope.resolve(varName);
+            // Bound as resolve, not resolveLocal - we want to find the variable wherever it was defined
+            Symbol symbol = bound(id).getSymbol();
             
             if (!(symbol instanceof VariableSymbol)) {
-                addError(declarator.ID().getSymbol(),
+                addError(id.getSymbol(),
                     "Variable '" + varName + "' not found in symbol table",
                     SemanticError.ErrorType.INTERNAL_ERROR);
                 continue;
@@ -1014,7 +1059,7 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
                 var.setInitialized(true);
                 initializedVars.add(var);
             } else if (isFinal) {
-                addError(declarator.ID().getSymbol(),
+                addError(id.getSymbol(),
                     "Final variable '" + varName + "' must be initialized",
                     SemanticError.ErrorType.UNINITIALIZED_FINAL);
             }
@@ -1027,6 +1072,46 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
     public Type visitBlock(BlockContext ctx) {
         if (ctx == null) return null;
         
+        // Blocks nested directly in blocks are checked on an explicit stack,
+        // so deep nesting does not recurse
+        Deque<BlockFrame> blocks = new ArrayDeque<>();
+        enterBlock(ctx, blocks);
+        while (!blocks.isEmpty()) {
+            BlockFrame frame = blocks.peek();
+            if (frame.next == frame.statements.size()) {
+                // Restore previous scope
+                currentScope = frame.previousScope;
+                blocks.pop();
+                continue;
+            }
+            
+            StatementContext stmt = frame.statements.get(frame.next++);
+            if (stmt.blockStmt() != null && stmt.blockStmt().block() != null) {
+                cancellation.checkpoint();
+                enterBlock(stmt.blockStmt().block(), blocks);
+            } else {
+                visit(stmt);
+            }
+        }
+        
+        return null;
+    }
+    
+    /**
+     * A block whose statements are being checked.
+     */
+    private static class BlockFrame {
+        final List<StatementContext> statements;
+        final SymbolTable previousScope;
+        int next = 0;
+        
+        BlockFrame(List<StatementContext> statements, SymbolTable previousScope) {
+            this.statements = statements;
+            this.previousScope = previousScope;
+        }
+    }
+    
+    private void enterBlock(BlockContext ctx, Deque<BlockFrame> blocks) {
         // Get the scope that was created for this block
         SymbolTable blockScope = nodeScopes.get(ctx);
         
@@ -1035,21 +1120,12 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
             addError(ctx.getStart(),
                 "Block scope not found - internal error",
                 SemanticError.ErrorType.INTERNAL_ERROR);
-        } else {
-            // Enter the block scope
-            SymbolTable previousScope = currentScope;
-            currentScope = blockScope;
-            
-            // Visit statements in the correct scope
-            for (var stmt : ctx.statement()) {
-                visit(stmt);
-            }
-            
-            // Restore previous scope
-            currentScope = previousScope;
+            return;
         }
         
-        return null;
+        // Enter the block scope
+        blocks.push(new BlockFrame(ctx.statement(), currentScope));
+        currentScope = blockScope;
     }
     
     @Override
@@ -1303,7 +1379,23 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         }
         
         // Find matching method
-        MethodSymbol method = findMethodInClass(classSymbol, methodName, argTypes);
+        AnalysisCounters.increment(AnalysisCounters.Counter.OVERLOAD_RESOLUTIONS);
+        MethodSymbol method;
+        if (FlightRecording.isActive()) {
+            OverloadResolutionEvent resolution = new OverloadResolutionEvent();
+            resolution.begin();
+            method = findMethodInClass(classSymbol, methodName, argTypes);
+            resolution.end();
+            if (resolution.shouldCommit()) {
+                resolution.file = sourceName(ctx);
+                resolution.className = classSymbol.getName();
+                resolution.methodName = methodName;
+                resolution.argumentCount = argTypes.size();
+                resolution.commit();
+            }
+        } else {
+            method = findMethodInClass(classSymbol, methodName, argTypes);
+        }
         
         if (method == null) {
             StringBuilder sb = new StringBuilder();
@@ -1338,15 +1430,14 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         String funcName = ctx.ID().getText();
         
         // Check if it's a class name (for static method calls)
-        Symbol classSymbol = globalScope.resolve(funcName);
-        if (classSymbol instanceof ClassSymbol) {
+        Symbol symbol = boundUse(ctx.ID()).getSymbol();
+        if (symbol instanceof ClassSymbol) {
             // This might be Class.method() which is handled by visitMethodCall
             // Return the class type for now
-            return ((ClassSymbol) classSymbol).getType();
+            return ((ClassSymbol) symbol).getType();
         }
         
         // Regular function call handling...
-        Symbol symbol = currentScope.resolve(funcName);
         
         if (symbol == null) {
             addError(ctx.ID().getSymbol(),
@@ -1658,10 +1749,93 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         if (ctx == null || ctx.expr().size() != 2) {
             return ErrorType.getInstance();
         }
+        return checkOperators(ctx);
+    }
+    
+    /**
+     * Type of an expression built of binary, logical, ternary and
+     * parenthesized expressions, such as a long a + b + c chain. The
+     * operators are taken apart on an explicit work stack, so the depth of
+     * the expression is limited by the heap rather than the thread stack.
+     * Other operands are visited as usual. Operands are checked left to
+     * right and each operator after its operands, as a recursive visit
+     * would.
+     */
+    private Type checkOperators(ExprContext root) {
+        Deque<OperatorFrame> operators = new ArrayDeque<>();
+        List<Type> types = new ArrayList<>();
+        operators.push(new OperatorFrame(root, operandsOf(root)));
+        while (!operators.isEmpty()) {
+            OperatorFrame frame = operators.peek();
+            if (frame.next < frame.operands.size()) {
+                ExprContext operand = frame.operands.get(frame.next++);
+                List<ExprContext> operands = operandsOf(operand);
+                if (operands != null) {
+                    operators.push(new OperatorFrame(operand, operands));
+                } else {
+                    types.add(visit(operand));
+                }
+                continue;
+            }
+            
+            // All operands are checked; replace their types by the operator's
+            operators.pop();
+            List<Type> operandTypes = types.subList(types.size() - frame.operands.size(), types.size());
+            Type type = operatorType(frame.operator, operandTypes);
+            operandTypes.clear();
+            types.add(type);
+        }
+        return types.get(0);
+    }
+    
+    /**
+     * An operator whose operands are being checked.
+     */
+    private static class OperatorFrame {
+        final ExprContext operator;
+        final List<ExprContext> operands;
+        int next = 0;
         
-        Type left = visit(ctx.expr(0));
-        Type right = visit(ctx.expr(1));
-        
+        OperatorFrame(ExprContext operator, List<ExprContext> operands) {
+            this.operator = operator;
+            this.operands = operands;
+        }
+    }
+    
+    /**
+     * Operands of an expression checked by {@link #checkOperators}, or null
+     * for any other expression, including incomplete operators.
+     */
+    private static List<ExprContext> operandsOf(ExprContext ctx) {
+        if (ctx instanceof BinaryExprContext || ctx instanceof AndContext || ctx instanceof OrContext) {
+            List<ExprContext> operands = ctx.getRuleContexts(ExprContext.class);
+            return operands.size() == 2 ? operands : null;
+        }
+        if (ctx instanceof TernaryContext) {
+            List<ExprContext> operands = ctx.getRuleContexts(ExprContext.class);
+            return operands.size() == 3 ? operands : null;
+        }
+        if (ctx instanceof ParenExprContext && ((ParenExprContext) ctx).expr() != null) {
+            return List.of(((ParenExprContext) ctx).expr());
+        }
+        return null;
+    }
+    
+    private Type operatorType(ExprContext ctx, List<Type> operands) {
+        if (ctx instanceof BinaryExprContext) {
+            return binaryType((BinaryExprContext) ctx, operands.get(0), operands.get(1));
+        } else if (ctx instanceof AndContext) {
+            return andType((AndContext) ctx, operands.get(0), operands.get(1));
+        } else if (ctx instanceof OrContext) {
+            return orType((OrContext) ctx, operands.get(0), operands.get(1));
+        } else if (ctx instanceof TernaryContext) {
+            return ternaryType((TernaryContext) ctx, operands.get(0), operands.get(1), operands.get(2));
+        }
+        // Parentheses
+        return operands.get(0);
+    }
+    
+    private Type binaryType(BinaryExprContext ctx, Type left, Type right) {
         if (left instanceof ErrorType || right instanceof ErrorType) {
             return ErrorType.getInstance();
         }
@@ -1880,7 +2054,7 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         // Mark variable as initialized if it's a simple variable
         if (ctx.lvalue() instanceof VarLvalueContext) {
             VarLvalueContext varLvalue = (VarLvalueContext) ctx.lvalue();
-            Symbol symbol = currentScope.resolve(varLvalue.ID().getText());
+            Symbol symbol = bound(varLvalue.ID()).getSymbol();
             if (symbol instanceof VariableSymbol) {
                 ((VariableSymbol) symbol).setInitialized(true);
                 initializedVars.add((VariableSymbol) symbol);
@@ -1894,22 +2068,23 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
 
     @Override
     public Type visitVarLvalue(VarLvalueContext ctx) {
-        if (ctx == null || ctx.ID() == null) {
+        TerminalNode id = ctx == null ? null : ctx.ID();
+        if (id == null) {
             return ErrorType.getInstance();
         }
         
-        String varName = ctx.ID().getText();
-        Symbol symbol = currentScope.resolve(varName);
+        String varName = id.getText();
+        Symbol symbol = bound(id).getSymbol();
         
         if (symbol == null) {
-            addError(ctx.ID().getSymbol(),
+            addError(id.getSymbol(),
                 "Variable '" + varName + "' is not defined",
                 SemanticError.ErrorType.UNDEFINED_VARIABLE);
             return ErrorType.getInstance();
         }
         
         if (!(symbol instanceof VariableSymbol)) {
-            addError(ctx.ID().getSymbol(),
+            addError(id.getSymbol(),
                 "'" + varName + "' is not a variable",
                 SemanticError.ErrorType.TYPE_MISMATCH);
             return ErrorType.getInstance();
@@ -2214,23 +2389,24 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
 
     @Override
     public Type visitVarRef(VarRefContext ctx) {
-        if (ctx == null || ctx.ID() == null) {
+        TerminalNode id = ctx == null ? null : ctx.ID();
+        if (id == null) {
             return ErrorType.getInstance();
         }
         
-        String name = ctx.ID().getText();
+        String name = id.getText();
         
         // Check if it's a class name (for static access)
-        Symbol classSymbol = globalScope.resolve(name);
-        if (classSymbol instanceof ClassSymbol) {
-            return ((ClassSymbol) classSymbol).getType();
+        Binding binding = boundUse(id);
+        Symbol symbol = binding.getSymbol();
+        if (symbol instanceof ClassSymbol) {
+            return ((ClassSymbol) symbol).getType();
         }
         
         // Otherwise, check for variables
-        Symbol symbol = currentScope.resolve(name);
         
         if (symbol == null) {
-            addError(ctx.ID().getSymbol(),
+            addError(id.getSymbol(),
                 "Variable '" + name + "' is not defined",
                 SemanticError.ErrorType.UNDEFINED_VARIABLE);
             return ErrorType.getInstance();
@@ -2241,27 +2417,25 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
             
             // Check if this is an instance field by looking where it's defined
             boolean isInstanceField = false;
-            if (currentClass != null) {
+            SymbolTable definingScope = binding.getScope();
+            if (currentClass != null && definingScope.isClassScope()) {
                 // Get the class scope and check if the variable is defined there
                 SymbolTable classScope = getClassMemberScope(currentClass);
-                if (classScope != null) {
-                    Symbol fieldSymbol = classScope.resolveLocal(name);
-                    if (fieldSymbol == var && !var.isStatic()) {
-                        isInstanceField = true;
-                    }
+                if (classScope != null && definingScope == classScope && !var.isStatic()) {
+                    isInstanceField = true;
                 }
             }
             
             // Check initialization only for local variables and static fields
             if (!isInstanceField && !var.isInitialized() && !var.isParameter() && !initializedVars.contains(var)) {
-                addError(ctx.ID().getSymbol(),
+                addError(id.getSymbol(),
                     "Variable '" + name + "' may not have been initialized",
                     SemanticError.ErrorType.UNINITIALIZED_VARIABLE);
             }
             
             // Check static context
             if (inStaticContext && !var.isStatic() && isInstanceField) {
-                addError(ctx.ID().getSymbol(),
+                addError(id.getSymbol(),
                     "Cannot access instance variable '" + name + "' from static context",
                     SemanticError.ErrorType.STATIC_CONTEXT_ERROR);
             }
@@ -2298,7 +2472,7 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         if (ctx == null || ctx.expr() == null) {
             return ErrorType.getInstance();
         }
-        return visit(ctx.expr());
+        return checkOperators(ctx);
     }
 
 
@@ -2409,6 +2583,7 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
     @Override
     public Type visitStatement(StatementContext ctx) {
         if (ctx == null) return null;
+        cancellation.checkpoint();
         
         // Visit the specific statement type
         return visitChildren(ctx);
@@ -2419,10 +2594,10 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         if (ctx == null || ctx.expr().size() != 2) {
             return ErrorType.getInstance();
         }
-        
-        Type left = visit(ctx.expr(0));
-        Type right = visit(ctx.expr(1));
-        
+        return checkOperators(ctx);
+    }
+    
+    private Type orType(OrContext ctx, Type left, Type right) {
         if (!left.equals(PrimitiveType.BOOLEAN) || !right.equals(PrimitiveType.BOOLEAN)) {
             addError(ctx.getStart(),
                 "Logical OR requires boolean operands",
@@ -2438,10 +2613,10 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         if (ctx == null || ctx.expr().size() != 2) {
             return ErrorType.getInstance();
         }
-        
-        Type left = visit(ctx.expr(0));
-        Type right = visit(ctx.expr(1));
-        
+        return checkOperators(ctx);
+    }
+    
+    private Type andType(AndContext ctx, Type left, Type right) {
         if (!left.equals(PrimitiveType.BOOLEAN) || !right.equals(PrimitiveType.BOOLEAN)) {
             addError(ctx.getStart(),
                 "Logical AND requires boolean operands",
@@ -2457,11 +2632,10 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         if (ctx == null || ctx.expr().size() != 3) {
             return ErrorType.getInstance();
         }
-        
-        Type condType = visit(ctx.expr(0));
-        Type trueType = visit(ctx.expr(1));
-        Type falseType = visit(ctx.expr(2));
-        
+        return checkOperators(ctx);
+    }
+    
+    private Type ternaryType(TernaryContext ctx, Type condType, Type trueType, Type falseType) {
         if (!condType.equals(PrimitiveType.BOOLEAN)) {
             addError(ctx.expr(0).getStart(),
                 "Ternary condition must be boolean, found " + condType.getName(),
@@ -2622,7 +2796,7 @@ public class TypeChecker extends TypeCheckerBaseVisitor<Type> {
         if (ctx.ID() != null) {
             // This could be a constant variable reference
             String name = ctx.ID().getText();
-            Symbol symbol = currentScope.resolve(name);
+            Symbol symbol = bound(ctx.ID()).getSymbol();
             if (symbol != null) {
                 return symbol.getType();
             }
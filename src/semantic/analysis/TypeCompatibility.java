@@ -1,5 +1,6 @@
 package semantic.analysis;
 
+import semantic.AnalysisCounters;
 import semantic.symbols.ClassSymbol;
 import semantic.types.ArrayType;
 import semantic.types.ClassType;
@@ -64,6 +65,7 @@ public class TypeCompatibility {
 	}
 	
     public static boolean isAssignmentCompatible(Type to, Type from) {
+        AnalysisCounters.increment(AnalysisCounters.Counter.ASSIGNMENT_CHECKS);
         // Null check
         if (to == null || from == null) {
             return false;
@@ -1,6 +1,8 @@
 package semantic.symbols;
 
 import java.util.*;
+import semantic.NameMap;
+import semantic.NameTable;
 import semantic.Symbol;
 import semantic.SymbolKind;
 import semantic.types.ClassType;
@@ -14,16 +16,26 @@ import semantic.visitors.SymbolVisitor;
 public class ClassSymbol extends Symbol {
     private ClassSymbol superClass;
     private List<ClassSymbol> interfaces;
-    private Map<String, List<MethodSymbol>> methods; // For overloading support
+    private final NameTable names;
+    private NameMap<List<MethodSymbol>> methods; // By name ID, for overloading support
     private List<ConstructorSymbol> constructors;
     private boolean isAbstract;
     private boolean isFinal;
     
     public ClassSymbol(String name, int line, int column) {
+        this(name, line, column, new NameTable());
+    }
+    
+    /**
+     * Create a class whose method names are interned in the given table,
+     * the one shared by the scopes of its program.
+     */
+    public ClassSymbol(String name, int line, int column, NameTable names) {
         super(name, new ClassType(name, null), line, column);
         ((ClassType) this.type).setClassSymbol(this);
+        this.names = names;
         this.interfaces = new ArrayList<>();
-        this.methods = new HashMap<>();
+        this.methods = new NameMap<>();
         this.constructors = new ArrayList<>();
         this.isAbstract = false;
         this.isFinal = false;
@@ -65,21 +77,25 @@ public class ClassSymbol extends Symbol {
     
     // Methods
     public void addMethod(MethodSymbol method) {
-        String methodName = method.getName();
-        List<MethodSymbol> overloads = methods.computeIfAbsent(methodName, k -> new ArrayList<>());
+        int id = names.intern(method.getName());
+        List<MethodSymbol> overloads = methods.get(id);
+        if (overloads == null) {
+            overloads = new ArrayList<>();
+            methods.put(id, overloads);
+        }
         overloads.add(method);
         method.setOwnerClass(this);
     }
     
     public List<MethodSymbol> getMethods(String name) {
-        List<MethodSymbol> result = methods.get(name);
+        List<MethodSymbol> result = methods.get(names.lookup(name));
         return result != null ? new ArrayList<>(result) : new ArrayList<>();
     }
     
     public List<MethodSymbol> getAllMethods() {
         List<MethodSymbol> allMethods = new ArrayList<>();
-        for (List<MethodSymbol> overloads : methods.values()) {
-            allMethods.addAll(overloads);
+        for (int i = 0; i < methods.size(); i++) {
+            allMethods.addAll(methods.valueAt(i));
         }
         return allMethods;
     }
@@ -90,7 +106,7 @@ public class ClassSymbol extends Symbol {
      * Caller should check superclass if needed.
      */
     public MethodSymbol findMethod(String name, List<Type> argTypes) {
-        List<MethodSymbol> overloads = methods.get(name);
+        List<MethodSymbol> overloads = methods.get(names.lookup(name));
         if (overloads != null) {
             return findBestMethodMatch(overloads, argTypes);
         }